@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a source of data used by a test, or by all tests in a class, so
+ * that the data can be read in advance when a test suite starts, instead of
+ * when the test first requires it.
+ */
+@Repeatable(DataSources.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface DataSource {
+    /**
+     * The format of the data, e.g. {@code CSV}. If not specified, the format
+     * is determined from the file extension of the source or, failing that,
+     * from its content.
+     *
+     * @return The format of the data.
+     */
+    String format() default "";
+
+    /**
+     * The type of objects to read from the source.
+     *
+     * @return The type of objects to read from the source.
+     */
+    Class<?> type();
+
+    /**
+     * The source from where data must be read. This can be a file name, a
+     * fully-qualified filesystem path, a URL, etc.
+     *
+     * @return The source from where data must be read.
+     */
+    String value();
+}
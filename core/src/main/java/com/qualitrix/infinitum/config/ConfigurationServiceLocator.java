@@ -51,8 +51,8 @@ public final class ConfigurationServiceLocator
         LoggingServiceLocator.getInstance()
                              .getLoggingService()
                              .getLogger(ConfigurationServiceLocator.class)
-                             .debug(String.format("%s selected as ConfigurationService."
-                                 , configurationService.getClass().getName()));
+                             .debug("{} selected as ConfigurationService."
+                                 , configurationService.getClass().getName());
     }
 
     /**
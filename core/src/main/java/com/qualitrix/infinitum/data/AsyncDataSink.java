@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.config.ConfigurationService;
+import com.qualitrix.infinitum.config.ConfigurationServiceLocator;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.logging.TestContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * Writes records to another sink in the background. Records appended to this
+ * sink are collected into batches, which are handed over to a dedicated
+ * daemon thread that writes them to the other sink. Threads appending records
+ * therefore only ever wait for disk, network, etc. when they call
+ * {@link #flush()} or {@link #close()}, or when the background thread falls so
+ * far behind that the queue of batches waiting to be written is full, which
+ * bounds the memory held by records not yet written.
+ * </p>
+ *
+ * <p>
+ * The background thread flushes the other sink whenever it runs out of
+ * batches to write, and at least as often as the flush interval, so that
+ * records appended to this sink reach the destination within about one flush
+ * interval, even if a batch is never filled. The following configuration
+ * parameters control batching and flushing:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code infinitum.data.writer.batch.size}: The number of records per
+ *     batch, 512 by default;</li>
+ *     <li>{@code infinitum.data.writer.flush.interval}: The flush interval, in
+ *     milliseconds, 1000 by default; and</li>
+ *     <li>{@code infinitum.data.writer.queue.capacity}: The number of batches
+ *     that can be waiting to be written, 64 by default.</li>
+ * </ul>
+ *
+ * <p>
+ * Failures to write records are logged. The first failure is also reported
+ * to the threads calling {@link #flush()} or {@link #close()}, by throwing an
+ * {@link IllegalStateException}. Since the background thread is a daemon
+ * thread, the sink must be closed for all records to be written before the
+ * application exits.
+ * </p>
+ *
+ * <p>
+ * The background thread carries the {@link TestContext} of the thread that
+ * created the sink, so that messages it logs are attributed to that test.
+ * </p>
+ *
+ * @param <T> The type of records to write.
+ */
+public final class AsyncDataSink<T> implements DataSink<T> {
+    private static final String CONFIGURATION_PARAMETER_BATCH_SIZE = "infinitum.data.writer.batch.size";
+
+    private static final String CONFIGURATION_PARAMETER_FLUSH_INTERVAL = "infinitum.data.writer.flush.interval";
+
+    private static final String CONFIGURATION_PARAMETER_QUEUE_CAPACITY = "infinitum.data.writer.queue.capacity";
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(AsyncDataSink.class);
+
+    private final int batchSize;
+
+    private final DataSink<T> delegate;
+
+    private final long flushInterval;
+
+    private final ReentrantLock lock;
+
+    private final BlockingQueue<Batch<T>> queue;
+
+    private final Thread writer;
+
+    private boolean closed;
+
+    private volatile RuntimeException failure;
+
+    private List<T> pending;
+
+    /**
+     * Creates a sink that writes records to another sink in the background.
+     *
+     * @param delegate The sink to which records must be written.
+     */
+    public AsyncDataSink(final DataSink<T> delegate) {
+        this(delegate
+            , getConfiguration().getInteger(CONFIGURATION_PARAMETER_BATCH_SIZE, 512)
+            , getConfiguration().getInteger(CONFIGURATION_PARAMETER_FLUSH_INTERVAL, 1000)
+            , getConfiguration().getInteger(CONFIGURATION_PARAMETER_QUEUE_CAPACITY, 64));
+    }
+
+    /**
+     * Creates a sink that writes records to another sink in the background.
+     *
+     * @param delegate The sink to which records must be written.
+     * @param batchSize The number of records per batch.
+     * @param flushInterval The flush interval, in milliseconds.
+     * @param queueCapacity The number of batches that can be waiting to be
+     * written.
+     */
+    AsyncDataSink(final DataSink<T> delegate, final int batchSize, final long flushInterval, final int queueCapacity) {
+        this.batchSize = Math.max(1, batchSize);
+        this.delegate = delegate;
+        this.flushInterval = Math.max(1, flushInterval);
+        this.lock = new ReentrantLock();
+        this.pending = new ArrayList<>(this.batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        this.writer = new Thread(TestContext.propagate(this::write), "infinitum-data-writer-" + COUNT.incrementAndGet());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Gets the current configuration applicable to the application.
+     *
+     * @return A {@link ConfigurationService}.
+     */
+    private static ConfigurationService getConfiguration() {
+        return ConfigurationServiceLocator.getInstance()
+                                          .getConfigurationService();
+    }
+
+    /**
+     * Appends a record to the current batch, handing the batch over for
+     * writing if it is full.
+     *
+     * @param record The record to append.
+     *
+     * @throws IllegalStateException if the sink has been closed.
+     */
+    @Override
+    public void append(final T record) {
+        lock.lock();
+
+        try {
+            ensureOpen();
+
+            pending.add(record);
+
+            if (pending.size() >= batchSize) {
+                handOver(null, false);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends records to the current batch, handing batches over for writing
+     * as they fill up.
+     *
+     * @param records The records to append.
+     *
+     * @throws IllegalStateException if the sink has been closed.
+     */
+    @Override
+    public void appendAll(final Collection<? extends T> records) {
+        lock.lock();
+
+        try {
+            ensureOpen();
+
+            for (final T record : records) {
+                pending.add(record);
+
+                if (pending.size() >= batchSize) {
+                    handOver(null, false);
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all records appended so far, waits for the background thread to
+     * finish and closes the other sink. Closing a sink that has already been
+     * closed has no effect.
+     *
+     * @throws IllegalStateException if any records could not be written.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            handOver(null, true);
+
+            closed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            writer.join();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            delegate.close();
+        }
+        catch (final RuntimeException e) {
+            fail(e);
+        }
+
+        checkFailure();
+    }
+
+    /**
+     * Writes all records appended so far, waiting for the background thread
+     * to write them.
+     *
+     * @throws IllegalStateException if the sink has been closed, or any
+     * records could not be written.
+     */
+    @Override
+    public void flush() {
+        final CountDownLatch written = new CountDownLatch(1);
+
+        lock.lock();
+
+        try {
+            ensureOpen();
+
+            handOver(written, false);
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            written.await();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        checkFailure();
+    }
+
+    /**
+     * Takes the current batch, if it is not empty, so that it can be written
+     * without waiting for it to fill up. The batch is left alone if another
+     * thread is appending records, since that thread may be waiting for the
+     * background thread to make space in the queue, and will hand the batch
+     * over itself anyway. It is also left alone if a batch has been handed
+     * over since the background thread last found the queue empty, since the
+     * records in the current batch were appended after those in the batch
+     * handed over, and must be written after them.
+     *
+     * @return The records in the current batch.
+     */
+    List<T> takePending() {
+        if (!lock.tryLock()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            if (pending.isEmpty() || !queue.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            final List<T> records = pending;
+
+            pending = new ArrayList<>(batchSize);
+
+            return records;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Throws the first failure to write records, if any.
+     *
+     * @throws IllegalStateException if any records could not be written.
+     */
+    private void checkFailure() {
+        if (failure != null) {
+            throw new IllegalStateException("Unable to write records.", failure);
+        }
+    }
+
+    /**
+     * Ensures that the sink has not been closed.
+     *
+     * @throws IllegalStateException if the sink has been closed.
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Sink has been closed.");
+        }
+    }
+
+    /**
+     * Records a failure to write records.
+     *
+     * @param e The failure.
+     */
+    private void fail(final RuntimeException e) {
+        LOGGER.error(e, "Unable to write records.");
+
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Hands the current batch over to the background thread, waiting for
+     * space in the queue if required. Must be called while holding the lock.
+     *
+     * @param written A latch to release once the batch has been written and
+     * the other sink flushed, or {@code null} if not required.
+     * @param last Whether this is the last batch.
+     */
+    private void handOver(final CountDownLatch written, final boolean last) {
+        try {
+            queue.put(new Batch<>(pending, written, last));
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while waiting to write records.", e);
+        }
+
+        pending = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Writes batches handed over by threads appending records, until the last
+     * batch has been written. Runs on the background thread.
+     */
+    private void write() {
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+
+        while (true) {
+            final Batch<T> batch;
+
+            try {
+                batch = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+            }
+            catch (final InterruptedException e) {
+                // The thread is not meant to be interrupted, since batches
+                // would be left unwritten.
+                continue;
+            }
+
+            final List<T> records = batch == null
+                                    ? takePending()
+                                    : batch.records;
+
+            if (!records.isEmpty()) {
+                try {
+                    delegate.appendAll(records);
+                }
+                catch (final RuntimeException e) {
+                    fail(e);
+                }
+
+                dirty = true;
+            }
+
+            final boolean due = batch == null
+                || batch.written != null
+                || batch.last
+                || System.nanoTime() - lastFlush >= TimeUnit.MILLISECONDS.toNanos(flushInterval);
+
+            if (dirty && due) {
+                try {
+                    delegate.flush();
+                }
+                catch (final RuntimeException e) {
+                    fail(e);
+                }
+
+                dirty = false;
+                lastFlush = System.nanoTime();
+            }
+
+            if (batch != null) {
+                if (batch.written != null) {
+                    batch.written.countDown();
+                }
+
+                if (batch.last) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A batch of records handed over to the background thread.
+     *
+     * @param <T> The type of records to write.
+     */
+    private static final class Batch<T> {
+        private final boolean last;
+
+        private final List<T> records;
+
+        private final CountDownLatch written;
+
+        /**
+         * Creates a batch.
+         *
+         * @param records The records to write.
+         * @param written A latch to release once the records have been
+         * written, or {@code null} if not required.
+         * @param last Whether this is the last batch.
+         */
+        Batch(final List<T> records, final CountDownLatch written, final boolean last) {
+            this.last = last;
+            this.records = records;
+            this.written = written;
+        }
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Populates objects of a particular type from textual values, such as those
+ * parsed from a row of delimited text or from the attributes of an XML element.
+ * Unlike reflection-based population, which looks up, checks and invokes
+ * fields one value at a time, a mapper resolves every field of the type just
+ * once into a method handle and a converter for textual values. Mapping a
+ * value then only requires invoking the converter and the method handle for
+ * the field. Conversely, {@link #toRow(Object)} reads every mapped field of an
+ * object back as text, such that populating a new object from that text
+ * yields an equal object.
+ * </p>
+ *
+ * <p>
+ * Fields are matched to values by name. By default, the name of a field is its
+ * Java name, but a custom naming strategy can be supplied, for example, to
+ * honour annotations that specify a different name. Static, transient and
+ * synthetic fields are never mapped. Fields of the following types are
+ * supported:
+ * </p>
+ *
+ * <ol>
+ *     <li>{@link String};</li>
+ *     <li>primitive types and their wrappers;</li>
+ *     <li>{@link BigDecimal} and {@link BigInteger};</li>
+ *     <li>enumerations, matched by the name of a constant.</li>
+ * </ol>
+ *
+ * <p>
+ * Mappers are immutable and can be shared by any number of threads.
+ * </p>
+ *
+ * @param <T> The type of objects to populate.
+ */
+public final class BeanMapper<T> {
+    private static final ClassValue<BeanMapper<?>> MAPPERS = new ClassValue<BeanMapper<?>>() {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected BeanMapper<?> computeValue(final Class<?> type) {
+            return create(type, Field::getName);
+        }
+    };
+
+    private static final Map<Class<?>, Function<String, Object>> CONVERTERS = getConverters();
+
+    private final MethodHandle constructor;
+
+    private final Function<String, Object>[] converters;
+
+    private final Map<String, Integer> fields;
+
+    private final MethodHandle[] getters;
+
+    private final String[] names;
+
+    private final MethodHandle[] setters;
+
+    private final Class<T> type;
+
+    private final Class<?>[] types;
+
+    /**
+     * Creates a mapper for a type.
+     *
+     * @param type The type of objects to populate.
+     * @param constructor A method handle for creating objects of the type.
+     * @param names The name of each mapped field, by position.
+     * @param getters Method handles for getting the value of each mapped
+     * field.
+     * @param setters Method handles for setting the value of each mapped
+     * field.
+     * @param converters Converters from text for each mapped field.
+     * @param types The type of each mapped field.
+     */
+    private BeanMapper(final Class<T> type
+        , final MethodHandle constructor
+        , final List<String> names
+        , final MethodHandle[] getters
+        , final MethodHandle[] setters
+        , final Function<String, Object>[] converters
+        , final Class<?>[] types) {
+        this.type = type;
+        this.constructor = constructor;
+        this.converters = converters;
+        this.types = types;
+        this.fields = new HashMap<>();
+        this.getters = getters;
+        this.names = names.toArray(new String[0]);
+        this.setters = setters;
+
+        for (int i = 0; i < this.names.length; ++i) {
+            this.fields.put(this.names[i], i);
+        }
+    }
+
+    /**
+     * Gets a mapper for a type, matching fields by their Java names. Mappers
+     * obtained through this method are created once per type and reused.
+     *
+     * @param type The type of objects to populate.
+     * @param <T> The type of objects to populate.
+     *
+     * @return A {@link BeanMapper}, or {@code null} if the type does not have
+     * a constructor without arguments or has fields of unsupported types.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanMapper<T> of(final Class<T> type) {
+        return (BeanMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * Creates a mapper for a type, matching fields by names determined by a
+     * custom naming strategy. Since creating a mapper is relatively expensive,
+     * callers should reuse mappers obtained through this method.
+     *
+     * @param type The type of objects to populate.
+     * @param naming Gets the name for a field, or {@code null} if the field
+     * must not be mapped.
+     * @param <T> The type of objects to populate.
+     *
+     * @return A {@link BeanMapper}, or {@code null} if the type does not have
+     * a constructor without arguments or has fields of unsupported types that
+     * must be mapped.
+     */
+    public static <T> BeanMapper<T> of(final Class<T> type, final Function<Field, String> naming) {
+        return create(type, naming);
+    }
+
+    /**
+     * Creates a function for populating objects from rows of values that are
+     * arranged in a fixed sequence of columns. Columns are matched to fields
+     * just once, so that populating an object from a row does not require
+     * looking up any field by name.
+     *
+     * @param columns The names of the columns, in the order in which their
+     * values appear in each row. Columns are matched to fields by exact name
+     * first, and ignoring case otherwise. Columns that do not match any field
+     * are ignored.
+     *
+     * @return A function that creates an object from a row of values. Values
+     * that are {@code null} leave the matching field unchanged. A row may have
+     * fewer values than there are columns, in which case the missing values
+     * are treated as {@code null}.
+     */
+    public Function<String[], T> forColumns(final String[] columns) {
+        final int[] positions = new int[columns.length];
+
+        for (int i = 0; i < columns.length; ++i) {
+            positions[i] = indexOf(columns[i]);
+
+            if (positions[i] < 0 && columns[i] != null) {
+                for (final Map.Entry<String, Integer> field : fields.entrySet()) {
+                    if (field.getKey().equalsIgnoreCase(columns[i].trim())) {
+                        positions[i] = field.getValue();
+
+                        break;
+                    }
+                }
+            }
+        }
+
+        return row -> {
+            final T bean = newInstance();
+            final int length = Math.min(row.length, positions.length);
+
+            for (int i = 0; i < length; ++i) {
+                if (positions[i] >= 0 && row[i] != null) {
+                    set(bean, positions[i], row[i]);
+                }
+            }
+
+            return bean;
+        };
+    }
+
+    /**
+     * Gets the names of the fields populated by this mapper, in the order in
+     * which {@link #toRow(Object)} reads their values. The order is the same
+     * for every call on a mapper, but is otherwise unspecified, since the
+     * order in which fields are discovered through reflection is.
+     *
+     * @return The names of the fields populated by this mapper.
+     */
+    public List<String> getFieldNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Gets the type of a field.
+     *
+     * @param position The position of the field, see {@link #indexOf(String)}.
+     *
+     * @return The type of the field.
+     */
+    public Class<?> getFieldType(final int position) {
+        return types[position];
+    }
+
+    /**
+     * Gets the type of objects populated by this mapper.
+     *
+     * @return The type of objects populated by this mapper.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the position of a field, through which values can be set without
+     * looking up the field by name, see {@link #setValue(Object, int, Object)}.
+     *
+     * @param name The name of the field.
+     *
+     * @return The position of the field, or {@code -1} if there is no field
+     * with the specified name.
+     */
+    public int indexOf(final String name) {
+        if (name == null) {
+            return -1;
+        }
+
+        final Integer position = fields.get(name.trim());
+
+        return position == null
+               ? -1
+               : position;
+    }
+
+    /**
+     * Creates a new object, with all fields set to their initial values.
+     *
+     * @return A new object.
+     *
+     * @throws IllegalStateException if the object cannot be created.
+     */
+    public T newInstance() {
+        try {
+            return type.cast(constructor.invoke());
+        }
+        catch (final RuntimeException | Error e) {
+            throw e;
+        }
+        catch (final Throwable t) {
+            throw new IllegalStateException(String.format("Unable to create an instance of [%s].", type.getName()), t);
+        }
+    }
+
+    /**
+     * Reads the value of every mapped field of an object as text, in the
+     * order of {@link #getFieldNames()}. The values can be converted back by
+     * {@link #forColumns(String[])}, given the field names as columns.
+     *
+     * @param bean The object to read.
+     *
+     * @return The textual value of each mapped field, {@code null} for fields
+     * whose value is {@code null}.
+     *
+     * @throws IllegalStateException if a field cannot be read.
+     */
+    public String[] toRow(final T bean) {
+        final String[] row = new String[getters.length];
+
+        for (int i = 0; i < getters.length; ++i) {
+            final Object value;
+
+            try {
+                value = getters[i].invokeExact((Object) bean);
+            }
+            catch (final RuntimeException | Error e) {
+                throw e;
+            }
+            catch (final Throwable t) {
+                throw new IllegalStateException(String.format("Unable to get a field of [%s].", type.getName()), t);
+            }
+
+            row[i] = value == null
+                     ? null
+                     : value instanceof Enum
+                       ? ((Enum<?>) value).name()
+                       : value.toString();
+        }
+
+        return row;
+    }
+
+    /**
+     * Sets a field of an object from a textual value.
+     *
+     * @param bean The object to populate.
+     * @param name The name of the field.
+     * @param value The textual value for the field. A {@code null} value leaves
+     * the field unchanged.
+     *
+     * @return {@code true} if the object has a field with the specified name,
+     * {@code false} otherwise.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted to the
+     * type of the field.
+     */
+    public boolean set(final T bean, final String name, final String value) {
+        final int position = indexOf(name);
+
+        if (position < 0) {
+            return false;
+        }
+
+        if (value != null) {
+            set(bean, position, value);
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets a field of an object from a textual value.
+     *
+     * @param bean The object to populate.
+     * @param position The position of the field, see {@link #indexOf(String)}.
+     * @param value The textual value for the field.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted to the
+     * type of the field.
+     */
+    public void set(final T bean, final int position, final String value) {
+        setValue(bean, position, converters[position].apply(value));
+    }
+
+    /**
+     * Sets a field of an object from a value that already has the type of the
+     * field, such as a value read by a parser that produces typed values.
+     *
+     * @param bean The object to populate.
+     * @param position The position of the field, see {@link #indexOf(String)}.
+     * @param value The value for the field.
+     *
+     * @throws ClassCastException if the value does not have the type of the
+     * field.
+     */
+    public void setValue(final T bean, final int position, final Object value) {
+        try {
+            setters[position].invokeExact((Object) bean, value);
+        }
+        catch (final RuntimeException | Error e) {
+            throw e;
+        }
+        catch (final Throwable t) {
+            throw new IllegalStateException(String.format("Unable to set a field of [%s].", type.getName()), t);
+        }
+    }
+
+    /**
+     * Creates a mapper for a type.
+     *
+     * @param type The type of objects to populate.
+     * @param naming Gets the name for a field, or {@code null} if the field
+     * must not be mapped.
+     * @param <T> The type of objects to populate.
+     *
+     * @return A {@link BeanMapper}, or {@code null} if the type cannot be
+     * mapped.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> BeanMapper<T> create(final Class<T> type, final Function<Field, String> naming) {
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            final Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            final List<String> names = new ArrayList<>();
+            final List<MethodHandle> getters = new ArrayList<>();
+            final List<MethodHandle> setters = new ArrayList<>();
+            final List<Function<String, Object>> converters = new ArrayList<>();
+            final List<Class<?>> types = new ArrayList<>();
+
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+
+                    if (field.isSynthetic() || Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+
+                    final String name = naming.apply(field);
+
+                    // Fields declared in subclasses hide those with the same
+                    // name declared in superclasses.
+                    if (name == null || names.contains(name)) {
+                        continue;
+                    }
+
+                    final Function<String, Object> converter = getConverter(field.getType());
+
+                    if (converter == null || Modifier.isFinal(modifiers)) {
+                        return null;
+                    }
+
+                    field.setAccessible(true);
+
+                    names.add(name);
+                    getters.add(lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class)));
+                    setters.add(lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                    converters.add(converter);
+                    types.add(field.getType());
+                }
+            }
+
+            return new BeanMapper<>(type
+                , lookup.unreflectConstructor(constructor)
+                , names
+                , getters.toArray(new MethodHandle[0])
+                , setters.toArray(new MethodHandle[0])
+                , converters.toArray(new Function[0])
+                , types.toArray(new Class[0]));
+        }
+        catch (final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a converter from text for a type.
+     *
+     * @param type The type.
+     *
+     * @return A converter from text to the specified type, or {@code null} if
+     * the type is not supported.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Function<String, Object> getConverter(final Class<?> type) {
+        if (type.isEnum()) {
+            return value -> Enum.valueOf((Class<? extends Enum>) type, value.trim());
+        }
+
+        return CONVERTERS.get(type);
+    }
+
+    /**
+     * Gets converters from text for the types supported by default.
+     *
+     * @return Converters from text, by type.
+     */
+    private static Map<Class<?>, Function<String, Object>> getConverters() {
+        final Map<Class<?>, Function<String, Object>> converters = new HashMap<>();
+
+        converters.put(String.class, value -> value);
+        converters.put(BigDecimal.class, value -> new BigDecimal(value.trim()));
+        converters.put(BigInteger.class, value -> new BigInteger(value.trim()));
+
+        register(converters, boolean.class, Boolean.class, BeanMapper::toBoolean);
+        register(converters, byte.class, Byte.class, value -> Byte.valueOf(value.trim()));
+        register(converters, char.class, Character.class, BeanMapper::toCharacter);
+        register(converters, double.class, Double.class, value -> Double.valueOf(value.trim()));
+        register(converters, float.class, Float.class, value -> Float.valueOf(value.trim()));
+        register(converters, int.class, Integer.class, value -> Integer.valueOf(value.trim()));
+        register(converters, long.class, Long.class, value -> Long.valueOf(value.trim()));
+        register(converters, short.class, Short.class, value -> Short.valueOf(value.trim()));
+
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Registers a converter for a primitive type and its wrapper.
+     *
+     * @param converters The converters registered so far.
+     * @param primitive The primitive type.
+     * @param wrapper The wrapper type.
+     * @param converter The converter for both types.
+     */
+    private static void register(final Map<Class<?>, Function<String, Object>> converters
+        , final Class<?> primitive
+        , final Class<?> wrapper
+        , final Function<String, Object> converter) {
+        converters.put(primitive, converter);
+        converters.put(wrapper, converter);
+    }
+
+    /**
+     * Converts text to a boolean value.
+     *
+     * @param value The text to convert.
+     *
+     * @return {@link Boolean#TRUE} or {@link Boolean#FALSE}.
+     *
+     * @throws IllegalArgumentException if the text is neither {@code true} nor
+     * {@code false}, ignoring case.
+     */
+    private static Object toBoolean(final String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true":
+                return Boolean.TRUE;
+
+            case "false":
+                return Boolean.FALSE;
+
+            default:
+                throw new IllegalArgumentException(String.format("Unable to convert [%s] to a boolean.", value));
+        }
+    }
+
+    /**
+     * Converts text to a character.
+     *
+     * @param value The text to convert.
+     *
+     * @return The only character in the text.
+     *
+     * @throws IllegalArgumentException if the text does not have exactly one
+     * character.
+     */
+    private static Object toCharacter(final String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException(String.format("Unable to convert [%s] to a character.", value));
+        }
+
+        return value.charAt(0);
+    }
+}
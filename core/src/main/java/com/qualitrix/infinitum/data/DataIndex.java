@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Immutable hash index over a set of records, such as those read by a
+ * {@link DataReader}, allowing records to be looked up by a key in constant
+ * time. This is useful for joining data sets, for example to find the account
+ * for each user when users and accounts are read from separate sources, which
+ * would otherwise require scanning one list for every record in the other.
+ * </p>
+ *
+ * <p>
+ * Keys are obtained from records through a caller-supplied key extractor and
+ * compared using {@link Object#equals(Object)}. Records for which the key
+ * extractor returns {@code null} are not indexed. An index may either require
+ * keys to be unique, see {@link #unique(Collection, Function)}, or allow
+ * several records to share a key, see {@link #multi(Collection, Function)}.
+ * </p>
+ *
+ * <p>
+ * Keys are stored in an open-addressing table with linear probing, sized to be
+ * at most half full. Records are stored in a single array, grouped by key in
+ * the order in which they were supplied, with each distinct key holding the
+ * position of its first record. No objects are allocated per record or per
+ * key, keeping the overhead of an index to a few arrays.
+ * </p>
+ *
+ * @param <K> The type of keys.
+ * @param <T> The type of records.
+ */
+public final class DataIndex<K, T> {
+    private final int[] hashes;
+
+    private final Object[] keys;
+
+    private final int mask;
+
+    private final int[] offsets;
+
+    private final Object[] records;
+
+    private final int[] slots;
+
+    /**
+     * Creates an index.
+     *
+     * @param keys The distinct keys, in the order in which they were first
+     * encountered.
+     * @param hashes The hashes of the distinct keys.
+     * @param slots The table of slots, each holding the position + 1 of a
+     * distinct key, or {@code 0} for an empty slot.
+     * @param offsets The position of the first record for each distinct key,
+     * followed by the total number of records.
+     * @param records The records, grouped by key.
+     */
+    private DataIndex(final Object[] keys
+        , final int[] hashes
+        , final int[] slots
+        , final int[] offsets
+        , final Object[] records) {
+        this.keys = keys;
+        this.hashes = hashes;
+        this.slots = slots;
+        this.offsets = offsets;
+        this.records = records;
+
+        mask = slots.length - 1;
+    }
+
+    /**
+     * Creates an index over a collection of records, allowing several records
+     * to share the same key.
+     *
+     * @param records The records to index.
+     * @param key Extracts the key from a record.
+     * @param <K> The type of keys.
+     * @param <T> The type of records.
+     *
+     * @return A {@link DataIndex}.
+     */
+    public static <K, T> DataIndex<K, T> multi(final Collection<? extends T> records, final Function<? super T, ? extends K> key) {
+        return build(records.toArray(), key, false);
+    }
+
+    /**
+     * Creates an index over a stream of records, allowing several records to
+     * share the same key.
+     *
+     * @param records The records to index.
+     * @param key Extracts the key from a record.
+     * @param <K> The type of keys.
+     * @param <T> The type of records.
+     *
+     * @return A {@link DataIndex}.
+     */
+    public static <K, T> DataIndex<K, T> multi(final Stream<? extends T> records, final Function<? super T, ? extends K> key) {
+        return build(records.toArray(), key, false);
+    }
+
+    /**
+     * Creates an index over a collection of records, requiring every record to
+     * have a different key.
+     *
+     * @param records The records to index.
+     * @param key Extracts the key from a record.
+     * @param <K> The type of keys.
+     * @param <T> The type of records.
+     *
+     * @return A {@link DataIndex}.
+     *
+     * @throws IllegalStateException if two records have the same key.
+     */
+    public static <K, T> DataIndex<K, T> unique(final Collection<? extends T> records, final Function<? super T, ? extends K> key) {
+        return build(records.toArray(), key, true);
+    }
+
+    /**
+     * Creates an index over a stream of records, requiring every record to have
+     * a different key.
+     *
+     * @param records The records to index.
+     * @param key Extracts the key from a record.
+     * @param <K> The type of keys.
+     * @param <T> The type of records.
+     *
+     * @return A {@link DataIndex}.
+     *
+     * @throws IllegalStateException if two records have the same key.
+     */
+    public static <K, T> DataIndex<K, T> unique(final Stream<? extends T> records, final Function<? super T, ? extends K> key) {
+        return build(records.toArray(), key, true);
+    }
+
+    /**
+     * Checks whether any record has a specified key.
+     *
+     * @param key The key.
+     *
+     * @return {@code true} if at least one record has the specified key,
+     * {@code false} otherwise.
+     */
+    public boolean containsKey(final Object key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Gets the record having a specified key. If several records have the key,
+     * the first of them is returned.
+     *
+     * @param key The key.
+     *
+     * @return The record having the specified key, or {@code null} if no record
+     * has the key.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final Object key) {
+        final int position = find(key);
+
+        return position < 0
+               ? null
+               : (T) records[offsets[position]];
+    }
+
+    /**
+     * Gets all records having a specified key, in the order in which they were
+     * supplied to this index.
+     *
+     * @param key The key.
+     *
+     * @return An unmodifiable {@link List} of records having the specified key.
+     * The returned list is never {@code null}, but is empty if no record has
+     * the key.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getAll(final Object key) {
+        final int position = find(key);
+
+        return position < 0
+               ? Collections.emptyList()
+               : Collections.unmodifiableList((List<T>) Arrays.asList(records).subList(offsets[position], offsets[position + 1]));
+    }
+
+    /**
+     * Gets the distinct keys in this index.
+     *
+     * @return An unmodifiable {@link List} of distinct keys, in the order in
+     * which they were first encountered.
+     */
+    @SuppressWarnings("unchecked")
+    public List<K> getKeys() {
+        return Collections.unmodifiableList((List<K>) Arrays.asList(keys));
+    }
+
+    /**
+     * Gets the number of records in this index.
+     *
+     * @return The number of records in this index, not counting any records
+     * that were not indexed because they had no key.
+     */
+    public int size() {
+        return records.length;
+    }
+
+    /**
+     * Builds an index.
+     *
+     * @param source The records to index.
+     * @param extractor Extracts the key from a record.
+     * @param unique Whether every record must have a different key.
+     * @param <K> The type of keys.
+     * @param <T> The type of records.
+     *
+     * @return A {@link DataIndex}.
+     *
+     * @throws IllegalStateException if keys must be unique and two records
+     * have the same key.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, T> DataIndex<K, T> build(final Object[] source
+        , final Function<? super T, ? extends K> extractor
+        , final boolean unique) {
+        Objects.requireNonNull(extractor);
+
+        final int capacity = Integer.highestOneBit(Math.max(1, source.length)) << 2;
+        final int mask = capacity - 1;
+        final int[] slots = new int[capacity];
+
+        // Assign each record the position of its key among distinct keys,
+        // counting the records for each key along the way.
+        final Object[] keys = new Object[source.length];
+        final int[] hashes = new int[source.length];
+        final int[] counts = new int[source.length + 1];
+        final int[] positions = new int[source.length];
+
+        int distinct = 0;
+        int indexed = 0;
+
+        for (int i = 0; i < source.length; ++i) {
+            final Object key = extractor.apply((T) source[i]);
+
+            if (key == null) {
+                positions[i] = -1;
+
+                continue;
+            }
+
+            final int hash = hash(key);
+
+            int slot = hash & mask;
+
+            while (slots[slot] != 0
+                && (hashes[slots[slot] - 1] != hash || !keys[slots[slot] - 1].equals(key))) {
+                slot = (slot + 1) & mask;
+            }
+
+            if (slots[slot] == 0) {
+                keys[distinct] = key;
+                hashes[distinct] = hash;
+                slots[slot] = ++distinct;
+            }
+            else if (unique) {
+                throw new IllegalStateException(String.format("Duplicate key [%s].", key));
+            }
+
+            positions[i] = slots[slot] - 1;
+            ++counts[positions[i] + 1];
+            ++indexed;
+        }
+
+        // Turn the counts into the position of the first record for each key.
+        final int[] offsets = new int[distinct + 1];
+
+        for (int i = 0; i < distinct; ++i) {
+            offsets[i + 1] = offsets[i] + counts[i + 1];
+        }
+
+        // Place records after the ones already placed for the same key.
+        final int[] next = Arrays.copyOf(offsets, distinct);
+        final Object[] records = new Object[indexed];
+
+        for (int i = 0; i < source.length; ++i) {
+            if (positions[i] >= 0) {
+                records[next[positions[i]]++] = source[i];
+            }
+        }
+
+        return new DataIndex<>(Arrays.copyOf(keys, distinct)
+            , Arrays.copyOf(hashes, distinct)
+            , slots
+            , offsets
+            , records);
+    }
+
+    /**
+     * Computes the hash for a key, spreading higher bits downwards so that they
+     * take part in selecting a slot.
+     *
+     * @param key The key.
+     *
+     * @return The hash for the key.
+     */
+    private static int hash(final Object key) {
+        final int hash = key.hashCode();
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Finds the position of a key among distinct keys.
+     *
+     * @param key The key.
+     *
+     * @return The position of the key, or {@code -1} if the key is not found.
+     */
+    private int find(final Object key) {
+        if (key == null) {
+            return -1;
+        }
+
+        final int hash = hash(key);
+
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            final int position = slots[slot] - 1;
+
+            if (hashes[position] == hash && keys[position].equals(key)) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+}
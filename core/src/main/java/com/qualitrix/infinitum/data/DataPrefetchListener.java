@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.annotation.DataSource;
+import com.qualitrix.infinitum.common.ConfigurationAware;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Starts reading data required by the tests in a suite as soon as the suite
+ * starts, so that the data are ready, or at least partially read, by the time
+ * the tests require them. Data sources are discovered from:
+ * </p>
+ *
+ * <ol>
+ *     <li>{@link DataSource} annotations on test methods and test classes;
+ *     and</li>
+ *     <li>configuration parameters of the form
+ *     {@code infinitum.data.prefetch.sources.<type>=<source>[,<source>...]},
+ *     where {@code <type>} is the fully-qualified name of the class of objects
+ *     to read, e.g.
+ *     {@code infinitum.data.prefetch.sources.com.example.User=Users.csv}.</li>
+ * </ol>
+ *
+ * <p>
+ * Data read for a suite are discarded when the suite finishes, unless suites
+ * running in parallel require them as well. Tests obtain the data through
+ * {@link DataPrefetcher#get(String, Class)}. Prefetching is disabled by
+ * default, see {@link DataPrefetcher}.
+ * </p>
+ */
+public class DataPrefetchListener extends ConfigurationAware implements ISuiteListener {
+    private static final String CONFIGURATION_PARAMETER_SOURCES = "infinitum.data.prefetch.sources.";
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(DataPrefetchListener.class);
+
+    /**
+     * Discards data read for the suite.
+     *
+     * @param suite The suite that has finished.
+     */
+    @Override
+    public void onFinish(final ISuite suite) {
+        getPrefetcher().clear(suite);
+    }
+
+    /**
+     * Starts reading data declared by the tests in the suite or in the
+     * application configuration.
+     *
+     * @param suite The suite that is starting.
+     */
+    @Override
+    public void onStart(final ISuite suite) {
+        prefetch(suite, suite.getAllMethods());
+    }
+
+    /**
+     * Gets the prefetcher through which data are read.
+     *
+     * @return A {@link DataPrefetcher}.
+     */
+    DataPrefetcher getPrefetcher() {
+        return DataPrefetcher.getInstance();
+    }
+
+    /**
+     * Starts reading data declared by test methods or in the application
+     * configuration, unless prefetching is disabled.
+     *
+     * @param suite The suite requiring the data.
+     * @param testMethods The test methods.
+     */
+    void prefetch(final Object suite, final List<ITestNGMethod> testMethods) {
+        if (!getPrefetcher().isEnabled()) {
+            return;
+        }
+
+        testMethods.forEach(testMethod -> prefetch(suite, testMethod));
+
+        prefetch(suite, getConfigurationService().getMap(CONFIGURATION_PARAMETER_SOURCES));
+    }
+
+    /**
+     * Starts reading data declared on a test method or its class.
+     *
+     * @param suite The suite requiring the data.
+     * @param testMethod The test method.
+     */
+    private void prefetch(final Object suite, final ITestNGMethod testMethod) {
+        final Method method = testMethod.getConstructorOrMethod().getMethod();
+        final Class<?> type = testMethod.getRealClass();
+
+        if (method != null) {
+            prefetch(suite, method.getAnnotationsByType(DataSource.class));
+        }
+
+        if (type != null) {
+            prefetch(suite, type.getAnnotationsByType(DataSource.class));
+        }
+    }
+
+    /**
+     * Starts reading data from sources declared through annotations.
+     *
+     * @param suite The suite requiring the data.
+     * @param sources The declared sources.
+     */
+    private void prefetch(final Object suite, final DataSource[] sources) {
+        Arrays.stream(sources)
+              .forEach(source -> getPrefetcher().prefetch(suite, source.value(), source.type(), source.format()));
+    }
+
+    /**
+     * Starts reading data from sources declared in the application
+     * configuration.
+     *
+     * @param suite The suite requiring the data.
+     * @param sources The declared sources, as configuration parameters
+     * mapping the names of types to comma-separated sources.
+     */
+    private void prefetch(final Object suite, final Map<String, String> sources) {
+        sources.forEach((key, value) -> {
+            final String typeName = key.substring(CONFIGURATION_PARAMETER_SOURCES.length());
+
+            try {
+                final Class<?> type = Class.forName(typeName, false, Thread.currentThread().getContextClassLoader());
+
+                Arrays.stream(value.split(","))
+                      .map(String::trim)
+                      .filter(source -> !source.isEmpty())
+                      .forEach(source -> getPrefetcher().prefetch(suite, source, type, null));
+            }
+            catch (final ClassNotFoundException e) {
+                LOGGER.error(e, String.format("Unable to prefetch data of unknown type [%s].", typeName));
+            }
+        });
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.common.ConfigurationAware;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.logging.TestContext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Reads data in the background, ahead of the tests that require them. Reading
+ * and parsing data can take a while, especially for large data sets, and
+ * doing so on the thread running a test delays the test by that much. Data
+ * that are known to be required can instead be prefetched, for example when a
+ * test suite starts, so that reading the data overlaps with other work such as
+ * starting a browser. Tests then obtain the data through
+ * {@link #get(String, Class)}, which only blocks if the data have not been read
+ * completely yet.
+ * </p>
+ *
+ * <p>
+ * Data are read by a pool of daemon threads, whose size can be set through
+ * the configuration parameter {@code infinitum.data.prefetch.threads} and is
+ * the number of available processors by default. Automatic prefetching of
+ * data sources declared by tests, see {@link DataPrefetchListener}, is
+ * disabled by default, and can be enabled by setting the configuration
+ * parameter {@code infinitum.data.prefetch.enabled} to {@code true}, or
+ * through {@link #setEnabled(boolean)}. Otherwise, data are read when first
+ * requested. Each read carries the {@link TestContext} of the thread that
+ * requested it, if any.
+ * </p>
+ *
+ * <p>
+ * Each combination of source and type is read just once, regardless of how
+ * many times it is prefetched or requested. Data prefetched on behalf of an
+ * owner, such as a test suite, are discarded by {@link #clear(Object)} once
+ * no other owner requires them, so that suites running in parallel do not
+ * discard data required by each other. Data read on request are discarded
+ * once no owner remains. {@link #clear()} discards all data.
+ * </p>
+ */
+public final class DataPrefetcher extends ConfigurationAware {
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.data.prefetch.enabled";
+
+    private static final String CONFIGURATION_PARAMETER_THREADS = "infinitum.data.prefetch.threads";
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(DataPrefetcher.class);
+
+    private final Map<String, Future<List<?>>> data;
+
+    private final Map<Object, Set<String>> owners;
+
+    private volatile boolean enabled;
+
+    private ExecutorService executor;
+
+    /**
+     * Deliberately hidden to prevent direct instantiation.
+     */
+    private DataPrefetcher() {
+        data = new ConcurrentHashMap<>();
+        enabled = Boolean.parseBoolean(getConfigurationService().getString(CONFIGURATION_PARAMETER_ENABLED, "false"));
+        owners = new HashMap<>();
+    }
+
+    /**
+     * Gets an instance of this class.
+     *
+     * @return A {@link DataPrefetcher}.
+     */
+    public static DataPrefetcher getInstance() {
+        return SingletonHolder.SINGLETON;
+    }
+
+    /**
+     * Discards all data read so far and stops any background reads in
+     * progress. Threads used for reading data are released.
+     */
+    public synchronized void clear() {
+        data.values().forEach(future -> future.cancel(true));
+        data.clear();
+        owners.clear();
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Discards data prefetched on behalf of an owner, and stops reading them
+     * if they are still being read, unless other owners require them as well.
+     * Once no owner remains, data read on request are discarded too, and
+     * threads used for reading data are released as soon as any reads still
+     * in progress complete.
+     *
+     * @param owner The owner of the data, e.g. a test suite that has
+     * finished.
+     */
+    public synchronized void clear(final Object owner) {
+        final Set<String> keys = owners.remove(owner);
+
+        if (keys != null) {
+            keys.stream()
+                .filter(key -> owners.values().stream().noneMatch(owned -> owned.contains(key)))
+                .map(data::remove)
+                .filter(Objects::nonNull)
+                .forEach(future -> future.cancel(true));
+        }
+
+        if (owners.isEmpty()) {
+            data.values().removeIf(Future::isDone);
+
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+    }
+
+    /**
+     * Gets data read from a named source, waiting for the data to be read if
+     * they have been prefetched but not read completely yet, or reading them
+     * on the calling thread if they have not been prefetched at all.
+     *
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * source. The returned list is never {@code null}. If the data could not
+     * be read, the returned list will be empty.
+     *
+     * @see DataReader#read(String, Class)
+     */
+    public <T> List<T> get(final String source, final Class<T> type) {
+        return get(source, type, null);
+    }
+
+    /**
+     * Gets data stored in a specified format and read from a named source,
+     * waiting for the data to be read if they have been prefetched but not
+     * read completely yet, or reading them on the calling thread if they have
+     * not been prefetched at all.
+     *
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of objects to read.
+     * @param format The name of the format in which data are stored, e.g.
+     * {@code CSV}. If {@code null} or blank, the format is determined from
+     * the file extension or the content of the source.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * source. The returned list is never {@code null}. If the data could not
+     * be read, the returned list will be empty.
+     *
+     * @see DataReader#read(String, Class)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(final String source, final Class<T> type, final String format) {
+        final String key = getKey(source, type);
+        final Future<List<?>> future = data.get(key);
+
+        // Data that have not been prefetched are read on the calling thread,
+        // outside the map, so that other sources are not held up meanwhile.
+        if (future == null) {
+            final List<?> records = read(source, type, format);
+
+            data.putIfAbsent(key, CompletableFuture.completedFuture(records));
+
+            return (List<T>) records;
+        }
+
+        try {
+            return (List<T>) future.get();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException | RuntimeException e) {
+            LOGGER.error(e, "Unable to read prefetched data from [{}].", source);
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets whether data sources declared by tests must be prefetched
+     * automatically.
+     *
+     * @return {@code true} if automatic prefetching has been enabled,
+     * {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts reading data from a named source in the background, unless the
+     * data have already been read or are being read.
+     *
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of objects to read.
+     * @param format The name of the format in which data are stored, e.g.
+     * {@code CSV}. If {@code null} or blank, the format is determined from
+     * the file extension or the content of the source.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Future} that completes with the data read from the
+     * specified source.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Future<List<T>> prefetch(final String source, final Class<T> type, final String format) {
+        return (Future<List<T>>) (Future<?>) data.computeIfAbsent(getKey(source, type)
+            , key -> getExecutor().submit(TestContext.propagate(() -> read(source, type, format))));
+    }
+
+    /**
+     * Starts reading data from a named source in the background on behalf of
+     * an owner, unless the data have already been read or are being read. The
+     * data are kept until {@link #clear(Object)} is called for the owner and
+     * any other owners that require them.
+     *
+     * @param owner The owner of the data, e.g. a test suite requiring them.
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of objects to read.
+     * @param format The name of the format in which data are stored, e.g.
+     * {@code CSV}. If {@code null} or blank, the format is determined from
+     * the file extension or the content of the source.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Future} that completes with the data read from the
+     * specified source.
+     */
+    public synchronized <T> Future<List<T>> prefetch(final Object owner, final String source, final Class<T> type, final String format) {
+        owners.computeIfAbsent(owner, key -> new HashSet<>()).add(getKey(source, type));
+
+        return prefetch(source, type, format);
+    }
+
+    /**
+     * Sets whether data sources declared by tests must be prefetched
+     * automatically.
+     *
+     * @param enabled {@code true} to prefetch data sources declared by tests,
+     * {@code false} to read data when first requested.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks whether data from a named source have been read, or are being
+     * read.
+     *
+     * @param source The source of the data.
+     * @param type The type of objects read from the source.
+     *
+     * @return {@code true} if data from the specified source have been read or
+     * are being read, {@code false} otherwise.
+     */
+    boolean contains(final String source, final Class<?> type) {
+        return data.containsKey(getKey(source, type));
+    }
+
+    /**
+     * Gets the format for data stored in a named source.
+     *
+     * @param source The source of the data.
+     * @param format The name of the format, or {@code null} or blank to
+     * determine the format from the file extension or the content of the
+     * source.
+     *
+     * @return A {@link DataFormat} if one matching the specified name, or the
+     * file extension or content of the source, is available, {@code null}
+     * otherwise.
+     *
+     * @see DataReaderServiceLocator#detectFormat(String)
+     */
+    static DataFormat getFormat(final String source, final String format) {
+        return format == null || format.trim().isEmpty()
+               ? DataReaderServiceLocator.getInstance().detectFormat(source)
+               : DataReaderServiceLocator.getInstance().getFormat(format);
+    }
+
+    /**
+     * Reads data from a named source, through data shared by other JVMs if
+     * enabled, see {@link SharedDataCache}.
+     *
+     * @param source The source from where data must be read.
+     * @param type The type of objects to read.
+     * @param format The name of the format in which data are stored.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * source. The returned list is never {@code null}.
+     */
+    static List<?> read(final String source, final Class<?> type, final String format) {
+        final DataFormat dataFormat = getFormat(source, format);
+
+        if (dataFormat == null) {
+            LOGGER.warn("Unable to determine format of data from [{}].", source);
+
+            return Collections.emptyList();
+        }
+
+        final DataReader reader = DataReaderServiceLocator.getInstance().getDataReader(dataFormat);
+
+        return reader == null
+               ? Collections.emptyList()
+               : SharedDataCache.getInstance().read(source, type, reader);
+    }
+
+    /**
+     * Gets a pool of threads for reading data in the background, creating it
+     * if required.
+     *
+     * @return An {@link ExecutorService}.
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final AtomicInteger count = new AtomicInteger();
+
+            executor = Executors.newFixedThreadPool(getConfigurationService().getInteger(CONFIGURATION_PARAMETER_THREADS
+                , Runtime.getRuntime().availableProcessors()), task -> {
+                    final Thread thread = new Thread(task, "infinitum-data-prefetch-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+        }
+
+        return executor;
+    }
+
+    /**
+     * Gets the key under which data read from a source as objects of a type
+     * are held.
+     *
+     * @param source The source of the data.
+     * @param type The type of objects read from the source.
+     *
+     * @return The key for the data.
+     */
+    private static String getKey(final String source, final Class<?> type) {
+        return type.getName() + "@" + source;
+    }
+
+    /**
+     * Holds a singleton instance of this class.
+     */
+    private static final class SingletonHolder {
+        private static final DataPrefetcher SINGLETON = new DataPrefetcher();
+    }
+}
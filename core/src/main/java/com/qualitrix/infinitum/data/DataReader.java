@@ -21,6 +21,7 @@
 package com.qualitrix.infinitum.data;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Contract for reading structured data.
@@ -49,4 +50,26 @@ public interface DataReader {
      * it will contain objects matching the data read from the source.
      */
     <T> List<T> read(String source, Class<T> type);
+
+    /**
+     * Reads data from a named source as a stream of objects of required type.
+     * Readers capable of decoding records one at a time override this method
+     * to read records only as the stream is consumed, so that large sources
+     * need not be held in memory as a whole. By default, all records are read
+     * upfront through {@link #read(String, Class)}.
+     *
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Stream} of objects containing data read from the
+     * specified source. The returned stream is never {@code null}, but is
+     * empty under the same conditions in which {@link #read(String, Class)}
+     * returns an empty list. The stream should be closed after use, to
+     * release any resources held for reading the source.
+     */
+    default <T> Stream<T> stream(final String source, final Class<T> type) {
+        return read(source, type).stream();
+    }
 }
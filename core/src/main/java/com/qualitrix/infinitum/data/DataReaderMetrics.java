@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.common.ConfigurationAware;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Collects measurements of data read by {@link DataReader}s, such as the
+ * number of bytes read, the number of rows converted to objects and the time
+ * spent parsing and mapping, for each source read. Measurements help find
+ * where the time goes when reading data for data-driven tests is slow.
+ * </p>
+ *
+ * <p>
+ * Metrics are disabled by default, and can be enabled by setting the
+ * configuration parameter {@code infinitum.data.metrics.enabled} to
+ * {@code true}, or through {@link #setEnabled(boolean)}. When enabled,
+ * measurements are summarized in the log at the end of every test suite, see
+ * {@link DataReaderMetricsListener}.
+ * </p>
+ */
+public final class DataReaderMetrics extends ConfigurationAware {
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.data.metrics.enabled";
+
+    private final Map<String, SourceMetrics> sources;
+
+    private volatile boolean enabled;
+
+    /**
+     * Deliberately hidden to prevent direct instantiation.
+     */
+    private DataReaderMetrics() {
+        enabled = Boolean.parseBoolean(getConfigurationService().getString(CONFIGURATION_PARAMETER_ENABLED, "false"));
+        sources = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets an instance of this class.
+     *
+     * @return A {@link DataReaderMetrics}.
+     */
+    public static DataReaderMetrics getInstance() {
+        return SingletonHolder.SINGLETON;
+    }
+
+    /**
+     * Discards all measurements collected so far.
+     */
+    public void clear() {
+        sources.clear();
+    }
+
+    /**
+     * Removes the measurements collected so far and returns them, leaving
+     * measurements collected afterwards, such as by a test suite running in
+     * parallel, to be drained later. Measurements are moved out of each
+     * source rather than discarded with it, so that reads in progress, which
+     * keep recording to the instance they obtained, lose nothing.
+     *
+     * @return A {@link Map} of sources to the measurements removed, sorted by
+     * source, without sources for which nothing has been measured since the
+     * last drain.
+     */
+    public Map<String, SourceMetrics> drain() {
+        final Map<String, SourceMetrics> drained = new TreeMap<>();
+
+        sources.forEach((source, metrics) -> {
+            final SourceMetrics moved = metrics.drain();
+
+            if (!moved.isEmpty()) {
+                drained.put(source, moved);
+            }
+        });
+
+        return Collections.unmodifiableMap(drained);
+    }
+
+    /**
+     * Gets the measurements for a source, to which a reader must record a new
+     * read of the source. Readers call this method once for every read.
+     *
+     * @param source The source being read.
+     *
+     * @return The {@link SourceMetrics} for the specified source, or an
+     * instance that discards all measurements if metrics are disabled.
+     */
+    public SourceMetrics forSource(final String source) {
+        if (!enabled || source == null) {
+            return SourceMetrics.disabled();
+        }
+
+        final SourceMetrics metrics = sources.computeIfAbsent(source, SourceMetrics::new);
+        metrics.addRead();
+
+        return metrics;
+    }
+
+    /**
+     * Gets the measurements collected for a source.
+     *
+     * @param source The source.
+     *
+     * @return The {@link SourceMetrics} for the specified source, or
+     * {@code null} if no measurements have been collected for the source.
+     */
+    public SourceMetrics get(final String source) {
+        return source == null
+               ? null
+               : sources.get(source);
+    }
+
+    /**
+     * Gets the measurements collected for all sources.
+     *
+     * @return A {@link Map} of sources to their measurements, sorted by
+     * source.
+     */
+    public Map<String, SourceMetrics> getAll() {
+        return Collections.unmodifiableMap(new TreeMap<>(sources));
+    }
+
+    /**
+     * Gets whether measurements are being collected.
+     *
+     * @return {@code true} if measurements are being collected, {@code false}
+     * otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops collecting measurements. Measurements collected so far
+     * are retained.
+     *
+     * @param enabled Whether measurements must be collected.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Summarizes the measurements collected for all sources.
+     *
+     * @return A summary of the measurements, with one line for each source.
+     */
+    public String summarize() {
+        return summarize(getAll());
+    }
+
+    /**
+     * Summarizes measurements for sources, such as those returned by
+     * {@link #drain()}.
+     *
+     * @param measurements A {@link Map} of sources to their measurements.
+     *
+     * @return A summary of the measurements, with one line for each source,
+     * in the iteration order of the map.
+     */
+    public String summarize(final Map<String, SourceMetrics> measurements) {
+        final StringBuilder summary = new StringBuilder("Data reader metrics:");
+
+        measurements.values().forEach(metrics -> summary.append(System.lineSeparator()).append(metrics));
+
+        return summary.toString();
+    }
+
+    /**
+     * Holds a singleton instance of this class.
+     */
+    private static final class SingletonHolder {
+        private static final DataReaderMetrics SINGLETON = new DataReaderMetrics();
+    }
+}
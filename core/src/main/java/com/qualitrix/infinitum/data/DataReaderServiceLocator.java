@@ -21,33 +21,99 @@
 package com.qualitrix.infinitum.data;
 
 import com.qualitrix.infinitum.ServiceLocator;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.util.ClasspathUtil;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
+ * <p>
  * Provides access services that can be used for reading data while running
  * tests.
+ * </p>
+ *
+ * <p>
+ * All services are loaded, and the reader for each format resolved, just once
+ * when the locator is first used. The resulting registry is immutable and held
+ * in final fields, so that it can be read by any number of threads, such as
+ * those running data providers in parallel, without locking.
+ * </p>
+ *
+ * <p>
+ * A format may be supported by more than one service, in which case the
+ * service with the highest priority, see
+ * {@link com.qualitrix.infinitum.Service#getPriority()}, provides the reader
+ * for the format. The remaining services can still be obtained through
+ * {@link #getDataReaderServices(DataFormat)}.
+ * </p>
  */
 public class DataReaderServiceLocator extends ServiceLocator {
-    private static Set<DataFormat> AVAILABLE_FORMATS;
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(DataReaderServiceLocator.class);
+
+    private static final int SAMPLE_SIZE = 4096;
+
+    private final Set<DataFormat> formats;
+
+    private final Map<String, DataFormat> formatsByName;
+
+    private final Map<DataFormat, DataReader> readers;
 
-    private static Map<DataFormat, DataReaderService> SERVICES;
+    private final Map<DataFormat, List<DataReaderService>> services;
 
     /**
      * Loads all {@link DataReaderService}s using Java Service Provider
      * Interface (SPI).
      */
     private DataReaderServiceLocator() {
-        // Load all options available for loading test data.
-        final Iterable<DataReaderService> services = getAllAvailable(DataReaderService.class);
+        // Load all options available for loading test data, highest priority
+        // first.
+        final List<DataReaderService> available = StreamSupport.stream(getAllAvailable(DataReaderService.class).spliterator(), false)
+                                                               .sorted(Comparator.comparingInt(DataReaderService::getPriority).reversed())
+                                                               .collect(Collectors.toList());
+
+        final Map<DataFormat, List<DataReaderService>> servicesByFormat = new HashMap<>();
+
+        available.forEach(service -> service.getSupportedFormats()
+                                            .forEach(format -> servicesByFormat.computeIfAbsent(format, key -> new ArrayList<>())
+                                                                               .add(service)));
+
+        final Set<DataFormat> allFormats = new LinkedHashSet<>();
+        final Map<String, DataFormat> allFormatsByName = new HashMap<>();
+        final Map<DataFormat, DataReader> allReaders = new HashMap<>();
+
+        servicesByFormat.forEach((format, candidates) -> {
+            allFormats.add(format);
+            allFormatsByName.putIfAbsent(format.toString().toUpperCase(Locale.ROOT), format);
+
+            candidates.stream()
+                      .map(service -> service.getDataReader(format))
+                      .filter(Objects::nonNull)
+                      .findFirst()
+                      .ifPresent(reader -> allReaders.put(format, reader));
+        });
 
-        SERVICES = new HashMap<>();
-        services.forEach(service -> service.getSupportedFormats()
-                                           .forEach(format -> SERVICES.put(format, service)));
+        servicesByFormat.replaceAll((format, candidates) -> Collections.unmodifiableList(candidates));
 
-        AVAILABLE_FORMATS = SERVICES.keySet();
+        this.formats = Collections.unmodifiableSet(allFormats);
+        this.formatsByName = Collections.unmodifiableMap(allFormatsByName);
+        this.readers = Collections.unmodifiableMap(allReaders);
+        this.services = Collections.unmodifiableMap(servicesByFormat);
     }
 
     /**
@@ -59,13 +125,66 @@ public class DataReaderServiceLocator extends ServiceLocator {
         return SingletonHolder.SINGLETON;
     }
 
+    /**
+     * <p>
+     * Determines the format of data stored in a named source. The format is
+     * determined from the file extension of the source if it matches the name
+     * of an available format, e.g. {@code CSV} for {@code Customers.csv}.
+     * Otherwise, the first few bytes of the source are inspected for
+     * signatures of well-known formats:
+     * </p>
+     *
+     * <ol>
+     *     <li>{@code XLSX} for ZIP archives;</li>
+     *     <li>{@code XLS} for OLE2 compound documents;</li>
+     *     <li>{@code XML} for content starting with {@code <};</li>
+     *     <li>{@code JSON} for content starting with {@code [} or
+     *     <code>&#123;</code>, or {@code JSONL} if the second line starts
+     *     with <code>&#123;</code> too; and</li>
+     *     <li>{@code TSV} or {@code CSV} for other content whose first line
+     *     contains a tab or a comma respectively.</li>
+     * </ol>
+     *
+     * @param source The source of the data. This can be a file name, a
+     * fully-qualified filesystem path, etc.
+     *
+     * @return The {@link DataFormat} of the data if it could be determined and
+     * is available, {@code null} otherwise.
+     */
+    public DataFormat detectFormat(final String source) {
+        if (source == null) {
+            return null;
+        }
+
+        final DataFormat format = getFormat(source.substring(source.lastIndexOf('.') + 1));
+
+        return format == null
+               ? getFormat(sniff(source))
+               : format;
+    }
+
     /**
      * Gets all formats in which data can be read.
      *
      * @return All formats in which data can be read.
      */
     public Set<DataFormat> getAvailableFormats() {
-        return AVAILABLE_FORMATS;
+        return formats;
+    }
+
+    /**
+     * Gets a reader for data stored in a specified format, provided by the
+     * service with the highest priority among those supporting the format.
+     *
+     * @param format A data format.
+     *
+     * @return A {@link DataReader} if one supporting the specified format is
+     * found, {@code null} otherwise.
+     */
+    public DataReader getDataReader(final DataFormat format) {
+        return format == null
+               ? null
+               : readers.get(format);
     }
 
     /**
@@ -74,10 +193,184 @@ public class DataReaderServiceLocator extends ServiceLocator {
      * @param format A data format.
      *
      * @return A {@link DataReaderService} if one supporting the specified format
-     * is found, {@code null} otherwise.
+     * is found, {@code null} otherwise. If more than one service supports the
+     * format, the one with the highest priority is returned.
      */
     public DataReaderService getDataReaderService(final DataFormat format) {
-        return SERVICES.getOrDefault(format, null);
+        final List<DataReaderService> candidates = getDataReaderServices(format);
+
+        return candidates.isEmpty()
+               ? null
+               : candidates.get(0);
+    }
+
+    /**
+     * Gets all services for reading test data stored in a specified format.
+     *
+     * @param format A data format.
+     *
+     * @return The {@link DataReaderService}s supporting the specified format,
+     * highest priority first. The returned list is never {@code null}.
+     */
+    public List<DataReaderService> getDataReaderServices(final DataFormat format) {
+        return format == null
+               ? Collections.emptyList()
+               : services.getOrDefault(format, Collections.emptyList());
+    }
+
+    /**
+     * Gets an available format by its name, ignoring case.
+     *
+     * @param name The name of the format, e.g. {@code csv}.
+     *
+     * @return The {@link DataFormat} with the specified name if it is
+     * available, {@code null} otherwise.
+     */
+    public DataFormat getFormat(final String name) {
+        return name == null
+               ? null
+               : formatsByName.get(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Guesses the name of the format of data stored in a source from the
+     * first few bytes of the source.
+     *
+     * @param source The source of the data.
+     *
+     * @return The name of the format, or {@code null} if the source is not
+     * found, cannot be read, or has no recognizable signature.
+     */
+    static String sniff(final String source) {
+        final byte[] sample = new byte[SAMPLE_SIZE];
+        int length = 0;
+
+        try (final InputStream stream = ClasspathUtil.getResourceStream(source)) {
+            if (stream == null) {
+                return null;
+            }
+
+            for (int count = 0; count >= 0 && length < sample.length; count = stream.read(sample, length, sample.length - length)) {
+                length += count;
+            }
+        }
+        catch (final IOException e) {
+            LOGGER.error(e, "Unable to determine format of data from [{}].", source);
+
+            return null;
+        }
+
+        return sniff(sample, length);
+    }
+
+    /**
+     * Guesses the name of the format of data from their first few bytes.
+     *
+     * @param sample The first few bytes of the data.
+     * @param length The number of bytes available.
+     *
+     * @return The name of the format, or {@code null} if the bytes have no
+     * recognizable signature.
+     */
+    static String sniff(final byte[] sample, final int length) {
+        if (startsWith(sample, length, 0x50, 0x4B, 0x03, 0x04)) {
+            return "XLSX";
+        }
+
+        if (startsWith(sample, length, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            return "XLS";
+        }
+
+        // Skip a UTF-8 byte order mark and leading whitespace.
+        int start = startsWith(sample, length, 0xEF, 0xBB, 0xBF)
+                    ? 3
+                    : 0;
+
+        while (start < length && Character.isWhitespace(sample[start])) {
+            ++start;
+        }
+
+        if (start == length) {
+            return null;
+        }
+
+        switch (sample[start]) {
+            case '<':
+                return "XML";
+
+            case '[':
+                return "JSON";
+
+            case '{':
+                return isJsonLines(sample, start, length)
+                       ? "JSONL"
+                       : "JSON";
+
+            default:
+                for (int i = start; i < length && sample[i] != '\n'; ++i) {
+                    if (sample[i] == '\t') {
+                        return "TSV";
+                    }
+                }
+
+                for (int i = start; i < length && sample[i] != '\n'; ++i) {
+                    if (sample[i] == ',') {
+                        return "CSV";
+                    }
+                }
+
+                return null;
+        }
+    }
+
+    /**
+     * Checks whether data starting with a JSON object hold one object per
+     * line, by checking whether the second non-blank line starts with an
+     * object too.
+     *
+     * @param sample The first few bytes of the data.
+     * @param start The position of the first non-blank byte.
+     * @param length The number of bytes available.
+     *
+     * @return {@code true} if the second non-blank line starts with an
+     * object, {@code false} otherwise.
+     */
+    private static boolean isJsonLines(final byte[] sample, final int start, final int length) {
+        int position = start;
+
+        while (position < length && sample[position] != '\n') {
+            ++position;
+        }
+
+        while (position < length && Character.isWhitespace(sample[position])) {
+            ++position;
+        }
+
+        return position < length && sample[position] == '{';
+    }
+
+    /**
+     * Checks whether data start with a signature.
+     *
+     * @param sample The first few bytes of the data.
+     * @param length The number of bytes available.
+     * @param signature The signature, as unsigned byte values.
+     *
+     * @return {@code true} if the data start with the signature,
+     * {@code false} otherwise.
+     */
+    private static boolean startsWith(final byte[] sample, final int length, final int... signature) {
+        if (length < signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; ++i) {
+            if ((sample[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
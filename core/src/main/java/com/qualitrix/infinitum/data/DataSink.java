@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import java.io.Closeable;
+import java.util.Collection;
+
+/**
+ * <p>
+ * Contract for writing records, one after another, to an open destination.
+ * Sinks are obtained from a {@link DataWriter} and must be closed after use,
+ * so that all records appended to them are written and any resources held for
+ * writing them are released.
+ * </p>
+ *
+ * <p>
+ * Sinks obtained through {@link DataWriter#open(String, Class)} write records
+ * on the calling thread and are not safe for use by multiple threads. Sinks
+ * obtained through {@link DataWriter#openAsync(String, Class)} can be shared
+ * by multiple threads, and write records in the background.
+ * </p>
+ *
+ * @param <T> The type of records to write.
+ */
+public interface DataSink<T> extends Closeable {
+    /**
+     * Appends a record to the destination.
+     *
+     * @param record The record to append.
+     *
+     * @throws java.io.UncheckedIOException if the record cannot be written.
+     */
+    void append(T record);
+
+    /**
+     * Appends records to the destination, in the order in which they are
+     * returned by the collection. Sinks override this method when a batch of
+     * records can be written more efficiently than individual records.
+     *
+     * @param records The records to append.
+     *
+     * @throws java.io.UncheckedIOException if the records cannot be written.
+     */
+    default void appendAll(final Collection<? extends T> records) {
+        records.forEach(this::append);
+    }
+
+    /**
+     * Writes all records appended so far and releases resources held for
+     * writing them. A sink cannot be used once it has been closed.
+     *
+     * @throws java.io.UncheckedIOException if the records cannot be written.
+     */
+    @Override
+    void close();
+
+    /**
+     * Writes all records appended so far to the destination.
+     *
+     * @throws java.io.UncheckedIOException if the records cannot be written.
+     */
+    void flush();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Contract for writing structured data.
+ */
+public interface DataWriter {
+    /**
+     * Gets a list of formats supported by this writer, e.g. {@code CSV}.
+     *
+     * @return A list of formats supported by this writer.
+     */
+    List<DataFormat> getSupportedFormats();
+
+    /**
+     * Opens a named destination for writing objects of a particular type. An
+     * existing destination is overwritten.
+     *
+     * @param destination The destination to which data must be written. This
+     * is usually a filesystem path, whose parent folders are created if they
+     * do not exist.
+     * @param type The type of objects to write.
+     * @param <T> The type of data to write.
+     *
+     * @return A {@link DataSink} that writes records on the calling thread.
+     *
+     * @throws IOException if the destination cannot be opened for writing.
+     */
+    <T> DataSink<T> open(String destination, Class<T> type) throws IOException;
+
+    /**
+     * Opens a named destination for writing objects of a particular type, in
+     * the background. Records appended to the returned sink are collected into
+     * batches and written by a background thread, so that threads appending
+     * records are not held up by writing them. See {@link AsyncDataSink} for
+     * details.
+     *
+     * @param destination The destination to which data must be written.
+     * @param type The type of objects to write.
+     * @param <T> The type of data to write.
+     *
+     * @return A {@link DataSink} that writes records in the background and can
+     * be shared by multiple threads.
+     *
+     * @throws IOException if the destination cannot be opened for writing.
+     */
+    default <T> DataSink<T> openAsync(final String destination, final Class<T> type) throws IOException {
+        return new AsyncDataSink<>(open(destination, type));
+    }
+
+    /**
+     * Writes objects to a named destination, overwriting the destination if it
+     * exists.
+     *
+     * @param destination The destination to which data must be written.
+     * @param type The type of objects to write.
+     * @param records The objects to write.
+     * @param <T> The type of data to write.
+     *
+     * @throws IOException if the destination cannot be opened for writing, or
+     * the objects cannot be written.
+     */
+    default <T> void write(final String destination, final Class<T> type, final Collection<? extends T> records)
+        throws IOException {
+        try (final DataSink<T> sink = open(destination, type)) {
+            sink.appendAll(records);
+        }
+    }
+}
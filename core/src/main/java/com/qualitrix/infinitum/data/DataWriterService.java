@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.Service;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Contract for writing data while running tests.
+ * </p>
+ *
+ * <p>
+ * Tests often produce data worth keeping, such as responses received from an
+ * application under test, or data generated for use by other tests. This
+ * contract provides a uniform interface for testers to write such data in
+ * different formats, complementing {@link DataReaderService}, so that data
+ * written through this contract can later be read back as objects of the same
+ * type.
+ * </p>
+ */
+public interface DataWriterService extends Service {
+    /**
+     * Gets a writer for writing data in a given format.
+     *
+     * @param format The format in which data must be written.
+     *
+     * @return A writer for writing data. May be {@code null} if the requested
+     * format is not supported by this service.
+     */
+    DataWriter getDataWriter(DataFormat format);
+
+    /**
+     * Gets a list of formats supported by this service, e.g. {@code CSV}.
+     *
+     * @return A list of formats supported by this service.
+     */
+    List<DataFormat> getSupportedFormats();
+}
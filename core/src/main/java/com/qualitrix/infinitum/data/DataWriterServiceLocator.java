@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.ServiceLocator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+/**
+ * Provides access services that can be used for writing data while running
+ * tests. As with {@link DataReaderServiceLocator}, services are loaded just
+ * once into an immutable registry, and the service with the highest priority
+ * is used for formats supported by more than one service.
+ */
+public class DataWriterServiceLocator extends ServiceLocator {
+    private final Map<DataFormat, DataWriterService> services;
+
+    /**
+     * Loads all {@link DataWriterService}s using Java Service Provider
+     * Interface (SPI).
+     */
+    private DataWriterServiceLocator() {
+        // Load all options available for writing data, highest priority
+        // first.
+        final Map<DataFormat, DataWriterService> servicesByFormat = new HashMap<>();
+
+        StreamSupport.stream(getAllAvailable(DataWriterService.class).spliterator(), false)
+                     .sorted(Comparator.comparingInt(DataWriterService::getPriority).reversed())
+                     .forEachOrdered(service -> service.getSupportedFormats()
+                                                       .forEach(format -> servicesByFormat.putIfAbsent(format, service)));
+
+        this.services = Collections.unmodifiableMap(servicesByFormat);
+    }
+
+    /**
+     * Gets an instance of this class.
+     *
+     * @return A {@link DataWriterServiceLocator}.
+     */
+    public static DataWriterServiceLocator getInstance() {
+        return SingletonHolder.SINGLETON;
+    }
+
+    /**
+     * Gets all formats in which data can be written.
+     *
+     * @return All formats in which data can be written.
+     */
+    public Set<DataFormat> getAvailableFormats() {
+        return services.keySet();
+    }
+
+    /**
+     * Gets a service for writing data in a specified format.
+     *
+     * @param format A data format.
+     *
+     * @return A {@link DataWriterService} if one supporting the specified
+     * format is found, {@code null} otherwise.
+     */
+    public DataWriterService getDataWriterService(final DataFormat format) {
+        return format == null
+               ? null
+               : services.get(format);
+    }
+
+    /**
+     * Holds a singleton instance of the service locator.
+     */
+    private static final class SingletonHolder {
+        private static final DataWriterServiceLocator SINGLETON = new DataWriterServiceLocator();
+    }
+}
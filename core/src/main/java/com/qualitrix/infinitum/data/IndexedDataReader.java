@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+/**
+ * <p>
+ * Contract for reading individual records from structured data without
+ * reading the entire source. Readers implementing this contract maintain an
+ * index over the source, so that a single record can be located either by its
+ * position or by the value of a key column, and then read on its own.
+ * </p>
+ *
+ * <p>
+ * Indexes are built the first time a source is accessed and are discarded
+ * automatically when the source changes. Implementations may persist indexes
+ * alongside the source so that they survive across test runs.
+ * </p>
+ */
+public interface IndexedDataReader extends DataReader {
+    /**
+     * Reads a single record from a named source by its position and performs
+     * conversion to an object of required type.
+     *
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of object to read.
+     * @param row The zero-based position of the record to read, not counting
+     * any column headers.
+     * @param <T> The type of data to read.
+     *
+     * @return An object containing data read from the specified position, or
+     * {@code null} if the specified source is not found, cannot be indexed by
+     * this reader, or does not contain a record at the specified position.
+     */
+    <T> T read(String source, Class<T> type, int row);
+
+    /**
+     * Reads a single record from a named source by the value of a key column
+     * and performs conversion to an object of required type. If more than one
+     * record has the same key, any one of them may be returned.
+     *
+     * @param source The source from where data must be read. This can be a
+     * file name, a fully-qualified filesystem path, a URL, etc.
+     * @param type The type of object to read.
+     * @param column The name of the column holding record keys, as it appears
+     * in the source.
+     * @param key The key of the record to read.
+     * @param <T> The type of data to read.
+     *
+     * @return An object containing data read from the record having the
+     * specified key, or {@code null} if the specified source is not found,
+     * cannot be indexed by this reader, or does not contain a record with the
+     * specified key.
+     */
+    <T> T read(String source, Class<T> type, String column, String key);
+}
@@ -0,0 +1,657 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.common.ConfigurationAware;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.util.ClasspathUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Shares data parsed from a source with other JVMs running on the same
+ * machine, such as the JVMs forked by a build tool for running tests in
+ * parallel. Without sharing, each JVM parses the same sources all over again.
+ * </p>
+ *
+ * <p>
+ * The first JVM to read a source parses it and publishes the objects read
+ * into a file under a shared directory, in a compact binary encoding that
+ * holds the textual value of every field of every object. Other JVMs map the
+ * file into memory, read-only, and populate objects from it instead of parsing
+ * the source. JVMs coordinate through a lock on a file next to the published
+ * file, so that only one of them parses a source while the others wait for the
+ * result. Files are published by atomically renaming a fully written file, so
+ * that a published file is always complete.
+ * </p>
+ *
+ * <p>
+ * Each published file starts with a header carrying a hash of the content of
+ * the source and the name of the type of objects read, which are checked
+ * before the file is used, so that a source that changes is parsed again
+ * rather than read from a stale file. Since the name of a published file is
+ * derived from the name of the source and the name of the type, the file
+ * published for the changed source replaces the stale one. The hash of a
+ * source found on the filesystem is computed again only when the size, the
+ * last modification time or the identity of the file change, so that reading
+ * a source that has already been published does not require reading the
+ * source as well.
+ * </p>
+ *
+ * <p>
+ * Only objects that can be populated by a {@link BeanMapper} are shared, and
+ * sources that yield no objects are never published. Sharing is disabled by
+ * default, and can be enabled by setting the configuration parameter
+ * {@code infinitum.data.cache.enabled} to {@code true}, or through
+ * {@link #setEnabled(boolean)}. Files are published under the directory set
+ * through {@code infinitum.data.cache.directory}, which is
+ * {@code infinitum-data-cache} under the temporary directory of the JVM by
+ * default. Files published for sources that are no longer read are never
+ * removed automatically. Reads from a published file are recorded in
+ * {@link DataReaderMetrics} like reads from the source itself, with the size
+ * of the published file as the number of bytes read and all time spent as
+ * mapping.
+ * </p>
+ */
+public final class SharedDataCache extends ConfigurationAware {
+    private static final String CONFIGURATION_PARAMETER_DIRECTORY = "infinitum.data.cache.directory";
+
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.data.cache.enabled";
+
+    private static final String EXTENSION_DATA = ".rows";
+
+    private static final String EXTENSION_LOCK = ".lock";
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(SharedDataCache.class);
+
+    private static final int MAGIC = 0x49444331;
+
+    private static final int VERSION = 1;
+
+    private final Map<Path, Fingerprint> fingerprints;
+
+    private final Map<String, Object> locks;
+
+    private volatile Path directory;
+
+    private volatile boolean enabled;
+
+    /**
+     * Deliberately hidden to prevent direct instantiation.
+     */
+    private SharedDataCache() {
+        directory = Paths.get(getConfigurationService().getString(CONFIGURATION_PARAMETER_DIRECTORY
+            , Paths.get(System.getProperty("java.io.tmpdir"), "infinitum-data-cache").toString()));
+        enabled = Boolean.parseBoolean(getConfigurationService().getString(CONFIGURATION_PARAMETER_ENABLED, "false"));
+        fingerprints = new ConcurrentHashMap<>();
+        locks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets an instance of this class.
+     *
+     * @return A {@link SharedDataCache}.
+     */
+    public static SharedDataCache getInstance() {
+        return SingletonHolder.SINGLETON;
+    }
+
+    /**
+     * Gets the directory under which parsed data are published.
+     *
+     * @return The directory under which parsed data are published.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets whether parsed data are shared with other JVMs.
+     *
+     * @return {@code true} if parsed data are shared, {@code false}
+     * otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reads data from a named source, from a file published by this or
+     * another JVM if one is available, or through a reader otherwise, in
+     * which case the data read are published for other JVMs. If parsed data
+     * are not being shared, if objects of the required type cannot be shared,
+     * or if the shared directory cannot be used, data are read through the
+     * reader alone.
+     *
+     * @param source The source from where data must be read.
+     * @param type The type of objects to read.
+     * @param reader The reader for parsing the source.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * source. The returned list is never {@code null}.
+     *
+     * @see DataReader#read(String, Class)
+     */
+    public <T> List<T> read(final String source, final Class<T> type, final DataReader reader) {
+        final BeanMapper<T> mapper = enabled
+                                     ? BeanMapper.of(type)
+                                     : null;
+
+        if (mapper == null) {
+            return reader.read(source, type);
+        }
+
+        try {
+            final byte[] hash = hash(source);
+
+            if (hash == null) {
+                return reader.read(source, type);
+            }
+
+            final Path root = directory;
+            final String key = getKey(source, type);
+            final Path file = root.resolve(key + EXTENSION_DATA);
+
+            final List<T> cached = load(source, file, hash, mapper);
+
+            if (cached != null) {
+                return cached;
+            }
+
+            // A file lock is held on behalf of the whole JVM, and cannot be
+            // acquired again by another thread of the same JVM, hence threads
+            // of this JVM are serialized before competing with other JVMs.
+            synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+                Files.createDirectories(root);
+
+                try (final FileChannel channel = FileChannel.open(root.resolve(key + EXTENSION_LOCK)
+                    , StandardOpenOption.CREATE
+                    , StandardOpenOption.WRITE);
+                     final FileLock ignored = channel.lock()) {
+                    // Another JVM may have published the data while this one
+                    // was waiting for the lock.
+                    final List<T> published = load(source, file, hash, mapper);
+
+                    if (published != null) {
+                        return published;
+                    }
+
+                    final List<T> records = reader.read(source, type);
+
+                    if (!records.isEmpty()) {
+                        publish(file, hash, mapper, records);
+                    }
+
+                    return records;
+                }
+            }
+        }
+        catch (final IOException e) {
+            LOGGER.error(e, "Unable to share data read from [{}] through [{}].", source, directory);
+        }
+
+        return reader.read(source, type);
+    }
+
+    /**
+     * Starts or stops sharing parsed data with other JVMs.
+     *
+     * @param enabled Whether parsed data must be shared.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Sets the directory under which parsed data are published. All JVMs that
+     * must share data have to use the same directory.
+     *
+     * @param directory The directory under which parsed data are published.
+     */
+    public void setDirectory(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the key from which the names of the files for sharing data read
+     * from a source are derived.
+     *
+     * @param source The source.
+     * @param type The type of objects read from the source.
+     *
+     * @return A key unique to the source and the type.
+     */
+    private static String getKey(final String source, final Class<?> type) {
+        final MessageDigest digest = newDigest();
+
+        digest.update(source.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) VERSION);
+
+        final StringBuilder key = new StringBuilder();
+
+        for (final byte value : digest.digest()) {
+            key.append(String.format("%02x", value));
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Computes a hash of the content of a source.
+     *
+     * @param stream Supplies the content of the source.
+     *
+     * @return The hash of the content of the source.
+     *
+     * @throws IOException if the source cannot be read.
+     */
+    private static byte[] hash(final InputStream stream) throws IOException {
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[64 * 1024];
+
+        for (int count = stream.read(buffer); count >= 0; count = stream.read(buffer)) {
+            digest.update(buffer, 0, count);
+        }
+
+        return digest.digest();
+    }
+
+    /**
+     * Gets a hash of the content of a source. The hash of a source found on
+     * the filesystem is computed once and reused for as long as the size,
+     * the last modification time and the identity of the file remain the
+     * same. The attributes of the file are read before its content, so that
+     * a change made while the hash is being computed causes the hash to be
+     * computed again next time.
+     *
+     * @param source The source.
+     *
+     * @return The hash of the content of the source, or {@code null} if the
+     * source is not found.
+     *
+     * @throws IOException if the source cannot be read.
+     */
+    private byte[] hash(final String source) throws IOException {
+        final File file = new File(source).exists()
+                          ? new File(source)
+                          : ClasspathUtil.getResourceFile(source);
+
+        if (file == null || !file.isFile()) {
+            // Not found, or packaged in an archive, which has no attributes
+            // of its own to tell whether it has changed.
+            try (final InputStream stream = ClasspathUtil.getResourceStream(source)) {
+                return stream == null
+                       ? null
+                       : hash(stream);
+            }
+        }
+
+        final Path path = file.toPath().toAbsolutePath();
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        final Fingerprint known = fingerprints.get(path);
+
+        if (known != null && known.matches(attributes)) {
+            return known.hash;
+        }
+
+        try (final InputStream stream = Files.newInputStream(path)) {
+            final byte[] hash = hash(stream);
+
+            fingerprints.put(path, new Fingerprint(attributes, hash));
+
+            return hash;
+        }
+    }
+
+    /**
+     * Populates objects from a published file, if the file exists and
+     * matches the source and type, recording the read in
+     * {@link DataReaderMetrics}.
+     *
+     * @param source The source from where data were read.
+     * @param file The published file.
+     * @param hash The hash of the content of the source.
+     * @param mapper Populates objects of the required type.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects populated from the file, or
+     * {@code null} if the file does not exist, does not match the source and
+     * type, or is corrupt.
+     *
+     * @throws IOException if the file exists but cannot be read.
+     */
+    private static <T> List<T> load(final String source, final Path file, final byte[] hash, final BeanMapper<T> mapper) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        final long start = System.nanoTime();
+
+        final ByteBuffer buffer;
+
+        // The mapping remains valid after the channel has been closed.
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            final byte[] storedHash = new byte[hash.length];
+
+            if (buffer.getInt() != MAGIC
+                || buffer.getInt() != VERSION
+                || !Arrays.equals(hash, getBytes(buffer, storedHash))
+                || !mapper.getType().getName().equals(readString(buffer))) {
+                LOGGER.warn("Ignoring shared data in [{}], as they do not match [{}].", file, mapper.getType().getName());
+
+                return null;
+            }
+
+            final String[] row = new String[readLength(buffer)];
+
+            for (int i = 0; i < row.length; ++i) {
+                row[i] = readString(buffer);
+            }
+
+            final Function<String[], T> factory = mapper.forColumns(row);
+            final int count = buffer.getInt();
+            final List<T> records = new ArrayList<>(count);
+
+            for (int i = 0; i < count; ++i) {
+                for (int j = 0; j < row.length; ++j) {
+                    row[j] = readString(buffer);
+                }
+
+                records.add(factory.apply(row));
+            }
+
+            final SourceMetrics metrics = DataReaderMetrics.getInstance().forSource(source);
+            metrics.addBytes(buffer.capacity());
+            metrics.addMappingTime(System.nanoTime() - start);
+            metrics.addRows(count);
+
+            return records;
+        }
+        catch (final BufferUnderflowException | IllegalArgumentException e) {
+            LOGGER.warn("Ignoring corrupt shared data in [{}].", file);
+
+            return null;
+        }
+    }
+
+    /**
+     * Creates a digest for computing hashes.
+     *
+     * @return A {@link MessageDigest} for the SHA-256 algorithm.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Publishes objects read from a source into a file. The file is written
+     * under a temporary name first and then renamed, so that other JVMs never
+     * see a partially written file. Failures are logged, since the objects
+     * have been read regardless.
+     *
+     * @param file The file to publish.
+     * @param hash The hash of the content of the source.
+     * @param mapper Reads objects of the required type.
+     * @param records The objects to publish.
+     * @param <T> The type of objects to publish.
+     */
+    private static <T> void publish(final Path file, final byte[] hash, final BeanMapper<T> mapper, final List<T> records) {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream(64 * 1024);
+
+        try {
+            writeInt(content, MAGIC);
+            writeInt(content, VERSION);
+            content.write(hash);
+            writeString(content, mapper.getType().getName());
+
+            final List<String> columns = mapper.getFieldNames();
+
+            writeLength(content, columns.size());
+            columns.forEach(column -> writeString(content, column));
+
+            writeInt(content, records.size());
+
+            for (final T record : records) {
+                for (final String value : mapper.toRow(record)) {
+                    writeString(content, value);
+                }
+            }
+
+            final Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            try {
+                Files.write(temporary, content.toByteArray());
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        catch (final IOException | RuntimeException e) {
+            LOGGER.error(e, "Unable to publish shared data to [{}].", file);
+        }
+    }
+
+    /**
+     * Reads bytes from a buffer.
+     *
+     * @param buffer The buffer.
+     * @param bytes The array to fill with bytes.
+     *
+     * @return The specified array.
+     */
+    private static byte[] getBytes(final ByteBuffer buffer, final byte[] bytes) {
+        buffer.get(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * Reads a length, encoded in seven-bit groups, least significant group
+     * first, from a buffer.
+     *
+     * @param buffer The buffer.
+     *
+     * @return The length.
+     *
+     * @throws IllegalArgumentException if the length is malformed.
+     */
+    private static int readLength(final ByteBuffer buffer) {
+        int length = 0;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte value = buffer.get();
+
+            length |= (value & 0x7F) << shift;
+
+            if (value >= 0) {
+                return length;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed length.");
+    }
+
+    /**
+     * Reads a string from a buffer.
+     *
+     * @param buffer The buffer.
+     *
+     * @return The string, which may be {@code null}.
+     *
+     * @see #writeString(ByteArrayOutputStream, String)
+     */
+    private static String readString(final ByteBuffer buffer) {
+        final int length = readLength(buffer) - 1;
+
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = getBytes(buffer, new byte[length]);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes an integer to a stream, most significant byte first, matching
+     * {@link ByteBuffer#getInt()}.
+     *
+     * @param stream The stream.
+     * @param value The integer.
+     */
+    private static void writeInt(final ByteArrayOutputStream stream, final int value) {
+        stream.write(value >>> 24);
+        stream.write(value >>> 16);
+        stream.write(value >>> 8);
+        stream.write(value);
+    }
+
+    /**
+     * Writes a length to a stream, in seven-bit groups, least significant
+     * group first, so that small lengths take a single byte.
+     *
+     * @param stream The stream.
+     * @param length The length, which must not be negative.
+     */
+    private static void writeLength(final ByteArrayOutputStream stream, final int length) {
+        int remaining = length;
+
+        while ((remaining & ~0x7F) != 0) {
+            stream.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+
+        stream.write(remaining);
+    }
+
+    /**
+     * Writes a string to a stream as its length in UTF-8 bytes plus one,
+     * followed by the bytes, so that {@code null} can be written as a length
+     * of zero.
+     *
+     * @param stream The stream.
+     * @param value The string, which may be {@code null}.
+     */
+    private static void writeString(final ByteArrayOutputStream stream, final String value) {
+        if (value == null) {
+            writeLength(stream, 0);
+
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        writeLength(stream, bytes.length + 1);
+        stream.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * The hash of the content of a source file, along with the attributes
+     * the file had when the hash was computed.
+     */
+    private static final class Fingerprint {
+        private final byte[] hash;
+
+        private final Object key;
+
+        private final FileTime lastModified;
+
+        private final long size;
+
+        /**
+         * Creates a fingerprint.
+         *
+         * @param attributes The attributes of the file, read before its
+         * content.
+         * @param hash The hash of the content of the file.
+         */
+        private Fingerprint(final BasicFileAttributes attributes, final byte[] hash) {
+            this.hash = hash;
+            this.key = attributes.fileKey();
+            this.lastModified = attributes.lastModifiedTime();
+            this.size = attributes.size();
+        }
+
+        /**
+         * Checks whether a file still has the attributes it had when its hash
+         * was computed.
+         *
+         * @param attributes The current attributes of the file.
+         *
+         * @return {@code true} if the attributes are unchanged, {@code false}
+         * otherwise.
+         */
+        private boolean matches(final BasicFileAttributes attributes) {
+            return size == attributes.size()
+                && lastModified.equals(attributes.lastModifiedTime())
+                && Objects.equals(key, attributes.fileKey());
+        }
+    }
+
+    /**
+     * Holds a singleton instance of this class.
+     */
+    private static final class SingletonHolder {
+        private static final SharedDataCache SINGLETON = new SharedDataCache();
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Holds measurements of the data read from a single source, accumulated over
+ * all reads of the source. Measurements are recorded by {@link DataReader}s
+ * and obtained through {@link DataReaderMetrics}.
+ * </p>
+ *
+ * <p>
+ * Time spent reading a source is split into parsing, i.e. reading and
+ * decoding the content of the source, and mapping, i.e. populating objects
+ * from the decoded content. Readers that populate objects while decoding the
+ * content, as is the case for JSON, XML and Microsoft Excel readers, report all
+ * their time as parsing.
+ * </p>
+ *
+ * <p>
+ * Readers obtain an instance for each read through
+ * {@link DataReaderMetrics#forSource(String)}. If metrics are disabled, a
+ * shared instance that discards all measurements is returned instead, and
+ * {@link #time()} does not consult the system clock, so that the overhead of
+ * recording measurements is a single branch per call.
+ * </p>
+ */
+public final class SourceMetrics {
+    private static final SourceMetrics DISABLED = new SourceMetrics(null);
+
+    private final LongAdder bytes;
+
+    private final LongAdder mappingNanos;
+
+    private final LongAdder parseNanos;
+
+    private final LongAdder reads;
+
+    private final LongAdder rejected;
+
+    private final LongAdder rows;
+
+    private final String source;
+
+    /**
+     * Creates an instance for holding measurements of a source.
+     *
+     * @param source The source, or {@code null} to discard measurements.
+     */
+    SourceMetrics(final String source) {
+        this.bytes = new LongAdder();
+        this.mappingNanos = new LongAdder();
+        this.parseNanos = new LongAdder();
+        this.reads = new LongAdder();
+        this.rejected = new LongAdder();
+        this.rows = new LongAdder();
+        this.source = source;
+    }
+
+    /**
+     * Gets an instance that discards all measurements.
+     *
+     * @return A {@link SourceMetrics}.
+     */
+    public static SourceMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Records bytes read from the source.
+     *
+     * @param count The number of bytes read.
+     */
+    public void addBytes(final long count) {
+        if (isEnabled()) {
+            bytes.add(count);
+        }
+    }
+
+    /**
+     * Records time spent populating objects from the content of the source.
+     *
+     * @param nanos The time spent, in nanoseconds, usually obtained as the
+     * difference between two calls to {@link #time()}.
+     */
+    public void addMappingTime(final long nanos) {
+        if (isEnabled()) {
+            mappingNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Records time spent reading and decoding the content of the source.
+     *
+     * @param nanos The time spent, in nanoseconds, usually obtained as the
+     * difference between two calls to {@link #time()}.
+     */
+    public void addParseTime(final long nanos) {
+        if (isEnabled()) {
+            parseNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Records rows, or records, that could not be converted to objects.
+     *
+     * @param count The number of rows rejected.
+     */
+    public void addRejected(final long count) {
+        if (isEnabled()) {
+            rejected.add(count);
+        }
+    }
+
+    /**
+     * Records rows, or records, converted to objects.
+     *
+     * @param count The number of rows converted.
+     */
+    public void addRows(final long count) {
+        if (isEnabled()) {
+            rows.add(count);
+        }
+    }
+
+    /**
+     * Gets the number of bytes read from the source.
+     *
+     * @return The number of bytes read from the source.
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Gets the time spent populating objects from the content of the source.
+     *
+     * @param unit The unit in which to express the time.
+     *
+     * @return The time spent populating objects, in the specified unit.
+     */
+    public long getMappingTime(final TimeUnit unit) {
+        return unit.convert(mappingNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the time spent reading and decoding the content of the source.
+     *
+     * @param unit The unit in which to express the time.
+     *
+     * @return The time spent reading and decoding, in the specified unit.
+     */
+    public long getParseTime(final TimeUnit unit) {
+        return unit.convert(parseNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of times the source has been read.
+     *
+     * @return The number of times the source has been read.
+     */
+    public long getReads() {
+        return reads.sum();
+    }
+
+    /**
+     * Gets the number of rows, or records, that could not be converted to
+     * objects.
+     *
+     * @return The number of rows rejected.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets the number of rows, or records, converted to objects.
+     *
+     * @return The number of rows converted.
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Gets the source whose measurements are held.
+     *
+     * @return The source, or {@code null} if measurements are discarded.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets whether measurements are recorded.
+     *
+     * @return {@code true} if measurements are recorded, {@code false} if
+     * they are discarded.
+     */
+    public boolean isEnabled() {
+        return source != null;
+    }
+
+    /**
+     * Wraps a stream so that bytes read through it are recorded.
+     *
+     * @param stream The stream to wrap.
+     *
+     * @return A stream that records bytes read through it, or the specified
+     * stream itself if measurements are discarded or the stream is
+     * {@code null}.
+     */
+    public InputStream meter(final InputStream stream) {
+        return isEnabled() && stream != null
+               ? new MeteredInputStream(stream, bytes)
+               : stream;
+    }
+
+    /**
+     * Gets the current time, for measuring time spent by operations.
+     *
+     * @return The current value of {@link System#nanoTime()}, or {@code 0} if
+     * measurements are discarded.
+     */
+    public long time() {
+        return isEnabled()
+               ? System.nanoTime()
+               : 0;
+    }
+
+    /**
+     * Summarizes the measurements, including the throughput in rows per
+     * second of time spent on parsing and mapping.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final long nanos = parseNanos.sum() + mappingNanos.sum();
+
+        return String.format("[%s]: reads=%d, bytes=%d, rows=%d, rejected=%d, parse=%d ms, mapping=%d ms, throughput=%d rows/s"
+            , source
+            , getReads()
+            , getBytes()
+            , getRows()
+            , getRejected()
+            , getParseTime(TimeUnit.MILLISECONDS)
+            , getMappingTime(TimeUnit.MILLISECONDS)
+            , nanos == 0
+              ? 0
+              : getRows() * TimeUnit.SECONDS.toNanos(1) / nanos);
+    }
+
+    /**
+     * Records a read of the source.
+     */
+    void addRead() {
+        reads.increment();
+    }
+
+    /**
+     * Moves the measurements recorded so far to a new instance. Each
+     * measurement is moved by subtracting the amount moved, so that amounts
+     * recorded at the same time, such as by reads still in progress, remain
+     * in this instance instead of being lost.
+     *
+     * @return A {@link SourceMetrics} holding the measurements moved.
+     */
+    SourceMetrics drain() {
+        final SourceMetrics drained = new SourceMetrics(source);
+
+        move(bytes, drained.bytes);
+        move(mappingNanos, drained.mappingNanos);
+        move(parseNanos, drained.parseNanos);
+        move(reads, drained.reads);
+        move(rejected, drained.rejected);
+        move(rows, drained.rows);
+
+        return drained;
+    }
+
+    /**
+     * Gets whether no measurements have been recorded.
+     *
+     * @return {@code true} if no measurements have been recorded,
+     * {@code false} otherwise.
+     */
+    boolean isEmpty() {
+        return getReads() == 0
+            && getBytes() == 0
+            && getRows() == 0
+            && getRejected() == 0
+            && parseNanos.sum() == 0
+            && mappingNanos.sum() == 0;
+    }
+
+    /**
+     * Moves the amount accumulated by one adder to another.
+     *
+     * @param from The adder from which the amount must be moved.
+     * @param to The adder to which the amount must be moved.
+     */
+    private static void move(final LongAdder from, final LongAdder to) {
+        final long amount = from.sum();
+
+        from.add(-amount);
+        to.add(amount);
+    }
+
+    /**
+     * Counts bytes read through a stream.
+     */
+    private static final class MeteredInputStream extends FilterInputStream {
+        private final LongAdder bytes;
+
+        /**
+         * Creates a stream that counts bytes read through another stream.
+         *
+         * @param stream The other stream.
+         * @param bytes Accumulates the number of bytes read.
+         */
+        MeteredInputStream(final InputStream stream, final LongAdder bytes) {
+            super(stream);
+
+            this.bytes = bytes;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+
+            if (value >= 0) {
+                bytes.increment();
+            }
+
+            return value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int count = super.read(buffer, offset, length);
+
+            if (count > 0) {
+                bytes.add(count);
+            }
+
+            return count;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long skip(final long count) throws IOException {
+            final long skipped = super.skip(count);
+
+            bytes.add(skipped);
+
+            return skipped;
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 
 /**
- * Provides interfaces and classes for reading data while running tests.
+ * Provides interfaces and classes for reading and writing data while running
+ * tests.
  */
 package com.qualitrix.infinitum.data;
\ No newline at end of file
@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Writes log messages to a {@link PrintStream} on a dedicated daemon thread.
+ * Threads writing messages only add them to a {@link LogRingBuffer}, while the
+ * dedicated thread takes messages from the buffer in batches, formats each
+ * batch into a single block of text and writes the block to the stream in one
+ * go. The threads writing messages therefore neither format the output nor
+ * contend for the lock of the stream.
+ * </p>
+ *
+ * <p>
+ * When the buffer is full, messages are either discarded or the thread
+ * writing a message waits for space in the buffer, according to an
+ * {@link OverflowPolicy}. The number of discarded messages is written to the
+ * stream as soon as the buffer has been drained.
+ * </p>
+ *
+ * <p>
+ * Once {@link #close()} has been called, all messages in the buffer are
+ * written and the dedicated thread stops. Messages written afterwards, for
+ * example by other shutdown hooks, are written to the stream directly.
+ * </p>
+ *
+ * <p>
+ * Messages are written as plain text, or as JSON objects encoded by
+ * {@link JsonLogEncoder}, according to a {@link LogFormat}. The time, thread
+ * and test of each message are recorded when the message is added to the
+ * buffer, so that they are accurate even though the message is written later
+ * on the dedicated thread. Stack traces already written are written as a
+ * reference to the earlier stack trace, if the dispatcher has been given a
+ * {@link StackTraceRegistry}, and a summary of all stack traces written is
+ * written once the dispatcher has stopped.
+ * </p>
+ */
+final class AsyncLogDispatcher {
+    private static final long BACKOFF = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final int BATCH_SIZE = 1024;
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private static final String NAME = AsyncLoggingService.class.getName();
+
+    private final StringBuilder batch;
+
+    private final LogRingBuffer buffer;
+
+    private final Thread consumer;
+
+    private final AtomicLong dropped;
+
+    private final LogFormat layout;
+
+    private final OverflowPolicy policy;
+
+    private final PrintStream sink;
+
+    private final LogLevel threshold;
+
+    private final StackTraceRegistry traces;
+
+    private volatile boolean idle;
+
+    private volatile boolean running;
+
+    private volatile long written;
+
+    /**
+     * Creates a dispatcher and starts its dedicated thread.
+     *
+     * @param sink The stream to which messages must be written.
+     * @param capacity The number of messages that can be waiting to be
+     * written.
+     * @param policy What to do with messages when the buffer is full.
+     * @param threshold The level below which messages are discarded when the
+     * buffer is full, if the policy is
+     * {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+     */
+    AsyncLogDispatcher(final PrintStream sink, final int capacity, final OverflowPolicy policy, final LogLevel threshold) {
+        this(sink, capacity, policy, threshold, LogFormat.TEXT, null);
+    }
+
+    /**
+     * Creates a dispatcher writing messages in a specified layout, and
+     * deduplicating stack traces, and starts its dedicated thread.
+     *
+     * @param sink The stream to which messages must be written.
+     * @param capacity The number of messages that can be waiting to be
+     * written.
+     * @param policy What to do with messages when the buffer is full.
+     * @param threshold The level below which messages are discarded when the
+     * buffer is full, if the policy is
+     * {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+     * @param layout The layout in which messages must be written.
+     * @param traces Keeps track of the stack traces written, so that each is
+     * written in full only once, or {@code null} to write every stack trace
+     * in full.
+     */
+    AsyncLogDispatcher(final PrintStream sink
+        , final int capacity
+        , final OverflowPolicy policy
+        , final LogLevel threshold
+        , final LogFormat layout
+        , final StackTraceRegistry traces) {
+        this.batch = new StringBuilder(8 * 1024);
+        this.buffer = new LogRingBuffer(capacity);
+        this.dropped = new AtomicLong();
+        this.layout = layout;
+        this.policy = policy;
+        this.running = true;
+        this.sink = sink;
+        this.threshold = threshold;
+        this.traces = traces;
+
+        this.consumer = new Thread(this::run, "infinitum-logging-" + COUNT.incrementAndGet());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Writes all messages waiting in the buffer and stops the dedicated
+     * thread, waiting for a few seconds at most. Closing a dispatcher that
+     * has already been closed has no effect.
+     */
+    void close() {
+        running = false;
+
+        LockSupport.unpark(consumer);
+
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds a message to the log captured for the current thread, formatted as
+     * it would have been written to the stream, instead of adding it to the
+     * buffer. The stack trace of the exception that generated the message, if
+     * any, is always written in full, as the captured log may be discarded.
+     *
+     * @param capture The log captured for the current thread.
+     * @param level The level of the message.
+     * @param name The name of the logger writing the message.
+     * @param message The message.
+     * @param throwable The exception that generated the message, if any.
+     */
+    void capture(final CapturedLog capture, final LogLevel level, final String name, final String message, final Throwable throwable) {
+        final StringBuilder text = new StringBuilder();
+
+        format(text
+            , System.currentTimeMillis()
+            , Thread.currentThread()
+            , Reporter.getCurrentTestResult()
+            , level
+            , name
+            , message
+            , throwable
+            , null);
+
+        capture.append(sink, text);
+    }
+
+    /**
+     * Waits until all messages added to the buffer so far have been written.
+     */
+    void flush() {
+        final long target = buffer.getTail();
+
+        while (written < target && consumer.isAlive()) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, BACKOFF);
+        }
+    }
+
+    /**
+     * Gets the number of messages discarded since they were last reported.
+     *
+     * @return The number of messages discarded.
+     */
+    long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Adds a message to the buffer, applying the overflow policy if the
+     * buffer is full.
+     *
+     * @param level The level of the message.
+     * @param name The name of the logger writing the message.
+     * @param message The message.
+     * @param throwable The exception that generated the message, if any.
+     */
+    void publish(final LogLevel level, final String name, final String message, final Throwable throwable) {
+        if (!running) {
+            writeDirectly(level, name, message, throwable);
+
+            return;
+        }
+
+        if (!buffer.offer(level, name, message, throwable)) {
+            if (policy == OverflowPolicy.DROP || (policy == OverflowPolicy.DROP_BELOW_LEVEL && !level.isAtLeast(threshold))) {
+                dropped.incrementAndGet();
+
+                return;
+            }
+
+            do {
+                if (!running) {
+                    writeDirectly(level, name, message, throwable);
+
+                    return;
+                }
+
+                LockSupport.unpark(consumer);
+                LockSupport.parkNanos(this, BACKOFF);
+            }
+            while (!buffer.offer(level, name, message, throwable));
+        }
+
+        if (idle) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Appends a line of text to a batch.
+     *
+     * @param text The batch.
+     * @param level The level of the message.
+     * @param name The name of the logger writing the message.
+     * @param message The message.
+     */
+    private static void appendLine(final StringBuilder text, final LogLevel level, final String name, final String message) {
+        text.append('[').append(level).append("] ");
+
+        if (name != null) {
+            text.append('[').append(name).append("] ");
+        }
+
+        text.append(message).append(System.lineSeparator());
+    }
+
+    /**
+     * Appends a message, and the stack trace of the exception that generated
+     * it if any, to a batch.
+     *
+     * @param text The batch.
+     * @param timestamp The time at which the message was written.
+     * @param thread The thread that wrote the message.
+     * @param test The test running when the message was written, if any.
+     * @param level The level of the message.
+     * @param name The name of the logger writing the message.
+     * @param message The message.
+     * @param throwable The exception that generated the message, if any.
+     * @param occurrence The occurrence of the stack trace of the exception,
+     * or {@code null} if the stack trace must be written in full.
+     */
+    private void format(final StringBuilder text
+        , final long timestamp
+        , final Thread thread
+        , final ITestResult test
+        , final LogLevel level
+        , final String name
+        , final String message
+        , final Throwable throwable
+        , final StackTraceRegistry.Occurrence occurrence) {
+        if (layout == LogFormat.JSON) {
+            JsonLogEncoder.start(text, timestamp, level, name, thread.getName(), test);
+
+            final int from = text.length();
+
+            text.append(message);
+
+            JsonLogEncoder.end(text, from, throwable, occurrence);
+
+            return;
+        }
+
+        appendLine(text, level, name, message);
+
+        if (throwable != null) {
+            appendLine(text
+                , LogLevel.ERROR
+                , name
+                , occurrence == null
+                  ? throwable.getMessage()
+                  : String.format("%s (%s)", throwable.getMessage(), occurrence.getReference()));
+
+            if (occurrence == null || occurrence.isFull()) {
+                final StringWriter trace = new StringWriter();
+                throwable.printStackTrace(new PrintWriter(trace));
+
+                text.append(trace);
+            }
+        }
+    }
+
+    /**
+     * Appends a message to the current batch.
+     *
+     * @param event The message.
+     */
+    private void format(final LogEvent event) {
+        format(batch
+            , event.getTimestamp()
+            , event.getThread()
+            , event.getTest()
+            , event.getLevel()
+            , event.getName()
+            , event.getMessage()
+            , event.getThrowable()
+            , record(event.getThrowable()));
+    }
+
+    /**
+     * Records an occurrence of an exception about to be written, if stack
+     * traces are deduplicated.
+     *
+     * @param throwable The exception, if any.
+     *
+     * @return The occurrence of the stack trace of the exception, or
+     * {@code null} if the stack trace must be written in full.
+     */
+    private StackTraceRegistry.Occurrence record(final Throwable throwable) {
+        return traces == null
+               ? null
+               : traces.record(throwable);
+    }
+
+    /**
+     * Takes messages from the buffer and writes them until the dispatcher is
+     * closed and the buffer is empty. Runs on the dedicated thread.
+     */
+    private void run() {
+        while (true) {
+            // Checked before draining the buffer, so that messages added
+            // before the dispatcher was closed are written.
+            final boolean stopping = !running;
+
+            if (drain() > 0) {
+                written = buffer.getHead();
+
+                continue;
+            }
+
+            final long count = dropped.getAndSet(0);
+
+            if (count > 0) {
+                format(batch
+                    , System.currentTimeMillis()
+                    , consumer
+                    , null
+                    , LogLevel.WARN
+                    , NAME
+                    , String.format("%d log messages dropped, as the buffer was full.", count)
+                    , null
+                    , null);
+
+                write();
+            }
+
+            if (stopping) {
+                summarize();
+
+                return;
+            }
+
+            // Threads adding messages unpark this thread once they see it
+            // idle. Checking the buffer again after announcing it ensures that
+            // a message added meanwhile is either seen here or followed by an
+            // unpark, hence there is no need to wake up periodically.
+            idle = true;
+
+            if (buffer.getTail() == buffer.getHead()) {
+                LockSupport.park(this);
+            }
+
+            idle = false;
+        }
+    }
+
+    /**
+     * Takes messages from the buffer and writes them, if any. Messages are
+     * formatted before taking the lock of the stream, so that other threads
+     * writing to the stream, such as those writing to {@link System#out}
+     * directly, only wait for the batch to be written. Stack traces can be
+     * recorded while formatting, as this thread is the only one writing
+     * messages until the dispatcher has stopped, see
+     * {@link #writeDirectly(LogLevel, String, String, Throwable)}.
+     *
+     * @return The number of messages written.
+     */
+    private int drain() {
+        final int count = buffer.drain(this::format, BATCH_SIZE);
+
+        if (count > 0) {
+            write();
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes a summary of the stack traces written by this dispatcher, if
+     * any, once the dispatcher has stopped.
+     */
+    private void summarize() {
+        if (traces == null || traces.isEmpty()) {
+            return;
+        }
+
+        final StringBuilder summary = new StringBuilder();
+
+        traces.appendSummary(summary);
+
+        format(batch, System.currentTimeMillis(), consumer, null, LogLevel.INFO, NAME, summary.toString(), null, null);
+
+        write();
+    }
+
+    /**
+     * Writes the current batch to the stream, holding the lock of the stream
+     * only while writing.
+     */
+    private void write() {
+        synchronized (sink) {
+            sink.print(batch);
+            sink.flush();
+        }
+
+        batch.setLength(0);
+    }
+
+    /**
+     * Writes a message to the stream directly, after the dispatcher has been
+     * closed. While the dedicated thread is still writing the messages left
+     * in the buffer, stack traces are written in full without being recorded,
+     * as a stack trace recorded by the dedicated thread may not have been
+     * written yet. Once it has stopped, stack traces are recorded and written
+     * while holding the lock of the stream, as several threads may be writing
+     * messages directly.
+     *
+     * @param level The level of the message.
+     * @param name The name of the logger writing the message.
+     * @param message The message.
+     * @param throwable The exception that generated the message, if any.
+     */
+    private void writeDirectly(final LogLevel level, final String name, final String message, final Throwable throwable) {
+        final StringBuilder text = new StringBuilder();
+
+        synchronized (sink) {
+            format(text
+                , System.currentTimeMillis()
+                , Thread.currentThread()
+                , Reporter.getCurrentTestResult()
+                , level
+                , name
+                , message
+                , throwable
+                , consumer.isAlive()
+                  ? null
+                  : record(throwable));
+
+            sink.print(text);
+            sink.flush();
+        }
+    }
+}
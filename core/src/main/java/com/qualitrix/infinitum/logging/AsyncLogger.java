@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.util.MessageFormatter;
+
+import java.util.Optional;
+
+/**
+ * Writes log messages through an {@link AsyncLogDispatcher}. Messages are
+ * formatted from their arguments by {@link MessageFormatter} on the calling
+ * thread, so that arguments that change afterwards do not affect the message,
+ * and are then handed over to the dispatcher for writing. Messages below the
+ * level configured for the logger are neither formatted nor handed over, and
+ * neither are messages suppressed by the {@link LogRateLimiter} configured
+ * for the logger, if any.
+ */
+final class AsyncLogger implements ConfigurableLogger {
+    private final AsyncLogDispatcher dispatcher;
+
+    private final LogRateLimiter limiter;
+
+    private final String name;
+
+    private volatile LogLevel threshold;
+
+    /**
+     * Creates a logger for writing log messages through a dispatcher, at and
+     * above the level configured for the logger.
+     *
+     * @param type The class after which the logger should be named.
+     * @param dispatcher The dispatcher.
+     */
+    AsyncLogger(final Class<?> type, final AsyncLogDispatcher dispatcher) {
+        this(type, dispatcher, null);
+    }
+
+    /**
+     * Creates a logger for writing log messages through a dispatcher, at and
+     * above a specified level.
+     *
+     * @param type The class after which the logger should be named.
+     * @param dispatcher The dispatcher.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     */
+    AsyncLogger(final Class<?> type, final AsyncLogDispatcher dispatcher, final LogLevel threshold) {
+        this.dispatcher = dispatcher;
+        this.name = Optional.ofNullable(type)
+                            .map(Class::getName)
+                            .orElse(null);
+        this.threshold = Optional.ofNullable(threshold)
+                                 .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(name));
+        this.limiter = LogRateLimiter.create(name, summary -> log(LogLevel.WARN, null, summary));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String message) {
+        if (isDebugEnabled() && permit(LogLevel.DEBUG, null)) {
+            log(LogLevel.DEBUG, null, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String format, final Object context) {
+        if (isDebugEnabled() && permit(LogLevel.DEBUG, format)) {
+            log(LogLevel.DEBUG, null, MessageFormatter.format(format, context));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String format, final Object arg1, final Object arg2) {
+        if (isDebugEnabled() && permit(LogLevel.DEBUG, format)) {
+            log(LogLevel.DEBUG, null, MessageFormatter.format(format, arg1, arg2));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String format, final Object... args) {
+        if (isDebugEnabled() && permit(LogLevel.DEBUG, format)) {
+            log(LogLevel.DEBUG, null, MessageFormatter.format(format, args));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String message) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, null)) {
+            log(LogLevel.ERROR, null, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object context) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, format)) {
+            log(LogLevel.ERROR, null, MessageFormatter.format(format, context));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object arg1, final Object arg2) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, format)) {
+            log(LogLevel.ERROR, null, MessageFormatter.format(format, arg1, arg2));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object... args) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, format)) {
+            log(LogLevel.ERROR, null, MessageFormatter.format(format, args));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String message) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, null)) {
+            log(LogLevel.ERROR, throwable, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String format, final Object context) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, format)) {
+            log(LogLevel.ERROR, throwable, MessageFormatter.format(format, context));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String format, final Object arg1, final Object arg2) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, format)) {
+            log(LogLevel.ERROR, throwable, MessageFormatter.format(format, arg1, arg2));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String format, final Object... args) {
+        if (isErrorEnabled() && permit(LogLevel.ERROR, format)) {
+            log(LogLevel.ERROR, throwable, MessageFormatter.format(format, args));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String message) {
+        if (isInfoEnabled() && permit(LogLevel.INFO, null)) {
+            log(LogLevel.INFO, null, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object context) {
+        if (isInfoEnabled() && permit(LogLevel.INFO, format)) {
+            log(LogLevel.INFO, null, MessageFormatter.format(format, context));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object arg1, final Object arg2) {
+        if (isInfoEnabled() && permit(LogLevel.INFO, format)) {
+            log(LogLevel.INFO, null, MessageFormatter.format(format, arg1, arg2));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object... args) {
+        if (isInfoEnabled() && permit(LogLevel.INFO, format)) {
+            log(LogLevel.INFO, null, MessageFormatter.format(format, args));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogLevel getLevel() {
+        return threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return LogLevel.ERROR.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return LogLevel.INFO.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return LogLevel.WARN.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLevel(final LogLevel level) {
+        threshold = Optional.ofNullable(level)
+                            .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(getName()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String message) {
+        if (isWarnEnabled() && permit(LogLevel.WARN, null)) {
+            log(LogLevel.WARN, null, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String format, final Object context) {
+        if (isWarnEnabled() && permit(LogLevel.WARN, format)) {
+            log(LogLevel.WARN, null, MessageFormatter.format(format, context));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String format, final Object arg1, final Object arg2) {
+        if (isWarnEnabled() && permit(LogLevel.WARN, format)) {
+            log(LogLevel.WARN, null, MessageFormatter.format(format, arg1, arg2));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String format, final Object... args) {
+        if (isWarnEnabled() && permit(LogLevel.WARN, format)) {
+            log(LogLevel.WARN, null, MessageFormatter.format(format, args));
+        }
+    }
+
+    /**
+     * Hands a message over to the dispatcher, or adds it to the log captured
+     * for the current thread, if any.
+     *
+     * @param level The level of the message.
+     * @param throwable The exception that generated the message, if any.
+     * @param message The message.
+     */
+    private void log(final LogLevel level, final Throwable throwable, final String message) {
+        final CapturedLog capture = CapturedLog.current();
+
+        if (capture != null) {
+            dispatcher.capture(capture, level, name, message, throwable);
+        }
+        else {
+            dispatcher.publish(level, name, message, throwable);
+        }
+    }
+
+    /**
+     * Checks whether a message from a call site may be written, given the
+     * sample rate and rate limit configured for this logger, if any. A
+     * summary of the messages suppressed so far is written first, if due.
+     *
+     * @param level The level of the message.
+     * @param key The message format identifying the call site, or
+     * {@code null} for messages logged without a format.
+     *
+     * @return {@code true} if the message may be written.
+     */
+    private boolean permit(final LogLevel level, final String key) {
+        if (limiter == null) {
+            return true;
+        }
+
+        if (!limiter.permit(key)) {
+            return false;
+        }
+
+        final String summary = limiter.pollSummary();
+
+        if (summary != null) {
+            log(level, null, summary);
+        }
+
+        return true;
+    }
+}
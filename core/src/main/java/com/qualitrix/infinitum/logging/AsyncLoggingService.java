@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.config.ConfigurationService;
+
+/**
+ * <p>
+ * Writes log messages to the system console through {@link System#out}, like
+ * {@link ConsoleLoggingService}, but in the background. Threads writing log
+ * messages hand them over to a bounded buffer, without locking, and a
+ * dedicated thread writes them to the console in batches. Logging therefore
+ * does not become a point at which tests running in parallel wait for each
+ * other.
+ * </p>
+ *
+ * <p>
+ * This service is disabled by default, and can be enabled by setting the
+ * configuration parameter {@code infinitum.logging.async.enabled} to
+ * {@code true}. It takes precedence over {@link ConsoleLoggingService}, but
+ * not over logging services that write through a logging framework. The
+ * following configuration parameters control the buffer:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code infinitum.logging.async.buffer.size}: The number of messages
+ *     that can be waiting to be written, 8192 by default, rounded up to a
+ *     power of two;</li>
+ *     <li>{@code infinitum.logging.async.overflow}: What to do with a message
+ *     when the buffer is full, one of {@link OverflowPolicy}, {@code BLOCK} by
+ *     default; and</li>
+ *     <li>{@code infinitum.logging.async.overflow.level}: The level below
+ *     which messages are discarded when the buffer is full, if the overflow
+ *     policy is {@code DROP_BELOW_LEVEL}, {@code WARN} by default.</li>
+ * </ul>
+ *
+ * <p>
+ * Messages are written in the layout set for the console, as described in
+ * {@link LoggingConfiguration}, and each distinct stack trace is written in
+ * full only once. All messages waiting in the buffer, followed by a summary
+ * of the stack traces written, are written when the JVM shuts down.
+ * </p>
+ */
+public final class AsyncLoggingService implements LoggingService {
+    private static final String CONFIGURATION_PARAMETER_BUFFER_SIZE = "infinitum.logging.async.buffer.size";
+
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.logging.async.enabled";
+
+    private static final String CONFIGURATION_PARAMETER_OVERFLOW = "infinitum.logging.async.overflow";
+
+    private static final String CONFIGURATION_PARAMETER_OVERFLOW_LEVEL = "infinitum.logging.async.overflow.level";
+
+    private AsyncLogDispatcher dispatcher;
+
+    private LoggerRegistry registry;
+
+    /**
+     * Waits until all log messages written so far have been written to the
+     * console.
+     */
+    public void flush() {
+        getDispatcher().flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Logger getLogger(final Class<?> type) {
+        return getRegistry().getLogger(type);
+    }
+
+    /**
+     * Gets a priority higher than that of {@link ConsoleLoggingService}, but
+     * lower than that of logging services that write through a logging
+     * framework.
+     *
+     * @return {@code 0}
+     */
+    @Override
+    public int getPriority() {
+        return 0;
+    }
+
+    /**
+     * Checks whether writing log messages in the background has been enabled
+     * through the configuration parameter
+     * {@code infinitum.logging.async.enabled}.
+     *
+     * @return {@code true} if writing log messages in the background has been
+     * enabled, {@code false} otherwise.
+     */
+    @Override
+    public boolean isAvailable() {
+        return LoggingConfiguration.getInstance()
+                                   .getConfigurationService()
+                                   .getBoolean(CONFIGURATION_PARAMETER_ENABLED);
+    }
+
+    /**
+     * Gets the dispatcher through which log messages are written, creating it
+     * on first use. The dispatcher is not created upfront, since instances of
+     * this class are also created merely to check whether they are available.
+     *
+     * @return An {@link AsyncLogDispatcher}.
+     */
+    private synchronized AsyncLogDispatcher getDispatcher() {
+        if (dispatcher == null) {
+            final ConfigurationService configuration = LoggingConfiguration.getInstance().getConfigurationService();
+
+            dispatcher = new AsyncLogDispatcher(System.out
+                , configuration.getInteger(CONFIGURATION_PARAMETER_BUFFER_SIZE, 8192)
+                , configuration.getEnum(OverflowPolicy.class, CONFIGURATION_PARAMETER_OVERFLOW, OverflowPolicy.BLOCK)
+                , configuration.getEnum(LogLevel.class, CONFIGURATION_PARAMETER_OVERFLOW_LEVEL, LogLevel.WARN)
+                , LoggingConfiguration.getInstance().getFormat("console")
+                , StackTraceRegistry.create());
+
+            Runtime.getRuntime().addShutdownHook(new Thread(dispatcher::close, "infinitum-logging-shutdown"));
+        }
+
+        return dispatcher;
+    }
+
+    /**
+     * Gets the registry caching loggers that write through the dispatcher,
+     * creating both on first use.
+     *
+     * @return A {@link LoggerRegistry}.
+     */
+    private synchronized LoggerRegistry getRegistry() {
+        if (registry == null) {
+            final AsyncLogDispatcher target = getDispatcher();
+
+            registry = new LoggerRegistry(type -> new AsyncLogger(type, target));
+        }
+
+        return registry;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.util.MessageFormatter;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Turns binary log files written by {@link BinaryLoggingService} back into
+ * text or JSON, formatting each message with {@link MessageFormatter}, as it
+ * would have been formatted had it been written as text in the first place.
+ * </p>
+ *
+ * <p>
+ * Messages are written as plain text, prefixed with the time at which they
+ * were logged, such as
+ * {@code 2022-03-14T09:30:00.000Z [INFO] [com.example.LoginTest] Logged in.},
+ * or as JSON objects with the same fields as {@link LogFormat#JSON}.
+ * Decoding stops at the end of the file, or at the first incomplete record,
+ * such as the end of the last chunk of a file that could not be closed.
+ * </p>
+ *
+ * <p>
+ * Can be run from the command line, with the file and, optionally, the
+ * layout, {@code TEXT} by default, writing the messages to the standard
+ * output:
+ * </p>
+ *
+ * <pre>
+ * java -cp ... com.qualitrix.infinitum.logging.BinaryLogDecoder logs/infinitum.bin JSON
+ * </pre>
+ */
+public final class BinaryLogDecoder {
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final DataInputStream input;
+
+    private final LogFormat layout;
+
+    private final PrintStream output;
+
+    private final List<String> strings;
+
+    /**
+     * Creates a decoder.
+     *
+     * @param input The binary log.
+     * @param layout The layout in which messages must be written.
+     * @param output The stream to which messages must be written.
+     */
+    private BinaryLogDecoder(final InputStream input, final LogFormat layout, final PrintStream output) {
+        this.input = new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+        this.layout = layout;
+        this.output = output;
+        this.strings = new ArrayList<>();
+    }
+
+    /**
+     * Decodes a binary log, writing its messages to a stream.
+     *
+     * @param input The binary log.
+     * @param layout The layout in which messages must be written.
+     * @param output The stream to which messages must be written.
+     *
+     * @return The number of messages written.
+     *
+     * @throws IOException if the binary log cannot be read, or is not a
+     * binary log.
+     */
+    public static long decode(final InputStream input, final LogFormat layout, final PrintStream output) throws IOException {
+        return new BinaryLogDecoder(input, layout, output).decode();
+    }
+
+    /**
+     * Decodes a binary log file, writing its messages to the standard output.
+     *
+     * @param args The path to the file and, optionally, the layout in which
+     * messages must be written, {@code TEXT} or {@code JSON}.
+     *
+     * @throws IOException if the file cannot be read, or is not a binary log
+     * file.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException(String.format("Usage: %s <file> [TEXT|JSON]", BinaryLogDecoder.class.getName()));
+        }
+
+        final LogFormat layout = args.length > 1
+                                 ? LogFormat.valueOf(args[1].toUpperCase())
+                                 : LogFormat.TEXT;
+
+        try (InputStream input = Files.newInputStream(Paths.get(args[0]))) {
+            decode(input, layout, System.out);
+        }
+
+        System.out.flush();
+    }
+
+    /**
+     * Decodes all records of the binary log.
+     *
+     * @return The number of messages written.
+     *
+     * @throws IOException if the binary log cannot be read, or is not a
+     * binary log.
+     */
+    private long decode() throws IOException {
+        if (input.readInt() != BinaryLogWriter.MAGIC) {
+            throw new IOException("Not a binary log file.");
+        }
+
+        final byte version = input.readByte();
+
+        if (version != BinaryLogWriter.VERSION) {
+            throw new IOException(String.format("Unsupported binary log version [%d].", version));
+        }
+
+        final StringBuilder text = new StringBuilder(256);
+
+        long count = 0;
+
+        try {
+            while (true) {
+                final byte record = input.readByte();
+
+                if (record == BinaryLogWriter.RECORD_STRING) {
+                    final int number = input.readInt();
+
+                    while (strings.size() <= number) {
+                        strings.add(null);
+                    }
+
+                    strings.set(number, readString());
+                }
+                else if (record == BinaryLogWriter.RECORD_MESSAGE) {
+                    text.setLength(0);
+
+                    readMessage(text);
+
+                    output.append(text);
+
+                    ++count;
+                }
+                else {
+                    // Unused space at the end of the last chunk.
+                    break;
+                }
+            }
+        }
+        catch (final EOFException e) {
+            // The end of the binary log, possibly within a record that could
+            // not be written completely.
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads a message record, appending the decoded message to a buffer.
+     *
+     * @param text The buffer.
+     *
+     * @throws IOException if the record cannot be read.
+     */
+    private void readMessage(final StringBuilder text) throws IOException {
+        final long timestamp = input.readLong();
+        final LogLevel level = LEVELS[input.readByte()];
+        final String logger = readReference();
+        final String thread = readReference();
+        final String test = readReference();
+        final String format = readReference();
+        final int count = input.readByte();
+        final Object[] values = new Object[Math.max(0, count)];
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = readValue();
+        }
+
+        final String stackTrace = input.readByte() == 0
+                                  ? null
+                                  : readString();
+
+        final int from;
+
+        if (layout == LogFormat.JSON) {
+            JsonLogEncoder.startWithTestName(text, timestamp, level, logger, thread, test);
+
+            from = text.length();
+        }
+        else {
+            JsonLogEncoder.appendTimestamp(text, timestamp);
+
+            text.append(" [").append(level).append("] ");
+
+            if (logger != null) {
+                text.append('[').append(logger).append("] ");
+            }
+
+            from = text.length();
+        }
+
+        if (count < 0) {
+            text.append(format);
+        }
+        else {
+            MessageFormatter.formatTo(text, format, values);
+        }
+
+        if (layout == LogFormat.JSON) {
+            JsonLogEncoder.endWithStackTrace(text, from, stackTrace);
+        }
+        else {
+            text.append(System.lineSeparator());
+
+            if (stackTrace != null) {
+                text.append(stackTrace);
+            }
+        }
+    }
+
+    /**
+     * Reads a reference to a string.
+     *
+     * @return The string referred to, or {@code null}.
+     *
+     * @throws IOException if the reference cannot be read, or refers to a
+     * string that has not been read.
+     */
+    private String readReference() throws IOException {
+        final int number = input.readInt();
+
+        if (number == BinaryLogWriter.REFERENCE_NULL) {
+            return null;
+        }
+
+        if (number == BinaryLogWriter.REFERENCE_INLINE) {
+            return readString();
+        }
+
+        if (number < 0 || number >= strings.size()) {
+            throw new IOException(String.format("Reference to unknown string [%d].", number));
+        }
+
+        return strings.get(number);
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return The string.
+     *
+     * @throws IOException if the string cannot be read.
+     */
+    private String readString() throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+
+        input.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a tagged value.
+     *
+     * @return The value.
+     *
+     * @throws IOException if the value cannot be read, or has an unknown tag.
+     */
+    private Object readValue() throws IOException {
+        final byte tag = input.readByte();
+
+        switch (tag) {
+            case BinaryLogWriter.VALUE_NULL:
+                return null;
+            case BinaryLogWriter.VALUE_INT:
+                return input.readInt();
+            case BinaryLogWriter.VALUE_LONG:
+                return input.readLong();
+            case BinaryLogWriter.VALUE_DOUBLE:
+                return input.readDouble();
+            case BinaryLogWriter.VALUE_FLOAT:
+                return input.readFloat();
+            case BinaryLogWriter.VALUE_BOOLEAN:
+                return input.readByte() != 0;
+            case BinaryLogWriter.VALUE_CHAR:
+                return input.readChar();
+            case BinaryLogWriter.VALUE_STRING:
+                return readString();
+            default:
+                throw new IOException(String.format("Unknown value type [%d].", tag));
+        }
+    }
+}
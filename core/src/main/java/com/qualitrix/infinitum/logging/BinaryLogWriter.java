@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Appends log messages to a memory-mapped file in a compact binary form,
+ * without formatting them. Each message is written as the time at which it
+ * was logged, its level, the logger, thread and test, the message format and
+ * the raw values of its arguments. Formats and names are written once, the
+ * first time they are seen, and referred to by number afterwards, so that a
+ * message usually takes a few dozen bytes. Values of primitive wrapper types
+ * and {@link String}s are written as they are. Other values are converted to
+ * {@link String}s while the message is logged, since they may change
+ * afterwards.
+ * </p>
+ *
+ * <p>
+ * The file is mapped into memory in chunks, and extended by another chunk
+ * whenever the current one is full, after the current one has been written
+ * to the storage device. Bytes written to a chunk reach the file even if the
+ * JVM terminates abruptly. When the writer is closed, the file is truncated
+ * to the bytes actually written. Files are turned back into text or JSON by
+ * {@link BinaryLogDecoder}.
+ * </p>
+ *
+ * <p>
+ * If the file cannot be extended, for instance because the storage device is
+ * full, the failure is reported once on {@link System#err}, along with the
+ * file, and further messages are discarded. The number of messages discarded
+ * is reported when the writer is closed.
+ * </p>
+ *
+ * <p>
+ * The file starts with the {@link #MAGIC} number and a {@link #VERSION},
+ * followed by records, each starting with a tag byte:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #RECORD_STRING}: the number of a string, followed by the
+ *     string;</li>
+ *     <li>{@link #RECORD_MESSAGE}: the time, in milliseconds since the epoch,
+ *     the ordinal of the level, references to the logger, thread, test and
+ *     format, the number of values, or {@code -1} if the format is the message
+ *     itself, the values, each prefixed with a {@code VALUE_} tag, and whether
+ *     a stack trace follows, followed by the stack trace.</li>
+ * </ul>
+ *
+ * <p>
+ * Numbers are written in big-endian order. Strings are written as their
+ * length in bytes followed by their UTF-8 encoding. A reference to a string is
+ * the number of the string, {@link #REFERENCE_NULL} for {@code null}, or
+ * {@link #REFERENCE_INLINE} followed by the string itself, for strings seen
+ * after the maximum number of strings has been numbered.
+ * </p>
+ */
+final class BinaryLogWriter implements Closeable {
+    /**
+     * The number with which a binary log file starts.
+     */
+    static final int MAGIC = 0x494E4642;
+
+    /**
+     * The tag of a record holding a log message.
+     */
+    static final byte RECORD_MESSAGE = 2;
+
+    /**
+     * The tag of a record holding a numbered string.
+     */
+    static final byte RECORD_STRING = 1;
+
+    /**
+     * The reference to a string written in place.
+     */
+    static final int REFERENCE_INLINE = -2;
+
+    /**
+     * The reference to a {@code null} string.
+     */
+    static final int REFERENCE_NULL = -1;
+
+    /**
+     * The tag of a {@code boolean} value.
+     */
+    static final byte VALUE_BOOLEAN = 5;
+
+    /**
+     * The tag of a {@code char} value.
+     */
+    static final byte VALUE_CHAR = 6;
+
+    /**
+     * The tag of a {@code double} value.
+     */
+    static final byte VALUE_DOUBLE = 3;
+
+    /**
+     * The tag of a {@code float} value.
+     */
+    static final byte VALUE_FLOAT = 4;
+
+    /**
+     * The tag of an {@code int} value, also used for {@code short} and
+     * {@code byte} values.
+     */
+    static final byte VALUE_INT = 1;
+
+    /**
+     * The tag of a {@code long} value.
+     */
+    static final byte VALUE_LONG = 2;
+
+    /**
+     * The tag of a {@code null} value.
+     */
+    static final byte VALUE_NULL = 0;
+
+    /**
+     * The tag of a {@link String} value.
+     */
+    static final byte VALUE_STRING = 7;
+
+    /**
+     * The version of the layout of binary log files.
+     */
+    static final byte VERSION = 1;
+
+    private static final int MAXIMUM_STRINGS = 4096;
+
+    private final FileChannel channel;
+
+    private final int chunkSize;
+
+    private final Path file;
+
+    private final Map<String, Integer> strings;
+
+    private boolean closed;
+
+    private long discarded;
+
+    private IOException failure;
+
+    private MappedByteBuffer region;
+
+    private long regionStart;
+
+    private ByteBuffer staging;
+
+    /**
+     * Creates a binary log file, replacing any existing file, and creating
+     * its parent directories if required.
+     *
+     * @param file The file.
+     * @param chunkSize The size of the chunks in which the file is mapped into
+     * memory, in bytes.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    BinaryLogWriter(final Path file, final int chunkSize) throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        this.channel = FileChannel.open(file
+            , StandardOpenOption.CREATE
+            , StandardOpenOption.READ
+            , StandardOpenOption.WRITE
+            , StandardOpenOption.TRUNCATE_EXISTING);
+        this.chunkSize = Math.max(4096, chunkSize);
+        this.file = file;
+        this.staging = ByteBuffer.allocate(1024);
+        this.strings = new HashMap<>();
+
+        ensureCapacity(5);
+
+        region.putInt(MAGIC);
+        region.put(VERSION);
+    }
+
+    /**
+     * Writes all bytes written so far to the storage device, truncates the
+     * file to the bytes written and closes it. Closing a writer that has
+     * already been closed has no effect.
+     *
+     * @throws IOException if the file cannot be truncated or closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        if (discarded > 0) {
+            System.err.println(String.format("%d log message(s) discarded, as binary log file [%s] could not be extended.", discarded, file));
+        }
+
+        try {
+            region.force();
+            channel.truncate(regionStart + region.position());
+
+            // Also covers the chunks mapped before the current one.
+            channel.force(false);
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes a log message. Messages written after the writer has been closed,
+     * or after the file could not be extended, are discarded.
+     *
+     * @param timestamp The time at which the message was logged, in
+     * milliseconds since the epoch.
+     * @param level The level of the message.
+     * @param logger The name of the logger, if any.
+     * @param thread The name of the thread that logged the message.
+     * @param test The name of the test running at the time, if any.
+     * @param format The message format, or the message itself if
+     * {@code count} is negative.
+     * @param count The number of values, or {@code -1} if the format is the
+     * message itself.
+     * @param arg1 The first value, if passed individually.
+     * @param arg2 The second value, if passed individually.
+     * @param args The values, if passed as an array.
+     * @param throwable The exception that generated the message, if any.
+     */
+    synchronized void write(final long timestamp
+        , final LogLevel level
+        , final String logger
+        , final String thread
+        , final String test
+        , final String format
+        , final int count
+        , final Object arg1
+        , final Object arg2
+        , final Object[] args
+        , final Throwable throwable) {
+        if (closed) {
+            return;
+        }
+
+        if (failure != null) {
+            ++discarded;
+
+            return;
+        }
+
+        staging.clear();
+
+        putByte(RECORD_MESSAGE);
+        putLong(timestamp);
+        putByte((byte) level.ordinal());
+        putReference(logger);
+        putReference(thread);
+        putReference(test);
+        putReference(format);
+        putByte((byte) Math.max(-1, Math.min(count, Byte.MAX_VALUE)));
+
+        for (int i = 0; i < Math.min(count, Byte.MAX_VALUE); ++i) {
+            putValue(args != null && args.length == count
+                     ? args[i]
+                     : i == 0
+                       ? arg1
+                       : arg2);
+        }
+
+        if (throwable == null) {
+            putByte((byte) 0);
+        }
+        else {
+            final StringWriter trace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(trace));
+
+            putByte((byte) 1);
+            putString(trace.toString());
+        }
+
+        staging.flip();
+
+        try {
+            ensureCapacity(staging.remaining());
+        }
+        catch (final IOException e) {
+            fail(e);
+
+            ++discarded;
+
+            return;
+        }
+
+        region.put(staging);
+    }
+
+    /**
+     * Makes sure that the mapped chunk of the file can hold a number of bytes,
+     * mapping the next chunk if required.
+     *
+     * @param size The number of bytes.
+     *
+     * @throws IOException if the next chunk cannot be mapped.
+     */
+    private void ensureCapacity(final int size) throws IOException {
+        if (region != null && region.remaining() >= size) {
+            return;
+        }
+
+        if (region == null) {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, Math.max(chunkSize, size));
+
+            return;
+        }
+
+        // The chunk is not forced here, which would stall every logging
+        // thread behind a write of the whole chunk to the storage device.
+        // Its pages belong to the file either way, and are written by the
+        // operating system, or when the file is forced on close.
+        final long start = regionStart + region.position();
+
+        region = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.max(chunkSize, size));
+        regionStart = start;
+    }
+
+    /**
+     * Records that the file could not be extended, reporting the failure the
+     * first time.
+     *
+     * @param e The exception raised while extending the file.
+     */
+    private void fail(final IOException e) {
+        if (failure != null) {
+            return;
+        }
+
+        failure = e;
+
+        System.err.println(String.format("Unable to extend binary log file [%s], discarding further log messages: %s", file, e));
+    }
+
+    /**
+     * Makes sure that the staging buffer can hold a number of additional
+     * bytes, growing it if required.
+     *
+     * @param size The number of bytes.
+     */
+    private void ensureStaging(final int size) {
+        if (staging.remaining() < size) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(2 * staging.capacity(), staging.position() + size));
+
+            staging.flip();
+            grown.put(staging);
+
+            staging = grown;
+        }
+    }
+
+    /**
+     * Adds a byte to the staging buffer.
+     *
+     * @param value The byte.
+     */
+    private void putByte(final byte value) {
+        ensureStaging(1);
+
+        staging.put(value);
+    }
+
+    /**
+     * Adds a {@code long} to the staging buffer.
+     *
+     * @param value The number.
+     */
+    private void putLong(final long value) {
+        ensureStaging(8);
+
+        staging.putLong(value);
+    }
+
+    /**
+     * Adds a reference to a string to the staging buffer, numbering the
+     * string and writing it to the file first, if it has not been seen before
+     * and the maximum number of strings has not been reached.
+     *
+     * @param value The string, or {@code null}.
+     */
+    private void putReference(final String value) {
+        ensureStaging(4);
+
+        if (value == null) {
+            staging.putInt(REFERENCE_NULL);
+
+            return;
+        }
+
+        Integer number = strings.get(value);
+
+        if (number == null && strings.size() < MAXIMUM_STRINGS) {
+            number = strings.size();
+
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+            try {
+                ensureCapacity(9 + bytes.length);
+            }
+            catch (final IOException e) {
+                fail(e);
+
+                number = null;
+            }
+
+            if (number != null) {
+                strings.put(value, number);
+
+                region.put(RECORD_STRING);
+                region.putInt(number);
+                region.putInt(bytes.length);
+                region.put(bytes);
+            }
+        }
+
+        if (number == null) {
+            staging.putInt(REFERENCE_INLINE);
+
+            putString(value);
+        }
+        else {
+            staging.putInt(number);
+        }
+    }
+
+    /**
+     * Adds a string to the staging buffer.
+     *
+     * @param value The string.
+     */
+    private void putString(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        ensureStaging(4 + bytes.length);
+
+        staging.putInt(bytes.length);
+        staging.put(bytes);
+    }
+
+    /**
+     * Adds a tagged value to the staging buffer.
+     *
+     * @param value The value.
+     */
+    private void putValue(final Object value) {
+        ensureStaging(9);
+
+        if (value == null) {
+            staging.put(VALUE_NULL);
+        }
+        else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            staging.put(VALUE_INT).putInt(((Number) value).intValue());
+        }
+        else if (value instanceof Long) {
+            staging.put(VALUE_LONG).putLong((Long) value);
+        }
+        else if (value instanceof Double) {
+            staging.put(VALUE_DOUBLE).putDouble((Double) value);
+        }
+        else if (value instanceof Float) {
+            staging.put(VALUE_FLOAT).putFloat((Float) value);
+        }
+        else if (value instanceof Boolean) {
+            staging.put(VALUE_BOOLEAN).put((byte) ((Boolean) value
+                                                   ? 1
+                                                   : 0));
+        }
+        else if (value instanceof Character) {
+            staging.put(VALUE_CHAR).putChar((Character) value);
+        }
+        else {
+            staging.put(VALUE_STRING);
+
+            putString(String.valueOf(value));
+        }
+    }
+}
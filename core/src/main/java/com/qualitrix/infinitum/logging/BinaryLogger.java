@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.util.Optional;
+
+/**
+ * Writes log messages to a {@link BinaryLogWriter}, without formatting them.
+ * The message format and the values of its arguments are handed to the
+ * writer as they are, along with the test running on the calling thread, if
+ * any, as bound to it by {@link TestContextListener}. Messages below the
+ * level configured for the logger, or suppressed by the
+ * {@link LogRateLimiter} configured for the logger, if any, are discarded.
+ */
+final class BinaryLogger implements ConfigurableLogger {
+    private final LogRateLimiter limiter;
+
+    private final String name;
+
+    private final BinaryLogWriter writer;
+
+    private volatile LogLevel threshold;
+
+    /**
+     * Creates a logger for writing log messages to a binary log file, at and
+     * above the level configured for the logger.
+     *
+     * @param type The class after which the logger should be named.
+     * @param writer The writer.
+     */
+    BinaryLogger(final Class<?> type, final BinaryLogWriter writer) {
+        this(type, writer, null);
+    }
+
+    /**
+     * Creates a logger for writing log messages to a binary log file, at and
+     * above a specified level.
+     *
+     * @param type The class after which the logger should be named.
+     * @param writer The writer.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     */
+    BinaryLogger(final Class<?> type, final BinaryLogWriter writer, final LogLevel threshold) {
+        this.writer = writer;
+        this.name = Optional.ofNullable(type)
+                            .map(Class::getName)
+                            .orElse(null);
+        this.threshold = Optional.ofNullable(threshold)
+                                 .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(name));
+        this.limiter = LogRateLimiter.create(name, summary -> log(LogLevel.WARN, null, summary, -1, null, null, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String message) {
+        if (isDebugEnabled() && permit(null)) {
+            log(LogLevel.DEBUG, null, message, -1, null, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String format, final Object context) {
+        if (isDebugEnabled() && permit(format)) {
+            log(LogLevel.DEBUG, null, format, 1, context, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String format, final Object arg1, final Object arg2) {
+        if (isDebugEnabled() && permit(format)) {
+            log(LogLevel.DEBUG, null, format, 2, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void debug(final String format, final Object... args) {
+        if (isDebugEnabled() && permit(format)) {
+            log(LogLevel.DEBUG, null, format, args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String message) {
+        if (isErrorEnabled() && permit(null)) {
+            log(LogLevel.ERROR, null, message, -1, null, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object context) {
+        if (isErrorEnabled() && permit(format)) {
+            log(LogLevel.ERROR, null, format, 1, context, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object arg1, final Object arg2) {
+        if (isErrorEnabled() && permit(format)) {
+            log(LogLevel.ERROR, null, format, 2, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object... args) {
+        if (isErrorEnabled() && permit(format)) {
+            log(LogLevel.ERROR, null, format, args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String message) {
+        if (isErrorEnabled() && permit(null)) {
+            log(LogLevel.ERROR, throwable, message, -1, null, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String format, final Object context) {
+        if (isErrorEnabled() && permit(format)) {
+            log(LogLevel.ERROR, throwable, format, 1, context, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String format, final Object arg1, final Object arg2) {
+        if (isErrorEnabled() && permit(format)) {
+            log(LogLevel.ERROR, throwable, format, 2, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final Throwable throwable, final String format, final Object... args) {
+        if (isErrorEnabled() && permit(format)) {
+            log(LogLevel.ERROR, throwable, format, args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String message) {
+        if (isInfoEnabled() && permit(null)) {
+            log(LogLevel.INFO, null, message, -1, null, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object context) {
+        if (isInfoEnabled() && permit(format)) {
+            log(LogLevel.INFO, null, format, 1, context, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object arg1, final Object arg2) {
+        if (isInfoEnabled() && permit(format)) {
+            log(LogLevel.INFO, null, format, 2, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object... args) {
+        if (isInfoEnabled() && permit(format)) {
+            log(LogLevel.INFO, null, format, args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogLevel getLevel() {
+        return threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return LogLevel.ERROR.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return LogLevel.INFO.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return LogLevel.WARN.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLevel(final LogLevel level) {
+        threshold = Optional.ofNullable(level)
+                            .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(getName()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String message) {
+        if (isWarnEnabled() && permit(null)) {
+            log(LogLevel.WARN, null, message, -1, null, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String format, final Object context) {
+        if (isWarnEnabled() && permit(format)) {
+            log(LogLevel.WARN, null, format, 1, context, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String format, final Object arg1, final Object arg2) {
+        if (isWarnEnabled() && permit(format)) {
+            log(LogLevel.WARN, null, format, 2, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warn(final String format, final Object... args) {
+        if (isWarnEnabled() && permit(format)) {
+            log(LogLevel.WARN, null, format, args);
+        }
+    }
+
+    /**
+     * Writes a message formatted with any number of values.
+     *
+     * @param level The level of the message.
+     * @param throwable The exception that generated the message, if any.
+     * @param format The message format.
+     * @param args The values.
+     */
+    private void log(final LogLevel level, final Throwable throwable, final String format, final Object[] args) {
+        log(level
+            , throwable
+            , format
+            , args == null
+              ? 0
+              : args.length
+            , null
+            , null
+            , args);
+    }
+
+    /**
+     * Writes a message to the binary log file.
+     *
+     * @param level The level of the message.
+     * @param throwable The exception that generated the message, if any.
+     * @param format The message format, or the message itself if
+     * {@code count} is negative.
+     * @param count The number of values, or {@code -1} if the format is the
+     * message itself.
+     * @param arg1 The first value, if passed individually.
+     * @param arg2 The second value, if passed individually.
+     * @param args The values, if passed as an array.
+     */
+    private void log(final LogLevel level
+        , final Throwable throwable
+        , final String format
+        , final int count
+        , final Object arg1
+        , final Object arg2
+        , final Object[] args) {
+        final TestContext context = TestContext.current();
+
+        writer.write(System.currentTimeMillis()
+            , level
+            , name
+            , Thread.currentThread().getName()
+            , context == null
+              ? null
+              : context.getTest()
+            , format
+            , count
+            , arg1
+            , arg2
+            , args
+            , throwable);
+    }
+
+    /**
+     * Checks whether a message from a call site may be written, given the
+     * sample rate and rate limit configured for this logger, if any. A
+     * summary of the messages suppressed so far is written first, if due,
+     * as a warning whatever the level of the message, the same way summaries
+     * are written when a suite finishes.
+     *
+     * @param key The message format identifying the call site, or
+     * {@code null} for messages logged without a format.
+     *
+     * @return {@code true} if the message may be written.
+     */
+    private boolean permit(final String key) {
+        if (limiter == null) {
+            return true;
+        }
+
+        if (!limiter.permit(key)) {
+            return false;
+        }
+
+        final String summary = limiter.pollSummary();
+
+        if (summary != null) {
+            log(LogLevel.WARN, null, summary, -1, null, null, null);
+        }
+
+        return true;
+    }
+}
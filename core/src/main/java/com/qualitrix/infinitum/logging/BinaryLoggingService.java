@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.config.ConfigurationService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * <p>
+ * Writes log messages to a binary log file, without formatting them, for test
+ * runs in which even formatting log messages in the background costs too
+ * much, such as stress tests. Only the message format, written once, and the
+ * raw values of its arguments are written for each message, see
+ * {@link BinaryLogWriter}. The file is turned back into text or JSON after
+ * the run by {@link BinaryLogDecoder}.
+ * </p>
+ *
+ * <p>
+ * This service is disabled by default, and can be enabled by setting the
+ * configuration parameter {@code infinitum.logging.binary.enabled} to
+ * {@code true}. It takes precedence over {@link FileLoggingService},
+ * {@link ConsoleLoggingService} and {@link AsyncLoggingService}, but not over
+ * logging services that write through a logging framework. The following
+ * configuration parameters control the file:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code infinitum.logging.binary.path}: The file,
+ *     {@code logs/infinitum.bin} by default, replaced on each run; and</li>
+ *     <li>{@code infinitum.logging.binary.chunk.size}: The size of the chunks
+ *     in which the file is mapped into memory, in bytes, 16 MB by
+ *     default.</li>
+ * </ul>
+ *
+ * <p>
+ * The file is truncated to the bytes actually written when the JVM shuts
+ * down. Log output written by this service is not captured per test, see
+ * {@link TestLogCaptureListener}.
+ * </p>
+ */
+public final class BinaryLoggingService implements LoggingService {
+    private static final String CONFIGURATION_PARAMETER_CHUNK_SIZE = "infinitum.logging.binary.chunk.size";
+
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.logging.binary.enabled";
+
+    private static final String CONFIGURATION_PARAMETER_PATH = "infinitum.logging.binary.path";
+
+    private LoggerRegistry registry;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Logger getLogger(final Class<?> type) {
+        return getRegistry().getLogger(type);
+    }
+
+    /**
+     * Gets a priority higher than that of {@link FileLoggingService},
+     * {@link ConsoleLoggingService} and {@link AsyncLoggingService}, but lower
+     * than that of logging services that write through a logging framework.
+     *
+     * @return {@code 2}
+     */
+    @Override
+    public int getPriority() {
+        return 2;
+    }
+
+    /**
+     * Checks whether writing log messages to a binary log file has been
+     * enabled through the configuration parameter
+     * {@code infinitum.logging.binary.enabled}.
+     *
+     * @return {@code true} if writing log messages to a binary log file has
+     * been enabled, {@code false} otherwise.
+     */
+    @Override
+    public boolean isAvailable() {
+        return LoggingConfiguration.getInstance()
+                                   .getConfigurationService()
+                                   .getBoolean(CONFIGURATION_PARAMETER_ENABLED);
+    }
+
+    /**
+     * Gets the registry caching loggers that write to the binary log file,
+     * creating the file on first use.
+     *
+     * @return A {@link LoggerRegistry}.
+     *
+     * @throws UncheckedIOException if the file cannot be created.
+     */
+    private synchronized LoggerRegistry getRegistry() {
+        if (registry == null) {
+            final ConfigurationService configuration = LoggingConfiguration.getInstance().getConfigurationService();
+            final Path file = Paths.get(configuration.getString(CONFIGURATION_PARAMETER_PATH, "logs/infinitum.bin"));
+
+            final BinaryLogWriter writer;
+
+            try {
+                writer = new BinaryLogWriter(file, configuration.getInteger(CONFIGURATION_PARAMETER_CHUNK_SIZE, 16 * 1024 * 1024));
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(String.format("Unable to create binary log file [%s].", file), e);
+            }
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    writer.close();
+                }
+                catch (final IOException e) {
+                    System.err.println(String.format("Unable to close binary log file [%s]: %s", file, e));
+                }
+            }, "infinitum-logging-binary-shutdown"));
+
+            registry = new LoggerRegistry(type -> new BinaryLogger(type, writer));
+        }
+
+        return registry;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Holds the log output of a single test, instead of writing it out as the
+ * test runs, so that the output can be written once the outcome of the test
+ * is known, or discarded. A captured log is bound to the thread running the
+ * test, and loggers writing a message on that thread add the message, fully
+ * formatted, to the captured log instead of writing it to their stream.
+ * </p>
+ *
+ * <p>
+ * Memory usage is bounded. Once the captured output exceeds the capacity of
+ * the log, the oldest messages are discarded, so that the messages written
+ * right before a failure are kept.
+ * </p>
+ *
+ * @see TestLogCaptureListener
+ */
+final class CapturedLog {
+    private static final ThreadLocal<CapturedLog> CURRENT = new ThreadLocal<>();
+
+    private final int capacity;
+
+    private final Deque<Entry> entries;
+
+    private long discarded;
+
+    private int size;
+
+    /**
+     * Creates an empty log.
+     *
+     * @param capacity The maximum number of characters to hold.
+     */
+    CapturedLog(final int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.entries = new ArrayDeque<>();
+    }
+
+    /**
+     * Gets the log bound to the current thread.
+     *
+     * @return The {@link CapturedLog} bound to the current thread, or
+     * {@code null} if log output is not being captured on the current thread.
+     */
+    static CapturedLog current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts capturing log output written on the current thread into a new
+     * log, discarding any log bound to the thread earlier.
+     *
+     * @param capacity The maximum number of characters to hold.
+     *
+     * @return The new {@link CapturedLog}.
+     */
+    static CapturedLog start(final int capacity) {
+        final CapturedLog log = new CapturedLog(capacity);
+
+        CURRENT.set(log);
+
+        return log;
+    }
+
+    /**
+     * Stops capturing log output written on the current thread.
+     *
+     * @return The {@link CapturedLog} that was bound to the current thread, or
+     * {@code null} if log output was not being captured.
+     */
+    static CapturedLog stop() {
+        final CapturedLog log = CURRENT.get();
+
+        CURRENT.remove();
+
+        return log;
+    }
+
+    /**
+     * Adds log output to this log, discarding the oldest output if required to
+     * stay within the capacity of the log.
+     *
+     * @param sink The stream to which the output would have been written.
+     * @param text The output.
+     */
+    synchronized void append(final PrintStream sink, final CharSequence text) {
+        final int length = text.length();
+
+        // Keep the end of output that does not fit the log on its own.
+        final String kept = length > capacity
+                            ? text.subSequence(length - capacity, length).toString()
+                            : text.toString();
+
+        entries.addLast(new Entry(sink, kept));
+        size += kept.length();
+
+        while (size > capacity) {
+            size -= entries.removeFirst().text.length();
+            ++discarded;
+        }
+    }
+
+    /**
+     * Hands each piece of output held by this log over to a consumer, oldest
+     * first.
+     *
+     * @param consumer The consumer.
+     */
+    synchronized void forEach(final Consumer<String> consumer) {
+        entries.forEach(entry -> consumer.accept(entry.text));
+    }
+
+    /**
+     * Gets the number of messages discarded to stay within the capacity of
+     * this log.
+     *
+     * @return The number of messages discarded.
+     */
+    synchronized long getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Checks whether this log holds any output.
+     *
+     * @return {@code true} if this log is empty, {@code false} otherwise.
+     */
+    synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Writes all output held by this log to the streams to which it would
+     * have been written, in the order in which it was captured. Consecutive
+     * output for the same stream is joined and written in one go while
+     * holding the lock of the stream, so that output written to the stream by
+     * other threads meanwhile, such as that of tests running in parallel, is
+     * not interleaved with it.
+     */
+    synchronized void writeOut() {
+        final StringBuilder text = new StringBuilder();
+
+        PrintStream sink = null;
+
+        for (final Entry entry : entries) {
+            if (entry.sink != sink) {
+                write(sink, text);
+
+                sink = entry.sink;
+            }
+
+            text.append(entry.text);
+        }
+
+        write(sink, text);
+    }
+
+    /**
+     * Writes output to a stream in one go, holding the lock of the stream.
+     *
+     * @param sink The stream, or {@code null} if there is no output to write.
+     * @param text The output, which is cleared once written.
+     */
+    private static void write(final PrintStream sink, final StringBuilder text) {
+        if (sink == null) {
+            return;
+        }
+
+        synchronized (sink) {
+            sink.print(text);
+            sink.flush();
+        }
+
+        text.setLength(0);
+    }
+
+    /**
+     * A piece of captured log output.
+     */
+    private static final class Entry {
+        private final PrintStream sink;
+
+        private final String text;
+
+        /**
+         * Creates a piece of captured log output.
+         *
+         * @param sink The stream to which the output would have been written.
+         * @param text The output.
+         */
+        private Entry(final PrintStream sink, final String text) {
+            this.sink = sink;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+/**
+ * A {@link Logger} whose level can be changed after it has been created, so
+ * that levels changed at runtime through
+ * {@link LoggingConfiguration#setLevel(String, LogLevel)} take effect for
+ * loggers that have already been handed out.
+ */
+public interface ConfigurableLogger extends Logger {
+    /**
+     * Gets the level below which log messages are discarded.
+     *
+     * @return The {@link LogLevel} of this logger.
+     */
+    LogLevel getLevel();
+
+    /**
+     * Gets the name of this logger.
+     *
+     * @return The name of this logger, usually the fully-qualified name of the
+     * class after which it has been named, or {@code null} if the logger has
+     * no name.
+     */
+    String getName();
+
+    /**
+     * Sets the level below which log messages must be discarded. The level is
+     * held in a {@code volatile} field, so that the change takes effect
+     * immediately for all threads.
+     *
+     * @param level The level, or {@code null} for the level configured for
+     * this logger.
+     */
+    void setLevel(LogLevel level);
+}
@@ -21,15 +21,62 @@
 package com.qualitrix.infinitum.logging;
 
 /**
- * Writes log messages to the system console through {@link System#out}.
+ * Writes log messages to the system console through {@link System#out}. All
+ * console loggers share a {@link StackTraceRegistry}, so that each distinct
+ * stack trace is written to the console in full only once.
  */
 final class ConsoleLogger extends PrintStreamLogger {
+    private static final String OUTPUT = "console";
+
+    private static final StackTraceRegistry TRACES = createTraces();
+
     /**
      * Creates a logger for writing log messages to {@link System#out}.
      *
      * @param type The class after which the logger should be named.
      */
     ConsoleLogger(final Class<?> type) {
-        super(type, System.out);
+        this(type, null);
+    }
+
+    /**
+     * Creates a logger for writing log messages to {@link System#out}, at and
+     * above a specified level.
+     *
+     * @param type The class after which the logger should be named.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     */
+    ConsoleLogger(final Class<?> type, final LogLevel threshold) {
+        this(type, threshold, LoggingConfiguration.getInstance().getFormat(OUTPUT));
+    }
+
+    /**
+     * Creates a logger for writing log messages to {@link System#out}, at and
+     * above a specified level, in a specified layout.
+     *
+     * @param type The class after which the logger should be named.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     * @param layout The layout in which messages must be written.
+     */
+    ConsoleLogger(final Class<?> type, final LogLevel threshold, final LogFormat layout) {
+        super(type, System.out, threshold, layout, TRACES);
+    }
+
+    /**
+     * Creates the registry keeping track of the stack traces written to the
+     * console, and arranges for a summary of them to be written when the JVM
+     * shuts down.
+     *
+     * @return A {@link StackTraceRegistry}.
+     */
+    private static StackTraceRegistry createTraces() {
+        final StackTraceRegistry traces = StackTraceRegistry.create();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> traces.summarize(new ConsoleLogger(StackTraceRegistry.class))
+            , "infinitum-logging-console-summary"));
+
+        return traces;
     }
 }
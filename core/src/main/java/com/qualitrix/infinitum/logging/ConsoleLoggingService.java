@@ -21,15 +21,27 @@
 package com.qualitrix.infinitum.logging;
 
 /**
- * Writes log messages to the system console through {@link System#out}.
+ * Writes log messages to the system console through {@link System#out}, in
+ * the layout set for the console, as described in
+ * {@link LoggingConfiguration}. Loggers are cached in a
+ * {@link LoggerRegistry}.
  */
 public final class ConsoleLoggingService implements LoggingService {
+    private final LoggerRegistry registry;
+
+    /**
+     * Creates a service for writing log messages to the system console.
+     */
+    public ConsoleLoggingService() {
+        registry = new LoggerRegistry(ConsoleLogger::new);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Logger getLogger(final Class<?> type) {
-        return new ConsoleLogger(type);
+        return registry.getLogger(type);
     }
 
     /**
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>
+ * Appends log output to a file through a {@link FileChannel}. Bytes written
+ * are collected in a direct {@link ByteBuffer}, allocated once and reused, and
+ * handed to the channel whenever the buffer is full, when the writer is
+ * flushed, and at least once per flush interval, on a background thread. The
+ * operating system can therefore copy the bytes straight from the buffer, and
+ * threads writing log messages rarely wait for the disk.
+ * </p>
+ *
+ * <p>
+ * The file is rolled over when it reaches a maximum size, or when a rollover
+ * interval has elapsed since the file was opened, whichever comes first. The
+ * current file is renamed after the time at which it was rolled over, for
+ * example {@code infinitum-20220314-093000.log} for {@code infinitum.log},
+ * and output continues in a new file under the original name. Rolled over
+ * files are optionally compressed with GZIP on the background thread.
+ * </p>
+ *
+ * <p>
+ * Since this class writes log output, it cannot log its own failures. They
+ * are written to {@link System#err} instead.
+ * </p>
+ */
+final class FileLogWriter extends OutputStream {
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private static final String ROLLOVER_PATTERN = "yyyyMMdd-HHmmss";
+
+    private final ScheduledExecutorService background;
+
+    private final ByteBuffer buffer;
+
+    private final boolean compress;
+
+    private final Path file;
+
+    private final long interval;
+
+    private final long maximumSize;
+
+    private FileChannel channel;
+
+    private boolean closed;
+
+    private long rolloverTime;
+
+    private long size;
+
+    /**
+     * Opens a file for appending log output, creating the file and its parent
+     * directories if required.
+     *
+     * @param file The file.
+     * @param bufferSize The size of the buffer in which bytes are collected
+     * before being written to the file, in bytes.
+     * @param maximumSize The size at which the file must be rolled over, in
+     * bytes, or {@code 0} to never roll over by size.
+     * @param interval The time after which the file must be rolled over, in
+     * milliseconds, or {@code 0} to never roll over by time.
+     * @param flushInterval The time after which collected bytes must be
+     * written to the file at the latest, in milliseconds.
+     * @param compress Whether rolled over files must be compressed.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    FileLogWriter(final Path file
+        , final int bufferSize
+        , final long maximumSize
+        , final long interval
+        , final long flushInterval
+        , final boolean compress) throws IOException {
+        this.buffer = ByteBuffer.allocateDirect(Math.max(1024, bufferSize));
+        this.compress = compress;
+        this.file = file.toAbsolutePath();
+        this.interval = interval;
+        this.maximumSize = maximumSize;
+
+        open();
+
+        this.background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "infinitum-logging-file-" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.background.scheduleWithFixedDelay(this::flushQuietly
+            , Math.max(1, flushInterval)
+            , Math.max(1, flushInterval)
+            , TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes all collected bytes to the file, closes the file and waits a few
+     * seconds at most for rolled over files to be compressed. Closing a
+     * writer that has already been closed has no effect.
+     *
+     * @throws IOException if the collected bytes cannot be written, or the
+     * file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            try {
+                drain();
+            }
+            finally {
+                channel.close();
+            }
+        }
+
+        background.shutdown();
+
+        try {
+            background.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes all collected bytes to the file.
+     *
+     * @throws IOException if the bytes cannot be written.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            drain();
+        }
+    }
+
+    /**
+     * Gets the file to which log output is currently written.
+     *
+     * @return The file.
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(final int b) throws IOException {
+        ensureOpen();
+        rollOverIfDue();
+
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+
+        buffer.put((byte) b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        ensureOpen();
+        rollOverIfDue();
+
+        int position = offset;
+        int remaining = length;
+
+        while (remaining > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+
+            final int count = Math.min(remaining, buffer.remaining());
+
+            buffer.put(bytes, position, count);
+
+            position += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Compresses a rolled over file with GZIP, deleting the file once
+     * compressed. Runs on the background thread.
+     *
+     * @param rolled The rolled over file.
+     */
+    private static void compress(final Path rolled) {
+        final Path target = rolled.resolveSibling(rolled.getFileName() + ".gz");
+
+        try (InputStream input = Files.newInputStream(rolled);
+             OutputStream output = new GZIPOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+            final byte[] chunk = new byte[64 * 1024];
+
+            int count;
+
+            while ((count = input.read(chunk)) >= 0) {
+                output.write(chunk, 0, count);
+            }
+        }
+        catch (final IOException e) {
+            System.err.println(String.format("Unable to compress log file [%s].", rolled));
+
+            return;
+        }
+
+        try {
+            Files.delete(rolled);
+        }
+        catch (final IOException e) {
+            System.err.println(String.format("Unable to delete log file [%s] after compressing it.", rolled));
+        }
+    }
+
+    /**
+     * Writes the bytes collected in the buffer to the file and empties the
+     * buffer.
+     *
+     * @throws IOException if the bytes cannot be written.
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+        }
+        finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Ensures that the writer has not been closed.
+     *
+     * @throws IOException if the writer has been closed.
+     */
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException(String.format("Log file [%s] has been closed.", file));
+        }
+    }
+
+    /**
+     * Writes all collected bytes to the file, reporting failures to
+     * {@link System#err}. Runs on the background thread.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        }
+        catch (final IOException e) {
+            System.err.println(String.format("Unable to write to log file [%s].", file));
+        }
+    }
+
+    /**
+     * Opens the file for appending and determines when it must be rolled
+     * over next.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    private void open() throws IOException {
+        final Path directory = file.getParent();
+
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+        rolloverTime = interval > 0
+                       ? System.currentTimeMillis() + interval
+                       : Long.MAX_VALUE;
+    }
+
+    /**
+     * Rolls the file over, renaming the current file after the current time
+     * and opening a new file under the original name. The renamed file is
+     * then compressed in the background, if required.
+     *
+     * @throws IOException if the file cannot be rolled over.
+     */
+    private void rollOver() throws IOException {
+        drain();
+        channel.close();
+
+        final String name = file.getFileName().toString();
+        final int extension = name.lastIndexOf('.');
+        final String base = extension > 0
+                            ? name.substring(0, extension)
+                            : name;
+        final String suffix = extension > 0
+                              ? name.substring(extension)
+                              : "";
+        final String time = new SimpleDateFormat(ROLLOVER_PATTERN).format(new Date());
+
+        Path rolled = file.resolveSibling(String.format("%s-%s%s", base, time, suffix));
+
+        for (int i = 1; Files.exists(rolled) || Files.exists(rolled.resolveSibling(rolled.getFileName() + ".gz")); ++i) {
+            rolled = file.resolveSibling(String.format("%s-%s-%d%s", base, time, i, suffix));
+        }
+
+        Files.move(file, rolled);
+
+        open();
+
+        if (compress) {
+            final Path target = rolled;
+
+            background.execute(() -> compress(target));
+        }
+    }
+
+    /**
+     * Rolls the file over if it has reached the maximum size, or the rollover
+     * interval has elapsed. Empty files are never rolled over.
+     *
+     * @throws IOException if the file cannot be rolled over.
+     */
+    private void rollOverIfDue() throws IOException {
+        final long length = size + buffer.position();
+
+        if (length > 0
+            && ((maximumSize > 0 && length >= maximumSize) || System.currentTimeMillis() >= rolloverTime)) {
+            rollOver();
+        }
+    }
+}
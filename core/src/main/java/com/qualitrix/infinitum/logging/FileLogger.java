@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.io.PrintStream;
+
+/**
+ * Writes log messages to a file, through a {@link PrintStream} writing to a
+ * {@link FileLogWriter}.
+ */
+final class FileLogger extends PrintStreamLogger {
+    private static final String OUTPUT = "file";
+
+    /**
+     * Creates a logger for writing log messages to a file, at and above the
+     * level configured for the logger, in the layout configured for files.
+     *
+     * @param type The class after which the logger should be named.
+     * @param stream A {@link PrintStream} writing to the file.
+     * @param traces Keeps track of the stack traces written to the file.
+     */
+    FileLogger(final Class<?> type, final PrintStream stream, final StackTraceRegistry traces) {
+        this(type, stream, null, LoggingConfiguration.getInstance().getFormat(OUTPUT), traces);
+    }
+
+    /**
+     * Creates a logger for writing log messages to a file, at and above a
+     * specified level, in a specified layout.
+     *
+     * @param type The class after which the logger should be named.
+     * @param stream A {@link PrintStream} writing to the file.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     * @param layout The layout in which messages must be written.
+     * @param traces Keeps track of the stack traces written to the file.
+     */
+    FileLogger(final Class<?> type
+        , final PrintStream stream
+        , final LogLevel threshold
+        , final LogFormat layout
+        , final StackTraceRegistry traces) {
+        super(type, stream, threshold, layout, traces);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.config.ConfigurationService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Writes log messages to a file instead of the system console, so that
+ * continuous integration agents need not capture large volumes of console
+ * output. Log output is appended to the file through a {@link FileLogWriter},
+ * which collects it in a reusable direct buffer, rolls the file over by size
+ * and time, and compresses rolled over files in the background.
+ * </p>
+ *
+ * <p>
+ * This service is disabled by default, and can be enabled by setting the
+ * configuration parameter {@code infinitum.logging.file.enabled} to
+ * {@code true}. It takes precedence over {@link ConsoleLoggingService} and
+ * {@link AsyncLoggingService}, but not over logging services that write
+ * through a logging framework. The following configuration parameters control
+ * the file:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code infinitum.logging.file.path}: The file, {@code logs/infinitum.log}
+ *     by default;</li>
+ *     <li>{@code infinitum.logging.file.buffer.size}: The size of the buffer
+ *     in which log output is collected, in bytes, 64 KB by default;</li>
+ *     <li>{@code infinitum.logging.file.flush.interval}: The time after which
+ *     collected log output is written to the file at the latest, in
+ *     milliseconds, 1000 by default;</li>
+ *     <li>{@code infinitum.logging.file.rollover.size}: The size at which the
+ *     file is rolled over, in bytes, 10 MB by default, or {@code 0} to never
+ *     roll over by size;</li>
+ *     <li>{@code infinitum.logging.file.rollover.interval}: The time after
+ *     which the file is rolled over, in minutes, 1440 (a day) by default, or
+ *     {@code 0} to never roll over by time; and</li>
+ *     <li>{@code infinitum.logging.file.compress}: Whether rolled over files
+ *     are compressed, {@code true} by default.</li>
+ * </ul>
+ *
+ * <p>
+ * Messages are written in the layout set for files, as described in
+ * {@link LoggingConfiguration}, and each distinct stack trace is written in
+ * full only once. All log output, followed by a summary of the stack traces
+ * written, is written to the file when the JVM shuts down.
+ * </p>
+ */
+public final class FileLoggingService implements LoggingService {
+    private static final String CONFIGURATION_PARAMETER_BUFFER_SIZE = "infinitum.logging.file.buffer.size";
+
+    private static final String CONFIGURATION_PARAMETER_COMPRESS = "infinitum.logging.file.compress";
+
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.logging.file.enabled";
+
+    private static final String CONFIGURATION_PARAMETER_FLUSH_INTERVAL = "infinitum.logging.file.flush.interval";
+
+    private static final String CONFIGURATION_PARAMETER_PATH = "infinitum.logging.file.path";
+
+    private static final String CONFIGURATION_PARAMETER_ROLLOVER_INTERVAL = "infinitum.logging.file.rollover.interval";
+
+    private static final String CONFIGURATION_PARAMETER_ROLLOVER_SIZE = "infinitum.logging.file.rollover.size";
+
+    private LoggerRegistry registry;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Logger getLogger(final Class<?> type) {
+        return getRegistry().getLogger(type);
+    }
+
+    /**
+     * Gets a priority higher than that of {@link ConsoleLoggingService} and
+     * {@link AsyncLoggingService}, but lower than that of logging services
+     * that write through a logging framework.
+     *
+     * @return {@code 1}
+     */
+    @Override
+    public int getPriority() {
+        return 1;
+    }
+
+    /**
+     * Checks whether writing log messages to a file has been enabled through
+     * the configuration parameter {@code infinitum.logging.file.enabled}.
+     *
+     * @return {@code true} if writing log messages to a file has been
+     * enabled, {@code false} otherwise.
+     */
+    @Override
+    public boolean isAvailable() {
+        return LoggingConfiguration.getInstance()
+                                   .getConfigurationService()
+                                   .getBoolean(CONFIGURATION_PARAMETER_ENABLED);
+    }
+
+    /**
+     * Gets the registry caching loggers that write to the file, opening the
+     * file on first use. The file is not opened upfront, since instances of
+     * this class are also created merely to check whether they are available.
+     *
+     * @return A {@link LoggerRegistry}.
+     *
+     * @throws UncheckedIOException if the file cannot be opened.
+     */
+    private synchronized LoggerRegistry getRegistry() {
+        if (registry == null) {
+            final ConfigurationService configuration = LoggingConfiguration.getInstance().getConfigurationService();
+            final Path file = Paths.get(configuration.getString(CONFIGURATION_PARAMETER_PATH, "logs/infinitum.log"));
+
+            final FileLogWriter writer;
+
+            try {
+                writer = new FileLogWriter(file
+                    , configuration.getInteger(CONFIGURATION_PARAMETER_BUFFER_SIZE, 64 * 1024)
+                    , configuration.getLong(CONFIGURATION_PARAMETER_ROLLOVER_SIZE, 10L * 1024 * 1024)
+                    , TimeUnit.MINUTES.toMillis(configuration.getLong(CONFIGURATION_PARAMETER_ROLLOVER_INTERVAL, TimeUnit.DAYS.toMinutes(1)))
+                    , configuration.getLong(CONFIGURATION_PARAMETER_FLUSH_INTERVAL, 1000L)
+                    , Boolean.parseBoolean(configuration.getString(CONFIGURATION_PARAMETER_COMPRESS, "true")));
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(String.format("Unable to open log file [%s].", file), e);
+            }
+
+            final PrintStream stream = new PrintStream(writer, false);
+            final StackTraceRegistry traces = StackTraceRegistry.create();
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                traces.summarize(new FileLogger(StackTraceRegistry.class, stream, traces));
+                stream.close();
+            }, "infinitum-logging-file-shutdown"));
+
+            registry = new LoggerRegistry(type -> new FileLogger(type, stream, traces));
+        }
+
+        return registry;
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import org.testng.ITestResult;
+
+/**
+ * <p>
+ * Encodes log messages as JSON objects, one per line, for
+ * {@link LogFormat#JSON}. Objects are written straight into a
+ * {@link StringBuilder} supplied by the caller, usually the one held by a
+ * reusable {@link com.qualitrix.infinitum.util.MessageBuffer}, without
+ * building an intermediate representation of the object, so that encoding a
+ * message allocates no objects unless the message carries an exception.
+ * </p>
+ *
+ * <p>
+ * An object is written in two steps. {@link #start(StringBuilder, long, LogLevel, String, String, ITestResult)}
+ * writes all fields but the message, and opens the message, after which the
+ * caller appends the message as is, for instance by formatting it in place.
+ * {@link #end(StringBuilder, int, Throwable)} then escapes the message where
+ * it stands and closes the object. For example:
+ * </p>
+ *
+ * <pre>
+ * &#123;"timestamp":"2022-03-14T09:30:00.000Z","level":"INFO","logger":"com.example.LoginTest","thread":"main","test":"com.example.LoginTest.testLogin","message":"Logged in."}
+ * </pre>
+ *
+ * <p>
+ * The timestamp is written in ISO 8601 format, in UTC, with millisecond
+ * precision. The logger and test are omitted if unknown, and the stack trace
+ * of the exception that generated the message, if any, is written as the
+ * field {@code exception}.
+ * </p>
+ */
+final class JsonLogEncoder {
+    private static final int MAXIMUM_CAUSES = 32;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    /**
+     * Deliberately hidden to prevent direct instantiation.
+     */
+    private JsonLogEncoder() {
+    }
+
+    /**
+     * Appends a point in time to a buffer, in ISO 8601 format, in UTC, with
+     * millisecond precision, such as {@code 2022-03-14T09:30:00.000Z}.
+     *
+     * @param text The buffer.
+     * @param timestamp The point in time, in milliseconds since the epoch.
+     */
+    static void appendTimestamp(final StringBuilder text, final long timestamp) {
+        final long days = Math.floorDiv(timestamp, MILLIS_PER_DAY);
+        final int time = (int) Math.floorMod(timestamp, MILLIS_PER_DAY);
+
+        // Convert the number of days since the epoch into a date, counting
+        // years from March so that leap days fall at the end of a year.
+        final long shifted = days + 719_468;
+        final long era = Math.floorDiv(shifted, 146_097);
+        final int dayOfEra = (int) (shifted - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10
+                          ? shiftedMonth + 3
+                          : shiftedMonth - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        appendDigits(text, year, 4);
+        appendDigits(text.append('-'), month, 2);
+        appendDigits(text.append('-'), day, 2);
+        appendDigits(text.append('T'), time / 3_600_000, 2);
+        appendDigits(text.append(':'), time / 60_000 % 60, 2);
+        appendDigits(text.append(':'), time / 1000 % 60, 2);
+        appendDigits(text.append('.'), time % 1000, 3);
+
+        text.append('Z');
+    }
+
+    /**
+     * Escapes the characters appended to a buffer from a specified position
+     * onwards, in place, so that they can be written within a JSON string.
+     *
+     * @param text The buffer.
+     * @param from The position of the first character to escape.
+     */
+    static void escape(final StringBuilder text, final int from) {
+        final int length = text.length();
+
+        int extra = 0;
+
+        for (int i = from; i < length; ++i) {
+            extra += getEscapedLength(text.charAt(i)) - 1;
+        }
+
+        if (extra == 0) {
+            return;
+        }
+
+        // Move characters towards the end of the grown buffer, starting with
+        // the last one, so that no character is overwritten before it has
+        // been moved.
+        text.setLength(length + extra);
+
+        int target = length + extra;
+
+        for (int i = length - 1; i >= from; --i) {
+            final char c = text.charAt(i);
+
+            switch (c) {
+                case '"':
+                    target = replace(text, target, '"');
+                    break;
+                case '\\':
+                    target = replace(text, target, '\\');
+                    break;
+                case '\b':
+                    target = replace(text, target, 'b');
+                    break;
+                case '\f':
+                    target = replace(text, target, 'f');
+                    break;
+                case '\n':
+                    target = replace(text, target, 'n');
+                    break;
+                case '\r':
+                    target = replace(text, target, 'r');
+                    break;
+                case '\t':
+                    target = replace(text, target, 't');
+                    break;
+                default:
+                    if (c < ' ') {
+                        text.setCharAt(--target, Character.forDigit(c & 0xF, 16));
+                        text.setCharAt(--target, Character.forDigit(c >> 4, 16));
+                        text.setCharAt(--target, '0');
+                        text.setCharAt(--target, '0');
+                        text.setCharAt(--target, 'u');
+                        text.setCharAt(--target, '\\');
+                    }
+                    else {
+                        text.setCharAt(--target, c);
+                    }
+            }
+        }
+    }
+
+    /**
+     * Finishes writing a log message, escaping the message, adding the stack
+     * trace of the exception that generated it, if any, and closing the
+     * object.
+     *
+     * @param text The buffer to which the message is being written.
+     * @param messageStart The position in the buffer at which the message
+     * starts, which is the length of the buffer right after
+     * {@link #start(StringBuilder, long, LogLevel, String, String, ITestResult)}.
+     * @param throwable The exception that generated the message, if any.
+     */
+    static void end(final StringBuilder text, final int messageStart, final Throwable throwable) {
+        end(text, messageStart, throwable, null);
+    }
+
+    /**
+     * Finishes writing a log message, escaping the message, adding the
+     * exception that generated it, if any, and closing the object. The stack
+     * trace of the exception is written in full, unless it is a repeated
+     * occurrence of a stack trace written earlier, in which case only the
+     * exception itself is written. The number of the stack trace is written
+     * as the field {@code trace}, and the number of times it has been seen as
+     * the field {@code seen} for repeated occurrences.
+     *
+     * @param text The buffer to which the message is being written.
+     * @param messageStart The position in the buffer at which the message
+     * starts, which is the length of the buffer right after
+     * {@link #start(StringBuilder, long, LogLevel, String, String, ITestResult)}.
+     * @param throwable The exception that generated the message, if any.
+     * @param occurrence The occurrence of the stack trace of the exception,
+     * or {@code null} if stack traces are not kept track of.
+     */
+    static void end(final StringBuilder text
+        , final int messageStart
+        , final Throwable throwable
+        , final StackTraceRegistry.Occurrence occurrence) {
+        escape(text, messageStart);
+
+        text.append('"');
+
+        if (throwable != null) {
+            text.append(",\"exception\":\"");
+
+            final int from = text.length();
+
+            if (occurrence == null || occurrence.isFull()) {
+                appendStackTrace(text, throwable);
+            }
+            else {
+                text.append(throwable);
+            }
+
+            escape(text, from);
+
+            text.append('"');
+
+            if (occurrence != null) {
+                text.append(",\"trace\":").append(occurrence.getId());
+
+                if (!occurrence.isFull()) {
+                    text.append(",\"seen\":").append(occurrence.getSeen());
+                }
+            }
+        }
+
+        text.append('}').append(System.lineSeparator());
+    }
+
+    /**
+     * Finishes writing a log message, escaping the message, adding the stack
+     * trace of the exception that generated it, if any, as already laid out
+     * by {@link Throwable#printStackTrace()}, and closing the object.
+     *
+     * @param text The buffer to which the message is being written.
+     * @param messageStart The position in the buffer at which the message
+     * starts.
+     * @param stackTrace The stack trace of the exception that generated the
+     * message, if any.
+     */
+    static void endWithStackTrace(final StringBuilder text, final int messageStart, final String stackTrace) {
+        escape(text, messageStart);
+
+        text.append('"');
+
+        if (stackTrace != null) {
+            appendString(text.append(",\"exception\":"), stackTrace.trim());
+        }
+
+        text.append('}').append(System.lineSeparator());
+    }
+
+    /**
+     * Starts writing a log message, appending all fields but the message to a
+     * buffer, and opening the message.
+     *
+     * @param text The buffer to which the message must be written.
+     * @param timestamp The time at which the message was written, in
+     * milliseconds since the epoch.
+     * @param level The level of the message.
+     * @param logger The name of the logger that wrote the message, if any.
+     * @param thread The name of the thread that wrote the message.
+     * @param test The test running when the message was written, if any.
+     */
+    static void start(final StringBuilder text
+        , final long timestamp
+        , final LogLevel level
+        , final String logger
+        , final String thread
+        , final ITestResult test) {
+        appendHeader(text, timestamp, level, logger, thread);
+
+        if (test != null && test.getTestClass() != null && test.getMethod() != null) {
+            text.append(",\"test\":\"");
+
+            final int from = text.length();
+
+            text.append(test.getTestClass().getName()).append('.').append(test.getMethod().getMethodName());
+            escape(text, from);
+
+            text.append('"');
+        }
+
+        text.append(",\"message\":\"");
+    }
+
+    /**
+     * Starts writing a log message, appending all fields but the message to a
+     * buffer, and opening the message.
+     *
+     * @param text The buffer to which the message must be written.
+     * @param timestamp The time at which the message was written, in
+     * milliseconds since the epoch.
+     * @param level The level of the message.
+     * @param logger The name of the logger that wrote the message, if any.
+     * @param thread The name of the thread that wrote the message.
+     * @param test The name of the test running when the message was written,
+     * if any.
+     */
+    static void startWithTestName(final StringBuilder text
+        , final long timestamp
+        , final LogLevel level
+        , final String logger
+        , final String thread
+        , final String test) {
+        appendHeader(text, timestamp, level, logger, thread);
+
+        if (test != null) {
+            appendString(text.append(",\"test\":"), test);
+        }
+
+        text.append(",\"message\":\"");
+    }
+
+    /**
+     * Appends a non-negative number to a buffer, padded with leading zeroes to
+     * a minimum number of digits.
+     *
+     * @param text The buffer.
+     * @param value The number.
+     * @param width The minimum number of digits.
+     */
+    private static void appendDigits(final StringBuilder text, final long value, final int width) {
+        for (long limit = 10, i = 1; i < width; limit *= 10, ++i) {
+            if (value < limit) {
+                text.append('0');
+            }
+        }
+
+        text.append(value);
+    }
+
+    /**
+     * Opens a log message and appends the time, level, logger and thread to a
+     * buffer.
+     *
+     * @param text The buffer to which the message must be written.
+     * @param timestamp The time at which the message was written, in
+     * milliseconds since the epoch.
+     * @param level The level of the message.
+     * @param logger The name of the logger that wrote the message, if any.
+     * @param thread The name of the thread that wrote the message.
+     */
+    private static void appendHeader(final StringBuilder text
+        , final long timestamp
+        , final LogLevel level
+        , final String logger
+        , final String thread) {
+        text.append("{\"timestamp\":\"");
+        appendTimestamp(text, timestamp);
+
+        text.append("\",\"level\":\"").append(level).append('"');
+
+        if (logger != null) {
+            appendString(text.append(",\"logger\":"), logger);
+        }
+
+        appendString(text.append(",\"thread\":"), thread);
+    }
+
+    /**
+     * Appends the stack trace of an exception, and of the exceptions that
+     * caused it, to a buffer, laid out like
+     * {@link Throwable#printStackTrace()}.
+     *
+     * @param text The buffer.
+     * @param throwable The exception.
+     */
+    private static void appendStackTrace(final StringBuilder text, final Throwable throwable) {
+        Throwable current = throwable;
+
+        for (int depth = 0; current != null && depth < MAXIMUM_CAUSES; ++depth) {
+            if (depth > 0) {
+                text.append("\nCaused by: ");
+            }
+
+            text.append(current);
+
+            for (final StackTraceElement frame : current.getStackTrace()) {
+                text.append("\n\tat ").append(frame);
+            }
+
+            current = current.getCause();
+        }
+    }
+
+    /**
+     * Appends a JSON string to a buffer.
+     *
+     * @param text The buffer.
+     * @param value The value of the string.
+     */
+    private static void appendString(final StringBuilder text, final String value) {
+        text.append('"');
+
+        final int from = text.length();
+
+        text.append(value);
+        escape(text, from);
+
+        text.append('"');
+    }
+
+    /**
+     * Gets the number of characters with which a character is written within
+     * a JSON string.
+     *
+     * @param c The character.
+     *
+     * @return {@code 1} if the character need not be escaped, {@code 2} if it
+     * has a short escape sequence, such as {@code \n}, and {@code 6} if it
+     * must be escaped as a Unicode escape sequence.
+     */
+    private static int getEscapedLength(final char c) {
+        switch (c) {
+            case '"':
+            case '\\':
+            case '\b':
+            case '\f':
+            case '\n':
+            case '\r':
+            case '\t':
+                return 2;
+            default:
+                return c < ' '
+                       ? 6
+                       : 1;
+        }
+    }
+
+    /**
+     * Writes a short escape sequence ending at a specified position in a
+     * buffer.
+     *
+     * @param text The buffer.
+     * @param end The position right after the escape sequence.
+     * @param c The character following the backslash.
+     *
+     * @return The position at which the escape sequence starts.
+     */
+    private static int replace(final StringBuilder text, final int end, final char c) {
+        text.setCharAt(end - 1, c);
+        text.setCharAt(end - 2, '\\');
+
+        return end - 2;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * <p>
+ * A log message waiting to be written. Events are held in the slots of a
+ * {@link LogRingBuffer} and reused for subsequent messages, so that writing a
+ * message does not allocate an event.
+ * </p>
+ *
+ * <p>
+ * Besides the message itself, an event records the time at which it was
+ * written, and the thread and test that wrote it, since these are only known
+ * to the thread writing the message, and not to the thread that eventually
+ * writes it out.
+ * </p>
+ */
+final class LogEvent {
+    private LogLevel level;
+
+    private String message;
+
+    private String name;
+
+    private ITestResult test;
+
+    private Thread thread;
+
+    private Throwable throwable;
+
+    private long timestamp;
+
+    /**
+     * Gets the level of the message.
+     *
+     * @return The level of the message.
+     */
+    LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the message.
+     *
+     * @return The message.
+     */
+    String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the name of the logger that wrote the message.
+     *
+     * @return The name of the logger, or {@code null} if the logger does not
+     * have a name.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the test that was running on the thread that wrote the message.
+     *
+     * @return The test, or {@code null} if no test was running.
+     */
+    ITestResult getTest() {
+        return test;
+    }
+
+    /**
+     * Gets the thread that wrote the message.
+     *
+     * @return The thread.
+     */
+    Thread getThread() {
+        return thread;
+    }
+
+    /**
+     * Gets the exception that generated the message.
+     *
+     * @return The exception, or {@code null} if there is none.
+     */
+    Throwable getThrowable() {
+        return throwable;
+    }
+
+    /**
+     * Gets the time at which the message was written.
+     *
+     * @return The time, in milliseconds since the epoch.
+     */
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Releases references held by this event, so that they can be garbage
+     * collected while the event waits to be reused.
+     */
+    void clear() {
+        level = null;
+        message = null;
+        name = null;
+        test = null;
+        thread = null;
+        throwable = null;
+    }
+
+    /**
+     * Populates this event, recording the current time, and the current
+     * thread and test. Must be called on the thread writing the message.
+     *
+     * @param level The level of the message.
+     * @param name The name of the logger that wrote the message.
+     * @param message The message.
+     * @param throwable The exception that generated the message.
+     */
+    void set(final LogLevel level, final String name, final String message, final Throwable throwable) {
+        this.level = level;
+        this.message = message;
+        this.name = name;
+        this.test = Reporter.getCurrentTestResult();
+        this.thread = Thread.currentThread();
+        this.throwable = throwable;
+        this.timestamp = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+/**
+ * Levels at which log messages are written, in increasing order of severity.
+ * Levels also serve as thresholds, below which log messages are discarded.
+ */
+public enum LogLevel {
+    /**
+     * Detailed information, useful for diagnosing problems.
+     */
+    DEBUG,
+
+    /**
+     * Information about the normal progress of the application.
+     */
+    INFO,
+
+    /**
+     * Unexpected situations that the application can recover from.
+     */
+    WARN,
+
+    /**
+     * Failures that prevent an operation from completing.
+     */
+    ERROR,
+
+    /**
+     * Not a level at which messages are written, but a threshold above all
+     * levels, which discards all messages.
+     */
+    OFF;
+
+    /**
+     * Checks whether this level is at least as severe as another.
+     *
+     * @param level The other level.
+     *
+     * @return {@code true} if this level is at least as severe as the
+     * specified level, {@code false} otherwise.
+     */
+    public boolean isAtLeast(final LogLevel level) {
+        return compareTo(level) >= 0;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Limits the number of messages written by a logger from each call site,
+ * so that code logging in a tight loop, such as a page object polling for an
+ * element, cannot flood the log. A call site is identified by the message
+ * format it logs, which is usually a constant. Messages logged without a
+ * format, which are often built by concatenating values, are all counted as
+ * coming from a single call site of the logger, so that they cannot use up
+ * the call sites tracked. Messages from a call site can be sampled, writing
+ * only every N-th message, and rate limited, writing no more than N messages
+ * per second, or both, in which case sampled messages are subject to the
+ * rate limit.
+ * </p>
+ *
+ * <p>
+ * The number of messages suppressed is reported through
+ * {@link #pollSummary()}, which loggers call whenever a message gets through,
+ * so that a summary is written along with the next message once per
+ * summary interval. Messages suppressed after the last message of a flood are
+ * reported when a suite finishes, see {@link LogRateLimitListener}, through
+ * the reporter each limiter is created with, unless the logger writes another
+ * message first. Limiters are only weakly referenced for that purpose, so
+ * that loggers no longer used, together with their limiters, can be garbage
+ * collected.
+ * </p>
+ *
+ * <p>
+ * Up to 1024 call sites are tracked individually per logger. Messages from
+ * further call sites share a single allowance.
+ * </p>
+ *
+ * @see LoggingConfiguration#getRateLimit(String)
+ * @see LoggingConfiguration#getSampleRate(String)
+ */
+public final class LogRateLimiter {
+    private static final Set<LogRateLimiter> INSTANCES = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static final int MAXIMUM_SITES = 1024;
+
+    private final LongSupplier clock;
+
+    private final AtomicLong nextSummary;
+
+    private final Site overflow;
+
+    private final int rate;
+
+    private final Consumer<String> reporter;
+
+    private final int sample;
+
+    private final ConcurrentMap<String, Site> sites;
+
+    private final long summaryInterval;
+
+    private final AtomicLong suppressed;
+
+    /**
+     * Creates a limiter with specific settings.
+     *
+     * @param rate The maximum number of messages to write per second from
+     * each call site, or {@code 0} for no limit.
+     * @param sample Write only one in this many messages from each call site,
+     * or {@code 0} or {@code 1} to write all messages.
+     * @param summaryInterval The minimum time between two summaries of
+     * suppressed messages, in milliseconds.
+     */
+    public LogRateLimiter(final int rate, final int sample, final long summaryInterval) {
+        this(rate, sample, summaryInterval, System::currentTimeMillis, null);
+    }
+
+    /**
+     * Creates a limiter with specific settings, reading time from a specific
+     * clock.
+     *
+     * @param rate The maximum number of messages to write per second from
+     * each call site, or {@code 0} for no limit.
+     * @param sample Write only one in this many messages from each call site,
+     * or {@code 0} or {@code 1} to write all messages.
+     * @param summaryInterval The minimum time between two summaries of
+     * suppressed messages, in milliseconds.
+     * @param clock Supplies the current time, in milliseconds.
+     * @param reporter Writes summaries of suppressed messages when a suite
+     * finishes, or {@code null} if summaries are only written along with
+     * other messages.
+     */
+    LogRateLimiter(final int rate
+        , final int sample
+        , final long summaryInterval
+        , final LongSupplier clock
+        , final Consumer<String> reporter) {
+        this.clock = clock;
+        this.nextSummary = new AtomicLong(clock.getAsLong() + summaryInterval);
+        this.overflow = new Site();
+        this.rate = Math.max(0, rate);
+        this.reporter = reporter;
+        this.sample = Math.max(1, sample);
+        this.sites = new ConcurrentHashMap<>();
+        this.summaryInterval = Math.max(0, summaryInterval);
+        this.suppressed = new AtomicLong();
+
+        if (reporter != null) {
+            synchronized (INSTANCES) {
+                INSTANCES.add(this);
+            }
+        }
+    }
+
+    /**
+     * Creates a limiter for a logger, with the settings configured for it
+     * through {@link LoggingConfiguration}.
+     *
+     * @param name The name of the logger, or {@code null}.
+     * @param reporter Writes summaries of suppressed messages through the
+     * logger when a suite finishes.
+     *
+     * @return A {@link LogRateLimiter}, or {@code null} if neither a rate
+     * limit nor a sample rate has been configured for the logger, so that
+     * loggers can skip limiting altogether.
+     */
+    public static LogRateLimiter create(final String name, final Consumer<String> reporter) {
+        final LoggingConfiguration configuration = LoggingConfiguration.getInstance();
+        final int rate = configuration.getRateLimit(name);
+        final int sample = configuration.getSampleRate(name);
+
+        return rate <= 0 && sample <= 1
+               ? null
+               : new LogRateLimiter(rate, sample, configuration.getSuppressionSummaryInterval(), System::currentTimeMillis, reporter);
+    }
+
+    /**
+     * Writes a summary of the messages suppressed so far by every limiter
+     * created through {@link #create(String, Consumer)}, if any have been,
+     * whether or not the summary interval has elapsed.
+     */
+    public static void flushAll() {
+        final List<LogRateLimiter> limiters;
+
+        // Summaries are written outside the lock, as writing them may create
+        // other loggers, and therefore other limiters.
+        synchronized (INSTANCES) {
+            limiters = new ArrayList<>(INSTANCES);
+        }
+
+        limiters.forEach(LogRateLimiter::flush);
+    }
+
+    /**
+     * Checks whether a message from a call site may be written, counting it
+     * as suppressed if not.
+     *
+     * @param key The message format identifying the call site, or
+     * {@code null} for messages logged without a format.
+     *
+     * @return {@code true} if the message may be written, {@code false} if it
+     * must be discarded.
+     */
+    public boolean permit(final String key) {
+        if (getSite(key).permit(clock.getAsLong() / 1000)) {
+            return true;
+        }
+
+        suppressed.incrementAndGet();
+
+        return false;
+    }
+
+    /**
+     * Gets a summary of the messages suppressed since the last summary, if
+     * any have been and the summary interval has elapsed. The count of
+     * suppressed messages is reset.
+     *
+     * @return A summary, or {@code null} if no summary is due.
+     */
+    public String pollSummary() {
+        if (suppressed.get() == 0) {
+            return null;
+        }
+
+        final long now = clock.getAsLong();
+        final long due = nextSummary.get();
+
+        if (now < due || !nextSummary.compareAndSet(due, now + summaryInterval)) {
+            return null;
+        }
+
+        return summarize();
+    }
+
+    /**
+     * Writes a summary of the messages suppressed since the last summary
+     * through the reporter of this limiter, if any have been, and restarts
+     * the summary interval.
+     */
+    private void flush() {
+        if (suppressed.get() == 0) {
+            return;
+        }
+
+        nextSummary.set(clock.getAsLong() + summaryInterval);
+
+        final String summary = summarize();
+
+        if (summary != null) {
+            reporter.accept(summary);
+        }
+    }
+
+    /**
+     * Gets a summary of the messages suppressed since the last summary, and
+     * resets the count of suppressed messages.
+     *
+     * @return The summary, or {@code null} if no message has been suppressed,
+     * as another thread has just taken the summary.
+     */
+    private String summarize() {
+        final long total = suppressed.getAndSet(0);
+
+        if (total == 0) {
+            return null;
+        }
+
+        int count = 0;
+
+        for (final Site site : sites.values()) {
+            count += site.drain();
+        }
+
+        count += overflow.drain();
+
+        return String.format("Suppressed %d log message(s) from %d call site(s) to limit log volume.", total, count);
+    }
+
+    /**
+     * Gets the state for a call site, creating it if required.
+     *
+     * @param key The message format identifying the call site, or
+     * {@code null} for messages logged without a format.
+     *
+     * @return A {@link Site}.
+     */
+    private Site getSite(final String key) {
+        final String site = key == null
+                            ? ""
+                            : key;
+        final Site state = sites.get(site);
+
+        if (state != null) {
+            return state;
+        }
+
+        return sites.size() < MAXIMUM_SITES
+               ? sites.computeIfAbsent(site, ignored -> new Site())
+               : overflow;
+    }
+
+    /**
+     * Tracks the messages logged from a call site.
+     */
+    private final class Site {
+        private final AtomicLong count = new AtomicLong();
+
+        private final AtomicInteger inWindow = new AtomicInteger();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile long window = -1;
+
+        /**
+         * Resets the count of suppressed messages.
+         *
+         * @return {@code 1} if messages were suppressed since the last reset,
+         * {@code 0} otherwise.
+         */
+        int drain() {
+            return pending.getAndSet(0) > 0
+                   ? 1
+                   : 0;
+        }
+
+        /**
+         * Checks whether a message may be written.
+         *
+         * @param second The current time, in seconds.
+         *
+         * @return {@code true} if the message may be written.
+         */
+        boolean permit(final long second) {
+            final boolean permitted = count.getAndIncrement() % sample == 0 && withinRate(second);
+
+            if (!permitted) {
+                pending.incrementAndGet();
+            }
+
+            return permitted;
+        }
+
+        /**
+         * Checks whether another message may be written within the current
+         * second.
+         *
+         * @param second The current time, in seconds.
+         *
+         * @return {@code true} if the message may be written.
+         */
+        private boolean withinRate(final long second) {
+            if (rate == 0) {
+                return true;
+            }
+
+            if (window != second) {
+                synchronized (this) {
+                    if (window != second) {
+                        inWindow.set(0);
+                        window = second;
+                    }
+                }
+            }
+
+            return inWindow.incrementAndGet() <= rate;
+        }
+    }
+}
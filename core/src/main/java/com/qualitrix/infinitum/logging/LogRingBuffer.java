@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A bounded buffer of log events, written by any number of threads and read
+ * by a single thread, without locking.
+ * </p>
+ *
+ * <p>
+ * Events are held in a fixed array of reusable slots. Each slot carries a
+ * sequence number that tells writers and the reader whose turn it is to use
+ * the slot. A writer claims the next position through an atomic
+ * compare-and-set, populates the slot at that position and then publishes it
+ * by advancing the sequence of the slot, which the reader waits for before
+ * reading the slot. Once the reader is done with a slot, it advances the
+ * sequence of the slot by the size of the buffer, handing the slot back to
+ * writers for the next lap.
+ * </p>
+ */
+final class LogRingBuffer {
+    private final int mask;
+
+    private final AtomicLongArray sequences;
+
+    private final LogEvent[] slots;
+
+    private final AtomicLong tail;
+
+    private long head;
+
+    /**
+     * Creates a buffer.
+     *
+     * @param capacity The minimum number of events the buffer must hold. The
+     * actual capacity is the nearest power of two, so that positions can be
+     * mapped to slots by masking.
+     */
+    LogRingBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(2, Math.min(capacity, 1 << 30) * 2 - 1));
+
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.slots = new LogEvent[size];
+        this.tail = new AtomicLong();
+
+        for (int i = 0; i < size; ++i) {
+            sequences.set(i, i);
+            slots[i] = new LogEvent();
+        }
+    }
+
+    /**
+     * Reads and releases published events, in the order in which their
+     * positions were claimed. Must only be called by the reading thread.
+     *
+     * @param consumer Receives each event. The event must not be retained,
+     * since it is reused once the consumer returns.
+     * @param limit The maximum number of events to read.
+     *
+     * @return The number of events read.
+     */
+    int drain(final Consumer<LogEvent> consumer, final int limit) {
+        int count = 0;
+
+        while (count < limit) {
+            final int index = (int) head & mask;
+
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+
+            final LogEvent event = slots[index];
+
+            consumer.accept(event);
+            event.clear();
+
+            sequences.lazySet(index, head + mask + 1);
+
+            ++head;
+            ++count;
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the number of events the buffer can hold.
+     *
+     * @return The number of events the buffer can hold.
+     */
+    int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Gets the number of events read so far. Must only be called by the
+     * reading thread.
+     *
+     * @return The number of events read so far.
+     */
+    long getHead() {
+        return head;
+    }
+
+    /**
+     * Gets the number of positions claimed by writers so far.
+     *
+     * @return The number of positions claimed by writers so far.
+     */
+    long getTail() {
+        return tail.get();
+    }
+
+    /**
+     * Attempts to add an event to the buffer.
+     *
+     * @param level The level of the message.
+     * @param name The name of the logger that wrote the message.
+     * @param message The message.
+     * @param throwable The exception that generated the message.
+     *
+     * @return {@code true} if the event was added, {@code false} if the
+     * buffer is full.
+     */
+    boolean offer(final LogLevel level, final String name, final String message, final Throwable throwable) {
+        long position = tail.get();
+
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index].set(level, name, message, throwable);
+                    sequences.lazySet(index, position + 1);
+
+                    return true;
+                }
+
+                position = tail.get();
+            }
+            else if (difference < 0) {
+                // The slot still holds an event from the previous lap.
+                return false;
+            }
+            else {
+                // Another writer claimed the position first.
+                position = tail.get();
+            }
+        }
+    }
+}
@@ -20,10 +20,23 @@
 
 package com.qualitrix.infinitum.logging;
 
+import java.util.function.Supplier;
+
 /**
+ * <p>
  * Contract for logging messages.Supported log levels in increasing order of
  * severity (and thereby concern)are {@code DEBUG}, {@code INFO}, {@code WARN}
  * and {@code ERROR}.
+ * </p>
+ *
+ * <p>
+ * Messages below the level configured for a logger are discarded, see
+ * {@link LoggingConfiguration}. Discarded messages are not formatted, but
+ * their arguments are still evaluated by the caller. Messages that are costly
+ * to build can therefore be supplied lazily, through methods such as
+ * {@link #debugLazily(Supplier)}, or be guarded by checks such as
+ * {@link #isDebugEnabled()}.
+ * </p>
  */
 public interface Logger {
     /**
@@ -61,6 +74,18 @@ public interface Logger {
      */
     void debug(String format, Object... args);
 
+    /**
+     * Writes a log message at {@code DEBUG} log level, obtaining the message
+     * only if messages at that level are written.
+     *
+     * @param message Supplies the message to write.
+     */
+    default void debugLazily(final Supplier<String> message) {
+        if (isDebugEnabled()) {
+            debug(message.get());
+        }
+    }
+
     /**
      * Writes a log message at {@code ERROR} log level.
      *
@@ -138,6 +163,31 @@ public interface Logger {
      */
     void error(Throwable throwable, String format, Object... args);
 
+    /**
+     * Writes a log message at {@code ERROR} log level, obtaining the message
+     * only if messages at that level are written.
+     *
+     * @param message Supplies the message to write.
+     */
+    default void errorLazily(final Supplier<String> message) {
+        if (isErrorEnabled()) {
+            error(message.get());
+        }
+    }
+
+    /**
+     * Writes an exception along with a log message at {@code ERROR} log
+     * level, obtaining the message only if messages at that level are written.
+     *
+     * @param throwable The exception that generated the log message.
+     * @param message Supplies the message to write.
+     */
+    default void errorLazily(final Throwable throwable, final Supplier<String> message) {
+        if (isErrorEnabled()) {
+            error(throwable, message.get());
+        }
+    }
+
     /**
      * Writes a log message at {@code INFO} log level.
      *
@@ -173,6 +223,66 @@ public interface Logger {
      */
     void info(String format, Object... args);
 
+    /**
+     * Writes a log message at {@code INFO} log level, obtaining the message
+     * only if messages at that level are written.
+     *
+     * @param message Supplies the message to write.
+     */
+    default void infoLazily(final Supplier<String> message) {
+        if (isInfoEnabled()) {
+            info(message.get());
+        }
+    }
+
+    /**
+     * Checks whether log messages at {@code DEBUG} log level are written.
+     *
+     * @return {@code true} if log messages at {@code DEBUG} log level are
+     * written, {@code false} if they are discarded. Loggers that do not
+     * discard messages need not override this method, which returns
+     * {@code true}.
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
+    /**
+     * Checks whether log messages at {@code ERROR} log level are written.
+     *
+     * @return {@code true} if log messages at {@code ERROR} log level are
+     * written, {@code false} if they are discarded. Loggers that do not
+     * discard messages need not override this method, which returns
+     * {@code true}.
+     */
+    default boolean isErrorEnabled() {
+        return true;
+    }
+
+    /**
+     * Checks whether log messages at {@code INFO} log level are written.
+     *
+     * @return {@code true} if log messages at {@code INFO} log level are
+     * written, {@code false} if they are discarded. Loggers that do not
+     * discard messages need not override this method, which returns
+     * {@code true}.
+     */
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    /**
+     * Checks whether log messages at {@code WARN} log level are written.
+     *
+     * @return {@code true} if log messages at {@code WARN} log level are
+     * written, {@code false} if they are discarded. Loggers that do not
+     * discard messages need not override this method, which returns
+     * {@code true}.
+     */
+    default boolean isWarnEnabled() {
+        return true;
+    }
+
     /**
      * Writes a log message at {@code WARN} log level.
      *
@@ -207,4 +317,16 @@ public interface Logger {
      * @param args Contextual values to include in the message.
      */
     void warn(String format, Object... args);
+
+    /**
+     * Writes a log message at {@code WARN} log level, obtaining the message
+     * only if messages at that level are written.
+     *
+     * @param message Supplies the message to write.
+     */
+    default void warnLazily(final Supplier<String> message) {
+        if (isWarnEnabled()) {
+            warn(message.get());
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Caches the loggers created by a {@link LoggingService}, so that requesting
+ * a logger for the same class more than once returns the same instance
+ * instead of creating a new one each time. Helper code can therefore obtain
+ * loggers wherever required without creating garbage.
+ * </p>
+ *
+ * <p>
+ * Loggers are created with the level configured for them, see
+ * {@link LoggingConfiguration}, and are updated in place whenever levels are
+ * changed at runtime through
+ * {@link LoggingConfiguration#setLevel(String, LogLevel)}.
+ * </p>
+ */
+public final class LoggerRegistry {
+    private final Function<Class<?>, ? extends ConfigurableLogger> factory;
+
+    private final ConcurrentMap<Class<?>, ConfigurableLogger> loggers;
+
+    /**
+     * Creates a registry for loggers created by a specified factory.
+     *
+     * @param factory Creates a logger named after a class.
+     */
+    public LoggerRegistry(final Function<Class<?>, ? extends ConfigurableLogger> factory) {
+        this.factory = factory;
+        this.loggers = new ConcurrentHashMap<>();
+
+        LoggingConfiguration.getInstance().register(this);
+    }
+
+    /**
+     * Gets the logger for a class, creating it on first use. Loggers without
+     * a class are not cached.
+     *
+     * @param type The class after which the logger should be named.
+     *
+     * @return A {@link ConfigurableLogger}.
+     */
+    public ConfigurableLogger getLogger(final Class<?> type) {
+        if (type == null) {
+            return factory.apply(null);
+        }
+
+        final ConfigurableLogger logger = loggers.get(type);
+
+        return logger == null
+               ? create(type)
+               : logger;
+    }
+
+    /**
+     * Applies the levels currently configured to all loggers in this
+     * registry.
+     */
+    void refresh() {
+        final LoggingConfiguration configuration = LoggingConfiguration.getInstance();
+
+        loggers.values()
+               .forEach(logger -> logger.setLevel(configuration.getLevel(logger.getName())));
+    }
+
+    /**
+     * Creates the logger for a class, unless another thread has just created
+     * it. Should levels change while the logger is being created, possibly
+     * before it could be found by {@link #refresh()}, the level of the logger
+     * is applied again.
+     *
+     * @param type The class after which the logger should be named.
+     *
+     * @return A {@link ConfigurableLogger}.
+     */
+    private ConfigurableLogger create(final Class<?> type) {
+        final LoggingConfiguration configuration = LoggingConfiguration.getInstance();
+        final long generation = configuration.getGeneration();
+
+        final ConfigurableLogger logger = loggers.computeIfAbsent(type, factory);
+
+        if (configuration.getGeneration() != generation) {
+            logger.setLevel(configuration.getLevel(logger.getName()));
+        }
+
+        return logger;
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.ServiceLocator;
+import com.qualitrix.infinitum.config.ConfigurationService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Provides access to application configuration for logging services.
+ * </p>
+ *
+ * <p>
+ * Logging services cannot obtain configuration through
+ * {@link com.qualitrix.infinitum.config.ConfigurationServiceLocator}, since
+ * that locator writes a log message while it is being initialized, which
+ * would require the logging service being initialized already. This class
+ * loads a {@link ConfigurationService} on its own instead, in the same way as
+ * {@link com.qualitrix.infinitum.config.ConfigurationServiceLocator} but
+ * without logging anything.
+ * </p>
+ *
+ * <p>
+ * The level below which log messages are discarded can be set for all loggers
+ * through the configuration parameter {@code infinitum.logging.level}, and for
+ * loggers in a package, or for individual loggers, through configuration
+ * parameters named after the package or logger, such as
+ * {@code infinitum.logging.level.com.example} or
+ * {@code infinitum.logging.level.com.example.LoginTest}. The value must be one
+ * of {@link LogLevel}. A logger gets the level set for the longest name
+ * matching its own name, or a package containing it. All messages are written
+ * by default.
+ * </p>
+ *
+ * <p>
+ * Levels can also be changed at runtime through
+ * {@link #setLevel(String, LogLevel)}, which takes precedence over levels
+ * set through configuration parameters for the same name, and applies
+ * immediately to all loggers obtained through a {@link LoggerRegistry}.
+ * </p>
+ *
+ * <p>
+ * The layout of log messages written to the console or to a file can be set
+ * through the configuration parameter {@code infinitum.logging.format}, and
+ * for each output through {@code infinitum.logging.console.format} and
+ * {@code infinitum.logging.file.format}. The value must be one of
+ * {@link LogFormat}. Messages are written as plain text by default.
+ * </p>
+ *
+ * <p>
+ * Loggers writing to the console or to a file write each distinct stack trace
+ * in full only once per hour, and a short reference to it otherwise. This
+ * can be turned off by setting the configuration parameter
+ * {@code infinitum.logging.stacktrace.deduplicate} to {@code false}, and the
+ * window after which a stack trace is written in full again can be set in
+ * minutes through {@code infinitum.logging.stacktrace.window}, {@code 0}
+ * meaning that each stack trace is written in full only once.
+ * </p>
+ *
+ * <p>
+ * Messages logged repeatedly from the same call site can be limited to a
+ * maximum number per second through the configuration parameter
+ * {@code infinitum.logging.rate}, and sampled, writing only one in N
+ * messages, through {@code infinitum.logging.sample}. Both can be set for
+ * loggers in a package, or for individual loggers, in the same way as levels,
+ * such as {@code infinitum.logging.rate.com.example.pages}. The number of
+ * messages suppressed is logged at most once per
+ * {@code infinitum.logging.suppression.interval} seconds, 10 by default, and
+ * when a suite finishes. Messages are not limited by default. See {@link LogRateLimiter}.
+ * </p>
+ */
+public final class LoggingConfiguration extends ServiceLocator {
+    private static final String CONFIGURATION_PARAMETER_FORMAT = "infinitum.logging.format";
+
+    private static final String CONFIGURATION_PARAMETER_LEVEL = "infinitum.logging.level";
+
+    private static final String CONFIGURATION_PARAMETER_RATE = "infinitum.logging.rate";
+
+    private static final String CONFIGURATION_PARAMETER_SAMPLE = "infinitum.logging.sample";
+
+    private static final String CONFIGURATION_PARAMETER_SUPPRESSION_INTERVAL = "infinitum.logging.suppression.interval";
+
+    private static final String ROOT = "";
+
+    private final ConfigurationService configurationService;
+
+    private final ConcurrentMap<String, LogLevel> levels;
+
+    private final Set<LoggerRegistry> registries;
+
+    private volatile long generation;
+
+    /**
+     * Loads a {@link ConfigurationService} using Java Service Provider
+     * Interface (SPI). The first available implementation is used.
+     */
+    private LoggingConfiguration() {
+        configurationService = getFirstAvailable(ConfigurationService.class);
+        levels = new ConcurrentHashMap<>();
+        registries = Collections.newSetFromMap(new WeakHashMap<>());
+    }
+
+    /**
+     * Gets an instance of this class.
+     *
+     * @return A {@link LoggingConfiguration}.
+     */
+    public static LoggingConfiguration getInstance() {
+        return SingletonHolder.SINGLETON;
+    }
+
+    /**
+     * Gets configuration for the current application.
+     *
+     * @return A {@link ConfigurationService}.
+     */
+    public ConfigurationService getConfigurationService() {
+        return configurationService;
+    }
+
+    /**
+     * Gets the layout in which log messages must be written to an output.
+     *
+     * @param output The name of the output, such as {@code console} or
+     * {@code file}.
+     *
+     * @return The {@link LogFormat} set for the specified output, or else for
+     * all outputs, or {@link LogFormat#TEXT} if no layout has been set at all.
+     */
+    public LogFormat getFormat(final String output) {
+        final String key = String.format("infinitum.logging.%s.format", output);
+
+        return configurationService.getEnum(LogFormat.class
+            , key
+            , configurationService.getEnum(LogFormat.class, CONFIGURATION_PARAMETER_FORMAT, LogFormat.TEXT));
+    }
+
+    /**
+     * Gets the level below which log messages written by a logger must be
+     * discarded.
+     *
+     * @param name The name of the logger, or {@code null} for the level
+     * applicable to all loggers.
+     *
+     * @return The {@link LogLevel} set for the specified logger, or else for
+     * the closest package containing it, or else for all loggers, or
+     * {@link LogLevel#DEBUG} if no level has been set at all.
+     */
+    public LogLevel getLevel(final String name) {
+        String prefix = name == null
+                        ? ROOT
+                        : name;
+
+        while (true) {
+            final LogLevel level = getLevelSetFor(prefix);
+
+            if (level != null) {
+                return level;
+            }
+
+            if (ROOT.equals(prefix)) {
+                return LogLevel.DEBUG;
+            }
+
+            prefix = prefix.substring(0, Math.max(0, prefix.lastIndexOf('.')));
+        }
+    }
+
+    /**
+     * Gets the maximum number of messages a logger may write per second from
+     * each call site.
+     *
+     * @param name The name of the logger, or {@code null} for the limit
+     * applicable to all loggers.
+     *
+     * @return The limit set for the specified logger, or else for the closest
+     * package containing it, or else for all loggers, or {@code 0}, meaning no
+     * limit, if no limit has been set at all.
+     */
+    public int getRateLimit(final String name) {
+        return getInteger(CONFIGURATION_PARAMETER_RATE, name);
+    }
+
+    /**
+     * Gets the sample rate for messages written by a logger from each call
+     * site, i.e. the logger writes only one in this many messages.
+     *
+     * @param name The name of the logger, or {@code null} for the sample rate
+     * applicable to all loggers.
+     *
+     * @return The sample rate set for the specified logger, or else for the
+     * closest package containing it, or else for all loggers, or {@code 0},
+     * meaning that all messages are written, if no sample rate has been set
+     * at all.
+     */
+    public int getSampleRate(final String name) {
+        return getInteger(CONFIGURATION_PARAMETER_SAMPLE, name);
+    }
+
+    /**
+     * Gets the minimum time between two summaries of messages suppressed by
+     * a {@link LogRateLimiter}.
+     *
+     * @return The interval, in milliseconds.
+     */
+    public long getSuppressionSummaryInterval() {
+        return 1000L * configurationService.getInteger(CONFIGURATION_PARAMETER_SUPPRESSION_INTERVAL, 10);
+    }
+
+    /**
+     * Changes the level below which log messages written by a logger, or by
+     * all loggers in a package, must be discarded. The change applies
+     * immediately to all loggers obtained through a {@link LoggerRegistry},
+     * except those for which a level has been set under a longer name.
+     *
+     * @param name The name of the logger or package, or {@code null} for all
+     * loggers.
+     * @param level The level, or {@code null} to revert to the level set
+     * through configuration parameters, if any.
+     */
+    public void setLevel(final String name, final LogLevel level) {
+        final String key = name == null
+                           ? ROOT
+                           : name;
+
+        final List<LoggerRegistry> targets;
+
+        synchronized (registries) {
+            if (level == null) {
+                levels.remove(key);
+            }
+            else {
+                levels.put(key, level);
+            }
+
+            // Let registries know that loggers being created right now may
+            // have missed the change.
+            ++generation;
+
+            targets = new ArrayList<>(registries);
+        }
+
+        targets.forEach(LoggerRegistry::refresh);
+    }
+
+    /**
+     * Gets a number that changes whenever levels are changed at runtime.
+     *
+     * @return The number of times levels have been changed at runtime.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Registers a registry whose loggers must be updated when levels are
+     * changed at runtime. Registries are held weakly, so that registering a
+     * registry does not prevent it from being garbage collected.
+     *
+     * @param registry The registry.
+     */
+    void register(final LoggerRegistry registry) {
+        synchronized (registries) {
+            registries.add(registry);
+        }
+    }
+
+    /**
+     * Gets an integer configuration parameter set for a logger, or else for
+     * the closest package containing it, or else for all loggers.
+     *
+     * @param parameter The name of the parameter applicable to all loggers.
+     * @param name The name of the logger, or {@code null}.
+     *
+     * @return The value of the parameter, or {@code 0} if not set.
+     */
+    private int getInteger(final String parameter, final String name) {
+        String prefix = name == null
+                        ? ROOT
+                        : name;
+
+        while (true) {
+            final String key = ROOT.equals(prefix)
+                               ? parameter
+                               : parameter + "." + prefix;
+
+            if (configurationService.getString(key) != null) {
+                return configurationService.getInteger(key, 0);
+            }
+
+            if (ROOT.equals(prefix)) {
+                return 0;
+            }
+
+            prefix = prefix.substring(0, Math.max(0, prefix.lastIndexOf('.')));
+        }
+    }
+
+    /**
+     * Gets the level set for a specific name, at runtime or through a
+     * configuration parameter, without considering the packages containing
+     * it.
+     *
+     * @param name The name, or an empty string for all loggers.
+     *
+     * @return The {@link LogLevel} set for the name, or {@code null} if none.
+     */
+    private LogLevel getLevelSetFor(final String name) {
+        final LogLevel level = levels.get(name);
+
+        if (level != null) {
+            return level;
+        }
+
+        final String key = ROOT.equals(name)
+                           ? CONFIGURATION_PARAMETER_LEVEL
+                           : CONFIGURATION_PARAMETER_LEVEL + "." + name;
+
+        // Check for the key first, as getting an enumerated value for a
+        // missing key fails with an exception.
+        return configurationService.getString(key) == null
+               ? null
+               : configurationService.getEnum(LogLevel.class, key);
+    }
+
+    /**
+     * Holds a singleton instance of this class.
+     */
+    private static final class SingletonHolder {
+        private static final LoggingConfiguration SINGLETON = new LoggingConfiguration();
+    }
+}
@@ -46,8 +46,8 @@ public final class LoggingServiceLocator
         service = getFirstAvailable(LoggingService.class);
 
         service.getLogger(LoggingServiceLocator.class)
-               .debug(String.format("%s selected as LoggingService."
-                   , service.getClass().getName()));
+               .debug("{} selected as LoggingService."
+                   , service.getClass().getName());
     }
 
     /**
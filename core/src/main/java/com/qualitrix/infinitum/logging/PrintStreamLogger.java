@@ -20,30 +20,91 @@
 
 package com.qualitrix.infinitum.logging;
 
+import com.qualitrix.infinitum.util.MessageBuffer;
+import com.qualitrix.infinitum.util.MessageFormatter;
+
+import org.testng.Reporter;
+
 import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Optional;
-import java.util.StringJoiner;
 
 /**
- * Writes log messages to a {@link PrintStream}.
+ * <p>
+ * Writes log messages to a {@link PrintStream}. Messages below the level
+ * configured for the logger are discarded without being formatted, at the cost
+ * of comparing the level with the threshold held by the logger. So are
+ * messages from call sites logging at a high rate, if a sample rate or rate
+ * limit has been configured for the logger, see {@link LogRateLimiter}.
+ * </p>
+ *
+ * <p>
+ * Messages are formatted by {@link MessageFormatter} into a
+ * {@link MessageBuffer} reused by the calling thread, and written to the
+ * stream from there, so that writing a message does not allocate any objects
+ * beyond those created by the caller, for instance to pass more than two
+ * contextual values.
+ * </p>
+ *
+ * <p>
+ * Messages are written as plain text, or as JSON objects encoded in the same
+ * buffer by {@link JsonLogEncoder}, according to the {@link LogFormat} of the
+ * logger. Stack traces already written to the stream are written as a
+ * reference to the earlier stack trace, if the logger has been given a
+ * {@link StackTraceRegistry}.
+ * </p>
+ *
+ * <p>
+ * Messages written on a thread for which log output is being captured, see
+ * {@link TestLogCaptureListener}, are added to the {@link CapturedLog} for
+ * the thread instead of being written to the stream.
+ * </p>
  */
-abstract class PrintStreamLogger implements Logger {
+abstract class PrintStreamLogger implements ConfigurableLogger {
+    private final LogFormat layout;
+
+    private final LogRateLimiter limiter;
+
     private final String name;
 
     private final PrintStream sink;
 
+    private final StackTraceRegistry traces;
+
+    private volatile LogLevel threshold;
+
     /**
-     * Creates a logger for writing reporting messages to a {@link PrintStream}.
+     * Creates a logger for writing reporting messages to a {@link PrintStream},
+     * at and above a specified level, in a specified layout.
      *
      * @param type The class after which the logger should be named.
      * @param stream A {@link PrintStream}.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     * @param layout The layout in which messages must be written, or
+     * {@code null} for plain text.
+     * @param traces Keeps track of the stack traces written to the stream, so
+     * that each is written in full only once, or {@code null} to write every
+     * stack trace in full.
      */
-    protected PrintStreamLogger(final Class<?> type, final PrintStream stream) {
+    protected PrintStreamLogger(final Class<?> type
+        , final PrintStream stream
+        , final LogLevel threshold
+        , final LogFormat layout
+        , final StackTraceRegistry traces) {
         name = Optional.ofNullable(type)
                        .map(Class::getName)
                        .orElse(null);
 
         sink = stream;
+
+        this.traces = traces;
+        this.layout = Optional.ofNullable(layout)
+                              .orElse(LogFormat.TEXT);
+        this.threshold = Optional.ofNullable(threshold)
+                                 .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(name));
+        this.limiter = LogRateLimiter.create(name, summary -> write(LogLevel.WARN, summary, null));
     }
 
     /**
@@ -51,7 +112,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void debug(final String message) {
-        write("[DEBUG]", message);
+        if (isDebugEnabled() && permit(null)) {
+            write(LogLevel.DEBUG, message, null);
+        }
     }
 
     /**
@@ -59,7 +122,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void debug(final String format, final Object context) {
-        debug(String.format(format, context));
+        if (isDebugEnabled() && permit(format)) {
+            format(LogLevel.DEBUG, format, context, null);
+        }
     }
 
     /**
@@ -67,7 +132,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void debug(final String format, final Object arg1, final Object arg2) {
-        debug(String.format(format, arg1, arg2));
+        if (isDebugEnabled() && permit(format)) {
+            format(LogLevel.DEBUG, format, arg1, arg2, null);
+        }
     }
 
     /**
@@ -75,7 +142,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void debug(final String format, final Object... args) {
-        debug(String.format(format, args));
+        if (isDebugEnabled() && permit(format)) {
+            format(LogLevel.DEBUG, format, args, null);
+        }
     }
 
     /**
@@ -83,7 +152,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final String message) {
-        write("[ERROR]", message);
+        if (isErrorEnabled() && permit(null)) {
+            write(LogLevel.ERROR, message, null);
+        }
     }
 
     /**
@@ -91,7 +162,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final String format, final Object context) {
-        error(String.format(format, context));
+        if (isErrorEnabled() && permit(format)) {
+            format(LogLevel.ERROR, format, context, null);
+        }
     }
 
     /**
@@ -99,7 +172,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final String format, final Object arg1, final Object arg2) {
-        error(String.format(format, arg1, arg2));
+        if (isErrorEnabled() && permit(format)) {
+            format(LogLevel.ERROR, format, arg1, arg2, null);
+        }
     }
 
     /**
@@ -107,7 +182,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final String format, final Object... args) {
-        error(String.format(format, args));
+        if (isErrorEnabled() && permit(format)) {
+            format(LogLevel.ERROR, format, args, null);
+        }
     }
 
     /**
@@ -115,13 +192,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final Throwable throwable, final String message) {
-        error(message);
-
-        Optional.ofNullable(throwable)
-                .ifPresent(t -> {
-                    error(t.getMessage());
-                    t.printStackTrace(sink);
-                });
+        if (isErrorEnabled() && permit(null)) {
+            write(LogLevel.ERROR, message, throwable);
+        }
     }
 
     /**
@@ -129,13 +202,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final Throwable throwable, final String format, final Object context) {
-        error(format, context);
-
-        Optional.ofNullable(throwable)
-                .ifPresent(t -> {
-                    error(t.getMessage());
-                    t.printStackTrace(sink);
-                });
+        if (isErrorEnabled() && permit(format)) {
+            format(LogLevel.ERROR, format, context, throwable);
+        }
     }
 
     /**
@@ -143,13 +212,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final Throwable throwable, final String format, final Object arg1, final Object arg2) {
-        error(format, arg1, arg2);
-
-        Optional.ofNullable(throwable)
-                .ifPresent(t -> {
-                    error(t.getMessage());
-                    t.printStackTrace(sink);
-                });
+        if (isErrorEnabled() && permit(format)) {
+            format(LogLevel.ERROR, format, arg1, arg2, throwable);
+        }
     }
 
     /**
@@ -157,13 +222,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void error(final Throwable throwable, final String format, final Object... args) {
-        error(format, args);
-
-        Optional.ofNullable(throwable)
-                .ifPresent(t -> {
-                    error(t.getMessage());
-                    t.printStackTrace(sink);
-                });
+        if (isErrorEnabled() && permit(format)) {
+            format(LogLevel.ERROR, format, args, throwable);
+        }
     }
 
     /**
@@ -171,7 +232,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void info(final String message) {
-        write("[INFO]", message);
+        if (isInfoEnabled() && permit(null)) {
+            write(LogLevel.INFO, message, null);
+        }
     }
 
     /**
@@ -179,7 +242,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void info(final String format, final Object context) {
-        info(String.format(format, context));
+        if (isInfoEnabled() && permit(format)) {
+            format(LogLevel.INFO, format, context, null);
+        }
     }
 
     /**
@@ -187,7 +252,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void info(final String format, final Object arg1, final Object arg2) {
-        info(String.format(format, arg1, arg2));
+        if (isInfoEnabled() && permit(format)) {
+            format(LogLevel.INFO, format, arg1, arg2, null);
+        }
     }
 
     /**
@@ -195,7 +262,66 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void info(final String format, final Object... args) {
-        info(String.format(format, args));
+        if (isInfoEnabled() && permit(format)) {
+            format(LogLevel.INFO, format, args, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogLevel getLevel() {
+        return threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return LogLevel.ERROR.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return LogLevel.INFO.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return LogLevel.WARN.isAtLeast(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLevel(final LogLevel level) {
+        threshold = Optional.ofNullable(level)
+                            .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(getName()));
     }
 
     /**
@@ -203,7 +329,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void warn(final String message) {
-        write("[WARN]", message);
+        if (isWarnEnabled() && permit(null)) {
+            write(LogLevel.WARN, message, null);
+        }
     }
 
     /**
@@ -211,7 +339,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void warn(final String format, final Object context) {
-        warn(String.format(format, context));
+        if (isWarnEnabled() && permit(format)) {
+            format(LogLevel.WARN, format, context, null);
+        }
     }
 
     /**
@@ -219,7 +349,9 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void warn(final String format, final Object arg1, final Object arg2) {
-        warn(String.format(format, arg1, arg2));
+        if (isWarnEnabled() && permit(format)) {
+            format(LogLevel.WARN, format, arg1, arg2, null);
+        }
     }
 
     /**
@@ -227,29 +359,272 @@ abstract class PrintStreamLogger implements Logger {
      */
     @Override
     public void warn(final String format, final Object... args) {
-        warn(String.format(format, args));
+        if (isWarnEnabled() && permit(format)) {
+            format(LogLevel.WARN, format, args, null);
+        }
     }
 
     /**
-     * Writes a message to the print stream, adding a prefix to it.
+     * Appends the level of a message and the name of the logger to a buffer,
+     * as a prefix for a plain text message.
      *
-     * @param prefix The prefix to add to the message.
+     * @param text The buffer.
+     * @param level The level of the message.
+     */
+    private void appendPrefix(final StringBuilder text, final LogLevel level) {
+        // Add message level to the message.
+        text.append('[').append(level).append("] ");
+
+        // Add logger name, if available.
+        if (name != null) {
+            text.append('[').append(name).append("] ");
+        }
+    }
+
+    /**
+     * Writes a message to the print stream, formatting it with a single
+     * contextual value.
+     *
+     * @param level The level of the message.
+     * @param format The message format.
+     * @param arg The contextual value.
+     * @param throwable The exception that generated the message, if any.
+     */
+    private void format(final LogLevel level, final String format, final Object arg, final Throwable throwable) {
+        final MessageBuffer buffer = start(level);
+
+        try {
+            final int from = buffer.getText().length();
+
+            MessageFormatter.formatTo(buffer.getText(), format, arg);
+
+            finish(buffer, from, throwable);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes a message to the print stream, formatting it with two contextual
+     * values.
+     *
+     * @param level The level of the message.
+     * @param format The message format.
+     * @param arg1 The first contextual value.
+     * @param arg2 The second contextual value.
+     * @param throwable The exception that generated the message, if any.
+     */
+    private void format(final LogLevel level, final String format, final Object arg1, final Object arg2, final Throwable throwable) {
+        final MessageBuffer buffer = start(level);
+
+        try {
+            final int from = buffer.getText().length();
+
+            MessageFormatter.formatTo(buffer.getText(), format, arg1, arg2);
+
+            finish(buffer, from, throwable);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes a message to the print stream, formatting it with contextual
+     * values.
+     *
+     * @param level The level of the message.
+     * @param format The message format.
+     * @param args The contextual values.
+     * @param throwable The exception that generated the message, if any.
+     */
+    private void format(final LogLevel level, final String format, final Object[] args, final Throwable throwable) {
+        final MessageBuffer buffer = start(level);
+
+        try {
+            final int from = buffer.getText().length();
+
+            MessageFormatter.formatTo(buffer.getText(), format, args);
+
+            finish(buffer, from, throwable);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Terminates the message assembled in a buffer, adds the exception that
+     * generated it, if any, and writes it to the print stream, or to the log
+     * captured for the current thread, if any.
+     *
+     * @param buffer The buffer.
+     * @param from The position in the buffer at which the message starts.
+     * @param throwable The exception that generated the message, if any.
+     */
+    private void finish(final MessageBuffer buffer, final int from, final Throwable throwable) {
+        final CapturedLog capture = CapturedLog.current();
+
+        // Stack traces in captured output are always written in full, as the
+        // output may be discarded.
+        if (traces == null || capture != null || throwable == null) {
+            finish(buffer, from, throwable, capture, null);
+
+            return;
+        }
+
+        // Record the occurrence and write it while holding the lock of the
+        // stream, so that a reference to a stack trace is never written
+        // before the stack trace itself.
+        synchronized (sink) {
+            finish(buffer, from, throwable, null, traces.record(throwable));
+        }
+    }
+
+    /**
+     * Terminates the message assembled in a buffer, adds the exception that
+     * generated it, if any, and writes it to the print stream, or to the log
+     * captured for the current thread, if any.
+     *
+     * @param buffer The buffer.
+     * @param from The position in the buffer at which the message starts.
+     * @param throwable The exception that generated the message, if any.
+     * @param capture The log captured for the current thread, if any.
+     * @param occurrence The occurrence of the stack trace of the exception,
+     * or {@code null} if the stack trace must be written in full.
+     */
+    private void finish(final MessageBuffer buffer
+        , final int from
+        , final Throwable throwable
+        , final CapturedLog capture
+        , final StackTraceRegistry.Occurrence occurrence) {
+        final StringBuilder text = buffer.getText();
+
+        if (layout == LogFormat.JSON) {
+            JsonLogEncoder.end(text, from, throwable, occurrence);
+        }
+        else {
+            text.append(System.lineSeparator());
+
+            // Add the message of the exception, if any, as a message of its
+            // own, along with a reference to its stack trace.
+            if (throwable != null) {
+                appendPrefix(text, LogLevel.ERROR);
+
+                text.append(throwable.getMessage());
+
+                if (occurrence != null) {
+                    text.append(" (");
+                    occurrence.appendReference(text);
+                    text.append(')');
+                }
+
+                text.append(System.lineSeparator());
+            }
+        }
+
+        final boolean trace = layout != LogFormat.JSON
+                              && throwable != null
+                              && (occurrence == null || occurrence.isFull());
+
+        if (capture != null) {
+            if (trace) {
+                final StringWriter writer = new StringWriter();
+                throwable.printStackTrace(new PrintWriter(writer));
+
+                text.append(writer);
+            }
+
+            capture.append(sink, text);
+
+            return;
+        }
+
+        buffer.writeTo(sink);
+
+        if (trace) {
+            throwable.printStackTrace(sink);
+        }
+    }
+
+    /**
+     * Starts assembling a message, adding the level of the message and the
+     * name of the logger to it, along with the time, thread and test for
+     * structured messages.
+     *
+     * @param level The level of the message.
+     *
+     * @return A {@link MessageBuffer} holding the start of the message.
+     */
+    private MessageBuffer start(final LogLevel level) {
+        final MessageBuffer buffer = MessageBuffer.acquire();
+
+        if (layout == LogFormat.JSON) {
+            JsonLogEncoder.start(buffer.getText()
+                , System.currentTimeMillis()
+                , level
+                , name
+                , Thread.currentThread().getName()
+                , Reporter.getCurrentTestResult());
+        }
+        else {
+            appendPrefix(buffer.getText(), level);
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Writes a message to the print stream.
+     *
+     * @param level The level of the message.
      * @param message The message to write.
+     * @param throwable The exception that generated the message, if any.
      */
-    private void write(final String prefix, final String message) {
-        final StringJoiner buffer = new StringJoiner(" ");
+    private void write(final LogLevel level, final String message, final Throwable throwable) {
+        final MessageBuffer buffer = start(level);
 
-        // Add message prefix to the message.
-        buffer.add(prefix);
+        try {
+            final int from = buffer.getText().length();
 
-        // Add logger name, if available.
-        Optional.ofNullable(name)
-                .ifPresent(context -> buffer.add(String.format("[%s]", context)));
+            // Add the message.
+            buffer.getText().append(message);
+
+            finish(buffer, from, throwable);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Checks whether a message from a call site may be written, given the
+     * sample rate and rate limit configured for this logger, if any. A
+     * summary of the messages suppressed so far is written first, if due,
+     * as a warning whatever the level of the message, the same way summaries
+     * are written when a suite finishes.
+     *
+     * @param key The message format identifying the call site, or
+     * {@code null} for messages logged without a format.
+     *
+     * @return {@code true} if the message may be written.
+     */
+    private boolean permit(final String key) {
+        if (limiter == null) {
+            return true;
+        }
+
+        if (!limiter.permit(key)) {
+            return false;
+        }
+
+        final String summary = limiter.pollSummary();
 
-        // Add the message.
-        buffer.add(message);
+        if (summary != null) {
+            write(LogLevel.WARN, summary, null);
+        }
 
-        // Write the message.
-        sink.printf("%s%n", buffer);
+        return true;
     }
 }
@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.config.ConfigurationService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Keeps track of the stack traces written to a log output, so that each
+ * distinct stack trace is written in full only once per window of time. When
+ * a dependency shared by many tests fails, the same long stack trace would
+ * otherwise be written for every test, inflating log output and the time
+ * spent writing it.
+ * </p>
+ *
+ * <p>
+ * Exceptions are told apart by their types and stack frames, and those of
+ * their causes, ignoring their messages, which often differ from one
+ * occurrence to the next. Each distinct stack trace is given
+ * a number when first recorded. Later occurrences within the window are
+ * written as a short reference to that number instead, such as
+ * {@code (stack trace same as #17, seen 412 times)}, and a summary of all
+ * stack traces recorded can be written when the output is closed.
+ * </p>
+ *
+ * <p>
+ * The occurrence that writes a stack trace in full must be written before any
+ * other occurrence of the same stack trace is recorded, so that references
+ * never precede the stack trace they refer to. Loggers therefore record and
+ * write occurrences while holding the lock of their output.
+ * </p>
+ *
+ * <p>
+ * To bound memory usage, only a limited number of distinct stack traces are
+ * kept track of. Stack traces seen after that limit has been reached are
+ * always written in full.
+ * </p>
+ */
+final class StackTraceRegistry {
+    private static final String CONFIGURATION_PARAMETER_DEDUPLICATE = "infinitum.logging.stacktrace.deduplicate";
+
+    private static final String CONFIGURATION_PARAMETER_WINDOW = "infinitum.logging.stacktrace.window";
+
+    private static final int MAXIMUM_CAUSES = 32;
+
+    private static final int MAXIMUM_TRACES = 1024;
+
+    private final AtomicInteger count;
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<Fingerprint, Trace> traces;
+
+    private final long window;
+
+    /**
+     * Creates a registry.
+     *
+     * @param enabled Whether stack traces must be deduplicated at all.
+     * @param window The time after which a stack trace must be written in full
+     * again, in milliseconds, or {@code 0} to write each stack trace in full
+     * only once.
+     */
+    StackTraceRegistry(final boolean enabled, final long window) {
+        this.count = new AtomicInteger();
+        this.enabled = enabled;
+        this.traces = new ConcurrentHashMap<>();
+        this.window = window;
+    }
+
+    /**
+     * Creates a registry configured through the configuration parameters
+     * {@code infinitum.logging.stacktrace.deduplicate} and
+     * {@code infinitum.logging.stacktrace.window}, as described in
+     * {@link LoggingConfiguration}.
+     *
+     * @return A {@link StackTraceRegistry}.
+     */
+    static StackTraceRegistry create() {
+        final ConfigurationService configuration = LoggingConfiguration.getInstance().getConfigurationService();
+
+        return new StackTraceRegistry(Boolean.parseBoolean(configuration.getString(CONFIGURATION_PARAMETER_DEDUPLICATE, "true"))
+            , TimeUnit.MINUTES.toMillis(configuration.getLong(CONFIGURATION_PARAMETER_WINDOW, 60L)));
+    }
+
+    /**
+     * Appends a summary of all stack traces recorded so far to a buffer, as a
+     * table listing the number, the number of occurrences and the first
+     * exception seen for each stack trace, most frequent first.
+     *
+     * @param text The buffer.
+     */
+    void appendSummary(final StringBuilder text) {
+        text.append(String.format("%d distinct stack trace(s) logged:", traces.size()));
+
+        traces.values()
+              .stream()
+              .sorted(Comparator.comparingLong(Trace::getCount)
+                                .reversed()
+                                .thenComparingInt(Trace::getId))
+              .forEach(trace -> text.append(System.lineSeparator())
+                                    .append(String.format("#%-5d %8d  %s", trace.getId(), trace.getCount(), trace.getDescription())));
+    }
+
+    /**
+     * Checks whether any stack trace has been recorded.
+     *
+     * @return {@code true} if no stack trace has been recorded, {@code false}
+     * otherwise.
+     */
+    boolean isEmpty() {
+        return traces.isEmpty();
+    }
+
+    /**
+     * Records an occurrence of an exception that is about to be written.
+     *
+     * @param throwable The exception.
+     *
+     * @return An {@link Occurrence} telling whether the stack trace of the
+     * exception must be written in full or as a reference, or {@code null} if
+     * the stack trace is not kept track of and must be written in full as
+     * usual.
+     */
+    Occurrence record(final Throwable throwable) {
+        if (!enabled || throwable == null) {
+            return null;
+        }
+
+        final Fingerprint fingerprint = new Fingerprint(throwable);
+        final long now = System.currentTimeMillis();
+
+        Trace trace = traces.get(fingerprint);
+
+        if (trace == null) {
+            if (traces.size() >= MAXIMUM_TRACES) {
+                return null;
+            }
+
+            trace = traces.computeIfAbsent(fingerprint, key -> new Trace(count.incrementAndGet(), throwable.toString(), now));
+        }
+
+        final long seen = trace.occurrences.incrementAndGet();
+        final long printed = trace.printed.get();
+
+        final boolean full = seen == 1
+                             || (window > 0 && now - printed >= window && trace.printed.compareAndSet(printed, now));
+
+        return new Occurrence(trace.getId(), seen, full);
+    }
+
+    /**
+     * Writes a summary of all stack traces recorded so far through a logger,
+     * if any stack trace has been recorded.
+     *
+     * @param logger The logger.
+     */
+    void summarize(final Logger logger) {
+        if (isEmpty()) {
+            return;
+        }
+
+        final StringBuilder text = new StringBuilder();
+
+        appendSummary(text);
+
+        logger.info(text.toString());
+    }
+
+    /**
+     * The types and stack frames of an exception and its causes, which tell
+     * distinct stack traces apart.
+     */
+    private static final class Fingerprint {
+        private final StackTraceElement[][] frames;
+
+        private final int hash;
+
+        private final String[] types;
+
+        /**
+         * Creates the fingerprint of an exception.
+         *
+         * @param throwable The exception.
+         */
+        private Fingerprint(final Throwable throwable) {
+            final List<String> names = new ArrayList<>();
+            final List<StackTraceElement[]> stacks = new ArrayList<>();
+
+            long code = 17;
+
+            Throwable current = throwable;
+
+            for (int depth = 0; current != null && depth < MAXIMUM_CAUSES; ++depth) {
+                final StackTraceElement[] stack = current.getStackTrace();
+
+                names.add(current.getClass().getName());
+                stacks.add(stack);
+
+                code = 31 * code + current.getClass().getName().hashCode();
+
+                for (final StackTraceElement frame : stack) {
+                    code = 31 * code + frame.getClassName().hashCode();
+                    code = 31 * code + frame.getMethodName().hashCode();
+                    code = 31 * code + Objects.hashCode(frame.getFileName());
+                    code = 31 * code + frame.getLineNumber();
+                }
+
+                current = current.getCause();
+            }
+
+            this.frames = stacks.toArray(new StackTraceElement[0][]);
+            this.hash = Long.hashCode(code);
+            this.types = names.toArray(new String[0]);
+        }
+
+        /**
+         * Checks whether another fingerprint has the same types and stack
+         * frames, which fingerprints with the same hash code need not have.
+         *
+         * @param other The other fingerprint.
+         *
+         * @return {@code true} if the fingerprints are the same,
+         * {@code false} otherwise.
+         */
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof Fingerprint)) {
+                return false;
+            }
+
+            final Fingerprint that = (Fingerprint) other;
+
+            return hash == that.hash
+                   && Arrays.equals(types, that.types)
+                   && Arrays.deepEquals(frames, that.frames);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * An occurrence of a stack trace kept track of by a
+     * {@link StackTraceRegistry}.
+     */
+    static final class Occurrence {
+        private final boolean full;
+
+        private final int id;
+
+        private final long seen;
+
+        /**
+         * Creates an occurrence.
+         *
+         * @param id The number of the stack trace.
+         * @param seen The number of times the stack trace has been seen,
+         * including this occurrence.
+         * @param full Whether the stack trace must be written in full.
+         */
+        Occurrence(final int id, final long seen, final boolean full) {
+            this.full = full;
+            this.id = id;
+            this.seen = seen;
+        }
+
+        /**
+         * Appends a reference to the stack trace to a buffer, such as
+         * {@code stack trace #17} for an occurrence written in full, or
+         * {@code stack trace same as #17, seen 412 times} otherwise.
+         *
+         * @param text The buffer.
+         */
+        void appendReference(final StringBuilder text) {
+            if (full) {
+                text.append("stack trace #").append(id);
+            }
+            else {
+                text.append("stack trace same as #").append(id).append(", seen ").append(seen).append(" times");
+            }
+        }
+
+        /**
+         * Gets the number of the stack trace.
+         *
+         * @return The number of the stack trace.
+         */
+        int getId() {
+            return id;
+        }
+
+        /**
+         * Gets a reference to the stack trace, as appended by
+         * {@link #appendReference(StringBuilder)}.
+         *
+         * @return The reference.
+         */
+        String getReference() {
+            final StringBuilder text = new StringBuilder();
+
+            appendReference(text);
+
+            return text.toString();
+        }
+
+        /**
+         * Gets the number of times the stack trace has been seen, including
+         * this occurrence.
+         *
+         * @return The number of times the stack trace has been seen.
+         */
+        long getSeen() {
+            return seen;
+        }
+
+        /**
+         * Checks whether the stack trace must be written in full, as it has
+         * not been written within the window yet.
+         *
+         * @return {@code true} if the stack trace must be written in full,
+         * {@code false} if a reference to it must be written instead.
+         */
+        boolean isFull() {
+            return full;
+        }
+    }
+
+    /**
+     * A distinct stack trace.
+     */
+    private static final class Trace {
+        private final String description;
+
+        private final int id;
+
+        private final AtomicLong occurrences;
+
+        private final AtomicLong printed;
+
+        /**
+         * Creates a stack trace seen for the first time.
+         *
+         * @param id The number of the stack trace.
+         * @param description A description of the first exception seen with
+         * the stack trace.
+         * @param printed The time at which the stack trace was written in
+         * full.
+         */
+        private Trace(final int id, final String description, final long printed) {
+            this.description = description;
+            this.id = id;
+            this.occurrences = new AtomicLong();
+            this.printed = new AtomicLong(printed);
+        }
+
+        /**
+         * Gets the number of times the stack trace has been seen.
+         *
+         * @return The number of times the stack trace has been seen.
+         */
+        private long getCount() {
+            return occurrences.get();
+        }
+
+        /**
+         * Gets a description of the first exception seen with the stack
+         * trace.
+         *
+         * @return The description.
+         */
+        private String getDescription() {
+            return description;
+        }
+
+        /**
+         * Gets the number of the stack trace.
+         *
+         * @return The number of the stack trace.
+         */
+        private int getId() {
+            return id;
+        }
+    }
+}
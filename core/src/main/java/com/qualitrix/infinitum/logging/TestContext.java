@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>
+ * Describes the test running on a thread: the name of the test, the index of
+ * the row of data with which the test runs, if it is data-driven, the device
+ * on which it runs, if known, and the attempt at running it, starting at
+ * {@code 1}. A context is bound to the thread running a test by
+ * {@link TestContextListener} when the test starts, and unbound when it
+ * finishes.
+ * </p>
+ *
+ * <p>
+ * {@link TestContextObserver}s registered through the Java
+ * {@link ServiceLoader} mechanism are notified whenever a context is bound to,
+ * or unbound from, a thread, so that logging services can attach the context
+ * to the messages written by the thread once per test, rather than look it up
+ * for each message.
+ * </p>
+ *
+ * <p>
+ * Threads created by Infinitum to run work on behalf of a test, for instance
+ * to read data in the background, carry the context of the thread that
+ * submitted the work, through {@link #propagate(Runnable)} and
+ * {@link #propagate(Callable)}. Contexts are immutable.
+ * </p>
+ */
+public final class TestContext {
+    /**
+     * The key under which the attempt at running a test is exposed by
+     * {@link #toMap()}.
+     */
+    public static final String KEY_ATTEMPT = "attempt";
+
+    /**
+     * The key under which the device on which a test runs is exposed by
+     * {@link #toMap()}.
+     */
+    public static final String KEY_DEVICE = "device";
+
+    /**
+     * The key under which the index of the row of data with which a test runs
+     * is exposed by {@link #toMap()}.
+     */
+    public static final String KEY_ROW = "row";
+
+    /**
+     * The key under which the name of a test is exposed by {@link #toMap()}.
+     */
+    public static final String KEY_TEST = "test";
+
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+
+    private static final List<TestContextObserver> OBSERVERS = new CopyOnWriteArrayList<>();
+
+    static {
+        ServiceLoader.load(TestContextObserver.class).forEach(OBSERVERS::add);
+    }
+
+    private final int attempt;
+
+    private final String device;
+
+    private final Integer row;
+
+    private final String test;
+
+    /**
+     * Creates a context for a test.
+     *
+     * @param test The name of the test.
+     * @param row The index of the row of data with which the test runs, or
+     * {@code null} if the test is not data-driven.
+     * @param device The device on which the test runs, or {@code null} if not
+     * known.
+     * @param attempt The attempt at running the test, starting at {@code 1}.
+     */
+    public TestContext(final String test, final Integer row, final String device, final int attempt) {
+        this.attempt = attempt;
+        this.device = device;
+        this.row = row;
+        this.test = test;
+    }
+
+    /**
+     * Assigns a device to the context bound to the current thread, rebinding
+     * the context so that observers see the device. Has no effect if no
+     * context is bound to the current thread.
+     *
+     * @param device The device on which the current test runs.
+     */
+    public static void assignDevice(final String device) {
+        final TestContext context = CURRENT.get();
+
+        if (context != null) {
+            bind(new TestContext(context.test, context.row, device, context.attempt));
+        }
+    }
+
+    /**
+     * Binds a context to the current thread, replacing any context bound to it
+     * already, and notifies observers.
+     *
+     * @param context The context to bind.
+     */
+    public static void bind(final TestContext context) {
+        CURRENT.set(context);
+
+        OBSERVERS.forEach(observer -> observer.onBind(context));
+    }
+
+    /**
+     * Gets the context bound to the current thread.
+     *
+     * @return The context of the test running on the current thread, or
+     * {@code null} if no test is running on it.
+     */
+    public static TestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps a task so that it runs with the context bound to the current
+     * thread at the time of wrapping, whichever thread it eventually runs on.
+     * The context previously bound to the thread running the task is restored
+     * once the task completes.
+     *
+     * @param task The task to wrap.
+     *
+     * @return The task itself if no context is bound to the current thread,
+     * or a wrapper around it otherwise.
+     */
+    public static Runnable propagate(final Runnable task) {
+        final TestContext context = CURRENT.get();
+
+        if (context == null) {
+            return task;
+        }
+
+        return () -> {
+            final TestContext previous = CURRENT.get();
+
+            bind(context);
+
+            try {
+                task.run();
+            }
+            finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so that it runs with the context bound to the current
+     * thread at the time of wrapping, whichever thread it eventually runs on.
+     * The context previously bound to the thread running the task is restored
+     * once the task completes.
+     *
+     * @param task The task to wrap.
+     * @param <T> The type of result of the task.
+     *
+     * @return The task itself if no context is bound to the current thread,
+     * or a wrapper around it otherwise.
+     */
+    public static <T> Callable<T> propagate(final Callable<T> task) {
+        final TestContext context = CURRENT.get();
+
+        if (context == null) {
+            return task;
+        }
+
+        return () -> {
+            final TestContext previous = CURRENT.get();
+
+            bind(context);
+
+            try {
+                return task.call();
+            }
+            finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Unbinds the context bound to the current thread, if any, and notifies
+     * observers.
+     */
+    public static void unbind() {
+        final TestContext context = CURRENT.get();
+
+        if (context != null) {
+            CURRENT.remove();
+
+            OBSERVERS.forEach(observer -> observer.onUnbind(context));
+        }
+    }
+
+    /**
+     * Gets the attempt at running the test.
+     *
+     * @return The attempt, starting at {@code 1}.
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * Gets the device on which the test runs.
+     *
+     * @return The device, or {@code null} if not known.
+     */
+    public String getDevice() {
+        return device;
+    }
+
+    /**
+     * Gets the index of the row of data with which the test runs.
+     *
+     * @return The index, or {@code null} if the test is not data-driven.
+     */
+    public Integer getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the name of the test.
+     *
+     * @return The name of the test.
+     */
+    public String getTest() {
+        return test;
+    }
+
+    /**
+     * Gets the values of this context that are known, keyed by
+     * {@link #KEY_TEST}, {@link #KEY_ROW}, {@link #KEY_DEVICE} and
+     * {@link #KEY_ATTEMPT}.
+     *
+     * @return A {@link Map}.
+     */
+    public Map<String, String> toMap() {
+        final Map<String, String> values = new LinkedHashMap<>();
+
+        values.put(KEY_TEST, test);
+
+        if (row != null) {
+            values.put(KEY_ROW, row.toString());
+        }
+
+        if (device != null) {
+            values.put(KEY_DEVICE, device);
+        }
+
+        values.put(KEY_ATTEMPT, Integer.toString(attempt));
+
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * Binds a context to the current thread again after a task has run on it,
+     * or unbinds the context of the task if none was bound before.
+     *
+     * @param previous The context bound to the current thread before the task
+     * ran, or {@code null}.
+     */
+    private static void restore(final TestContext previous) {
+        if (previous == null) {
+            unbind();
+        }
+        else {
+            bind(previous);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Binds a {@link TestContext} to the thread running each test when the test
+ * starts, and unbinds it when the test finishes, whatever the outcome.
+ * </p>
+ *
+ * <p>
+ * The test is named after its class and method. The index of the row of data
+ * is known for tests run with a data provider only. TestNG only exposes it
+ * through its internal {@code TestResult} class, which is therefore looked up
+ * when the listener is loaded, rather than linked against, so that the row
+ * is simply left unknown with versions of TestNG that do not provide it. The
+ * device is taken from the {@code device} parameter of the {@code <test>} in
+ * the TestNG suite, if any, and can be assigned while the test runs through
+ * {@link TestContext#assignDevice(String)}. Attempts are counted per
+ * {@code <test>}, test and row of data, so that a test that is run again, for
+ * instance by a retry analyzer, gets the next attempt, and are forgotten when
+ * the {@code <test>} finishes, even though other {@code <test>} elements may
+ * still be running in parallel.
+ * </p>
+ */
+public class TestContextListener implements ITestListener {
+    private static final String PARAMETER_DEVICE = "device";
+
+    private static final String TEST_RESULT = "org.testng.internal.TestResult";
+
+    private static final MethodHandle PARAMETER_INDEX = findParameterIndex();
+
+    private final Map<ITestContext, Map<String, AtomicInteger>> attempts = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> attemptsWithoutContext = new ConcurrentHashMap<>();
+
+    /**
+     * Finds the method through which TestNG exposes the index of the row of
+     * data of a test.
+     *
+     * @return A {@link MethodHandle} for the method, accepting an
+     * {@link ITestResult}, or {@code null} if the method is not available.
+     */
+    private static MethodHandle findParameterIndex() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(Class.forName(TEST_RESULT), "getParameterIndex", MethodType.methodType(int.class))
+                                .asType(MethodType.methodType(int.class, ITestResult.class));
+        }
+        catch (final ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the attempts counted for the tests of a TestNG context.
+     *
+     * @param context The TestNG context, or {@code null} if not known.
+     *
+     * @return The number of attempts of each test and row of data.
+     */
+    private Map<String, AtomicInteger> getAttempts(final ITestContext context) {
+        return context == null
+               ? attemptsWithoutContext
+               : attempts.computeIfAbsent(context, key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Gets the index of the row of data with which a test is run.
+     *
+     * @param result The result of the test.
+     *
+     * @return The index of the row of data, or {@code null} if the test is
+     * not run with a data provider or the index is not known.
+     */
+    private static Integer getRow(final ITestResult result) {
+        if (PARAMETER_INDEX == null
+            || result.getParameters().length == 0
+            || !TEST_RESULT.equals(result.getClass().getName())) {
+            return null;
+        }
+
+        try {
+            return (int) PARAMETER_INDEX.invokeExact(result);
+        }
+        catch (final RuntimeException | Error e) {
+            throw e;
+        }
+        catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Forgets the attempts counted for the tests of a TestNG context that has
+     * finished, leaving those of other contexts running in parallel alone.
+     *
+     * @param context The TestNG context of the tests.
+     */
+    @Override
+    public void onFinish(final ITestContext context) {
+        if (context == null) {
+            attemptsWithoutContext.clear();
+        }
+        else {
+            attempts.remove(context);
+        }
+    }
+
+    /**
+     * Unbinds the context of a test that has failed, but within its success
+     * percentage.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(final ITestResult result) {
+        TestContext.unbind();
+    }
+
+    /**
+     * Unbinds the context of a test that has failed.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestFailure(final ITestResult result) {
+        TestContext.unbind();
+    }
+
+    /**
+     * Unbinds the context of a test that has been skipped.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestSkipped(final ITestResult result) {
+        TestContext.unbind();
+    }
+
+    /**
+     * Binds the context of a test that is starting to the current thread.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestStart(final ITestResult result) {
+        final String test = String.format("%s.%s", result.getTestClass().getName(), result.getMethod().getMethodName());
+        final Integer row = getRow(result);
+        final String device = result.getTestContext() == null || result.getTestContext().getCurrentXmlTest() == null
+                              ? null
+                              : result.getTestContext().getCurrentXmlTest().getParameter(PARAMETER_DEVICE);
+        final int attempt = getAttempts(result.getTestContext()).computeIfAbsent(row == null
+                                                                                 ? test
+                                                                                 : test + "#" + row, key -> new AtomicInteger())
+                                                                .incrementAndGet();
+
+        TestContext.bind(new TestContext(test, row, device, attempt));
+    }
+
+    /**
+     * Unbinds the context of a test that has passed.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestSuccess(final ITestResult result) {
+        TestContext.unbind();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.config.ConfigurationService;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * <p>
+ * Captures the log output of each test while the test runs, and writes it out
+ * only if the test fails, so that the log holds the output of failed tests
+ * only, each in one piece, rather than output of all tests interleaved.
+ * </p>
+ *
+ * <p>
+ * Log output is captured in a {@link CapturedLog} bound to the thread running
+ * the test, from the moment the test starts until it finishes, by the loggers
+ * of {@link ConsoleLoggingService}, {@link AsyncLoggingService} and
+ * {@link FileLoggingService}. Logging services writing through a logging
+ * framework are not affected. When a test fails, its captured output is
+ * written where it would have been written in the first place, and added to
+ * the output of the test in TestNG reports through {@link Reporter}. The
+ * captured output of tests that pass or are skipped is discarded.
+ * </p>
+ *
+ * <p>
+ * Capturing is disabled by default, and can be enabled by setting the
+ * configuration parameter {@code infinitum.logging.capture.enabled} to
+ * {@code true}. The output captured for a test is limited to
+ * {@code infinitum.logging.capture.size} characters, 64 K by default, beyond
+ * which the oldest messages are discarded.
+ * </p>
+ */
+public class TestLogCaptureListener implements ITestListener {
+    private static final String CONFIGURATION_PARAMETER_ENABLED = "infinitum.logging.capture.enabled";
+
+    private static final String CONFIGURATION_PARAMETER_SIZE = "infinitum.logging.capture.size";
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(TestLogCaptureListener.class);
+
+    private final int capacity;
+
+    private final boolean enabled;
+
+    /**
+     * Creates a listener configured through application configuration.
+     */
+    public TestLogCaptureListener() {
+        final ConfigurationService configuration = LoggingConfiguration.getInstance().getConfigurationService();
+
+        this.capacity = configuration.getInteger(CONFIGURATION_PARAMETER_SIZE, 64 * 1024);
+        this.enabled = configuration.getBoolean(CONFIGURATION_PARAMETER_ENABLED);
+    }
+
+    /**
+     * Creates a listener with specific settings.
+     *
+     * @param enabled Whether log output must be captured.
+     * @param capacity The maximum number of characters to capture per test.
+     */
+    TestLogCaptureListener(final boolean enabled, final int capacity) {
+        this.capacity = capacity;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Writes out the log output captured for a test that has failed, but
+     * within its success percentage.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(final ITestResult result) {
+        writeOut(result);
+    }
+
+    /**
+     * Writes out the log output captured for a test that has failed.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestFailure(final ITestResult result) {
+        writeOut(result);
+    }
+
+    /**
+     * Discards the log output captured for a test that has been skipped.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestSkipped(final ITestResult result) {
+        CapturedLog.stop();
+    }
+
+    /**
+     * Starts capturing log output for a test, if enabled.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestStart(final ITestResult result) {
+        if (enabled) {
+            CapturedLog.start(capacity);
+        }
+    }
+
+    /**
+     * Discards the log output captured for a test that has passed.
+     *
+     * @param result The result of the test.
+     */
+    @Override
+    public void onTestSuccess(final ITestResult result) {
+        CapturedLog.stop();
+    }
+
+    /**
+     * Stops capturing log output for a test that has failed, and writes the
+     * captured output to the log and to the output of the test in reports.
+     *
+     * @param result The result of the test.
+     */
+    private void writeOut(final ITestResult result) {
+        final CapturedLog log = CapturedLog.stop();
+
+        if (log == null || log.isEmpty()) {
+            return;
+        }
+
+        final String test = String.format("%s.%s", result.getTestClass().getName(), result.getMethod().getMethodName());
+
+        if (log.getDiscarded() > 0) {
+            LOGGER.info("Log of failed test [%s] follows, without the %d oldest messages.", test, log.getDiscarded());
+        }
+        else {
+            LOGGER.info("Log of failed test [%s] follows.", test);
+        }
+
+        log.writeOut();
+
+        // Make sure that the output is added to the failed test, whichever
+        // test TestNG considers current at this point.
+        final ITestResult current = Reporter.getCurrentTestResult();
+
+        Reporter.setCurrentTestResult(result);
+
+        try {
+            log.forEach(text -> Reporter.log(text.trim()));
+        }
+        finally {
+            Reporter.setCurrentTestResult(current);
+        }
+    }
+}
@@ -49,8 +49,8 @@ public final class NotificationServiceLocator
         LoggingServiceLocator.getInstance()
                              .getLoggingService()
                              .getLogger(NotificationServiceLocator.class)
-                             .debug(String.format("%s selected as NotificationService."
-                                 , service.getClass().getName()));
+                             .debug("{} selected as NotificationService."
+                                 , service.getClass().getName());
     }
 
     /**
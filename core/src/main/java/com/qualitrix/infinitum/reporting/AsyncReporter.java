@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import java.util.function.Supplier;
+
+/**
+ * Reports on a test through a {@link ReportDispatcher}, turning every call
+ * into an event that is applied to the actual reporter on the dedicated
+ * thread of the dispatcher. Messages are formatted from their arguments on
+ * the calling thread, so that arguments that change afterwards do not affect
+ * the message. The actual reporter is itself obtained on the dedicated
+ * thread, when the first event is applied, since creating it may involve the
+ * shared structures of the reporting backend as well.
+ */
+final class AsyncReporter implements Reporter {
+    private final Supplier<Reporter> factory;
+
+    private final ReportDispatcher dispatcher;
+
+    private Reporter delegate;
+
+    /**
+     * Creates a reporter.
+     *
+     * @param dispatcher The dispatcher through which events must be applied.
+     * @param factory Supplies the actual reporter.
+     */
+    AsyncReporter(final ReportDispatcher dispatcher, final Supplier<Reporter> factory) {
+        this.dispatcher = dispatcher;
+        this.factory = factory;
+
+        dispatcher.dispatch(this::getDelegate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter assignCategory(final String category) {
+        dispatcher.dispatch(() -> getDelegate().assignCategory(category));
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter assignDevice(final String device) {
+        dispatcher.dispatch(() -> getDelegate().assignDevice(device));
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String message) {
+        dispatcher.dispatch(() -> getDelegate().error(message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fail(final String message) {
+        dispatcher.dispatch(() -> getDelegate().fail(message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String message) {
+        dispatcher.dispatch(() -> getDelegate().info(message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pass(final String message) {
+        dispatcher.dispatch(() -> getDelegate().pass(message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void step(final String name, final long duration) {
+        dispatcher.dispatch(() -> getDelegate().step(name, duration));
+    }
+
+    /**
+     * Gets the actual reporter, obtaining it on first use. Only called on the
+     * dedicated thread of the dispatcher, or on the calling thread once the
+     * dispatcher has been closed.
+     *
+     * @return A {@link Reporter}.
+     */
+    private synchronized Reporter getDelegate() {
+        if (delegate == null) {
+            delegate = factory.get();
+        }
+
+        return delegate;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.annotation.Author;
+import com.qualitrix.infinitum.config.ConfigurationServiceLocator;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Decorates a {@link ReportingService} so that tests do not wait for the
+ * reporting backend. Every call to a {@link Reporter} obtained from this
+ * service, including obtaining the actual reporter from the decorated
+ * service, becomes an event on a lock-free queue, which is applied to the
+ * actual reporter on a dedicated background thread, see
+ * {@link ReportDispatcher}. The events of each test are applied in the order
+ * in which they were reported.
+ * </p>
+ *
+ * <p>
+ * Reporting asynchronously is disabled by default, and can be enabled by
+ * setting the configuration parameter {@code infinitum.reporting.async.enabled}
+ * to {@code true}, in which case {@link ReportingServiceLocator} decorates the
+ * reporting service it selects. Events still in the queue are applied when a
+ * suite finishes, see {@link AsyncReportingListener}, and when the JVM shuts
+ * down. The configuration parameter
+ * {@code infinitum.reporting.async.flush.timeout} sets the maximum time to
+ * wait for them when a suite finishes, in seconds, 30 by default.
+ * </p>
+ */
+public final class AsyncReportingService implements ReportingService {
+    private static final String CONFIGURATION_PARAMETER_FLUSH_TIMEOUT = "infinitum.reporting.async.flush.timeout";
+
+    private static final Set<AsyncReportingService> INSTANCES = new CopyOnWriteArraySet<>();
+
+    private final ReportingService delegate;
+
+    private final ReportDispatcher dispatcher;
+
+    /**
+     * Creates a reporting service and starts the dedicated thread on which
+     * events are applied.
+     *
+     * @param delegate The reporting service to decorate.
+     */
+    AsyncReportingService(final ReportingService delegate) {
+        this.delegate = delegate;
+        this.dispatcher = new ReportDispatcher();
+
+        INSTANCES.add(this);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "infinitum-reporting-shutdown"));
+    }
+
+    /**
+     * Waits until the events reported so far through all asynchronous
+     * reporting services have been applied, for the time set through the
+     * configuration parameter {@code infinitum.reporting.async.flush.timeout}
+     * at most.
+     *
+     * @return {@code true} if all events have been applied, {@code false} if
+     * the time elapsed first.
+     */
+    public static boolean flushAll() {
+        final long timeout = TimeUnit.SECONDS.toNanos(ConfigurationServiceLocator.getInstance()
+                                                                                 .getConfigurationService()
+                                                                                 .getInteger(CONFIGURATION_PARAMETER_FLUSH_TIMEOUT, 30));
+        final long deadline = System.nanoTime() + timeout;
+
+        boolean flushed = true;
+
+        for (final AsyncReportingService service : INSTANCES) {
+            flushed &= service.flush(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        return flushed;
+    }
+
+    /**
+     * Applies all events reported so far and stops the dedicated thread.
+     * Events reported afterwards are applied directly. The service remains
+     * known to {@link #flushAll()} until all events have been applied, so
+     * that other shutdown hooks flushing reports, which may run at the same
+     * time, wait for them.
+     */
+    public void close() {
+        if (dispatcher.close()) {
+            INSTANCES.remove(this);
+        }
+    }
+
+    /**
+     * Waits until the events reported so far through this service have been
+     * applied.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return {@code true} if all events have been applied, {@code false} if
+     * the timeout elapsed first.
+     */
+    public boolean flush(final long timeout, final TimeUnit unit) {
+        return dispatcher.flush(timeout, unit);
+    }
+
+    /**
+     * Gets the priority of the decorated service.
+     *
+     * @return The priority of the decorated service.
+     */
+    @Override
+    public int getPriority() {
+        return delegate.getPriority();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter getReporter(final Test test, final Author author) {
+        return new AsyncReporter(dispatcher, () -> delegate.getReporter(test, author));
+    }
+
+    /**
+     * Checks whether the decorated service is available.
+     *
+     * @return {@code true} if the decorated service is available,
+     * {@code false} otherwise.
+     */
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Counts durations in buckets whose width grows with the duration, so that
+ * percentiles of any number of durations can be estimated in constant memory,
+ * to within about 3% of the actual durations. Durations below 32 ns are
+ * counted exactly, and every power of two above is split into 32 buckets of
+ * equal width.
+ * </p>
+ *
+ * <p>
+ * Histograms can be merged, for instance to combine the durations measured
+ * in several test runs, and can be updated by several threads at once
+ * without locking.
+ * </p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLong count;
+
+    private final AtomicLongArray counts;
+
+    private final AtomicLong maximum;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.count = new AtomicLong();
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.maximum = new AtomicLong();
+    }
+
+    /**
+     * Gets the number of durations counted.
+     *
+     * @return The number of durations counted.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the longest duration counted.
+     *
+     * @return The longest duration counted, in nanoseconds, or {@code 0} if
+     * no duration has been counted.
+     */
+    public long getMaximum() {
+        return maximum.get();
+    }
+
+    /**
+     * Estimates a percentile of the durations counted, such as the median
+     * for {@code 50}, as the upper bound of the bucket in which it falls,
+     * but no longer than the longest duration counted.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 100}.
+     *
+     * @return The estimated percentile, in nanoseconds, or {@code 0} if no
+     * duration has been counted.
+     */
+    public long getPercentile(final double percentile) {
+        final long total = count.get();
+
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += counts.get(i);
+
+            if (seen >= rank) {
+                return Math.min(getUpperBound(i), maximum.get());
+            }
+        }
+
+        // Durations were counted while counting buckets.
+        return maximum.get();
+    }
+
+    /**
+     * Adds the durations counted by another histogram to this one.
+     *
+     * @param other The other histogram.
+     */
+    public void merge(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; ++i) {
+            final long value = other.counts.get(i);
+
+            if (value != 0) {
+                counts.addAndGet(i, value);
+            }
+        }
+
+        count.addAndGet(other.count.get());
+        maximum.accumulateAndGet(other.maximum.get(), Math::max);
+    }
+
+    /**
+     * Counts a duration.
+     *
+     * @param duration The duration, in nanoseconds. Negative durations are
+     * counted as {@code 0}.
+     */
+    public void record(final long duration) {
+        final long value = Math.max(0, duration);
+
+        counts.incrementAndGet(getBucket(value));
+        count.incrementAndGet();
+        maximum.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Gets the bucket in which a duration is counted.
+     *
+     * @param duration The duration, not negative.
+     *
+     * @return The index of the bucket.
+     */
+    private static int getBucket(final long duration) {
+        if (duration < SUB_BUCKETS) {
+            return (int) duration;
+        }
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(duration);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS
+            + (int) ((duration >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Gets the longest duration counted in a bucket.
+     *
+     * @param bucket The index of the bucket.
+     *
+     * @return The longest duration counted in the bucket.
+     */
+    private static long getUpperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        final int shift = bucket / SUB_BUCKETS - 1;
+
+        return ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift) + (1L << shift) - 1;
+    }
+}
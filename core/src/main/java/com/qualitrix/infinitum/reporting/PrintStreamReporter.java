@@ -21,16 +21,20 @@
 package com.qualitrix.infinitum.reporting;
 
 import com.qualitrix.infinitum.annotation.Author;
+import com.qualitrix.infinitum.util.MessageBuffer;
+import com.qualitrix.infinitum.util.MessageFormatter;
 import org.testng.annotations.Test;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
-import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Writes reporting messages to a {@link PrintStream}.
+ * Writes reporting messages to a {@link PrintStream}. Messages are formatted
+ * by {@link MessageFormatter} into a {@link MessageBuffer} reused by the
+ * calling thread, and written to the stream from there.
  */
 abstract class PrintStreamReporter implements Reporter {
     private final Collection<String> context;
@@ -94,6 +98,57 @@ abstract class PrintStreamReporter implements Reporter {
         write("[ERROR]", message);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object context) {
+        final MessageBuffer buffer = start("[ERROR]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, context);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object arg1, final Object arg2) {
+        final MessageBuffer buffer = start("[ERROR]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, arg1, arg2);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String format, final Object... args) {
+        final MessageBuffer buffer = start("[ERROR]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, args);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -102,6 +157,57 @@ abstract class PrintStreamReporter implements Reporter {
         write("[FAIL]", message);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fail(final String format, final Object context) {
+        final MessageBuffer buffer = start("[FAIL]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, context);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fail(final String format, final Object arg1, final Object arg2) {
+        final MessageBuffer buffer = start("[FAIL]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, arg1, arg2);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fail(final String format, final Object... args) {
+        final MessageBuffer buffer = start("[FAIL]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, args);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -110,6 +216,57 @@ abstract class PrintStreamReporter implements Reporter {
         write("[INFO]", message);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object context) {
+        final MessageBuffer buffer = start("[INFO]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, context);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object arg1, final Object arg2) {
+        final MessageBuffer buffer = start("[INFO]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, arg1, arg2);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String format, final Object... args) {
+        final MessageBuffer buffer = start("[INFO]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, args);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -119,32 +276,152 @@ abstract class PrintStreamReporter implements Reporter {
     }
 
     /**
-     * Writes a message to the print stream, adding a prefix to it.
+     * {@inheritDoc}
+     */
+    @Override
+    public void pass(final String format, final Object context) {
+        final MessageBuffer buffer = start("[PASS]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, context);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pass(final String format, final Object arg1, final Object arg2) {
+        final MessageBuffer buffer = start("[PASS]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, arg1, arg2);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pass(final String format, final Object... args) {
+        final MessageBuffer buffer = start("[PASS]");
+
+        try {
+            MessageFormatter.formatTo(buffer.getText(), format, args);
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes a step that has completed to the print stream, as
+     * {@code [STEP] ... <name> completed in <duration> ms}, with the duration
+     * in milliseconds, to the microsecond.
+     *
+     * @param name The name of the step.
+     * @param duration The time the step took, in nanoseconds.
+     */
+    @Override
+    public void step(final String name, final long duration) {
+        final MessageBuffer buffer = start("[STEP]");
+
+        try {
+            final long micros = TimeUnit.NANOSECONDS.toMicros(duration);
+            final long fraction = micros % 1000;
+
+            buffer.getText()
+                  .append(name)
+                  .append(" completed in ")
+                  .append(micros / 1000)
+                  .append('.')
+                  .append(fraction < 100
+                          ? fraction < 10
+                            ? "00"
+                            : "0"
+                          : "")
+                  .append(fraction)
+                  .append(" ms");
+
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Terminates the message assembled in a buffer and writes it to the print
+     * stream.
+     *
+     * @param buffer The buffer.
+     */
+    private void finish(final MessageBuffer buffer) {
+        buffer.getText().append(System.lineSeparator());
+        buffer.writeTo(sink);
+    }
+
+    /**
+     * Starts assembling a message, adding a prefix and any contextual
+     * information available to it.
      *
      * @param prefix The prefix to add to the message.
-     * @param message The message to write.
+     *
+     * @return A {@link MessageBuffer} holding the start of the message.
      */
-    private void write(final String prefix, final String message) {
-        final StringJoiner buffer = new StringJoiner(" ");
+    private MessageBuffer start(final String prefix) {
+        final MessageBuffer buffer = MessageBuffer.acquire();
+        final StringBuilder text = buffer.getText();
 
         // Add message prefix to the message.
-        buffer.add(prefix);
+        text.append(prefix).append(' ');
 
         // Add any contextual information available to the message.
-        context.stream()
-               .map(value -> String.format("[%s]", value))
-               .forEach(buffer::add);
+        for (final String value : context) {
+            text.append('[').append(value).append("] ");
+        }
 
         // Add additional context, if available.
-        Optional.ofNullable(category)
-                .ifPresent(buffer::add);
-        Optional.ofNullable(device)
-                .ifPresent(buffer::add);
+        if (category != null) {
+            text.append(category).append(' ');
+        }
+
+        if (device != null) {
+            text.append(device).append(' ');
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Writes a message to the print stream, adding a prefix to it.
+     *
+     * @param prefix The prefix to add to the message.
+     * @param message The message to write.
+     */
+    private void write(final String prefix, final String message) {
+        final MessageBuffer buffer = start(prefix);
 
-        // Add the message.
-        buffer.add(message);
+        try {
+            // Add the message.
+            buffer.getText().append(message);
 
-        // Write the message.
-        sink.printf("%s%n", buffer);
+            finish(buffer);
+        }
+        finally {
+            buffer.release();
+        }
     }
 }
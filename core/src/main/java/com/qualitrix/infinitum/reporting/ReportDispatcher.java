@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Applies reporting events to reporting backends on a dedicated daemon
+ * thread. Threads reporting on tests only add events to a lock-free queue,
+ * while the dedicated thread takes events from the queue in batches and
+ * applies them one after the other. Since there is a single dedicated thread,
+ * events are applied in the order in which they were added, so that the
+ * events of each test are applied in the order in which they were reported,
+ * and the backend is never called by more than one thread at a time.
+ * </p>
+ *
+ * <p>
+ * {@link #flush(long, TimeUnit)} waits until all events added so far have been
+ * applied. Once {@link #close()} has been called, all events in the queue are
+ * applied and the dedicated thread stops. Events added afterwards are applied
+ * on the calling thread directly.
+ * </p>
+ *
+ * <p>
+ * Events that fail are logged and otherwise ignored, so that a failure to
+ * report on one test does not prevent reporting on others.
+ * </p>
+ */
+final class ReportDispatcher {
+    private static final int BATCH_SIZE = 256;
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(ReportDispatcher.class);
+
+    private final Thread consumer;
+
+    private final Queue<Runnable> events;
+
+    private volatile boolean idle;
+
+    private volatile boolean running;
+
+    /**
+     * Creates a dispatcher and starts its dedicated thread.
+     */
+    ReportDispatcher() {
+        this.events = new ConcurrentLinkedQueue<>();
+        this.running = true;
+
+        this.consumer = new Thread(this::run, "infinitum-reporting-" + COUNT.incrementAndGet());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Applies all events in the queue and stops the dedicated thread, waiting
+     * for a few seconds at most. Closing a dispatcher that has already been
+     * closed has no effect.
+     *
+     * @return {@code true} if all events have been applied, {@code false} if
+     * the dedicated thread is still applying them.
+     */
+    boolean close() {
+        running = false;
+
+        LockSupport.unpark(consumer);
+
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return !consumer.isAlive();
+    }
+
+    /**
+     * Adds an event to the queue, or applies it directly if the dispatcher
+     * has been closed.
+     *
+     * @param event The event.
+     */
+    void dispatch(final Runnable event) {
+        if (!running) {
+            apply(event);
+
+            return;
+        }
+
+        events.offer(event);
+
+        // The dedicated thread may have stopped in the meantime.
+        if (!running && !consumer.isAlive() && events.remove(event)) {
+            apply(event);
+
+            return;
+        }
+
+        if (idle) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Waits until all events added to the queue so far, by any thread, have
+     * been applied, including while the dispatcher is being closed.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return {@code true} if all events have been applied, {@code false} if
+     * the timeout elapsed first.
+     */
+    boolean flush(final long timeout, final TimeUnit unit) {
+        if (!running) {
+            // Closing, so wait for the dedicated thread to apply the events
+            // remaining in the queue instead.
+            try {
+                consumer.join(Math.max(1, unit.toMillis(timeout)));
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return !consumer.isAlive();
+        }
+
+        final CountDownLatch barrier = new CountDownLatch(1);
+
+        dispatch(barrier::countDown);
+
+        try {
+            return barrier.await(timeout, unit);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    /**
+     * Applies an event, logging any failure.
+     *
+     * @param event The event.
+     */
+    private static void apply(final Runnable event) {
+        try {
+            event.run();
+        }
+        catch (final RuntimeException e) {
+            LOGGER.error(e, "Unable to apply reporting event.");
+        }
+    }
+
+    /**
+     * Takes events from the queue and applies them until the dispatcher is
+     * closed and the queue is empty. Runs on the dedicated thread.
+     */
+    private void run() {
+        while (true) {
+            // Checked before draining the queue, so that events added before
+            // the dispatcher was closed are applied.
+            final boolean stopping = !running;
+
+            int count = 0;
+
+            for (Runnable event = events.poll(); event != null; event = events.poll()) {
+                apply(event);
+
+                if (++count == BATCH_SIZE) {
+                    break;
+                }
+            }
+
+            if (count > 0) {
+                continue;
+            }
+
+            if (stopping) {
+                return;
+            }
+
+            // Threads adding events unpark this thread once they see it idle.
+            // Checking the queue again after announcing it ensures that an
+            // event added meanwhile is either seen here or followed by an
+            // unpark, hence there is no need to wake up periodically.
+            idle = true;
+
+            if (events.isEmpty()) {
+                LockSupport.park(this);
+            }
+
+            idle = false;
+        }
+    }
+}
@@ -20,6 +20,10 @@
 
 package com.qualitrix.infinitum.reporting;
 
+import com.qualitrix.infinitum.util.MessageFormatter;
+
+import java.util.Locale;
+
 /**
  * <p>
  * Contract for reporting events encountered while running a test. The following
@@ -36,6 +40,18 @@ package com.qualitrix.infinitum.reporting;
  *     <li><b>Info</b>: An informational event, such as progress update, note
  *     or comment.</li>
  * </ol>
+ *
+ * <p>
+ * The time taken by the steps of a test can be reported as well, by starting
+ * a {@link Step} and ending it once the step has completed, for instance with
+ * try-with-resources:
+ * </p>
+ *
+ * <pre>
+ * try (Step step = reporter.startStep("Log in")) &#123;
+ *     ...
+ * }
+ * </pre>
  */
 public interface Reporter {
     /**
@@ -58,6 +74,16 @@ public interface Reporter {
      */
     Reporter assignDevice(String device);
 
+    /**
+     * Ends a step of the test, reporting the time it took. Equivalent to
+     * {@link Step#close()}.
+     *
+     * @param step The step to end.
+     */
+    default void endStep(final Step step) {
+        step.close();
+    }
+
     /**
      * Logs a message in the report as an error. An error represents an
      * unexpected situation encountered while running a test but does not
@@ -70,7 +96,7 @@ public interface Reporter {
     /**
      * Logs a message in the report as an error by using a specified format for
      * the message and an additional contextual value. The format must be
-     * supported by {@link String#format(String, Object...)}. For example,
+     * supported by {@link MessageFormatter}. For example,
      * <code>error("Invalid value: %d", 101)</code> logs the message
      * {@code Invalid value: 101}.
      *
@@ -78,7 +104,7 @@ public interface Reporter {
      * @param context Context to include in the message - e.g. {@code 101}.
      */
     default void error(final String format, final Object context) {
-        error(String.format(format, context));
+        error(MessageFormatter.format(format, context));
     }
 
     /**
@@ -93,7 +119,7 @@ public interface Reporter {
      * @param arg2 Second contextual value to include in the message.
      */
     default void error(final String format, final Object arg1, final Object arg2) {
-        error(String.format(format, arg1, arg2));
+        error(MessageFormatter.format(format, arg1, arg2));
     }
 
     /**
@@ -107,7 +133,7 @@ public interface Reporter {
      * @param args Contextual values to include in the message.
      */
     default void error(final String format, final Object... args) {
-        error(String.format(format, args));
+        error(MessageFormatter.format(format, args));
     }
 
     /**
@@ -122,7 +148,7 @@ public interface Reporter {
     /**
      * Logs a failure message in the report by using a specified format for
      * the message and an additional contextual value. The format must be
-     * supported by {@link String#format(String, Object...)}. For example,
+     * supported by {@link MessageFormatter}. For example,
      * <code>fail("Login failed for user %s", "john")</code> logs the message
      * {@code Login failed for user john}.
      *
@@ -130,7 +156,7 @@ public interface Reporter {
      * @param context Context to include in the message.
      */
     default void fail(final String format, final Object context) {
-        fail(String.format(format, context));
+        fail(MessageFormatter.format(format, context));
     }
 
     /**
@@ -142,7 +168,7 @@ public interface Reporter {
      * @param arg2 Second contextual value to include in the message.
      */
     default void fail(final String format, final Object arg1, final Object arg2) {
-        fail(String.format(format, arg1, arg2));
+        fail(MessageFormatter.format(format, arg1, arg2));
     }
 
     /**
@@ -153,7 +179,7 @@ public interface Reporter {
      * @param args Contextual values to include in the message.
      */
     default void fail(final String format, final Object... args) {
-        fail(String.format(format, args));
+        fail(MessageFormatter.format(format, args));
     }
 
     /**
@@ -168,7 +194,7 @@ public interface Reporter {
     /**
      * Logs an informational message in the report by using a specified format for
      * the message and an additional contextual value. The format must be
-     * supported by {@link String#format(String, Object...)}. For example,
+     * supported by {@link MessageFormatter}. For example,
      * <code>info("Invalid value: %d", 101)</code> logs the message
      * {@code Invalid value: 101}.
      *
@@ -176,7 +202,7 @@ public interface Reporter {
      * @param context Context to include in the message - e.g. {@code 101}.
      */
     default void info(final String format, final Object context) {
-        info(String.format(format, context));
+        info(MessageFormatter.format(format, context));
     }
 
     /**
@@ -191,7 +217,7 @@ public interface Reporter {
      * @param arg2 Second contextual value to include in the message.
      */
     default void info(final String format, final Object arg1, final Object arg2) {
-        info(String.format(format, arg1, arg2));
+        info(MessageFormatter.format(format, arg1, arg2));
     }
 
     /**
@@ -205,7 +231,7 @@ public interface Reporter {
      * @param args Contextual values to include in the message.
      */
     default void info(final String format, final Object... args) {
-        info(String.format(format, args));
+        info(MessageFormatter.format(format, args));
     }
 
     /**
@@ -219,7 +245,7 @@ public interface Reporter {
     /**
      * Logs a pass message in the report by using a specified format for
      * the message and an additional contextual value. The format must be
-     * supported by {@link String#format(String, Object...)}. For example,
+     * supported by {@link MessageFormatter}. For example,
      * <code>pass("User %s logged-in successfully", "john")</code> logs the
      * message {@code User john logged-in successfully}.
      *
@@ -227,7 +253,7 @@ public interface Reporter {
      * @param context Context to include in the message.
      */
     default void pass(final String format, final Object context) {
-        pass(String.format(format, context));
+        pass(MessageFormatter.format(format, context));
     }
 
     /**
@@ -239,7 +265,7 @@ public interface Reporter {
      * @param arg2 Second contextual value to include in the message.
      */
     default void pass(final String format, final Object arg1, final Object arg2) {
-        pass(String.format(format, arg1, arg2));
+        pass(MessageFormatter.format(format, arg1, arg2));
     }
 
     /**
@@ -250,6 +276,31 @@ public interface Reporter {
      * @param args Contextual values to include in the message.
      */
     default void pass(final String format, final Object... args) {
-        pass(String.format(format, args));
+        pass(MessageFormatter.format(format, args));
+    }
+
+    /**
+     * Starts a step of the test, such as logging in, or submitting a form,
+     * which is timed until it is ended, see {@link Step}.
+     *
+     * @param name The name of the step, under which the times taken by the
+     * step in all tests are aggregated, see {@link StepTimings}.
+     *
+     * @return The {@link Step} that has been started.
+     */
+    default Step startStep(final String name) {
+        return new Step(this, name);
+    }
+
+    /**
+     * Logs a step that has completed in the report, with the time it took.
+     * Called when a {@link Step} ends. Reports the step as an informational
+     * message by default.
+     *
+     * @param name The name of the step.
+     * @param duration The time the step took, in nanoseconds.
+     */
+    default void step(final String name, final long duration) {
+        info(String.format(Locale.ROOT, "Step [%s] completed in %.3f ms.", name, duration / 1e6));
     }
 }
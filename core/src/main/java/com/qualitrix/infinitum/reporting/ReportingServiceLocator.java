@@ -21,6 +21,7 @@
 package com.qualitrix.infinitum.reporting;
 
 import com.qualitrix.infinitum.ServiceLocator;
+import com.qualitrix.infinitum.config.ConfigurationServiceLocator;
 import com.qualitrix.infinitum.logging.LoggingServiceLocator;
 
 /**
@@ -34,23 +35,38 @@ import com.qualitrix.infinitum.logging.LoggingServiceLocator;
  * Clients should get a {@link ReportingService} by calling
  * {@code ReportingServiceLocator.getInstance().getReportingService()}.
  * </p>
+ *
+ * <p>
+ * If the configuration parameter {@code infinitum.reporting.async.enabled} is
+ * set to {@code true}, the selected service is decorated so that reports are
+ * written on a background thread, see {@link AsyncReportingService}.
+ * </p>
  */
 public final class ReportingServiceLocator
     extends ServiceLocator {
+    private static final String CONFIGURATION_PARAMETER_ASYNC_ENABLED = "infinitum.reporting.async.enabled";
+
     private final ReportingService service;
 
     /**
      * Loads a {@link ReportingService} using Java Service Provider Interface
-     * (SPI). The first available implementation is used.
+     * (SPI). The first available implementation is used, decorated so that
+     * reports are written asynchronously if so configured.
      */
     private ReportingServiceLocator() {
-        service = getFirstAvailable(ReportingService.class);
+        final ReportingService selected = getFirstAvailable(ReportingService.class);
 
         LoggingServiceLocator.getInstance()
                              .getLoggingService()
                              .getLogger(ReportingServiceLocator.class)
-                             .debug(String.format("%s selected as ReportingService."
-                                 , service.getClass().getName()));
+                             .debug("{} selected as ReportingService."
+                                 , selected.getClass().getName());
+
+        service = ConfigurationServiceLocator.getInstance()
+                                             .getConfigurationService()
+                                             .getBoolean(CONFIGURATION_PARAMETER_ASYNC_ENABLED)
+                  ? new AsyncReportingService(selected)
+                  : selected;
     }
 
     /**
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+/**
+ * <p>
+ * A step of a test, timed with {@link System#nanoTime()} from the moment it
+ * is started with {@link Reporter#startStep(String)} until it is ended with
+ * {@link #close()} or {@link Reporter#endStep(Step)}. When a step ends, the
+ * time it took is added to the times taken by all steps with the same name,
+ * see {@link StepTimings}, and reported through the reporter that started
+ * the step, see {@link Reporter#step(String, long)}.
+ * </p>
+ *
+ * <p>
+ * Steps are meant to be ended by the thread that started them, usually with
+ * try-with-resources. A step that is not ended is not reported.
+ * </p>
+ */
+public final class Step implements AutoCloseable {
+    private final String name;
+
+    private final Reporter reporter;
+
+    private final long started;
+
+    private boolean ended;
+
+    /**
+     * Starts a step.
+     *
+     * @param reporter The reporter through which the step must be reported.
+     * @param name The name of the step.
+     */
+    Step(final Reporter reporter, final String name) {
+        this.name = name;
+        this.reporter = reporter;
+        this.started = System.nanoTime();
+    }
+
+    /**
+     * Ends the step, reporting the time it took. Ending a step that has
+     * already ended has no effect.
+     */
+    @Override
+    public void close() {
+        if (ended) {
+            return;
+        }
+
+        ended = true;
+
+        final long duration = System.nanoTime() - started;
+
+        StepTimings.getInstance().record(name, duration);
+
+        reporter.step(name, duration);
+    }
+
+    /**
+     * Gets the name of the step.
+     *
+     * @return The name of the step.
+     */
+    public String getName() {
+        return name;
+    }
+}
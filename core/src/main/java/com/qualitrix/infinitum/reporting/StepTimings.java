@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Aggregates the times taken by test steps, see {@link Step}, per step name,
+ * across all tests, in a {@link LatencyHistogram} per name, so that steps
+ * that are slow in general, or only now and then, can be found among
+ * thousands of test runs. The memory used grows with the number of step
+ * names, but not with the number of steps.
+ * </p>
+ *
+ * <p>
+ * Times are summarized in the log at the end of every test suite, with the
+ * 50th, 95th and 99th percentiles and the longest time for each step name,
+ * see {@link StepTimingsListener}.
+ * </p>
+ */
+public final class StepTimings {
+    private final Map<String, LatencyHistogram> steps;
+
+    /**
+     * Deliberately hidden to prevent direct instantiation.
+     */
+    private StepTimings() {
+        steps = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets an instance of this class.
+     *
+     * @return A {@link StepTimings}.
+     */
+    public static StepTimings getInstance() {
+        return SingletonHolder.SINGLETON;
+    }
+
+    /**
+     * Discards all times collected so far.
+     */
+    public void clear() {
+        steps.clear();
+    }
+
+    /**
+     * Removes the times collected so far and returns them, leaving times
+     * collected afterwards, such as by a test suite running in parallel, to be
+     * drained later. Each step name is removed atomically with respect to
+     * recording times for it, so that no time is lost.
+     *
+     * @return A {@link Map} of step names to the times removed, sorted by
+     * name.
+     */
+    public Map<String, LatencyHistogram> drain() {
+        final Map<String, LatencyHistogram> times = new TreeMap<>();
+
+        for (final String name : steps.keySet()) {
+            final LatencyHistogram histogram = steps.remove(name);
+
+            if (histogram != null) {
+                times.put(name, histogram);
+            }
+        }
+
+        return Collections.unmodifiableMap(times);
+    }
+
+    /**
+     * Gets the times collected for a step name.
+     *
+     * @param name The step name.
+     *
+     * @return The {@link LatencyHistogram} for the specified step name, or
+     * {@code null} if no times have been collected for it.
+     */
+    public LatencyHistogram get(final String name) {
+        return name == null
+               ? null
+               : steps.get(name);
+    }
+
+    /**
+     * Gets the times collected for all step names.
+     *
+     * @return A {@link Map} of step names to their times, sorted by name.
+     */
+    public Map<String, LatencyHistogram> getAll() {
+        return Collections.unmodifiableMap(new TreeMap<>(steps));
+    }
+
+    /**
+     * Adds times collected elsewhere, such as in another test run, to the
+     * times collected so far.
+     *
+     * @param times A {@link Map} of step names to their times.
+     */
+    public void merge(final Map<String, LatencyHistogram> times) {
+        times.forEach((name, histogram) -> steps.compute(name, (key, current) -> {
+            final LatencyHistogram merged = current == null
+                                            ? new LatencyHistogram()
+                                            : current;
+            merged.merge(histogram);
+
+            return merged;
+        }));
+    }
+
+    /**
+     * Records the time taken by a step.
+     *
+     * @param name The step name. Steps without a name are not recorded.
+     * @param duration The time taken by the step, in nanoseconds.
+     */
+    public void record(final String name, final long duration) {
+        if (name != null) {
+            // Record inside the mapping function, so that the histogram
+            // cannot be drained between looking it up and recording to it.
+            steps.compute(name, (key, current) -> {
+                final LatencyHistogram histogram = current == null
+                                                   ? new LatencyHistogram()
+                                                   : current;
+                histogram.record(duration);
+
+                return histogram;
+            });
+        }
+    }
+
+    /**
+     * Summarizes the times collected for all step names.
+     *
+     * @return A summary of the times, with one line for each step name.
+     */
+    public String summarize() {
+        return summarize(getAll());
+    }
+
+    /**
+     * Summarizes times for step names, such as those returned by
+     * {@link #drain()}.
+     *
+     * @param times A {@link Map} of step names to their times.
+     *
+     * @return A summary of the times, with one line for each step name, in
+     * the iteration order of the map.
+     */
+    public String summarize(final Map<String, LatencyHistogram> times) {
+        final StringBuilder summary = new StringBuilder("Step timings:");
+
+        times.forEach((name, histogram) -> summary.append(System.lineSeparator())
+                                                     .append(String.format(Locale.ROOT
+                                                         , "[%s]: count=%d, p50=%.3f ms, p95=%.3f ms, p99=%.3f ms, max=%.3f ms"
+                                                         , name
+                                                         , histogram.getCount()
+                                                         , histogram.getPercentile(50) / 1e6
+                                                         , histogram.getPercentile(95) / 1e6
+                                                         , histogram.getPercentile(99) / 1e6
+                                                         , histogram.getMaximum() / 1e6)));
+
+        return summary.toString();
+    }
+
+    /**
+     * Holds a singleton instance of this class.
+     */
+    private static final class SingletonHolder {
+        private static final StepTimings SINGLETON = new StepTimings();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.Map;
+
+/**
+ * Summarizes the times taken by test steps during a test suite in the log,
+ * when the suite finishes, and discards the times summarized so that each
+ * suite is summarized on its own. Times collected while the summary is being
+ * made, such as by suites running in parallel, are kept for the next
+ * summary. Nothing is logged if no steps have been timed.
+ *
+ * @see StepTimings
+ */
+public class StepTimingsListener implements ISuiteListener {
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(StepTimingsListener.class);
+
+    /**
+     * Logs a summary of the times taken by test steps during the suite.
+     *
+     * @param suite The suite that has finished.
+     */
+    @Override
+    public void onFinish(final ISuite suite) {
+        final StepTimings timings = StepTimings.getInstance();
+        final Map<String, LatencyHistogram> times = timings.drain();
+
+        if (!times.isEmpty()) {
+            LOGGER.info(timings.summarize(times));
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.util;
+
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * <p>
+ * A buffer, reused by each thread, in which a message is assembled and from
+ * which it is written to a {@link PrintStream}. The message is encoded into
+ * bytes within the buffer and the bytes written to the stream directly, so
+ * that, once the buffer has grown to fit the messages written by a thread,
+ * writing a message does not allocate any objects.
+ * </p>
+ *
+ * <p>
+ * A buffer is obtained through {@link #acquire()}, and must be handed back
+ * through {@link #release()} once the message has been written, usually in a
+ * {@code finally} block. If a thread acquires a buffer while it already holds one,
+ * for instance because writing a message required converting a value to a
+ * {@link String} that itself writes a message, a new buffer is created for it.
+ * </p>
+ *
+ * <p>
+ * Messages are encoded with the charset of the stream to which they are
+ * written. Streams only expose their charset from Java 18 onwards. On Java 8,
+ * the charset is taken from the name of the encoding of the writer through
+ * which the stream encodes characters. On the versions in between, which do
+ * not allow access to that writer, and for streams whose encoding cannot be
+ * determined, a message is instead handed to the stream as characters, which
+ * the stream encodes itself, in arrays kept by the buffer whose lengths are
+ * distinct powers of two, since a {@link PrintStream} only accepts whole
+ * arrays. The lock of the stream is held meanwhile, so that the message is
+ * not interleaved with output from other threads, but the stream may allocate
+ * objects while encoding it.
+ * </p>
+ */
+public final class MessageBuffer {
+    private static final MethodHandle CHARSET = findCharset();
+
+    private static final MethodHandle CHAR_OUT = CHARSET == null
+                                                 ? findCharOut()
+                                                 : null;
+
+    private static final ThreadLocal<MessageBuffer> BUFFERS = ThreadLocal.withInitial(MessageBuffer::new);
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final int MAXIMUM_RETAINED_CAPACITY = 64 * 1024;
+
+    private final char[][] chunks;
+
+    private ByteBuffer bytes;
+
+    private CharBuffer chars;
+
+    private Charset charset;
+
+    private String encoding;
+
+    private CharsetEncoder encoder;
+
+    private boolean inUse;
+
+    private StringBuilder text;
+
+    /**
+     * Creates an empty buffer.
+     */
+    private MessageBuffer() {
+        this.bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+        this.chars = CharBuffer.allocate(INITIAL_CAPACITY);
+        this.chunks = new char[Integer.SIZE][];
+        this.text = new StringBuilder(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Checks whether messages are encoded by the buffer, rather than by the
+     * stream to which they are written.
+     *
+     * @return {@code true} if the charset of a stream can be obtained,
+     * {@code false} otherwise.
+     */
+    static boolean isEncoding() {
+        return CHARSET != null || CHAR_OUT != null;
+    }
+
+    /**
+     * Finds {@code PrintStream.charset()}, available from Java 18 onwards.
+     *
+     * @return A {@link MethodHandle} for the method, {@code null} if it is not
+     * available.
+     */
+    private static MethodHandle findCharset() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(PrintStream.class, "charset", MethodType.methodType(Charset.class));
+        }
+        catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the writer through which a {@link PrintStream} encodes
+     * characters, on Java 8 only, since later versions either warn about or
+     * deny access to it.
+     *
+     * @return A {@link MethodHandle} for getting the writer of a stream,
+     * {@code null} if it is not available.
+     */
+    private static MethodHandle findCharOut() {
+        if (!System.getProperty("java.specification.version", "").startsWith("1.")) {
+            return null;
+        }
+
+        try {
+            final Field field = PrintStream.class.getDeclaredField("charOut");
+            field.setAccessible(true);
+
+            return MethodHandles.lookup()
+                                .unreflectGetter(field)
+                                .asType(MethodType.methodType(OutputStreamWriter.class, PrintStream.class));
+        }
+        catch (final NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets an empty buffer for the current thread.
+     *
+     * @return A {@link MessageBuffer}.
+     */
+    public static MessageBuffer acquire() {
+        final MessageBuffer buffer = BUFFERS.get();
+
+        if (buffer.inUse) {
+            final MessageBuffer nested = new MessageBuffer();
+            nested.inUse = true;
+
+            return nested;
+        }
+
+        buffer.inUse = true;
+        buffer.text.setLength(0);
+
+        return buffer;
+    }
+
+    /**
+     * Gets the text of the message being assembled, to which the message must
+     * be appended.
+     *
+     * @return A {@link StringBuilder}.
+     */
+    public StringBuilder getText() {
+        return text;
+    }
+
+    /**
+     * Hands this buffer back, so that it can be reused by the current thread.
+     * Buffers that have grown unusually large are shrunk, so that a single
+     * long message does not hold on to memory for the lifetime of the thread.
+     */
+    public void release() {
+        if (text.capacity() > MAXIMUM_RETAINED_CAPACITY) {
+            text = new StringBuilder(INITIAL_CAPACITY);
+        }
+
+        if (chars.capacity() > MAXIMUM_RETAINED_CAPACITY) {
+            chars = CharBuffer.allocate(INITIAL_CAPACITY);
+        }
+
+        if (bytes.capacity() > MAXIMUM_RETAINED_CAPACITY) {
+            bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+        }
+
+        for (int i = 0; i < chunks.length; ++i) {
+            if (chunks[i] != null && chunks[i].length > MAXIMUM_RETAINED_CAPACITY) {
+                chunks[i] = null;
+            }
+        }
+
+        inUse = false;
+    }
+
+    /**
+     * Writes the message assembled in this buffer to a stream, without other
+     * threads writing to the stream in between.
+     *
+     * @param sink The stream to which the message must be written.
+     */
+    public void writeTo(final PrintStream sink) {
+        final Charset current = getCharset(sink);
+
+        if (current == null) {
+            writeChars(sink);
+        }
+        else {
+            encode(current);
+
+            sink.write(bytes.array(), 0, bytes.position());
+        }
+    }
+
+    /**
+     * Encodes the message assembled in this buffer into bytes, growing the
+     * buffers as required.
+     *
+     * @param charset The charset with which the message must be encoded.
+     */
+    private void encode(final Charset charset) {
+        if (encoder == null || !encoder.charset().equals(charset)) {
+            encoder = charset.newEncoder()
+                             .onMalformedInput(CodingErrorAction.REPLACE)
+                             .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        final int length = text.length();
+
+        if (chars.capacity() < length) {
+            chars = CharBuffer.allocate(Math.max(length, 2 * chars.capacity()));
+        }
+
+        text.getChars(0, length, chars.array(), 0);
+
+        chars.clear();
+        chars.limit(length);
+
+        final int required = (int) Math.ceil(length * (double) encoder.maxBytesPerChar());
+
+        if (bytes.capacity() < required) {
+            bytes = ByteBuffer.allocate(Math.max(required, 2 * bytes.capacity()));
+        }
+
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(chars, bytes, true);
+        encoder.flush(bytes);
+    }
+
+    /**
+     * Gets the charset of a stream.
+     *
+     * @param sink The stream.
+     *
+     * @return The charset with which the stream encodes characters, or
+     * {@code null} if it cannot be determined.
+     */
+    private Charset getCharset(final PrintStream sink) {
+        try {
+            if (CHARSET != null) {
+                return (Charset) CHARSET.invokeExact(sink);
+            }
+            else if (CHAR_OUT == null) {
+                return null;
+            }
+
+            final OutputStreamWriter writer = (OutputStreamWriter) CHAR_OUT.invokeExact(sink);
+            final String name = writer == null
+                                ? null
+                                : writer.getEncoding();
+
+            // The name is the same instance for every message written to a
+            // stream, so that the charset is only looked up when it changes.
+            if (name != encoding) {
+                charset = name == null
+                          ? null
+                          : Charset.forName(name);
+                encoding = name;
+            }
+
+            return charset;
+        }
+        catch (final RuntimeException | Error e) {
+            throw e;
+        }
+        catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets an array of a given length, creating it on first use.
+     *
+     * @param size The length of the array, a power of two.
+     *
+     * @return An array of {@code size} characters.
+     */
+    private char[] getChunk(final int size) {
+        final int index = Integer.numberOfTrailingZeros(size);
+
+        if (chunks[index] == null) {
+            chunks[index] = new char[size];
+        }
+
+        return chunks[index];
+    }
+
+    /**
+     * Hands the message assembled in this buffer to a stream as characters,
+     * for the stream to encode.
+     *
+     * @param sink The stream to which the message must be written.
+     */
+    private void writeChars(final PrintStream sink) {
+        final int length = text.length();
+
+        int offset = 0;
+
+        synchronized (sink) {
+            for (int size = Integer.highestOneBit(length); size > 0; size >>>= 1) {
+                if ((length & size) != 0) {
+                    final char[] chunk = getChunk(size);
+
+                    text.getChars(offset, offset + size, chunk, 0);
+                    sink.print(chunk);
+
+                    offset += size;
+                }
+            }
+        }
+    }
+}
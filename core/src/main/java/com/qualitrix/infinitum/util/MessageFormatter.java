@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.util;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Formattable;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Formats messages by replacing placeholders in a format with values, writing
+ * the result into a {@link StringBuilder} supplied by the caller, so that a
+ * message can be formatted without allocating any objects other than those
+ * created by the {@link Object#toString()} methods of the values.
+ * </p>
+ *
+ * <p>
+ * Each format uses one of two syntaxes, never both:
+ * </p>
+ *
+ * <ul>
+ *     <li>a format containing {@code %} is a format for
+ *     {@link String#format(String, Object...)}, and produces exactly the
+ *     message {@link String#format(String, Object...)} would, including the
+ *     exceptions it throws. {@code %s}, {@code %d}, {@code %n} and {@code %%}
+ *     are replaced directly where doing so gives the same result, and the
+ *     format is handed to {@link String#format(String, Object...)} otherwise.
+ *     <code>&#123;}</code> has no special meaning in such a format; and</li>
+ *     <li>any other format may contain placeholders in the style of SLF4J,
+ *     <code>&#123;}</code>, each replaced with the next value, {@code null}
+ *     being written as {@code null}. Placeholders without a corresponding
+ *     value are written as is, and values without a corresponding
+ *     placeholder are ignored.</li>
+ * </ul>
+ */
+public final class MessageFormatter {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * Deliberately hidden to prevent direct instantiation.
+     */
+    private MessageFormatter() {
+    }
+
+    /**
+     * Formats a message with a single value.
+     *
+     * @param format The message format.
+     * @param arg The value to include in the message.
+     *
+     * @return The formatted message.
+     */
+    public static String format(final String format, final Object arg) {
+        final StringBuilder buffer = new StringBuilder();
+
+        formatTo(buffer, format, arg);
+
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a message with two values.
+     *
+     * @param format The message format.
+     * @param arg1 The first value to include in the message.
+     * @param arg2 The second value to include in the message.
+     *
+     * @return The formatted message.
+     */
+    public static String format(final String format, final Object arg1, final Object arg2) {
+        final StringBuilder buffer = new StringBuilder();
+
+        formatTo(buffer, format, arg1, arg2);
+
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a message with any number of values.
+     *
+     * @param format The message format.
+     * @param args The values to include in the message.
+     *
+     * @return The formatted message.
+     */
+    public static String format(final String format, final Object... args) {
+        final StringBuilder buffer = new StringBuilder();
+
+        formatTo(buffer, format, args);
+
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a message with a single value, appending it to a buffer.
+     *
+     * @param buffer The buffer to which the message must be appended.
+     * @param format The message format.
+     * @param arg The value to include in the message.
+     */
+    public static void formatTo(final StringBuilder buffer, final String format, final Object arg) {
+        formatTo(buffer, format, 1, arg, null, NO_ARGS);
+    }
+
+    /**
+     * Formats a message with two values, appending it to a buffer.
+     *
+     * @param buffer The buffer to which the message must be appended.
+     * @param format The message format.
+     * @param arg1 The first value to include in the message.
+     * @param arg2 The second value to include in the message.
+     */
+    public static void formatTo(final StringBuilder buffer, final String format, final Object arg1, final Object arg2) {
+        formatTo(buffer, format, 2, arg1, arg2, NO_ARGS);
+    }
+
+    /**
+     * Formats a message with any number of values, appending it to a buffer.
+     *
+     * @param buffer The buffer to which the message must be appended.
+     * @param format The message format.
+     * @param args The values to include in the message.
+     */
+    public static void formatTo(final StringBuilder buffer, final String format, final Object... args) {
+        final Object[] values = args == null
+                                ? NO_ARGS
+                                : args;
+
+        formatTo(buffer, format, values.length, null, null, values);
+    }
+
+    /**
+     * Appends a value to a buffer, without converting primitive values to
+     * {@link String}s first.
+     *
+     * @param buffer The buffer to which the value must be appended.
+     * @param value The value.
+     */
+    private static void append(final StringBuilder buffer, final Object value) {
+        if (value instanceof String) {
+            buffer.append((String) value);
+        }
+        else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            buffer.append(((Number) value).intValue());
+        }
+        else if (value instanceof Long) {
+            buffer.append(((Long) value).longValue());
+        }
+        else if (value instanceof Boolean) {
+            buffer.append(((Boolean) value).booleanValue());
+        }
+        else if (value instanceof Character) {
+            buffer.append(((Character) value).charValue());
+        }
+        else {
+            buffer.append(value);
+        }
+    }
+
+    /**
+     * Formats a message, appending it to a buffer. Values are passed either
+     * individually, if there are no more than two, or as an array, so that
+     * callers with one or two values need not allocate an array.
+     *
+     * @param buffer The buffer to which the message must be appended.
+     * @param format The message format.
+     * @param count The number of values.
+     * @param arg1 The first value, if passed individually.
+     * @param arg2 The second value, if passed individually.
+     * @param args The values, if passed as an array.
+     */
+    private static void formatTo(final StringBuilder buffer
+        , final String format
+        , final int count
+        , final Object arg1
+        , final Object arg2
+        , final Object[] args) {
+        if (format == null) {
+            buffer.append((String) null);
+        }
+        else if (format.indexOf('%') < 0) {
+            formatPlaceholders(buffer, format, count, arg1, arg2, args);
+        }
+        else if (!formatConversions(buffer, format, count, arg1, arg2, args)) {
+            final Object[] values = new Object[count];
+
+            for (int j = 0; j < count; ++j) {
+                values[j] = value(j, count, arg1, arg2, args);
+            }
+
+            buffer.append(String.format(format, values));
+        }
+    }
+
+    /**
+     * Formats a message for {@link String#format(String, Object...)},
+     * appending it to a buffer, if it only contains conversions that can be
+     * replaced without changing the message.
+     *
+     * @param buffer The buffer to which the message must be appended.
+     * @param format The message format.
+     * @param count The number of values.
+     * @param arg1 The first value, if passed individually.
+     * @param arg2 The second value, if passed individually.
+     * @param args The values, if passed as an array.
+     *
+     * @return {@code true} if the message has been appended, {@code false}
+     * if it must be formatted with {@link String#format(String, Object...)}
+     * instead, in which case the buffer is left as it was.
+     */
+    private static boolean formatConversions(final StringBuilder buffer
+        , final String format
+        , final int count
+        , final Object arg1
+        , final Object arg2
+        , final Object[] args) {
+        final int start = buffer.length();
+        final int length = format.length();
+
+        int next = 0;
+
+        for (int i = 0; i < length; ++i) {
+            final char c = format.charAt(i);
+
+            if (c != '%') {
+                buffer.append(c);
+
+                continue;
+            }
+
+            final char d = i + 1 < length
+                           ? format.charAt(i + 1)
+                           : c;
+
+            if (d == 'n') {
+                buffer.append(System.lineSeparator());
+            }
+            else if (d == '%') {
+                buffer.append('%');
+            }
+            else if ((d == 's' || d == 'd') && next < count && isReplaceable(d, value(next, count, arg1, arg2, args))) {
+                append(buffer, value(next++, count, arg1, arg2, args));
+            }
+            else {
+                buffer.setLength(start);
+
+                return false;
+            }
+
+            ++i;
+        }
+
+        return true;
+    }
+
+    /**
+     * Formats a message with placeholders in the style of SLF4J, appending it
+     * to a buffer.
+     *
+     * @param buffer The buffer to which the message must be appended.
+     * @param format The message format.
+     * @param count The number of values.
+     * @param arg1 The first value, if passed individually.
+     * @param arg2 The second value, if passed individually.
+     * @param args The values, if passed as an array.
+     */
+    private static void formatPlaceholders(final StringBuilder buffer
+        , final String format
+        , final int count
+        , final Object arg1
+        , final Object arg2
+        , final Object[] args) {
+        final int length = format.length();
+
+        int next = 0;
+
+        for (int i = 0; i < length; ++i) {
+            final char c = format.charAt(i);
+
+            if (c == '{' && i + 1 < length && format.charAt(i + 1) == '}') {
+                if (next < count) {
+                    append(buffer, value(next++, count, arg1, arg2, args));
+                }
+                else {
+                    buffer.append("{}");
+                }
+
+                ++i;
+            }
+            else {
+                buffer.append(c);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a conversion can be replaced with a value directly,
+     * giving the same result as {@link String#format(String, Object...)}.
+     * Values that format themselves, and numbers for which the locale used by
+     * {@link String#format(String, Object...)} could matter, are not.
+     *
+     * @param conversion The conversion, {@code s} or {@code d}.
+     * @param value The value.
+     *
+     * @return {@code true} if the conversion can be replaced with the value,
+     * {@code false} otherwise.
+     */
+    private static boolean isReplaceable(final char conversion, final Object value) {
+        if (conversion == 's') {
+            return !(value instanceof Formattable);
+        }
+
+        return value == null
+               || ((value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+                   && LocaleDigits.isAscii());
+    }
+
+    /**
+     * Gets one of the values passed to
+     * {@link #formatTo(StringBuilder, String, int, Object, Object, Object[])}.
+     *
+     * @param index The index of the value.
+     * @param count The number of values.
+     * @param arg1 The first value, if passed individually.
+     * @param arg2 The second value, if passed individually.
+     * @param args The values, if passed as an array.
+     *
+     * @return The value at the specified index.
+     */
+    private static Object value(final int index, final int count, final Object arg1, final Object arg2, final Object[] args) {
+        if (args.length == count) {
+            return args[index];
+        }
+
+        return index == 0
+               ? arg1
+               : arg2;
+    }
+
+    /**
+     * Records whether the locale used by {@link String#format(String, Object...)}
+     * writes integers with ASCII digits, so that the locale need not be looked
+     * up again for every message.
+     */
+    private static final class LocaleDigits {
+        private static volatile LocaleDigits last = new LocaleDigits(Locale.ROOT, true);
+
+        private final boolean ascii;
+
+        private final Locale locale;
+
+        /**
+         * Creates a record for a locale.
+         *
+         * @param locale The locale.
+         * @param ascii Whether the locale writes integers with ASCII digits.
+         */
+        private LocaleDigits(final Locale locale, final boolean ascii) {
+            this.ascii = ascii;
+            this.locale = locale;
+        }
+
+        /**
+         * Checks whether the current locale for formatting writes integers
+         * with ASCII digits.
+         *
+         * @return {@code true} if integers are written with ASCII digits,
+         * {@code false} otherwise.
+         */
+        static boolean isAscii() {
+            final Locale current = Locale.getDefault(Locale.Category.FORMAT);
+
+            LocaleDigits digits = last;
+
+            if (digits.locale != current) {
+                digits = new LocaleDigits(current, DecimalFormatSymbols.getInstance(current).getZeroDigit() == '0');
+                last = digits;
+            }
+
+            return digits.ascii;
+        }
+    }
+}
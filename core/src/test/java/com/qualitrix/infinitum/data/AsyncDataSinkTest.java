@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncDataSink}.
+ */
+public class AsyncDataSinkTest implements UnitTest {
+    /**
+     * Tests that records appended by multiple threads are all written, by a
+     * background thread, when the sink is closed.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testAppendFromMultipleThreads() throws InterruptedException {
+        final RecordingDataSink<Integer> delegate = new RecordingDataSink<>();
+        final AsyncDataSink<Integer> subject = new AsyncDataSink<>(delegate);
+
+        final int threads = getInt(2, 8);
+        final int count = getInt(1000, 5000);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; ++i) {
+            final int offset = i * count;
+
+            executor.execute(() -> IntStream.range(offset, offset + count).forEach(subject::append));
+        }
+
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        subject.close();
+
+        assertEquals(delegate.records.size(), threads * count);
+        assertEquals(new ArrayList<>(delegate.records).stream().sorted().collect(Collectors.toList())
+            , IntStream.range(0, threads * count).boxed().collect(Collectors.toList()));
+        assertTrue(delegate.closed);
+        assertFalse(delegate.threads.contains(Thread.currentThread().getName()));
+    }
+
+    /**
+     * Tests that records are written in the order in which they are appended
+     * by a single thread.
+     */
+    @Test
+    public void testAppendAll() {
+        final RecordingDataSink<Integer> delegate = new RecordingDataSink<>();
+        final List<Integer> records = IntStream.range(0, getInt(1000, 5000)).boxed().collect(Collectors.toList());
+
+        try (final AsyncDataSink<Integer> subject = new AsyncDataSink<>(delegate)) {
+            subject.appendAll(records);
+        }
+
+        assertEquals(delegate.records, records);
+    }
+
+    /**
+     * Tests that the current partial batch is not taken by the background
+     * thread, when it times out waiting for a batch, if a full batch has been
+     * handed over in the meantime, so that records are still written in the
+     * order in which they are appended.
+     */
+    @Test
+    public void testTakePendingWithBatchHandedOver() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingDataSink<Integer> delegate = new RecordingDataSink<Integer>() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void append(final Integer record) {
+                try {
+                    release.await();
+                }
+                catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                super.append(record);
+            }
+        };
+
+        final AsyncDataSink<Integer> subject = new AsyncDataSink<>(delegate, 2, TimeUnit.MINUTES.toMillis(1), 64);
+
+        final List<Integer> taken;
+
+        try {
+            subject.appendAll(Arrays.asList(0, 1, 2, 3, 4));
+
+            taken = subject.takePending();
+        }
+        finally {
+            release.countDown();
+            subject.close();
+        }
+
+        assertTrue(taken.isEmpty());
+
+        assertEquals(delegate.records, Arrays.asList(0, 1, 2, 3, 4));
+    }
+
+    /**
+     * Tests that records cannot be appended once the sink has been closed.
+     */
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testAppendAfterClose() {
+        final AsyncDataSink<Integer> subject = new AsyncDataSink<>(new RecordingDataSink<>());
+
+        subject.close();
+        subject.close();
+
+        subject.append(getInt());
+    }
+
+    /**
+     * Tests that failures to write records are reported when the sink is
+     * flushed.
+     */
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testFlushWithFailure() {
+        final RecordingDataSink<Integer> delegate = new RecordingDataSink<Integer>() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void append(final Integer record) {
+                throw new IllegalArgumentException();
+            }
+        };
+
+        final AsyncDataSink<Integer> subject = new AsyncDataSink<>(delegate);
+
+        subject.append(getInt());
+        subject.flush();
+    }
+
+    /**
+     * Tests that flushing the sink waits for records appended so far to be
+     * written.
+     */
+    @Test
+    public void testFlush() {
+        final RecordingDataSink<Integer> delegate = new RecordingDataSink<>();
+
+        try (final AsyncDataSink<Integer> subject = new AsyncDataSink<>(delegate)) {
+            subject.append(1);
+            subject.append(2);
+            subject.flush();
+
+            assertEquals(delegate.records, Arrays.asList(1, 2));
+            assertTrue(delegate.flushes.getCount() < 1);
+        }
+    }
+
+    /**
+     * Tests that records in a partial batch are written in the background
+     * without the sink being flushed explicitly.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testFlushInBackground() throws InterruptedException {
+        final RecordingDataSink<Integer> delegate = new RecordingDataSink<>();
+
+        try (final AsyncDataSink<Integer> subject = new AsyncDataSink<>(delegate)) {
+            subject.append(getInt());
+
+            assertTrue(delegate.flushes.await(1, TimeUnit.MINUTES));
+            assertEquals(delegate.records.size(), 1);
+        }
+    }
+
+    /**
+     * A sink that keeps records in memory.
+     *
+     * @param <T> The type of records to write.
+     */
+    static class RecordingDataSink<T> implements DataSink<T> {
+        final CountDownLatch flushes = new CountDownLatch(1);
+
+        final List<T> records = Collections.synchronizedList(new ArrayList<>());
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        volatile boolean closed;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void append(final T record) {
+            threads.add(Thread.currentThread().getName());
+            records.add(record);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void flush() {
+            flushes.countDown();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link BeanMapper}.
+ */
+public class BeanMapperTest implements UnitTest {
+    /**
+     * Tests that objects can be populated from rows of values.
+     */
+    @Test
+    public void testForColumns() {
+        final BeanMapper<Account> subject = BeanMapper.of(Account.class);
+
+        final Function<String[], Account> mapper = subject.forColumns(new String[] { "NUMBER", "unknown", "balance", "type", "active", "code" });
+
+        final String number = getString();
+        final int code = getInt();
+
+        final Account account = mapper.apply(new String[] { number, getString(), " 12.50 ", "SAVINGS", "TRUE", String.valueOf(code) });
+
+        assertEquals(account.number, number);
+        assertEquals(account.balance, new BigDecimal("12.50"));
+        assertEquals(account.type, AccountType.SAVINGS);
+        assertTrue(account.active);
+        assertEquals(account.code, code);
+        assertNull(account.limit);
+    }
+
+    /**
+     * Tests that missing and {@code null} values leave fields unchanged.
+     */
+    @Test
+    public void testForColumnsWithMissingValues() {
+        final Account account = BeanMapper.of(Account.class)
+                                          .forColumns(new String[] { "number", "code", "limit" })
+                                          .apply(new String[] { null, "7" });
+
+        assertNull(account.number);
+        assertEquals(account.code, 7);
+        assertNull(account.limit);
+    }
+
+    /**
+     * Tests that mappers are created once per type.
+     */
+    @Test
+    public void testOf() {
+        assertSame(BeanMapper.of(Account.class), BeanMapper.of(Account.class));
+        assertEquals(BeanMapper.of(Account.class).getType(), Account.class);
+        assertEquals(new HashSet<>(BeanMapper.of(Account.class).getFieldNames())
+            , new HashSet<>(Arrays.asList("active", "balance", "code", "limit", "number", "type")));
+    }
+
+    /**
+     * Tests that fields can be named by a custom strategy.
+     */
+    @Test
+    public void testOfWithNaming() {
+        final BeanMapper<Account> subject = BeanMapper.of(Account.class, field -> "number".equals(field.getName())
+                                                                                  ? "Account Number"
+                                                                                  : null);
+
+        assertNotNull(subject);
+        assertEquals(subject.getFieldNames(), Arrays.asList("Account Number"));
+
+        final Account account = subject.newInstance();
+
+        assertTrue(subject.set(account, "Account Number", "1234"));
+        assertFalse(subject.set(account, "number", "5678"));
+        assertEquals(account.number, "1234");
+    }
+
+    /**
+     * Tests that types with fields of unsupported types cannot be mapped.
+     */
+    @Test
+    public void testOfWithUnsupportedType() {
+        assertNull(BeanMapper.of(Event.class));
+        assertNull(BeanMapper.of(Runnable.class));
+        assertNotNull(BeanMapper.of(Event.class, field -> "name".equals(field.getName())
+                                                          ? field.getName()
+                                                          : null));
+    }
+
+    /**
+     * Tests that fields can be set by position, from text and from values
+     * that already have the type of the field.
+     */
+    @Test
+    public void testSetByPosition() {
+        final BeanMapper<Account> subject = BeanMapper.of(Account.class);
+        final Account account = subject.newInstance();
+        final int code = subject.indexOf("code"),
+            number = subject.indexOf("number");
+
+        assertEquals(subject.getFieldType(code), int.class);
+        assertEquals(subject.indexOf(getString()), -1);
+
+        subject.setValue(account, code, 42);
+        subject.set(account, number, "N-1");
+
+        assertEquals(account.code, 42);
+        assertEquals(account.number, "N-1");
+    }
+
+    /**
+     * Tests that values that cannot be converted are rejected.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSetWithInvalidValue() {
+        final BeanMapper<Account> subject = BeanMapper.of(Account.class);
+
+        subject.set(subject.newInstance(), "active", getString());
+    }
+
+    /**
+     * Tests that fields read as text populate an equal object.
+     */
+    @Test
+    public void testToRow() {
+        final BeanMapper<Account> subject = BeanMapper.of(Account.class);
+
+        final Account account = subject.newInstance();
+        account.active = true;
+        account.balance = new BigDecimal("1E+3");
+        account.code = getInt();
+        account.number = getString();
+        account.type = AccountType.CURRENT;
+
+        final String[] row = subject.toRow(account);
+        final List<String> columns = subject.getFieldNames();
+
+        assertEquals(row.length, columns.size());
+        assertEquals(row[columns.indexOf("active")], "true");
+        assertEquals(row[columns.indexOf("balance")], "1E+3");
+        assertEquals(row[columns.indexOf("code")], String.valueOf(account.code));
+        assertNull(row[columns.indexOf("limit")]);
+        assertEquals(row[columns.indexOf("number")], account.number);
+        assertEquals(row[columns.indexOf("type")], "CURRENT");
+
+        final Account copy = subject.forColumns(subject.getFieldNames().toArray(new String[0])).apply(row);
+
+        assertEquals(copy.active, account.active);
+        assertEquals(copy.balance, account.balance);
+        assertEquals(copy.code, account.code);
+        assertNull(copy.limit);
+        assertEquals(copy.number, account.number);
+        assertEquals(copy.type, account.type);
+    }
+
+    /**
+     * Types of accounts.
+     */
+    enum AccountType {
+        CURRENT,
+        SAVINGS
+    }
+
+    /**
+     * Represents an account.
+     */
+    static class Account {
+        private static int count;
+
+        private boolean active;
+
+        private BigDecimal balance;
+
+        private int code;
+
+        private BigInteger limit;
+
+        private String number;
+
+        private AccountType type;
+    }
+
+    /**
+     * Represents an event.
+     */
+    static class Event {
+        private Date date;
+
+        private String name;
+    }
+}
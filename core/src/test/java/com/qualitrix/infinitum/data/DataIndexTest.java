@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link DataIndex}.
+ */
+public class DataIndexTest implements UnitTest {
+    /**
+     * Tests that an index can be built over an empty collection.
+     */
+    @Test
+    public void testEmpty() {
+        final DataIndex<String, String> subject = DataIndex.unique(Collections.<String>emptyList(), value -> value);
+
+        assertEquals(subject.size(), 0);
+        assertTrue(subject.getKeys().isEmpty());
+        assertFalse(subject.containsKey(getString()));
+        assertNull(subject.get(getString()));
+        assertTrue(subject.getAll(getString()).isEmpty());
+    }
+
+    /**
+     * Tests that several records can share the same key.
+     */
+    @Test
+    public void testMulti() {
+        final int count = getInt(100, 200);
+        final int groups = getInt(2, 10);
+        final List<Integer> records = IntStream.range(0, count).boxed().collect(Collectors.toList());
+
+        final DataIndex<Integer, Integer> subject = DataIndex.multi(records.stream(), record -> record % groups);
+
+        assertEquals(subject.size(), count);
+        assertEquals(subject.getKeys().size(), groups);
+
+        for (int group = 0; group < groups; ++group) {
+            final List<Integer> expected = new ArrayList<>();
+
+            for (int record = group; record < count; record += groups) {
+                expected.add(record);
+            }
+
+            assertEquals(subject.get(group), Integer.valueOf(group));
+            assertEquals(subject.getAll(group), expected);
+        }
+
+        assertFalse(subject.containsKey(groups));
+        assertTrue(subject.getAll(groups).isEmpty());
+    }
+
+    /**
+     * Tests that records without a key are not indexed.
+     */
+    @Test
+    public void testNullKeys() {
+        final DataIndex<String, String> subject = DataIndex.multi(Arrays.asList("a", "", "b", ""), value -> value.isEmpty()
+                                                                                                              ? null
+                                                                                                              : value);
+
+        assertEquals(subject.size(), 2);
+        assertEquals(subject.getKeys(), Arrays.asList("a", "b"));
+        assertNull(subject.get(null));
+    }
+
+    /**
+     * Tests that records can be found by unique keys.
+     */
+    @Test
+    public void testUnique() {
+        final List<String> records = new ArrayList<>();
+
+        for (int i = 0; i < getInt(100, 200); ++i) {
+            records.add(getString() + i);
+        }
+
+        final DataIndex<String, String> subject = DataIndex.unique(records, record -> record);
+
+        assertEquals(subject.size(), records.size());
+
+        for (final String record : records) {
+            final String key = new String(record);
+
+            assertTrue(subject.containsKey(key));
+            assertSame(subject.get(key), record);
+            assertEquals(subject.getAll(key), Collections.singletonList(record));
+        }
+    }
+
+    /**
+     * Tests that duplicate keys are rejected by a unique index.
+     */
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testUniqueWithDuplicateKeys() {
+        final String value = getString();
+
+        DataIndex.unique(Arrays.asList(value, getString(), value), record -> record);
+    }
+}
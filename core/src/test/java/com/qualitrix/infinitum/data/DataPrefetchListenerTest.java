@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.annotation.DataSource;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+import org.testng.internal.ConstructorOrMethod;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link DataPrefetchListener}.
+ */
+@DataSource(value = DataPrefetchListenerTest.CLASS_SOURCE, type = String.class)
+public class DataPrefetchListenerTest implements UnitTest {
+    static final String CLASS_SOURCE = "DataPrefetchListenerTest.class.dummy";
+
+    static final String METHOD_SOURCE = "DataPrefetchListenerTest.method";
+
+    /**
+     * Tests that data sources declared on test methods and test classes are
+     * prefetched on behalf of suites, and discarded when the last suite
+     * requiring them finishes.
+     */
+    @Test
+    @DataSource(value = METHOD_SOURCE, type = Integer.class, format = "DUMMY")
+    public void testPrefetch() {
+        final ConstructorOrMethod constructorOrMethod = new ConstructorOrMethod(new Object() {
+        }.getClass().getEnclosingMethod());
+
+        final ITestNGMethod testMethod = mock(ITestNGMethod.class);
+        when(testMethod.getConstructorOrMethod()).thenReturn(constructorOrMethod);
+        when(testMethod.getRealClass()).thenReturn(getClass());
+
+        final Object first = new Object(), second = new Object();
+
+        final DataPrefetchListener subject = new DataPrefetchListener();
+        final DataPrefetcher prefetcher = subject.getPrefetcher();
+
+        prefetcher.setEnabled(true);
+
+        try {
+            subject.prefetch(first, Collections.singletonList(testMethod));
+            subject.prefetch(second, Collections.singletonList(testMethod));
+        }
+        finally {
+            prefetcher.setEnabled(false);
+        }
+
+        assertTrue(prefetcher.contains(CLASS_SOURCE, String.class));
+        assertTrue(prefetcher.contains(METHOD_SOURCE, Integer.class));
+
+        subject.getPrefetcher().clear(first);
+
+        assertTrue(prefetcher.contains(CLASS_SOURCE, String.class));
+        assertTrue(prefetcher.contains(METHOD_SOURCE, Integer.class));
+
+        subject.getPrefetcher().clear(second);
+
+        assertFalse(prefetcher.contains(CLASS_SOURCE, String.class));
+        assertFalse(prefetcher.contains(METHOD_SOURCE, Integer.class));
+    }
+
+    /**
+     * Tests that data sources are not prefetched unless prefetching has been
+     * enabled.
+     */
+    @Test
+    public void testPrefetchDisabled() {
+        final ITestNGMethod testMethod = mock(ITestNGMethod.class);
+        when(testMethod.getRealClass()).thenReturn(getClass());
+
+        final DataPrefetchListener subject = new DataPrefetchListener();
+
+        assertFalse(subject.getPrefetcher().isEnabled());
+
+        subject.prefetch(new Object(), Collections.singletonList(testMethod));
+
+        assertFalse(subject.getPrefetcher().contains(CLASS_SOURCE, String.class));
+    }
+}
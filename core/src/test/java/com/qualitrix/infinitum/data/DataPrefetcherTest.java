@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link DataPrefetcher}.
+ */
+public class DataPrefetcherTest implements UnitTest {
+    /**
+     * Tests that data that have not been prefetched are read when requested.
+     */
+    @Test
+    public void testGet() {
+        final String source = getSource();
+
+        final List<String> data = DataPrefetcher.getInstance().get(source, String.class);
+
+        assertNotNull(data);
+        assertTrue(data.isEmpty());
+        assertTrue(DataPrefetcher.getInstance().contains(source, String.class));
+    }
+
+    /**
+     * Tests that data prefetched on behalf of an owner are discarded once no
+     * other owner requires them, and that data read on request are discarded
+     * once no owner remains.
+     */
+    @Test
+    public void testClearOwner() {
+        final DataPrefetcher subject = DataPrefetcher.getInstance();
+        final Object first = new Object(), second = new Object();
+        final String own = getSource(), shared = getSource(), requested = getSource();
+
+        subject.prefetch(first, own, String.class, null);
+        subject.prefetch(first, shared, String.class, null);
+        subject.prefetch(second, shared, String.class, null);
+        subject.get(requested, String.class);
+
+        subject.clear(first);
+
+        assertFalse(subject.contains(own, String.class));
+        assertTrue(subject.contains(shared, String.class));
+        assertTrue(subject.contains(requested, String.class));
+
+        subject.clear(second);
+
+        assertFalse(subject.contains(shared, String.class));
+        assertFalse(subject.contains(requested, String.class));
+    }
+
+    /**
+     * Tests that data in an unknown format cannot be read.
+     */
+    @Test
+    public void testGetWithUnknownFormat() {
+        final List<String> data = DataPrefetcher.getInstance().get(getString(), String.class, getString());
+
+        assertNotNull(data);
+        assertTrue(data.isEmpty());
+    }
+
+    /**
+     * Tests that the format of data can be determined from a file extension
+     * or a format name.
+     */
+    @Test
+    public void testGetFormat() {
+        assertEquals(DataPrefetcher.getFormat(getSource(), null), DataReaderServiceLocatorTest.DummyDataReaderService.FORMAT);
+        assertEquals(DataPrefetcher.getFormat(getString(), "dummy"), DataReaderServiceLocatorTest.DummyDataReaderService.FORMAT);
+        assertNull(DataPrefetcher.getFormat(getString() + ".unknown", " "));
+    }
+
+    /**
+     * Tests that data can be read in the background and are read just once.
+     *
+     * @throws ExecutionException if the data cannot be read.
+     * @throws InterruptedException if interrupted while waiting for the data
+     * to be read.
+     */
+    @Test
+    public void testPrefetch() throws ExecutionException, InterruptedException {
+        final DataPrefetcher subject = DataPrefetcher.getInstance();
+        final String source = getSource();
+
+        final Future<List<String>> future = subject.prefetch(source, String.class, null);
+
+        assertSame(subject.prefetch(source, String.class, null), future);
+        assertTrue(future.get().isEmpty());
+        assertSame(subject.get(source, String.class), future.get());
+
+        subject.clear();
+
+        assertFalse(subject.contains(source, String.class));
+    }
+
+    /**
+     * Gets the name of a random source for data in the dummy format.
+     *
+     * @return The name of a random source.
+     */
+    private String getSource() {
+        return getString() + ".dummy";
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link DataReaderMetrics}.
+ */
+public class DataReaderMetricsTest implements UnitTest {
+    /**
+     * Disables metrics and discards measurements after each test.
+     */
+    @AfterMethod
+    public void tearDown() {
+        DataReaderMetrics.getInstance().setEnabled(false);
+        DataReaderMetrics.getInstance().clear();
+    }
+
+    /**
+     * Tests that draining moves out the measurements recorded so far, and
+     * keeps those recorded afterwards through the same instance, as a read
+     * in progress does, for the next drain.
+     */
+    @Test
+    public void testDrain() {
+        final DataReaderMetrics subject = DataReaderMetrics.getInstance();
+        final String source = getString();
+
+        subject.setEnabled(true);
+
+        final SourceMetrics metrics = subject.forSource(source);
+        metrics.addRows(3);
+
+        final SourceMetrics drained = subject.drain().get(source);
+
+        assertEquals(drained.getReads(), 1);
+        assertEquals(drained.getRows(), 3);
+        assertEquals(subject.get(source).getRows(), 0);
+
+        metrics.addRows(2);
+
+        assertEquals(subject.drain().get(source).getRows(), 2);
+        assertFalse(subject.drain().containsKey(source));
+        assertTrue(subject.summarize(Collections.singletonMap(source, drained)).contains("rows=3"));
+    }
+
+    /**
+     * Tests that measurements are discarded when metrics are disabled.
+     */
+    @Test
+    public void testDisabled() {
+        final DataReaderMetrics subject = DataReaderMetrics.getInstance();
+        final String source = getString();
+
+        subject.setEnabled(false);
+
+        assertFalse(subject.isEnabled());
+        assertSame(subject.forSource(source), SourceMetrics.disabled());
+        assertNull(subject.get(source));
+    }
+
+    /**
+     * Tests that measurements are collected for each source when metrics are
+     * enabled.
+     */
+    @Test
+    public void testEnabled() {
+        final DataReaderMetrics subject = DataReaderMetrics.getInstance();
+        final String first = "A" + getString();
+        final String second = "B" + getString();
+
+        subject.setEnabled(true);
+
+        final SourceMetrics metrics = subject.forSource(first);
+        metrics.addRows(3);
+
+        assertTrue(subject.isEnabled());
+        assertSame(subject.forSource(first), metrics);
+        assertSame(subject.get(first), metrics);
+        assertEquals(metrics.getReads(), 2);
+        assertEquals(metrics.getRows(), 3);
+        assertSame(subject.forSource(null), SourceMetrics.disabled());
+
+        subject.forSource(second);
+
+        assertEquals(subject.getAll().keySet().toArray(), new String[] { first, second });
+
+        final String summary = subject.summarize();
+
+        assertTrue(summary.contains(first));
+        assertTrue(summary.contains(second));
+        assertTrue(summary.indexOf(first) < summary.indexOf(second));
+
+        subject.clear();
+
+        assertTrue(subject.getAll().isEmpty());
+        assertNull(subject.get(first));
+    }
+}
@@ -23,17 +23,36 @@ package com.qualitrix.infinitum.data;
 import com.qualitrix.infinitum.UnitTest;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Unit tests for {@link DataReaderServiceLocator}.
  */
 public class DataReaderServiceLocatorTest implements UnitTest {
+    /**
+     * Tests that the format of data can be determined from the file extension
+     * of their source.
+     */
+    @Test
+    public void testDetectFormat() {
+        final DataReaderServiceLocator subject = DataReaderServiceLocator.getInstance();
+
+        assertSame(subject.detectFormat(getString() + ".dummy"), DummyDataReaderService.FORMAT);
+        assertSame(subject.detectFormat(getString() + ".DUMMY"), DummyDataReaderService.FORMAT);
+        assertNull(subject.detectFormat(getString()));
+        assertNull(subject.detectFormat(null));
+    }
+
     /**
      * Tests that all formats available for reading data can be retrieved.
      */
@@ -45,6 +64,46 @@ public class DataReaderServiceLocatorTest implements UnitTest {
         assertFalse(availableFormats.isEmpty());
     }
 
+    /**
+     * Tests that a reader is resolved for each available format.
+     */
+    @Test
+    public void testGetDataReader() {
+        final DataReaderServiceLocator subject = DataReaderServiceLocator.getInstance();
+
+        assertNotNull(subject.getDataReader(DummyDataReaderService.FORMAT));
+        assertSame(subject.getDataReader(DummyDataReaderService.FORMAT), subject.getDataReader(DummyDataReaderService.FORMAT));
+        assertNull(subject.getDataReader(null));
+    }
+
+    /**
+     * Tests that services supporting the same format are ordered by priority.
+     */
+    @Test
+    public void testGetDataReaderServices() {
+        final List<DataReaderService> services = DataReaderServiceLocator.getInstance().getDataReaderServices(DummyDataReaderService.FORMAT);
+
+        assertEquals(services.size(), 2);
+        assertEquals(services.get(0).getClass(), DummyDataReaderService.class);
+        assertEquals(services.get(1).getClass(), FallbackDummyDataReaderService.class);
+        assertEquals(DataReaderServiceLocator.getInstance().getDataReaderService(DummyDataReaderService.FORMAT).getClass()
+            , DummyDataReaderService.class);
+        assertTrue(DataReaderServiceLocator.getInstance().getDataReaderServices(null).isEmpty());
+    }
+
+    /**
+     * Tests that formats can be found by name, ignoring case.
+     */
+    @Test
+    public void testGetFormat() {
+        final DataReaderServiceLocator subject = DataReaderServiceLocator.getInstance();
+
+        assertSame(subject.getFormat("dummy"), DummyDataReaderService.FORMAT);
+        assertSame(subject.getFormat(" Dummy "), DummyDataReaderService.FORMAT);
+        assertNull(subject.getFormat(getString()));
+        assertNull(subject.getFormat(null));
+    }
+
     /**
      * Tests that a service locator instance can be obtained successfully.
      */
@@ -65,6 +124,47 @@ public class DataReaderServiceLocatorTest implements UnitTest {
         assertNotNull(service);
     }
 
+    /**
+     * Tests that the format of data can be guessed from their first few
+     * bytes.
+     */
+    @Test
+    public void testSniff() {
+        assertEquals(sniff(new byte[] { 0x50, 0x4B, 0x03, 0x04, 0x14 }), "XLSX");
+        assertEquals(sniff(new byte[] { (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1 }), "XLS");
+        assertEquals(sniff("\uFEFF  <?xml version=\"1.0\"?><students/>"), "XML");
+        assertEquals(sniff("[{\"name\": \"Ada\"}]"), "JSON");
+        assertEquals(sniff("{\n  \"name\": \"Ada\"\n}"), "JSON");
+        assertEquals(sniff("{\"name\": \"Ada\"}\n{\"name\": \"Grace\"}\n"), "JSONL");
+        assertEquals(sniff("name\tage\nAda\t36\n"), "TSV");
+        assertEquals(sniff("name,age\nAda,36\n"), "CSV");
+        assertNull(sniff("name\nAda\n"));
+        assertNull(sniff("  "));
+        assertNull(DataReaderServiceLocator.sniff(getString()));
+    }
+
+    /**
+     * Guesses the name of the format of some text.
+     *
+     * @param text The text.
+     *
+     * @return The name of the format.
+     */
+    private static String sniff(final String text) {
+        return sniff(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Guesses the name of the format of some bytes.
+     *
+     * @param bytes The bytes.
+     *
+     * @return The name of the format.
+     */
+    private static String sniff(final byte[] bytes) {
+        return DataReaderServiceLocator.sniff(bytes, bytes.length);
+    }
+
     /**
      * A dummy (fake) test data reader service.
      */
@@ -119,6 +219,20 @@ public class DataReaderServiceLocatorTest implements UnitTest {
         }
     }
 
+    /**
+     * A dummy (fake) test data reader service with a lower priority than
+     * {@link DummyDataReaderService}, for the same format.
+     */
+    public static class FallbackDummyDataReaderService extends DummyDataReaderService {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getPriority() {
+            return 1;
+        }
+    }
+
     /**
      * A dummy (fake) data format.
      */
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SharedDataCache}.
+ */
+public class SharedDataCacheTest implements UnitTest {
+    private Path directory;
+
+    private Path source;
+
+    /**
+     * Creates a source and a shared directory for each test.
+     *
+     * @throws IOException if the source or directory cannot be created.
+     */
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("infinitum-data-cache");
+        source = Files.createTempFile("infinitum-data-cache", ".dummy");
+
+        Files.write(source, getString().getBytes(StandardCharsets.UTF_8));
+
+        SharedDataCache.getInstance().setDirectory(directory);
+        SharedDataCache.getInstance().setEnabled(true);
+    }
+
+    /**
+     * Disables sharing and removes files created by each test.
+     *
+     * @throws IOException if the files cannot be removed.
+     */
+    @AfterMethod
+    public void tearDown() throws IOException {
+        SharedDataCache.getInstance().setEnabled(false);
+
+        try (final Stream<Path> files = Files.list(directory)) {
+            for (final Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(directory);
+        Files.delete(source);
+    }
+
+    /**
+     * Tests that data are read through the reader alone when sharing is
+     * disabled.
+     */
+    @Test
+    public void testReadWhenDisabled() {
+        final CountingDataReader reader = new CountingDataReader(getInt(1, 10));
+
+        SharedDataCache.getInstance().setEnabled(false);
+
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+
+        assertEquals(reader.reads.get(), 2);
+        assertFalse(SharedDataCache.getInstance().isEnabled());
+    }
+
+    /**
+     * Tests that data are parsed once and then read from the published file,
+     * until the source changes, in which case the published file is
+     * replaced.
+     *
+     * @throws IOException if the source cannot be changed.
+     */
+    @Test
+    public void testRead() throws IOException {
+        final CountingDataReader reader = new CountingDataReader(getInt(1, 100));
+
+        final List<Record> parsed = SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+        final List<Record> shared = SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+
+        assertEquals(reader.reads.get(), 1);
+        assertEquals(shared.size(), parsed.size());
+
+        for (int i = 0; i < parsed.size(); ++i) {
+            assertEquals(shared.get(i).amount, parsed.get(i).amount);
+            assertEquals(shared.get(i).id, parsed.get(i).id);
+            assertEquals(shared.get(i).name, parsed.get(i).name);
+            assertNull(shared.get(i).note);
+        }
+
+        Files.write(source, getString().getBytes(StandardCharsets.UTF_8));
+
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+
+        assertEquals(reader.reads.get(), 2);
+        assertEquals(directory.toFile().list((dir, name) -> name.endsWith(".rows")).length, 1);
+        assertEquals(directory.toFile().list((dir, name) -> name.endsWith(".lock")).length, 1);
+    }
+
+    /**
+     * Tests that threads reading the same source concurrently parse it just
+     * once.
+     *
+     * @throws Exception if the test is interrupted or fails.
+     */
+    @Test
+    public void testReadConcurrently() throws Exception {
+        final CountingDataReader reader = new CountingDataReader(getInt(1, 100));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<List<Record>>> results = new ArrayList<>();
+
+            for (int i = 0; i < 8; ++i) {
+                results.add(executor.submit(() -> SharedDataCache.getInstance().read(source.toString(), Record.class, reader)));
+            }
+
+            for (final Future<List<Record>> result : results) {
+                assertEquals(result.get(1, TimeUnit.MINUTES).size(), reader.size);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(reader.reads.get(), 1);
+    }
+
+    /**
+     * Tests that reads from a published file are recorded in
+     * {@link DataReaderMetrics}.
+     */
+    @Test
+    public void testReadRecordsMetrics() {
+        final CountingDataReader reader = new CountingDataReader(getInt(1, 100));
+        final DataReaderMetrics metrics = DataReaderMetrics.getInstance();
+
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+
+        metrics.setEnabled(true);
+
+        try {
+            SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+            SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+
+            final SourceMetrics measurements = metrics.get(source.toString());
+
+            assertEquals(reader.reads.get(), 1);
+            assertEquals(measurements.getReads(), 2);
+            assertEquals(measurements.getRows(), 2L * reader.size);
+            assertTrue(measurements.getBytes() > 0);
+        }
+        finally {
+            metrics.setEnabled(false);
+            metrics.clear();
+        }
+    }
+
+    /**
+     * Tests that a corrupt published file is ignored and replaced.
+     *
+     * @throws IOException if the published file cannot be corrupted.
+     */
+    @Test
+    public void testReadWithCorruptFile() throws IOException {
+        final CountingDataReader reader = new CountingDataReader(getInt(1, 100));
+
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+
+        try (final Stream<Path> files = Files.list(directory)) {
+            for (final Path file : files.filter(path -> path.toString().endsWith(".rows")).collect(Collectors.toList())) {
+                final byte[] content = Files.readAllBytes(file);
+
+                Files.write(file, Arrays.copyOf(content, content.length / 2));
+            }
+        }
+
+        assertEquals(SharedDataCache.getInstance().read(source.toString(), Record.class, reader).size(), reader.size);
+        assertEquals(SharedDataCache.getInstance().read(source.toString(), Record.class, reader).size(), reader.size);
+        assertEquals(reader.reads.get(), 2);
+    }
+
+    /**
+     * Tests that sources that are not found, types that cannot be mapped and
+     * empty data are not shared.
+     */
+    @Test
+    public void testReadWithoutSharing() {
+        final CountingDataReader reader = new CountingDataReader(0);
+
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+        SharedDataCache.getInstance().read(source.toString(), Record.class, reader);
+        SharedDataCache.getInstance().read(getString(), Record.class, reader);
+        SharedDataCache.getInstance().read(source.toString(), Runnable.class, reader);
+
+        assertEquals(reader.reads.get(), 4);
+        assertEquals(directory.toFile().list((dir, name) -> name.endsWith(".rows")).length, 0);
+    }
+
+    /**
+     * Reads a fixed number of records, counting reads.
+     */
+    static final class CountingDataReader implements DataReader {
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private final int size;
+
+        /**
+         * Creates a reader.
+         *
+         * @param size The number of records to read.
+         */
+        CountingDataReader(final int size) {
+            this.size = size;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<DataFormat> getSupportedFormats() {
+            return Collections.emptyList();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> read(final String source, final Class<T> type) {
+            reads.incrementAndGet();
+
+            if (type != Record.class) {
+                return Collections.emptyList();
+            }
+
+            final List<Record> records = new ArrayList<>();
+
+            for (int i = 0; i < size; ++i) {
+                final Record record = new Record();
+                record.amount = i * 1.5;
+                record.id = i;
+                record.name = "Record " + i + " é";
+
+                records.add(record);
+            }
+
+            return (List<T>) records;
+        }
+    }
+
+    /**
+     * Represents a record.
+     */
+    static class Record {
+        private double amount;
+
+        private long id;
+
+        private String name;
+
+        private String note;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SourceMetrics}.
+ */
+public class SourceMetricsTest implements UnitTest {
+    /**
+     * Tests that measurements are discarded by the disabled instance.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    public void testDisabled() throws IOException {
+        final SourceMetrics subject = SourceMetrics.disabled();
+        final InputStream stream = new ByteArrayInputStream(new byte[getInt(1, 100)]);
+
+        subject.addBytes(getLong(1, 100));
+        subject.addMappingTime(getLong(1, 100));
+        subject.addParseTime(getLong(1, 100));
+        subject.addRejected(getLong(1, 100));
+        subject.addRows(getLong(1, 100));
+
+        assertFalse(subject.isEnabled());
+        assertNull(subject.getSource());
+        assertEquals(subject.getBytes(), 0);
+        assertEquals(subject.getMappingTime(TimeUnit.NANOSECONDS), 0);
+        assertEquals(subject.getParseTime(TimeUnit.NANOSECONDS), 0);
+        assertEquals(subject.getRejected(), 0);
+        assertEquals(subject.getRows(), 0);
+        assertEquals(subject.time(), 0);
+        assertSame(subject.meter(stream), stream);
+    }
+
+    /**
+     * Tests that measurements are accumulated.
+     */
+    @Test
+    public void testMeasurements() {
+        final String source = getString();
+        final SourceMetrics subject = new SourceMetrics(source);
+
+        final long bytes = getLong(1, 1000);
+        final long rejected = getLong(1, 1000);
+        final long rows = getLong(1, 1000);
+
+        subject.addRead();
+        subject.addBytes(bytes);
+        subject.addBytes(bytes);
+        subject.addMappingTime(TimeUnit.MILLISECONDS.toNanos(3));
+        subject.addParseTime(TimeUnit.MILLISECONDS.toNanos(5));
+        subject.addRejected(rejected);
+        subject.addRows(rows);
+
+        assertTrue(subject.isEnabled());
+        assertEquals(subject.getSource(), source);
+        assertEquals(subject.getReads(), 1);
+        assertEquals(subject.getBytes(), 2 * bytes);
+        assertEquals(subject.getMappingTime(TimeUnit.MILLISECONDS), 3);
+        assertEquals(subject.getParseTime(TimeUnit.MILLISECONDS), 5);
+        assertEquals(subject.getRejected(), rejected);
+        assertEquals(subject.getRows(), rows);
+        assertTrue(subject.time() > 0);
+        assertTrue(subject.toString().contains(source));
+        assertTrue(subject.toString().contains(String.format("rows=%d", rows)));
+        assertTrue(subject.toString().contains(String.format("throughput=%d rows/s", rows * 125)));
+    }
+
+    /**
+     * Tests that bytes read through a metered stream are counted.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    public void testMeter() throws IOException {
+        final SourceMetrics subject = new SourceMetrics(getString());
+        final int size = getInt(100, 1000);
+
+        try (final InputStream stream = subject.meter(new ByteArrayInputStream(new byte[size]))) {
+            assertEquals(stream.read(), 0);
+            assertEquals(stream.skip(9), 9);
+
+            while (stream.read(new byte[16]) >= 0) {
+                // Read till the end of the stream.
+            }
+        }
+
+        assertEquals(subject.getBytes(), size);
+        assertNull(subject.meter(null));
+    }
+}
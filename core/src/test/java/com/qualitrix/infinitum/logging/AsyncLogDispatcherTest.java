@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncLogDispatcher}.
+ */
+public class AsyncLogDispatcherTest implements UnitTest {
+    /**
+     * Tests that messages are written in order, in the same format as
+     * {@link PrintStreamLogger}, once flushed.
+     */
+    @Test
+    public void testPublish() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AsyncLogDispatcher subject = new AsyncLogDispatcher(new PrintStream(stream), 16, OverflowPolicy.BLOCK, LogLevel.WARN);
+
+        try {
+            final Throwable throwable = new IllegalStateException(getString());
+            final int count = getInt(100, 200);
+
+            for (int i = 0; i < count; ++i) {
+                subject.publish(LogLevel.INFO, getClass().getName(), "Message " + i, null);
+            }
+
+            subject.publish(LogLevel.ERROR, null, "Failure", throwable);
+            subject.flush();
+
+            final String[] lines = stream.toString().split(System.lineSeparator());
+
+            for (int i = 0; i < count; ++i) {
+                assertEquals(lines[i], String.format("[INFO] [%s] Message %d", getClass().getName(), i));
+            }
+
+            assertEquals(lines[count], "[ERROR] Failure");
+            assertEquals(lines[count + 1], "[ERROR] " + throwable.getMessage());
+            assertTrue(lines[count + 2].contains(IllegalStateException.class.getName()));
+        }
+        finally {
+            subject.close();
+        }
+    }
+
+    /**
+     * Tests that messages are written as JSON objects carrying the thread and
+     * test that published them, rather than the dedicated thread.
+     */
+    @Test
+    public void testPublishJson() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AsyncLogDispatcher subject = new AsyncLogDispatcher(new PrintStream(stream), 16, OverflowPolicy.BLOCK, LogLevel.WARN, LogFormat.JSON, null);
+
+        try {
+            final Throwable throwable = new IllegalStateException(getString());
+
+            subject.publish(LogLevel.INFO, getClass().getName(), "Message \"1\"", null);
+            subject.publish(LogLevel.ERROR, null, "Failure", throwable);
+            subject.flush();
+
+            final String[] lines = stream.toString().split(System.lineSeparator());
+
+            assertEquals(lines.length, 2);
+            assertTrue(lines[0].contains(String.format("\"logger\":\"%s\"", getClass().getName())));
+            assertTrue(lines[0].contains(String.format("\"thread\":\"%s\"", Thread.currentThread().getName())));
+            assertTrue(lines[0].contains(String.format("\"test\":\"%s.testPublishJson\"", getClass().getName())));
+            assertTrue(lines[0].endsWith("\"message\":\"Message \\\"1\\\"\"}"));
+            assertTrue(lines[1].contains("\"level\":\"ERROR\""));
+            assertTrue(lines[1].contains("\"exception\":\"" + throwable));
+        }
+        finally {
+            subject.close();
+        }
+    }
+
+    /**
+     * Tests that a stack trace is written in full only once, and that a
+     * summary of stack traces is written when the dispatcher is closed.
+     */
+    @Test
+    public void testPublishWithRepeatedThrowable() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AsyncLogDispatcher subject = new AsyncLogDispatcher(new PrintStream(stream)
+            , 16
+            , OverflowPolicy.BLOCK
+            , LogLevel.WARN
+            , LogFormat.TEXT
+            , new StackTraceRegistry(true, 0));
+
+        for (int i = 0; i < 3; ++i) {
+            subject.publish(LogLevel.ERROR, null, "Failure", new IllegalStateException("Failure " + i));
+        }
+
+        subject.close();
+
+        final String log = stream.toString();
+
+        assertTrue(log.contains("[ERROR] Failure 0 (stack trace #1)"));
+        assertTrue(log.contains("[ERROR] Failure 2 (stack trace same as #1, seen 3 times)"));
+        assertTrue(log.contains("1 distinct stack trace(s) logged:"));
+        assertEquals(log.split("\tat ", -1).length - 1, new IllegalStateException().getStackTrace().length);
+    }
+
+    /**
+     * Tests that messages are discarded and reported when the buffer is full,
+     * if the overflow policy is {@link OverflowPolicy#DROP}.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testPublishWithDropPolicy() throws InterruptedException {
+        final BlockingOutputStream stream = new BlockingOutputStream();
+        final AsyncLogDispatcher subject = new AsyncLogDispatcher(new PrintStream(stream), 4, OverflowPolicy.DROP, LogLevel.WARN);
+
+        try {
+            // Occupy the dedicated thread, so that the buffer fills up.
+            subject.publish(LogLevel.INFO, null, "First", null);
+
+            assertTrue(stream.writing.await(1, TimeUnit.MINUTES));
+
+            for (int i = 0; i < 10; ++i) {
+                subject.publish(LogLevel.ERROR, null, "Message " + i, null);
+            }
+
+            assertEquals(subject.getDropped(), 6);
+
+            stream.release.countDown();
+            subject.flush();
+        }
+        finally {
+            subject.close();
+        }
+
+        final String log = stream.toString();
+
+        assertTrue(log.contains("Message 3"));
+        assertFalse(log.contains("Message 4"));
+        assertTrue(log.contains("6 log messages dropped"));
+    }
+
+    /**
+     * Tests that only messages below a threshold are discarded when the
+     * buffer is full, if the overflow policy is
+     * {@link OverflowPolicy#DROP_BELOW_LEVEL}, while others wait for space.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testPublishWithDropBelowLevelPolicy() throws InterruptedException {
+        final BlockingOutputStream stream = new BlockingOutputStream();
+        final AsyncLogDispatcher subject = new AsyncLogDispatcher(new PrintStream(stream), 2, OverflowPolicy.DROP_BELOW_LEVEL, LogLevel.WARN);
+
+        try {
+            subject.publish(LogLevel.INFO, null, "First", null);
+
+            assertTrue(stream.writing.await(1, TimeUnit.MINUTES));
+
+            subject.publish(LogLevel.INFO, null, "Second", null);
+            subject.publish(LogLevel.INFO, null, "Third", null);
+            subject.publish(LogLevel.DEBUG, null, "Dropped", null);
+
+            assertEquals(subject.getDropped(), 1);
+
+            final Thread writer = new Thread(() -> subject.publish(LogLevel.WARN, null, "Blocked", null));
+            writer.start();
+            writer.join(TimeUnit.MILLISECONDS.toMillis(200));
+
+            assertTrue(writer.isAlive());
+
+            stream.release.countDown();
+            writer.join(TimeUnit.MINUTES.toMillis(1));
+
+            assertFalse(writer.isAlive());
+
+            subject.flush();
+        }
+        finally {
+            subject.close();
+        }
+
+        final String log = stream.toString();
+
+        assertTrue(log.contains("[WARN] Blocked"));
+        assertFalse(log.contains("Dropped" + System.lineSeparator()));
+        assertTrue(log.contains("1 log messages dropped"));
+    }
+
+    /**
+     * Tests that all messages are written when the dispatcher is closed, and
+     * that messages written afterwards are written directly.
+     */
+    @Test
+    public void testClose() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AsyncLogDispatcher subject = new AsyncLogDispatcher(new PrintStream(stream), 1024, OverflowPolicy.BLOCK, LogLevel.WARN);
+
+        final int count = getInt(100, 1000);
+
+        for (int i = 0; i < count; ++i) {
+            subject.publish(LogLevel.DEBUG, null, "Message " + i, null);
+        }
+
+        subject.close();
+        subject.close();
+
+        assertEquals(stream.toString().split(System.lineSeparator()).length, count);
+
+        subject.publish(LogLevel.INFO, null, "After", null);
+
+        assertTrue(stream.toString().endsWith("[INFO] After" + System.lineSeparator()));
+    }
+
+    /**
+     * An output stream that blocks the first write until released.
+     */
+    private static final class BlockingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void write(final int value) throws IOException {
+            write(new byte[] { (byte) value }, 0, 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+            writing.countDown();
+
+            try {
+                release.await();
+            }
+            catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+
+            synchronized (delegate) {
+                delegate.write(buffer, offset, length);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            synchronized (delegate) {
+                return delegate.toString();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncLogger}.
+ */
+public class AsyncLoggerTest implements UnitTest {
+    private AsyncLogDispatcher dispatcher;
+
+    private ByteArrayOutputStream stream;
+
+    private Logger subject;
+
+    /**
+     * Creates a logger writing to a buffer for each test.
+     */
+    @BeforeMethod
+    public void setup() {
+        stream = new ByteArrayOutputStream();
+        dispatcher = new AsyncLogDispatcher(new PrintStream(stream), 64, OverflowPolicy.BLOCK, LogLevel.WARN);
+        subject = new AsyncLogger(getClass(), dispatcher);
+    }
+
+    /**
+     * Stops the dispatcher after each test.
+     */
+    @AfterMethod
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    /**
+     * Tests that messages are written at every level.
+     */
+    @Test
+    public void testLevels() {
+        final int context = getInt();
+
+        subject.debug("Debug %d.", context);
+        subject.info("Info %d and %d.", context, context);
+        subject.warn("Warn %d, %d and %d.", context, context, context);
+        subject.error("Error.");
+
+        final String log = getLog();
+
+        assertTrue(log.contains(String.format("[DEBUG] [%s] Debug %d.", getClass().getName(), context)));
+        assertTrue(log.contains(String.format("[INFO] [%s] Info %d and %d.", getClass().getName(), context, context)));
+        assertTrue(log.contains(String.format("[WARN] [%s] Warn %d, %d and %d.", getClass().getName(), context, context, context)));
+        assertTrue(log.contains(String.format("[ERROR] [%s] Error.", getClass().getName())));
+    }
+
+    /**
+     * Tests that exceptions are written along with messages.
+     */
+    @Test
+    public void testErrorWithThrowable() {
+        final Throwable throwable = new RuntimeException(getString());
+        final int context = getInt();
+
+        subject.error(throwable, "Invalid quantity %d.", context);
+
+        final String log = getLog();
+
+        assertTrue(log.contains(String.format("Invalid quantity %d.", context)));
+        assertTrue(log.contains(throwable.getMessage()));
+        assertTrue(log.contains(RuntimeException.class.getName()));
+    }
+
+    /**
+     * Tests that messages below the threshold of the logger are discarded
+     * without being formatted or supplied.
+     */
+    @Test
+    public void testThreshold() {
+        final Logger logger = new AsyncLogger(getClass(), dispatcher, LogLevel.WARN);
+
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+        assertTrue(logger.isErrorEnabled());
+
+        logger.debug("Debug %d.", getInt());
+        logger.infoLazily(() -> {
+            throw new AssertionError("Message supplied for a discarded level.");
+        });
+        logger.warnLazily(() -> "Warn.");
+        logger.errorLazily(new RuntimeException(getString()), () -> "Error.");
+
+        final String log = getLog();
+
+        assertFalse(log.contains("[DEBUG]"));
+        assertFalse(log.contains("[INFO]"));
+        assertTrue(log.contains(String.format("[WARN] [%s] Warn.", getClass().getName())));
+        assertTrue(log.contains(String.format("[ERROR] [%s] Error.", getClass().getName())));
+    }
+
+    /**
+     * Gets the messages written so far.
+     *
+     * @return The messages written so far.
+     */
+    private String getLog() {
+        dispatcher.flush();
+
+        return stream.toString();
+    }
+}
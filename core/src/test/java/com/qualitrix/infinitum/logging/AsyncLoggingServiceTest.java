@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncLoggingService}.
+ */
+public class AsyncLoggingServiceTest {
+    private final AsyncLoggingService subject = new AsyncLoggingService();
+
+    /**
+     * Tests that a logger can be obtained and used.
+     */
+    @Test
+    public void testGetLogger() {
+        final Logger logger = subject.getLogger(getClass());
+
+        assertNotNull(logger);
+
+        logger.debug("Written in the background.");
+
+        subject.flush();
+    }
+
+    /**
+     * Tests that the service takes precedence over writing to the console
+     * directly.
+     */
+    @Test
+    public void testGetPriority() {
+        assertEquals(subject.getPriority(), 0);
+        assertTrue(subject.getPriority() > new ConsoleLoggingService().getPriority());
+    }
+
+    /**
+     * Tests that the service is disabled unless configured otherwise.
+     */
+    @Test
+    public void testIsAvailable() {
+        assertFalse(subject.isAvailable());
+    }
+}
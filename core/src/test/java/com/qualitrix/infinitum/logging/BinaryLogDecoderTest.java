@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link BinaryLogDecoder}, decoding files written by
+ * {@link BinaryLogger} through a {@link BinaryLogWriter}.
+ */
+public class BinaryLogDecoderTest implements UnitTest {
+    private Path file;
+
+    /**
+     * Creates a file for the binary log of each test.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    @BeforeMethod
+    public void setup() throws IOException {
+        file = Files.createTempFile("infinitum-logging", ".bin");
+    }
+
+    /**
+     * Deletes the binary log of each test.
+     *
+     * @throws IOException if the file cannot be deleted.
+     */
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Tests that a file that is not a binary log is rejected.
+     */
+    @Test
+    public void testDecodeInvalid() {
+        assertThrows(IOException.class, () -> BinaryLogDecoder.decode(new ByteArrayInputStream(new byte[8])
+            , LogFormat.TEXT
+            , new PrintStream(new ByteArrayOutputStream())));
+    }
+
+    /**
+     * Tests that messages are decoded as JSON, with their exceptions.
+     *
+     * @throws IOException if the file cannot be written or read.
+     */
+    @Test
+    public void testDecodeJson() throws IOException {
+        final String message = getString();
+
+        try (BinaryLogWriter writer = new BinaryLogWriter(file, 4096)) {
+            final BinaryLogger logger = new BinaryLogger(getClass(), writer, LogLevel.DEBUG);
+
+            logger.warn("Message [{}] \"quoted\".", message);
+            logger.error(new IllegalStateException(message), "Failed.");
+        }
+
+        final String[] lines = decode(LogFormat.JSON).split(System.lineSeparator());
+
+        assertEquals(lines.length, 2);
+        assertTrue(lines[0].startsWith("{\"timestamp\":\""));
+        assertTrue(lines[0].contains(String.format("\"level\":\"WARN\",\"logger\":\"%s\"", getClass().getName())));
+        assertTrue(lines[0].endsWith(String.format("\"message\":\"Message [%s] \\\"quoted\\\".\"}", message)));
+        assertTrue(lines[1].contains("\"message\":\"Failed.\",\"exception\":\"" + IllegalStateException.class.getName()));
+    }
+
+    /**
+     * Tests that messages are decoded as text, formatted with their values,
+     * across chunks of the file.
+     *
+     * @throws IOException if the file cannot be written or read.
+     */
+    @Test
+    public void testDecodeText() throws IOException {
+        final String message = getString();
+
+        try (BinaryLogWriter writer = new BinaryLogWriter(file, 4096)) {
+            final BinaryLogger logger = new BinaryLogger(getClass(), writer, LogLevel.DEBUG);
+
+            for (int i = 0; i < 1000; ++i) {
+                logger.info("Attempt %d of %s: %s, %s, %s.", i, 1000L, 1.5, true, 'x');
+            }
+
+            logger.debug("Literal {} and %x.");
+            logger.error("Values [{}] [{}].", message, null);
+            logger.error(new IllegalArgumentException(message), "Failed.");
+        }
+
+        final String[] lines = decode(LogFormat.TEXT).split(System.lineSeparator());
+
+        assertTrue(lines[0].matches("\\d{4}-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d\\.\\d{3}Z \\[INFO] \\[.+] Attempt 0 of 1000: 1.5, true, x\\."));
+        assertTrue(lines[999].endsWith(String.format("[INFO] [%s] Attempt 999 of 1000: 1.5, true, x.", getClass().getName())));
+        assertTrue(lines[1000].endsWith("[DEBUG] [" + getClass().getName() + "] Literal {} and %x."));
+        assertTrue(lines[1001].endsWith(String.format("Values [%s] [null].", message)));
+        assertTrue(lines[1002].endsWith("Failed."));
+        assertEquals(lines[1003], String.format("%s: %s", IllegalArgumentException.class.getName(), message));
+    }
+
+    /**
+     * Decodes the binary log of the current test.
+     *
+     * @param layout The layout in which messages must be written.
+     *
+     * @return The decoded messages.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    private String decode(final LogFormat layout) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (InputStream input = Files.newInputStream(file)) {
+            BinaryLogDecoder.decode(input, layout, new PrintStream(output, true, StandardCharsets.UTF_8.name()));
+        }
+
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
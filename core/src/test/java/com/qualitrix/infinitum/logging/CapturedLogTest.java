@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CapturedLog}.
+ */
+public class CapturedLogTest implements UnitTest {
+    /**
+     * Tests that the oldest output is discarded once the capacity of the log
+     * has been exceeded, and that output larger than the capacity is cut to
+     * its end.
+     */
+    @Test
+    public void testAppend() {
+        final CapturedLog subject = new CapturedLog(10);
+        final PrintStream sink = new PrintStream(new ByteArrayOutputStream());
+
+        subject.append(sink, "one ");
+        subject.append(sink, "two ");
+        subject.append(sink, "three ");
+
+        assertEquals(getText(subject), Arrays.asList("two ", "three "));
+        assertEquals(subject.getDiscarded(), 1);
+
+        subject.append(sink, "a very long line");
+
+        assertEquals(getText(subject), Arrays.asList(" long line"));
+        assertEquals(subject.getDiscarded(), 3);
+    }
+
+    /**
+     * Tests that a log is bound to the current thread between
+     * {@link CapturedLog#start(int)} and {@link CapturedLog#stop()}.
+     */
+    @Test
+    public void testStartAndStop() {
+        assertNull(CapturedLog.current());
+
+        final CapturedLog subject = CapturedLog.start(getInt(1, 100));
+
+        assertSame(CapturedLog.current(), subject);
+        assertSame(CapturedLog.stop(), subject);
+        assertNull(CapturedLog.current());
+        assertNull(CapturedLog.stop());
+    }
+
+    /**
+     * Tests that captured output is written to the streams to which it would
+     * have been written, in order.
+     */
+    @Test
+    public void testWriteOut() {
+        final CapturedLog subject = new CapturedLog(1024);
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        final PrintStream firstSink = new PrintStream(first);
+        final PrintStream secondSink = new PrintStream(second);
+
+        assertTrue(subject.isEmpty());
+
+        subject.append(firstSink, "1");
+        subject.append(secondSink, "2");
+        subject.append(firstSink, "3");
+        subject.writeOut();
+
+        assertEquals(first.toString(), "13");
+        assertEquals(second.toString(), "2");
+    }
+
+    /**
+     * Gets the output held by a log.
+     *
+     * @param log The log.
+     *
+     * @return The output, oldest first.
+     */
+    private static List<String> getText(final CapturedLog log) {
+        final List<String> text = new ArrayList<>();
+
+        log.forEach(text::add);
+
+        return text;
+    }
+}
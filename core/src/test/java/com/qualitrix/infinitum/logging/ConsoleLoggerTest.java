@@ -38,4 +38,24 @@ public class ConsoleLoggerTest extends PrintStreamLoggerTest {
 
         return new ConsoleLogger(getClass());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    PrintStreamLogger getLogger(final OutputStream stream, final LogLevel threshold) {
+        System.setOut(new PrintStream(stream));
+
+        return new ConsoleLogger(getClass(), threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    PrintStreamLogger getLogger(final OutputStream stream, final LogFormat layout) {
+        System.setOut(new PrintStream(stream));
+
+        return new ConsoleLogger(getClass(), null, layout);
+    }
 }
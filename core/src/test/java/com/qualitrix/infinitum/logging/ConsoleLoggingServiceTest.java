@@ -24,6 +24,7 @@ import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -40,6 +41,14 @@ public class ConsoleLoggingServiceTest {
         assertNotNull(subject.getLogger(getClass()));
     }
 
+    /**
+     * Tests that loggers are cached.
+     */
+    @Test
+    public void testGetLoggerCached() {
+        assertSame(subject.getLogger(getClass()), subject.getLogger(getClass()));
+    }
+
     /**
      * Tests that the priority of the service is non-zero.
      */
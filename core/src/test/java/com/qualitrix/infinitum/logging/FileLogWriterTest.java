@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link FileLogWriter}.
+ */
+public class FileLogWriterTest implements UnitTest {
+    private Path directory;
+
+    /**
+     * Creates a directory for log files for each test.
+     *
+     * @throws IOException if the directory cannot be created.
+     */
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("infinitum-logging");
+    }
+
+    /**
+     * Deletes log files created by each test.
+     *
+     * @throws IOException if the files cannot be deleted.
+     */
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Tests that writing to a closed writer fails.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    public void testClose() throws IOException {
+        final FileLogWriter subject = new FileLogWriter(directory.resolve("test.log"), 1024, 0, 0, 1000, false);
+
+        subject.close();
+        subject.close();
+
+        assertThrows(IOException.class, () -> subject.write(1));
+    }
+
+    /**
+     * Tests that output is appended to the file, creating missing
+     * directories, and that output already in the file is retained.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        final Path file = directory.resolve("nested").resolve("test.log");
+        final String first = getString();
+        final String second = getString();
+
+        try (FileLogWriter subject = new FileLogWriter(file, 1024, 0, 0, 1000, false)) {
+            subject.write(first.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (FileLogWriter subject = new FileLogWriter(file, 1024, 0, 0, 1000, false)) {
+            subject.write(second.getBytes(StandardCharsets.UTF_8));
+            subject.flush();
+
+            assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), first + second);
+        }
+    }
+
+    /**
+     * Tests that output larger than the buffer is written in full.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    public void testWriteLargerThanBuffer() throws IOException {
+        final Path file = directory.resolve("test.log");
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 1000; ++i) {
+            text.append(getString()).append(System.lineSeparator());
+        }
+
+        try (FileLogWriter subject = new FileLogWriter(file, 1024, 0, 0, 1000, false)) {
+            subject.write(text.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), text.toString());
+    }
+
+    /**
+     * Tests that the file is rolled over when it reaches the maximum size,
+     * and that rolled over files are compressed without losing any output.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    public void testRollOverBySize() throws IOException {
+        final Path file = directory.resolve("test.log");
+        final byte[] line = "0123456789012345678901234567890123456789\n".getBytes(StandardCharsets.UTF_8);
+
+        try (FileLogWriter subject = new FileLogWriter(file, 1024, 100, 0, 1000, true)) {
+            for (int i = 0; i < 10; ++i) {
+                subject.write(line);
+            }
+        }
+
+        final List<Path> rolled = list("test-*.log.gz");
+
+        assertFalse(rolled.isEmpty());
+        assertTrue(list("test-*.log").isEmpty());
+
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        for (final Path path : rolled) {
+            try (InputStream input = new GZIPInputStream(Files.newInputStream(path))) {
+                final byte[] chunk = new byte[1024];
+
+                int count;
+
+                while ((count = input.read(chunk)) >= 0) {
+                    content.write(chunk, 0, count);
+                }
+            }
+        }
+
+        content.write(Files.readAllBytes(file));
+
+        assertEquals(content.size(), 10 * line.length);
+    }
+
+    /**
+     * Tests that the file is rolled over once the rollover interval has
+     * elapsed, and kept uncompressed if so configured.
+     *
+     * @throws Exception if the file cannot be written.
+     */
+    @Test
+    public void testRollOverByTime() throws Exception {
+        final Path file = directory.resolve("test.log");
+
+        try (FileLogWriter subject = new FileLogWriter(file, 1024, 0, 50, 1000, false)) {
+            subject.write('a');
+
+            Thread.sleep(100);
+
+            subject.write('b');
+        }
+
+        assertEquals(list("test-*.log").size(), 1);
+        assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), "b");
+    }
+
+    /**
+     * Lists files in the log directory matching a pattern.
+     *
+     * @param pattern The pattern.
+     *
+     * @return The matching files.
+     *
+     * @throws IOException if the directory cannot be read.
+     */
+    private List<Path> list(final String pattern) throws IOException {
+        final List<Path> paths = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, pattern)) {
+            stream.forEach(paths::add);
+        }
+
+        return paths;
+    }
+}
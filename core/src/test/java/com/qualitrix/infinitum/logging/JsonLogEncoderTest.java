@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link JsonLogEncoder}.
+ */
+public class JsonLogEncoderTest implements UnitTest {
+    /**
+     * Tests that points in time are written in ISO 8601 format, in UTC,
+     * including around leap days and before the epoch.
+     */
+    @Test
+    public void testAppendTimestamp() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+        final long[] timestamps = {
+            0L
+            , -1L
+            , Instant.parse("2000-02-29T23:59:59.999Z").toEpochMilli()
+            , Instant.parse("2100-03-01T00:00:00.000Z").toEpochMilli()
+            , Instant.parse("1969-12-31T00:00:00.007Z").toEpochMilli()
+            , System.currentTimeMillis()
+        };
+
+        for (final long timestamp : timestamps) {
+            assertTimestamp(formatter, timestamp);
+        }
+
+        for (int i = 0; i < 1000; ++i) {
+            assertTimestamp(formatter, getLong(0, 4_102_444_800_000L));
+        }
+    }
+
+    /**
+     * Tests that characters that cannot appear as is within a JSON string
+     * are escaped, in place, from a specified position onwards.
+     */
+    @Test
+    public void testEscape() {
+        final StringBuilder text = new StringBuilder("\"Kept\" ");
+
+        // Control characters must be escaped, while other characters outside
+        // the ASCII range need not be.
+        text.append("Say \"hi\"\\\n\tthen\r\b\f").append((char) 1).append(" leave ").append((char) 0xE9);
+
+        JsonLogEncoder.escape(text, 7);
+
+        assertEquals(text.toString(), "\"Kept\" Say \\\"hi\\\"\\\\\\n\\tthen\\r\\b\\f\\u0001 leave " + (char) 0xE9);
+    }
+
+    /**
+     * Tests that a message is written as a single JSON object on a line of
+     * its own.
+     */
+    @Test
+    public void testStartAndEnd() {
+        final StringBuilder text = new StringBuilder();
+
+        JsonLogEncoder.start(text, 0L, LogLevel.WARN, getClass().getName(), "worker \"1\"", null);
+
+        final int from = text.length();
+
+        text.append("Quantity \"5\" is invalid.");
+
+        JsonLogEncoder.end(text, from, null);
+
+        assertEquals(text.toString()
+            , String.format("{\"timestamp\":\"1970-01-01T00:00:00.000Z\",\"level\":\"WARN\",\"logger\":\"%s\",\"thread\":\"worker \\\"1\\\"\","
+                                + "\"message\":\"Quantity \\\"5\\\" is invalid.\"}%s"
+                , getClass().getName()
+                , System.lineSeparator()));
+    }
+
+    /**
+     * Tests that the stack trace of an exception, including its causes, is
+     * written as a field of the object.
+     */
+    @Test
+    public void testEndWithThrowable() {
+        final StringBuilder text = new StringBuilder();
+        final Throwable cause = new IllegalArgumentException(getString());
+        final Throwable throwable = new IllegalStateException(getString(), cause);
+
+        JsonLogEncoder.start(text, System.currentTimeMillis(), LogLevel.ERROR, null, "main", null);
+
+        final int from = text.length();
+
+        text.append("Failure.");
+
+        JsonLogEncoder.end(text, from, throwable);
+
+        final String json = text.toString();
+
+        assertTrue(json.startsWith("{\"timestamp\":\""));
+        assertTrue(json.contains("\"message\":\"Failure.\",\"exception\":\"" + throwable));
+        assertTrue(json.contains("\\n\\tat " + getClass().getName()));
+        assertTrue(json.contains("\\nCaused by: " + cause));
+        assertTrue(json.endsWith("\"}" + System.lineSeparator()));
+        assertEquals(json.indexOf('\n'), json.length() - 1);
+    }
+
+    /**
+     * Tests that only the exception itself, and a reference to its stack
+     * trace, are written for a repeated occurrence of a stack trace.
+     */
+    @Test
+    public void testEndWithRepeatedThrowable() {
+        final StringBuilder text = new StringBuilder();
+        final Throwable throwable = new IllegalStateException(getString());
+
+        JsonLogEncoder.start(text, System.currentTimeMillis(), LogLevel.ERROR, null, "main", null);
+
+        final int from = text.length();
+
+        text.append("Failure.");
+
+        JsonLogEncoder.end(text, from, throwable, new StackTraceRegistry.Occurrence(17, 412, false));
+
+        assertTrue(text.toString().endsWith(String.format(",\"exception\":\"%s\",\"trace\":17,\"seen\":412}%s", throwable, System.lineSeparator())));
+    }
+
+    /**
+     * Asserts that a point in time is written as expected.
+     *
+     * @param formatter A {@link DateTimeFormatter} producing the expected
+     * text.
+     * @param timestamp The point in time, in milliseconds since the epoch.
+     */
+    private static void assertTimestamp(final DateTimeFormatter formatter, final long timestamp) {
+        final StringBuilder text = new StringBuilder();
+
+        JsonLogEncoder.appendTimestamp(text, timestamp);
+
+        assertEquals(text.toString(), formatter.format(Instant.ofEpochMilli(timestamp)));
+    }
+}
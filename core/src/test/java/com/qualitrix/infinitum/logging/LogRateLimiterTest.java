@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LogRateLimiter}.
+ */
+public class LogRateLimiterTest implements UnitTest {
+    /**
+     * Tests that no limiter is created if no limits have been configured.
+     */
+    @Test
+    public void testCreate() {
+        final List<String> summaries = new ArrayList<>();
+
+        assertNull(LogRateLimiter.create(getClass().getName(), summaries::add));
+    }
+
+    /**
+     * Tests that messages suppressed after the last message written are
+     * summarized through the reporter of the limiter when flushed, whether or
+     * not the summary interval has elapsed.
+     */
+    @Test
+    public void testFlushAll() {
+        final List<String> summaries = new ArrayList<>();
+        final LogRateLimiter subject = new LogRateLimiter(1, 0, 60_000, () -> 0L, summaries::add);
+
+        subject.permit("Polling.");
+        subject.permit("Polling.");
+        subject.permit("Polling.");
+
+        LogRateLimiter.flushAll();
+        LogRateLimiter.flushAll();
+
+        assertEquals(summaries, Collections.singletonList("Suppressed 2 log message(s) from 1 call site(s) to limit log volume."));
+        assertNull(subject.pollSummary());
+    }
+
+    /**
+     * Tests that messages beyond the rate limit are suppressed until the next
+     * second, separately for each call site.
+     */
+    @Test
+    public void testPermitRateLimited() {
+        final AtomicLong clock = new AtomicLong(5000);
+        final LogRateLimiter subject = new LogRateLimiter(2, 0, 1000, clock::get, null);
+
+        assertTrue(subject.permit("Polling."));
+        assertTrue(subject.permit("Polling."));
+        assertFalse(subject.permit("Polling."));
+        assertTrue(subject.permit("Other."));
+
+        clock.addAndGet(1000);
+
+        assertTrue(subject.permit("Polling."));
+    }
+
+    /**
+     * Tests that only every N-th message from a call site is permitted when
+     * sampling.
+     */
+    @Test
+    public void testPermitSampled() {
+        final LogRateLimiter subject = new LogRateLimiter(0, 3, 1000);
+
+        int permitted = 0;
+
+        for (int i = 0; i < 9; ++i) {
+            if (subject.permit("Polling.")) {
+                ++permitted;
+            }
+        }
+
+        assertEquals(permitted, 3);
+    }
+
+    /**
+     * Tests that suppressed messages are summarized at most once per summary
+     * interval.
+     */
+    @Test
+    public void testPollSummary() {
+        final AtomicLong clock = new AtomicLong(0);
+        final LogRateLimiter subject = new LogRateLimiter(1, 0, 1000, clock::get, null);
+
+        assertNull(subject.pollSummary());
+
+        subject.permit("First.");
+        subject.permit("First.");
+        subject.permit("First.");
+        subject.permit("Second.");
+        subject.permit("Second.");
+
+        assertNull(subject.pollSummary());
+
+        clock.set(1000);
+
+        assertEquals(subject.pollSummary(), "Suppressed 3 log message(s) from 2 call site(s) to limit log volume.");
+        assertNull(subject.pollSummary());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LogRingBuffer}.
+ */
+public class LogRingBufferTest implements UnitTest {
+    /**
+     * Tests that the capacity is rounded up to a power of two.
+     */
+    @Test
+    public void testGetCapacity() {
+        assertEquals(new LogRingBuffer(1).getCapacity(), 2);
+        assertEquals(new LogRingBuffer(8).getCapacity(), 8);
+        assertEquals(new LogRingBuffer(9).getCapacity(), 16);
+        assertEquals(new LogRingBuffer(1000).getCapacity(), 1024);
+    }
+
+    /**
+     * Tests that events are read in the order in which they were added, and
+     * that no more events than the capacity can be waiting.
+     */
+    @Test
+    public void testOfferAndDrain() {
+        final LogRingBuffer subject = new LogRingBuffer(4);
+        final Throwable throwable = new RuntimeException(getString());
+
+        for (int i = 0; i < 4; ++i) {
+            assertTrue(subject.offer(LogLevel.INFO, getClass().getName(), String.valueOf(i), i == 0 ? throwable : null));
+        }
+
+        assertFalse(subject.offer(LogLevel.INFO, getClass().getName(), getString(), null));
+        assertEquals(subject.getTail(), 4);
+
+        final List<String> messages = new ArrayList<>();
+
+        assertEquals(subject.drain(event -> {
+            assertEquals(event.getLevel(), LogLevel.INFO);
+            assertEquals(event.getName(), getClass().getName());
+
+            if (messages.isEmpty()) {
+                assertEquals(event.getThrowable(), throwable);
+            }
+            else {
+                assertNull(event.getThrowable());
+            }
+
+            messages.add(event.getMessage());
+        }, 3), 3);
+
+        assertEquals(messages.size(), 3);
+        assertEquals(subject.getHead(), 3);
+
+        // Slots released by the reader can be used again.
+        assertTrue(subject.offer(LogLevel.WARN, null, "4", null));
+        assertTrue(subject.offer(LogLevel.WARN, null, "5", null));
+        assertTrue(subject.offer(LogLevel.WARN, null, "6", null));
+        assertFalse(subject.offer(LogLevel.WARN, null, "7", null));
+
+        assertEquals(subject.drain(event -> messages.add(event.getMessage()), Integer.MAX_VALUE), 4);
+        assertEquals(messages.toString(), "[0, 1, 2, 3, 4, 5, 6]");
+        assertEquals(subject.drain(event -> messages.add(event.getMessage()), Integer.MAX_VALUE), 0);
+    }
+
+    /**
+     * Tests that events added by multiple threads are all read exactly once.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testOfferFromMultipleThreads() throws InterruptedException {
+        final LogRingBuffer subject = new LogRingBuffer(64);
+        final int threads = getInt(2, 8);
+        final int count = getInt(1000, 5000);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; ++i) {
+            final int offset = i * count;
+
+            executor.execute(() -> {
+                for (int j = offset; j < offset + count; ++j) {
+                    while (!subject.offer(LogLevel.DEBUG, null, String.valueOf(j), null)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        final Set<String> messages = new HashSet<>();
+
+        while (!executor.isTerminated() || subject.getHead() < subject.getTail()) {
+            subject.drain(event -> assertTrue(messages.add(event.getMessage())), Integer.MAX_VALUE);
+        }
+
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(messages.size(), threads * count);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LoggerRegistry}.
+ */
+public class LoggerRegistryTest implements UnitTest {
+    private final LoggerRegistry subject = new LoggerRegistry(ConsoleLogger::new);
+
+    /**
+     * Reverts levels changed by tests.
+     */
+    @AfterMethod
+    public void tearDown() {
+        LoggingConfiguration.getInstance().setLevel(getClass().getPackage().getName(), null);
+        LoggingConfiguration.getInstance().setLevel(getClass().getName(), null);
+    }
+
+    /**
+     * Tests that loggers are cached.
+     */
+    @Test
+    public void testGetLogger() {
+        final ConfigurableLogger logger = subject.getLogger(getClass());
+
+        assertNotNull(logger);
+        assertEquals(logger.getName(), getClass().getName());
+        assertSame(subject.getLogger(getClass()), logger);
+        assertNotSame(subject.getLogger(String.class), logger);
+    }
+
+    /**
+     * Tests that loggers without a class are created afresh.
+     */
+    @Test
+    public void testGetLoggerWithoutClass() {
+        assertNotNull(subject.getLogger(null));
+        assertNotSame(subject.getLogger(null), subject.getLogger(null));
+    }
+
+    /**
+     * Tests that changing levels at runtime applies to loggers already
+     * created, the level set for a logger taking precedence over that set for
+     * its package.
+     */
+    @Test
+    public void testSetLevel() {
+        final ConfigurableLogger logger = subject.getLogger(getClass());
+        final ConfigurableLogger sibling = subject.getLogger(LoggerRegistry.class);
+
+        assertTrue(logger.isDebugEnabled());
+
+        LoggingConfiguration.getInstance().setLevel(getClass().getPackage().getName(), LogLevel.WARN);
+
+        assertEquals(logger.getLevel(), LogLevel.WARN);
+        assertEquals(sibling.getLevel(), LogLevel.WARN);
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+
+        LoggingConfiguration.getInstance().setLevel(getClass().getName(), LogLevel.ERROR);
+
+        assertEquals(logger.getLevel(), LogLevel.ERROR);
+        assertEquals(sibling.getLevel(), LogLevel.WARN);
+
+        LoggingConfiguration.getInstance().setLevel(getClass().getPackage().getName(), null);
+        LoggingConfiguration.getInstance().setLevel(getClass().getName(), null);
+
+        assertEquals(logger.getLevel(), LogLevel.DEBUG);
+        assertEquals(sibling.getLevel(), LogLevel.DEBUG);
+    }
+
+    /**
+     * Tests that loggers created after levels have been changed get the
+     * changed levels.
+     */
+    @Test
+    public void testSetLevelBeforeCreation() {
+        LoggingConfiguration.getInstance().setLevel(getClass().getName(), LogLevel.OFF);
+
+        assertEquals(new LoggerRegistry(ConsoleLogger::new).getLogger(getClass()).getLevel(), LogLevel.OFF);
+    }
+}
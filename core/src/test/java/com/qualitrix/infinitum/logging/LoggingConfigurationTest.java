@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.config.ConfigurationServiceLocator;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link LoggingConfiguration}.
+ */
+public class LoggingConfigurationTest implements UnitTest {
+    /**
+     * Tests that configuration is loaded from the same source as the rest of
+     * the application.
+     */
+    @Test
+    public void testGetConfigurationService() {
+        assertNotNull(LoggingConfiguration.getInstance().getConfigurationService());
+        assertSame(LoggingConfiguration.getInstance(), LoggingConfiguration.getInstance());
+        assertEquals(LoggingConfiguration.getInstance().getConfigurationService().getClass()
+            , ConfigurationServiceLocator.getInstance().getConfigurationService().getClass());
+    }
+
+    /**
+     * Tests that messages are written as plain text if no layout has been
+     * configured.
+     */
+    @Test
+    public void testGetFormat() {
+        assertEquals(LoggingConfiguration.getInstance().getFormat("console"), LogFormat.TEXT);
+        assertEquals(LoggingConfiguration.getInstance().getFormat("file"), LogFormat.TEXT);
+    }
+
+    /**
+     * Tests that all messages are written if no level has been configured.
+     */
+    @Test
+    public void testGetLevel() {
+        assertEquals(LoggingConfiguration.getInstance().getLevel(null), LogLevel.DEBUG);
+        assertEquals(LoggingConfiguration.getInstance().getLevel(getClass().getName()), LogLevel.DEBUG);
+    }
+
+    /**
+     * Tests that messages are neither rate limited nor sampled if not
+     * configured.
+     */
+    @Test
+    public void testGetRateLimit() {
+        assertEquals(LoggingConfiguration.getInstance().getRateLimit(null), 0);
+        assertEquals(LoggingConfiguration.getInstance().getRateLimit(getClass().getName()), 0);
+        assertEquals(LoggingConfiguration.getInstance().getSampleRate(getClass().getName()), 0);
+        assertEquals(LoggingConfiguration.getInstance().getSuppressionSummaryInterval(), 10000L);
+    }
+
+    /**
+     * Tests that levels changed at runtime apply to loggers and packages
+     * under the names for which they have been set.
+     */
+    @Test
+    public void testSetLevel() {
+        final LoggingConfiguration subject = LoggingConfiguration.getInstance();
+        final String name = getClass().getName();
+        final String parent = getClass().getPackage().getName();
+
+        try {
+            subject.setLevel(parent, LogLevel.INFO);
+
+            assertEquals(subject.getLevel(name), LogLevel.INFO);
+            assertEquals(subject.getLevel(parent + ".other.Type"), LogLevel.INFO);
+            assertEquals(subject.getLevel(parent + "Other.Type"), LogLevel.DEBUG);
+            assertEquals(subject.getLevel(null), LogLevel.DEBUG);
+
+            subject.setLevel(name, LogLevel.ERROR);
+
+            assertEquals(subject.getLevel(name), LogLevel.ERROR);
+            assertEquals(subject.getLevel(parent), LogLevel.INFO);
+        }
+        finally {
+            subject.setLevel(parent, null);
+            subject.setLevel(name, null);
+        }
+
+        assertEquals(subject.getLevel(name), LogLevel.DEBUG);
+    }
+}
@@ -27,9 +27,14 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
@@ -121,6 +126,55 @@ abstract class PrintStreamLoggerTest implements UnitTest {
         assertTrue(log.contains(throwable.getMessage()));
     }
 
+    /**
+     * Tests that a stack trace is written in full only once, and referred to
+     * afterwards.
+     */
+    @Test
+    public void testErrorWithRepeatedThrowable() {
+        final Logger logger = getLogger(stream);
+
+        for (int i = 0; i < 3; ++i) {
+            logger.error(new IllegalStateException("Failure " + i), "Error.");
+        }
+
+        final String log = stream.toString();
+
+        assertEquals(log.split(IllegalStateException.class.getName(), -1).length, 2);
+        assertTrue(log.contains("Failure 0 (stack trace #"));
+        assertTrue(log.contains("Failure 2 (stack trace same as #"));
+        assertTrue(log.contains("seen 3 times)"));
+    }
+
+    /**
+     * Tests that, when threads write the same stack trace concurrently, it is
+     * written in full once, before any reference to it.
+     *
+     * @throws InterruptedException if interrupted while waiting for the
+     * threads to finish.
+     */
+    @Test
+    public void testErrorWithRepeatedThrowableConcurrently() throws InterruptedException {
+        final Logger logger = getLogger(stream);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            for (int i = 0; i < 200; ++i) {
+                executor.execute(() -> logger.error(new IllegalStateException("Failure"), "Error."));
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        final String log = stream.toString();
+
+        assertEquals(log.split(IllegalStateException.class.getName(), -1).length, 2);
+        assertTrue(log.indexOf(IllegalStateException.class.getName()) < log.indexOf("stack trace same as #"));
+    }
+
     /**
      * Tests that an error with contextual information can be logged
      * successfully.
@@ -237,6 +291,114 @@ abstract class PrintStreamLoggerTest implements UnitTest {
         testWriteMessageWithTwoContextualArguments(getLogger(stream)::info);
     }
 
+    /**
+     * Tests that messages are written as JSON objects, one per line, carrying
+     * the logger, thread and test that wrote them.
+     */
+    @Test
+    public void testJson() {
+        final Logger logger = getLogger(stream, LogFormat.JSON);
+
+        logger.info("Quantity \"%s\" is invalid.", 5);
+        logger.warn("Warning.");
+
+        final String[] lines = stream.toString().split(System.lineSeparator());
+
+        assertEquals(lines.length, 2);
+        assertTrue(lines[0].startsWith("{\"timestamp\":\""));
+        assertTrue(lines[0].contains("\"level\":\"INFO\""));
+        assertTrue(lines[0].contains(String.format("\"logger\":\"%s\"", getClass().getName())));
+        assertTrue(lines[0].contains(String.format("\"thread\":\"%s\"", Thread.currentThread().getName())));
+        assertTrue(lines[0].contains(String.format("\"test\":\"%s.testJson\"", getClass().getName())));
+        assertTrue(lines[0].endsWith("\"message\":\"Quantity \\\"5\\\" is invalid.\"}"));
+        assertTrue(lines[1].contains("\"level\":\"WARN\""));
+        assertTrue(lines[1].endsWith("\"message\":\"Warning.\"}"));
+    }
+
+    /**
+     * Tests that an exception is written within the JSON object for the
+     * message it generated.
+     */
+    @Test
+    public void testJsonWithThrowable() {
+        final Throwable throwable = new RuntimeException(getString());
+
+        getLogger(stream, LogFormat.JSON).error(throwable, "Failure %d of %d.", 1, 2);
+
+        final String[] lines = stream.toString().split(System.lineSeparator());
+
+        assertEquals(lines.length, 1);
+        assertTrue(lines[0].contains("\"message\":\"Failure 1 of 2.\",\"exception\":\"" + throwable));
+        assertTrue(lines[0].matches(".*\",\"trace\":\\d+}"));
+    }
+
+    /**
+     * Tests that messages are supplied and written at every level, if the
+     * levels are enabled.
+     */
+    @Test
+    public void testSupplier() {
+        final Logger logger = getLogger(stream);
+        final String message = getString();
+
+        logger.debugLazily(() -> "Debug " + message);
+        logger.infoLazily(() -> "Info " + message);
+        logger.warnLazily(() -> "Warn " + message);
+        logger.errorLazily(() -> "Error " + message);
+        logger.errorLazily(new RuntimeException(getString()), () -> "Failure " + message);
+
+        final String log = stream.toString();
+
+        assertTrue(log.contains("[DEBUG]"));
+        assertTrue(log.contains("Debug " + message));
+        assertTrue(log.contains("Info " + message));
+        assertTrue(log.contains("Warn " + message));
+        assertTrue(log.contains("Error " + message));
+        assertTrue(log.contains("Failure " + message));
+    }
+
+    /**
+     * Tests that messages below the threshold of a logger are discarded
+     * without being formatted or supplied.
+     */
+    @Test
+    public void testThreshold() {
+        final Logger logger = getLogger(stream, LogLevel.ERROR);
+
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isInfoEnabled());
+        assertFalse(logger.isWarnEnabled());
+        assertTrue(logger.isErrorEnabled());
+
+        logger.debug("Debug.");
+        logger.info("Quantity must be between %d and %d.", getInt(), getInt());
+        logger.warnLazily(() -> {
+            throw new AssertionError("Message supplied for a discarded level.");
+        });
+        logger.error("Error %s.", getString());
+
+        final String log = stream.toString();
+
+        assertFalse(log.contains("[DEBUG]"));
+        assertFalse(log.contains("[INFO]"));
+        assertFalse(log.contains("[WARN]"));
+        assertTrue(log.contains("[ERROR]"));
+    }
+
+    /**
+     * Tests that no messages are written if logging has been turned off.
+     */
+    @Test
+    public void testThresholdOff() {
+        final Logger logger = getLogger(stream, LogLevel.OFF);
+
+        assertFalse(logger.isErrorEnabled());
+
+        logger.error(new RuntimeException(getString()), "Error.");
+
+        assertTrue(stream.toString().isEmpty());
+    }
+
     /**
      * Tests that an information message can be logged successfully.
      */
@@ -283,6 +445,30 @@ abstract class PrintStreamLoggerTest implements UnitTest {
      */
     abstract Logger getLogger(final OutputStream stream);
 
+    /**
+     * Gets a {@link Logger} for running tests, that discards messages below a
+     * specified level.
+     *
+     * @param stream An {@link OutputStream} to which log messages should be
+     * written.
+     * @param threshold The level below which messages must be discarded.
+     *
+     * @return A {@link Logger}.
+     */
+    abstract Logger getLogger(final OutputStream stream, final LogLevel threshold);
+
+    /**
+     * Gets a {@link Logger} for running tests, that writes messages in a
+     * specified layout.
+     *
+     * @param stream An {@link OutputStream} to which log messages should be
+     * written.
+     * @param layout The layout in which messages must be written.
+     *
+     * @return A {@link Logger}.
+     */
+    abstract Logger getLogger(final OutputStream stream, final LogFormat layout);
+
     /**
      * Tests that a message can be written using a specific method.
      *
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link StackTraceRegistry}.
+ */
+public class StackTraceRegistryTest implements UnitTest {
+    /**
+     * Tests that a stack trace is written in full on its first occurrence
+     * only, regardless of the message of the exception.
+     */
+    @Test
+    public void testRecord() {
+        final StackTraceRegistry subject = new StackTraceRegistry(true, 0);
+        final StackTraceRegistry.Occurrence[] occurrences = new StackTraceRegistry.Occurrence[3];
+
+        for (int i = 0; i < occurrences.length; ++i) {
+            occurrences[i] = subject.record(new IllegalStateException(getString()));
+        }
+
+        assertTrue(occurrences[0].isFull());
+        assertEquals(occurrences[0].getId(), 1);
+        assertEquals(occurrences[0].getReference(), "stack trace #1");
+
+        for (int i = 1; i < occurrences.length; ++i) {
+            assertFalse(occurrences[i].isFull());
+            assertEquals(occurrences[i].getId(), 1);
+            assertEquals(occurrences[i].getSeen(), i + 1);
+        }
+
+        assertEquals(occurrences[2].getReference(), "stack trace same as #1, seen 3 times");
+    }
+
+    /**
+     * Tests that exceptions thrown from different places, or caused by
+     * different exceptions, are told apart.
+     */
+    @Test
+    public void testRecordDistinct() {
+        final StackTraceRegistry subject = new StackTraceRegistry(true, 0);
+
+        final StackTraceRegistry.Occurrence first = subject.record(new IllegalStateException(getString()));
+        final StackTraceRegistry.Occurrence second = subject.record(new IllegalStateException(getString()));
+        final StackTraceRegistry.Occurrence third = subject.record(new IllegalArgumentException(getString()));
+        final StackTraceRegistry.Occurrence fourth = subject.record(new IllegalStateException(getString(), new RuntimeException()));
+
+        assertTrue(first.isFull());
+        assertTrue(second.isFull());
+        assertTrue(third.isFull());
+        assertTrue(fourth.isFull());
+        assertNotEquals(first.getId(), second.getId());
+        assertNotEquals(second.getId(), third.getId());
+        assertNotEquals(third.getId(), fourth.getId());
+    }
+
+    /**
+     * Tests that nothing is kept track of if deduplication has been turned
+     * off.
+     */
+    @Test
+    public void testRecordDisabled() {
+        final StackTraceRegistry subject = new StackTraceRegistry(false, 0);
+
+        assertNull(subject.record(new IllegalStateException(getString())));
+        assertTrue(subject.isEmpty());
+    }
+
+    /**
+     * Tests that a stack trace is written in full again once the window has
+     * elapsed.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testRecordWindow() throws InterruptedException {
+        final StackTraceRegistry subject = new StackTraceRegistry(true, 5);
+        final StackTraceRegistry.Occurrence[] occurrences = new StackTraceRegistry.Occurrence[3];
+
+        for (int i = 0; i < occurrences.length; ++i) {
+            if (i == 2) {
+                Thread.sleep(20);
+            }
+
+            occurrences[i] = subject.record(new IllegalStateException(getString()));
+        }
+
+        assertTrue(occurrences[0].isFull());
+        assertTrue(occurrences[2].isFull());
+        assertEquals(occurrences[2].getId(), occurrences[0].getId());
+        assertEquals(occurrences[2].getSeen(), 3);
+    }
+
+    /**
+     * Tests that the summary lists each stack trace with its number of
+     * occurrences, most frequent first.
+     */
+    @Test
+    public void testSummary() {
+        final StackTraceRegistry subject = new StackTraceRegistry(true, 0);
+        final Throwable rare = new IllegalArgumentException(getString());
+
+        subject.record(rare);
+
+        for (int i = 0; i < 3; ++i) {
+            subject.record(new IllegalStateException("Frequent"));
+        }
+
+        final StringBuilder text = new StringBuilder();
+
+        subject.appendSummary(text);
+
+        final String[] lines = text.toString().split(System.lineSeparator());
+
+        assertEquals(lines.length, 3);
+        assertEquals(lines[0], "2 distinct stack trace(s) logged:");
+        assertTrue(lines[1].matches("#2 +3 +java\\.lang\\.IllegalStateException: Frequent"));
+        assertTrue(lines[2].matches("#1 +1 +" + rare.toString().replace(".", "\\.")));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.IClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link TestContextListener}.
+ */
+public class TestContextListenerTest implements UnitTest {
+    /**
+     * Provides rows of data for {@link #testOnTestStartWithData(int)}.
+     *
+     * @return The rows of data.
+     */
+    @DataProvider
+    public Object[][] rows() {
+        return new Object[][] { { 0 }, { 1 } };
+    }
+
+    /**
+     * Tests that the context of a test is bound when it starts and unbound
+     * when it finishes, and that attempts are counted.
+     */
+    @Test
+    public void testOnTestStart() {
+        final ITestResult result = Reporter.getCurrentTestResult();
+        final TestContextListener subject = new TestContextListener();
+        final TestContext previous = TestContext.current();
+
+        try {
+            subject.onTestStart(result);
+
+            assertEquals(TestContext.current().getTest(), getClass().getName() + ".testOnTestStart");
+            assertNull(TestContext.current().getRow());
+            assertEquals(TestContext.current().getAttempt(), 1);
+
+            subject.onTestFailure(result);
+
+            assertNull(TestContext.current());
+
+            subject.onTestStart(result);
+
+            assertEquals(TestContext.current().getAttempt(), 2);
+
+            subject.onTestSuccess(result);
+
+            assertNull(TestContext.current());
+        }
+        finally {
+            if (previous != null) {
+                TestContext.bind(previous);
+            }
+        }
+    }
+
+    /**
+     * Tests that attempts are counted per TestNG context, and that only those
+     * of a context that has finished are forgotten.
+     */
+    @Test
+    public void testOnFinish() {
+        final ITestContext context = Reporter.getCurrentTestResult().getTestContext();
+        final TestContextListener subject = new TestContextListener();
+        final TestContext previous = TestContext.current();
+
+        try {
+            assertEquals(start(subject, context), 1);
+            assertEquals(start(subject, null), 1);
+
+            subject.onFinish(null);
+
+            assertEquals(start(subject, null), 1);
+            assertEquals(start(subject, context), 2);
+
+            subject.onFinish(context);
+
+            assertEquals(start(subject, context), 1);
+            assertEquals(start(subject, null), 2);
+        }
+        finally {
+            TestContext.unbind();
+
+            if (previous != null) {
+                TestContext.bind(previous);
+            }
+        }
+    }
+
+    /**
+     * Tests that the context of a data-driven test holds the index of the
+     * row of data, as bound by the listener registered with TestNG.
+     *
+     * @param row The index of the row of data.
+     */
+    @Test(dataProvider = "rows")
+    public void testOnTestStartWithData(final int row) {
+        assertEquals(TestContext.current().getRow(), Integer.valueOf(row));
+        assertEquals(TestContext.current().getAttempt(), 1);
+    }
+
+    /**
+     * Starts a test within a TestNG context and gets its attempt.
+     *
+     * @param subject The listener.
+     * @param context The TestNG context, or {@code null}.
+     *
+     * @return The attempt of the test.
+     */
+    private int start(final TestContextListener subject, final ITestContext context) {
+        final IClass type = mock(IClass.class);
+        when(type.getName()).thenReturn(TestContextListenerTest.class.getName());
+
+        final ITestNGMethod method = mock(ITestNGMethod.class);
+        when(method.getMethodName()).thenReturn("testOnFinish");
+
+        final ITestResult result = mock(ITestResult.class);
+        when(result.getMethod()).thenReturn(method);
+        when(result.getParameters()).thenReturn(new Object[0]);
+        when(result.getTestClass()).thenReturn(type);
+        when(result.getTestContext()).thenReturn(context);
+
+        subject.onTestStart(result);
+
+        return TestContext.current().getAttempt();
+    }
+}
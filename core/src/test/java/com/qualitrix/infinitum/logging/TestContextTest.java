@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link TestContext}.
+ */
+public class TestContextTest implements UnitTest {
+    /**
+     * Makes sure that no context remains bound to the thread after a test.
+     */
+    @AfterMethod
+    public void cleanup() {
+        TestContext.unbind();
+    }
+
+    /**
+     * Tests that a device can be assigned to the bound context.
+     */
+    @Test
+    public void testAssignDevice() {
+        final String device = getString();
+
+        TestContext.bind(new TestContext(getString(), 2, null, 1));
+        TestContext.assignDevice(device);
+
+        assertEquals(TestContext.current().getDevice(), device);
+        assertEquals(TestContext.current().getRow(), Integer.valueOf(2));
+    }
+
+    /**
+     * Tests that a context can be bound to, and unbound from, the current
+     * thread.
+     */
+    @Test
+    public void testBind() {
+        final TestContext context = new TestContext(getString(), null, null, 1);
+
+        TestContext.bind(context);
+
+        assertSame(TestContext.current(), context);
+
+        TestContext.unbind();
+
+        assertNull(TestContext.current());
+    }
+
+    /**
+     * Tests that tasks run on other threads carry the context of the thread
+     * that submitted them, and that the context is unbound afterwards.
+     *
+     * @throws Exception if the tasks fail.
+     */
+    @Test
+    public void testPropagate() throws Exception {
+        final TestContext context = new TestContext(getString(), null, null, 1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicReference<TestContext> seen = new AtomicReference<>();
+
+        try {
+            TestContext.bind(context);
+
+            executor.submit(TestContext.propagate(() -> seen.set(TestContext.current()))).get();
+
+            assertSame(seen.get(), context);
+            assertSame(executor.submit(TestContext.propagate(TestContext::current)).get(), context);
+
+            TestContext.unbind();
+
+            assertNull(executor.submit(TestContext::current).get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that only known values are included in the map of a context.
+     */
+    @Test
+    public void testToMap() {
+        final String test = getString();
+
+        assertEquals(new TestContext(test, null, null, 1).toMap().keySet().toString(), "[test, attempt]");
+        assertEquals(new TestContext(test, 3, "Pixel", 2).toMap().toString()
+            , String.format("{test=%s, row=3, device=Pixel, attempt=2}", test));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TestLogCaptureListener}.
+ */
+public class TestLogCaptureListenerTest implements UnitTest {
+    /**
+     * Makes sure that no log output remains captured after a test.
+     */
+    @AfterMethod
+    public void cleanup() {
+        CapturedLog.stop();
+    }
+
+    /**
+     * Tests that log output captured for a failed test is written out, and
+     * added to the output of the test.
+     */
+    @Test
+    public void testOnTestFailure() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final Logger logger = getLogger(stream);
+        final ITestResult result = Reporter.getCurrentTestResult();
+        final TestLogCaptureListener subject = new TestLogCaptureListener(true, 64 * 1024);
+        final String message = getString();
+
+        subject.onTestStart(result);
+
+        logger.info("Captured %s.", message);
+        logger.error(new IllegalStateException(getString()), "Failure.");
+
+        assertTrue(stream.toString().isEmpty());
+
+        subject.onTestFailure(result);
+
+        final String log = stream.toString();
+
+        assertTrue(log.contains(IllegalStateException.class.getName()));
+        assertTrue(log.contains(IllegalStateException.class.getName()));
+        assertTrue(Reporter.getOutput(result).stream().anyMatch(line -> line.contains(message)));
+        assertNull(CapturedLog.current());
+    }
+
+    /**
+     * Tests that log output captured for a passed test is discarded.
+     */
+    @Test
+    public void testOnTestSuccess() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final Logger logger = getLogger(stream);
+        final ITestResult result = Reporter.getCurrentTestResult();
+        final TestLogCaptureListener subject = new TestLogCaptureListener(true, 64 * 1024);
+
+        subject.onTestStart(result);
+
+        logger.info("Discarded.");
+
+        subject.onTestSuccess(result);
+
+        logger.info("Written.");
+
+        final String log = stream.toString();
+
+        assertFalse(log.contains("Discarded."));
+        assertTrue(log.contains("Written."));
+    }
+
+    /**
+     * Tests that nothing is captured if capturing has not been enabled.
+     */
+    @Test
+    public void testOnTestStartDisabled() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        new TestLogCaptureListener(false, 1024).onTestStart(Reporter.getCurrentTestResult());
+
+        assertNull(CapturedLog.current());
+
+        getLogger(stream).info("Written.");
+
+        assertTrue(stream.toString().contains("Written."));
+    }
+
+    /**
+     * Gets a logger writing to a stream.
+     *
+     * @param stream The stream.
+     *
+     * @return A {@link Logger}.
+     */
+    private Logger getLogger(final ByteArrayOutputStream stream) {
+        return new FileLogger(getClass(), new PrintStream(stream, true), LogLevel.DEBUG, LogFormat.TEXT, StackTraceRegistry.create());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncReporter}.
+ */
+public class AsyncReporterTest implements UnitTest {
+    /**
+     * Tests that calls are applied to the actual reporter, obtained on the
+     * dedicated thread, in the order in which they were made, with messages
+     * formatted on the calling thread.
+     */
+    @Test
+    public void testReport() {
+        final ReportDispatcher dispatcher = new ReportDispatcher();
+        final RecordingReporter delegate = new RecordingReporter();
+        final List<String> threads = new ArrayList<>();
+
+        try {
+            final Reporter subject = new AsyncReporter(dispatcher, () -> {
+                threads.add(Thread.currentThread().getName());
+
+                return delegate;
+            });
+            final StringBuilder argument = new StringBuilder("before");
+
+            assertSame(subject.assignCategory("category"), subject);
+            assertSame(subject.assignDevice("device"), subject);
+
+            subject.info("info {}", argument);
+            argument.replace(0, argument.length(), "after");
+            subject.pass("pass");
+            subject.fail("fail");
+            subject.error("error");
+            subject.step("step", 42);
+
+            assertTrue(dispatcher.flush(1, TimeUnit.MINUTES));
+        }
+        finally {
+            dispatcher.close();
+        }
+
+        assertEquals(delegate.events, Arrays.asList("category:category"
+            , "device:device"
+            , "info:info before"
+            , "pass:pass"
+            , "fail:fail"
+            , "error:error"
+            , "step:step:42"));
+        assertEquals(threads.size(), 1);
+        assertTrue(threads.get(0).startsWith("infinitum-reporting-"));
+    }
+
+    /**
+     * Records the calls made to it.
+     */
+    static final class RecordingReporter implements Reporter {
+        final List<String> events = new ArrayList<>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Reporter assignCategory(final String category) {
+            events.add("category:" + category);
+
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Reporter assignDevice(final String device) {
+            events.add("device:" + device);
+
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void error(final String message) {
+            events.add("error:" + message);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void fail(final String message) {
+            events.add("fail:" + message);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void info(final String message) {
+            events.add("info:" + message);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void pass(final String message) {
+            events.add("pass:" + message);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void step(final String name, final long duration) {
+            events.add("step:" + name + ":" + duration);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.annotation.Author;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncReportingService}.
+ */
+public class AsyncReportingServiceTest implements UnitTest {
+    /**
+     * Tests that reporters obtained from the service report through the
+     * decorated service once flushed, and that the service takes its priority
+     * and availability from the decorated service.
+     */
+    @Test
+    public void testGetReporter() {
+        final AsyncReporterTest.RecordingReporter reporter = new AsyncReporterTest.RecordingReporter();
+        final int priority = getInt();
+        final AsyncReportingService subject = new AsyncReportingService(new RecordingReportingService(reporter, priority, false));
+
+        try {
+            assertEquals(subject.getPriority(), priority);
+            assertFalse(subject.isAvailable());
+
+            subject.getReporter(null).info("first");
+            subject.getReporter(null).pass("second");
+
+            assertTrue(AsyncReportingService.flushAll());
+            assertEquals(reporter.events, Arrays.asList("info:first", "pass:second"));
+        }
+        finally {
+            subject.close();
+        }
+
+        // Reporting after the service has been closed applies events directly.
+        subject.getReporter(null).fail("third");
+
+        assertEquals(reporter.events.get(2), "fail:third");
+        assertTrue(subject.flush(1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Provides a single reporter.
+     */
+    static final class RecordingReportingService implements ReportingService {
+        private final boolean available;
+
+        private final int priority;
+
+        private final Reporter reporter;
+
+        /**
+         * Creates a reporting service.
+         *
+         * @param reporter The reporter to provide.
+         * @param priority The priority of the service.
+         * @param available Whether the service is available.
+         */
+        RecordingReportingService(final Reporter reporter, final int priority, final boolean available) {
+            this.available = available;
+            this.priority = priority;
+            this.reporter = reporter;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Reporter getReporter(final Test test, final Author author) {
+            return reporter;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
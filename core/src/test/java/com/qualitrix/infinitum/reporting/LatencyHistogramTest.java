@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest implements UnitTest {
+    /**
+     * Tests that percentiles are estimated to within the precision of the
+     * buckets, and exactly for short durations.
+     */
+    @Test
+    public void testGetPercentile() {
+        final LatencyHistogram subject = new LatencyHistogram();
+
+        assertEquals(subject.getPercentile(50), 0);
+
+        for (long i = 1; i <= 1000; ++i) {
+            subject.record(i * 1_000_000);
+        }
+
+        assertEquals(subject.getCount(), 1000);
+        assertEquals(subject.getMaximum(), 1_000_000_000);
+        assertEstimate(subject.getPercentile(50), 500_000_000);
+        assertEstimate(subject.getPercentile(95), 950_000_000);
+        assertEstimate(subject.getPercentile(99), 990_000_000);
+        assertEquals(subject.getPercentile(100), 1_000_000_000);
+
+        final LatencyHistogram exact = new LatencyHistogram();
+
+        for (long i = 0; i < 32; ++i) {
+            exact.record(i);
+        }
+
+        exact.record(-1);
+
+        assertEquals(exact.getPercentile(0), 0);
+        assertEquals(exact.getPercentile(50), 15);
+        assertEquals(exact.getPercentile(100), 31);
+    }
+
+    /**
+     * Tests that merging histograms gives the same estimates as counting all
+     * durations in one histogram.
+     */
+    @Test
+    public void testMerge() {
+        final LatencyHistogram all = new LatencyHistogram(),
+            first = new LatencyHistogram(),
+            second = new LatencyHistogram();
+
+        for (int i = 0; i < 1000; ++i) {
+            final long duration = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE / 2);
+
+            all.record(duration);
+
+            (i % 2 == 0
+             ? first
+             : second).record(duration);
+        }
+
+        first.merge(second);
+
+        assertEquals(first.getCount(), all.getCount());
+        assertEquals(first.getMaximum(), all.getMaximum());
+
+        for (final double percentile : new double[]{50, 95, 99}) {
+            assertEquals(first.getPercentile(percentile), all.getPercentile(percentile));
+        }
+    }
+
+    /**
+     * Checks that an estimated duration is at least the actual duration, and
+     * no more than about 3% above it.
+     *
+     * @param estimate The estimated duration.
+     * @param actual The actual duration.
+     */
+    private static void assertEstimate(final long estimate, final long actual) {
+        assertTrue(estimate >= actual && estimate <= actual + actual / 32, String.format("%d for %d", estimate, actual));
+    }
+}
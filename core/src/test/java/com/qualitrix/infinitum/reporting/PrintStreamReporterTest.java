@@ -30,6 +30,7 @@ import java.io.OutputStream;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
@@ -224,6 +225,32 @@ abstract class PrintStreamReporterTest implements UnitTest {
         testWriteMessageWithTwoContextualArguments(getReporter(stream)::pass);
     }
 
+    /**
+     * Tests that a step can be timed and written with the time it took, and
+     * that the time is aggregated under the name of the step.
+     */
+    @Test
+    public void testStep() {
+        final String name = getString();
+        final Reporter reporter = getReporter(stream);
+
+        reporter.step(name, 12_345_678);
+
+        assertTrue(stream.toString().startsWith("[STEP] "));
+        assertTrue(stream.toString().contains(String.format("%s completed in 12.345 ms", name)));
+
+        try (Step step = reporter.startStep(name)) {
+            assertEquals(step.getName(), name);
+        }
+
+        final String[] lines = stream.toString().split(System.lineSeparator());
+
+        assertEquals(lines.length, 2);
+        assertTrue(lines[1].startsWith("[STEP] "));
+        assertTrue(lines[1].contains(String.format("%s completed in ", name)));
+        assertEquals(StepTimings.getInstance().get(name).getCount(), 1);
+    }
+
     /**
      * Gets a {@link Reporter} for running tests.
      *
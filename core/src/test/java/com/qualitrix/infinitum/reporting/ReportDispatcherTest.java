@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReportDispatcher}.
+ */
+public class ReportDispatcherTest implements UnitTest {
+    /**
+     * Tests that events dispatched by several threads are applied on the
+     * dedicated thread, in the order in which each thread dispatched them.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testDispatch() throws InterruptedException {
+        final ReportDispatcher subject = new ReportDispatcher();
+        final List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final int count = getInt(500, 1000);
+
+        try {
+            final Thread[] producers = new Thread[4];
+
+            for (int i = 0; i < producers.length; ++i) {
+                final int producer = i;
+
+                producers[i] = new Thread(() -> {
+                    for (int j = 0; j < count; ++j) {
+                        final String event = producer + ":" + j;
+
+                        subject.dispatch(() -> {
+                            applied.add(event);
+                            threads.add(Thread.currentThread().getName());
+                        });
+                    }
+                });
+                producers[i].start();
+            }
+
+            for (final Thread producer : producers) {
+                producer.join();
+            }
+
+            assertTrue(subject.flush(1, TimeUnit.MINUTES));
+        }
+        finally {
+            subject.close();
+        }
+
+        assertEquals(applied.size(), count * 4);
+
+        final int[] next = new int[4];
+
+        for (final String event : applied) {
+            final String[] parts = event.split(":");
+
+            assertEquals(Integer.parseInt(parts[1]), next[Integer.parseInt(parts[0])]++);
+        }
+
+        for (final String thread : threads) {
+            assertTrue(thread.startsWith("infinitum-reporting-"));
+        }
+    }
+
+    /**
+     * Tests that an event that fails does not prevent others from being
+     * applied, and that events are applied on the calling thread once the
+     * dispatcher has been closed.
+     */
+    @Test
+    public void testDispatchAfterFailureAndClose() {
+        final ReportDispatcher subject = new ReportDispatcher();
+        final List<String> applied = Collections.synchronizedList(new ArrayList<>());
+
+        subject.dispatch(() -> {
+            throw new IllegalStateException(getString());
+        });
+        subject.dispatch(() -> applied.add("first"));
+        subject.close();
+
+        assertEquals(applied, Collections.singletonList("first"));
+
+        subject.dispatch(() -> applied.add(Thread.currentThread().getName()));
+
+        assertEquals(applied.get(1), Thread.currentThread().getName());
+        assertTrue(subject.flush(1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that flushing times out if an event takes too long to apply.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testFlushWithTimeout() throws InterruptedException {
+        final ReportDispatcher subject = new ReportDispatcher();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            subject.dispatch(() -> {
+                try {
+                    release.await(1, TimeUnit.MINUTES);
+                }
+                catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            assertFalse(subject.flush(50, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+
+            assertTrue(subject.flush(1, TimeUnit.MINUTES));
+        }
+        finally {
+            release.countDown();
+            subject.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link Step}.
+ */
+public class StepTest implements UnitTest {
+    /**
+     * Tests that a step is reported once, with the time it took, however many
+     * times it is ended.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testClose() throws InterruptedException {
+        final AsyncReporterTest.RecordingReporter reporter = new AsyncReporterTest.RecordingReporter();
+        final String name = getString();
+
+        try (Step step = reporter.startStep(name)) {
+            Thread.sleep(5);
+
+            reporter.endStep(step);
+        }
+
+        assertEquals(reporter.events.size(), 1);
+        assertTrue(reporter.events.get(0).startsWith("step:" + name + ":"));
+        assertTrue(Long.parseLong(reporter.events.get(0).substring(name.length() + 6)) >= 5_000_000);
+        assertEquals(StepTimings.getInstance().get(name).getCount(), 1);
+    }
+
+    /**
+     * Tests that a step is reported as an informational message by reporters
+     * that do not report steps otherwise.
+     */
+    @Test
+    public void testCloseWithDefaultReporting() {
+        final Reporter reporter = Mockito.mock(Reporter.class, Mockito.CALLS_REAL_METHODS);
+
+        reporter.startStep("Log in").close();
+
+        verify(reporter).info(startsWith("Step [Log in] completed in "));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link StepTimings}.
+ */
+public class StepTimingsTest implements UnitTest {
+    /**
+     * Tests that draining removes only the times collected until then.
+     */
+    @Test
+    public void testDrain() {
+        final StepTimings subject = StepTimings.getInstance();
+        final String name = getString();
+
+        subject.record(name, 2_000_000);
+
+        final Map<String, LatencyHistogram> times = subject.drain();
+
+        assertEquals(times.get(name).getCount(), 1);
+        assertNull(subject.get(name));
+
+        // Times recorded afterwards are kept for the next drain.
+        subject.record(name, 4_000_000);
+
+        assertEquals(times.get(name).getCount(), 1);
+        assertEquals(subject.get(name).getCount(), 1);
+        assertTrue(subject.summarize(times).contains(String.format("[%s]: count=1", name)));
+    }
+
+    /**
+     * Tests that times are aggregated per step name, merged with times
+     * collected elsewhere, and summarized with their percentiles.
+     */
+    @Test
+    public void testRecord() {
+        final StepTimings subject = StepTimings.getInstance();
+        final String name = getString();
+
+        assertNull(subject.get(name));
+
+        subject.record(name, 2_000_000);
+        subject.record(name, 4_000_000);
+        subject.record(null, 1);
+
+        final LatencyHistogram other = new LatencyHistogram();
+        other.record(30_000_000);
+
+        subject.merge(Collections.singletonMap(name, other));
+
+        assertEquals(subject.get(name).getCount(), 3);
+        assertEquals(subject.get(name).getMaximum(), 30_000_000);
+        assertTrue(subject.getAll().containsKey(name));
+        assertTrue(subject.summarize().contains(String.format("[%s]: count=3, p50=4.", name)));
+        assertTrue(subject.summarize().contains("max=30.000 ms"));
+    }
+}
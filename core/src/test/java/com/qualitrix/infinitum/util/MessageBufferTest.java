@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.util;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link MessageBuffer}.
+ */
+public class MessageBufferTest implements UnitTest {
+    /**
+     * Tests that a buffer is reused by a thread once released, and that a
+     * thread acquiring a buffer while holding one gets a different buffer.
+     */
+    @Test
+    public void testAcquire() {
+        final MessageBuffer buffer = MessageBuffer.acquire();
+
+        buffer.getText().append(getString());
+
+        final MessageBuffer nested = MessageBuffer.acquire();
+
+        assertNotSame(nested, buffer);
+        assertEquals(nested.getText().length(), 0);
+
+        nested.release();
+        buffer.release();
+
+        final MessageBuffer reused = MessageBuffer.acquire();
+
+        assertSame(reused, buffer);
+        assertEquals(reused.getText().length(), 0);
+
+        reused.release();
+    }
+
+    /**
+     * Tests that messages are written to a stream, including messages longer
+     * than the initial size of the buffer and characters outside ASCII.
+     */
+    @Test
+    public void testWriteTo() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final PrintStream sink = new PrintStream(stream);
+
+        final StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 100; ++i) {
+            expected.append("Größe ").append(i).append(' ');
+        }
+
+        final MessageBuffer buffer = MessageBuffer.acquire();
+
+        try {
+            buffer.getText().append(expected);
+            buffer.writeTo(sink);
+        }
+        finally {
+            buffer.release();
+        }
+
+        assertEquals(stream.toByteArray(), expected.toString().getBytes(Charset.defaultCharset()));
+    }
+
+    /**
+     * Tests that messages are encoded with the charset of the stream to which
+     * they are written, rather than with the default charset.
+     *
+     * @throws UnsupportedEncodingException if the charset is not supported.
+     */
+    @Test
+    public void testWriteToWithCharset() throws UnsupportedEncodingException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final PrintStream sink = new PrintStream(stream, false, StandardCharsets.UTF_16BE.name());
+
+        // Include a character outside the Basic Multilingual Plane, written as a surrogate pair.
+        final String expected = new StringBuilder("Größe ").append(getString()).append(' ').appendCodePoint(0x1F600).toString();
+
+        final MessageBuffer buffer = MessageBuffer.acquire();
+
+        try {
+            buffer.getText().append(expected);
+            buffer.writeTo(sink);
+        }
+        finally {
+            buffer.release();
+        }
+
+        sink.flush();
+
+        assertEquals(stream.toByteArray(), expected.getBytes(StandardCharsets.UTF_16BE));
+    }
+
+    /**
+     * Tests that formatting and writing messages does not allocate any
+     * objects once the buffer has grown to fit the messages, by comparing the
+     * bytes allocated by the current thread before and after writing a large
+     * number of messages.
+     */
+    @Test
+    public void testWriteWithoutAllocation() {
+        if (!MessageBuffer.isEncoding()) {
+            throw new SkipException("Messages are encoded by the stream, which may allocate objects, on this JVM.");
+        }
+
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Measuring allocated memory is not supported by the JVM.");
+        }
+
+        final com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        final long thread = Thread.currentThread().getId();
+        final PrintStream sink = new PrintStream(new DiscardingOutputStream());
+
+        final Object arg1 = "data.csv";
+        final Object arg2 = 42;
+        final int messages = 100_000;
+
+        // Grow the buffer and compile the code paths involved.
+        write(sink, messages, arg1, arg2);
+
+        final long before = allocation.getThreadAllocatedBytes(thread);
+
+        write(sink, messages, arg1, arg2);
+
+        final long allocated = allocation.getThreadAllocatedBytes(thread) - before;
+
+        // Allow for allocations by the measurement itself.
+        assertTrue(allocated / messages < 1, String.format("%d bytes allocated per message.", allocated / messages));
+    }
+
+    /**
+     * Formats and writes messages to a stream.
+     *
+     * @param sink The stream.
+     * @param count The number of messages to write.
+     * @param arg1 The first value to include in each message.
+     * @param arg2 The second value to include in each message.
+     */
+    private void write(final PrintStream sink, final int count, final Object arg1, final Object arg2) {
+        for (int i = 0; i < count; ++i) {
+            final MessageBuffer buffer = MessageBuffer.acquire();
+
+            try {
+                buffer.getText().append("[INFO] ");
+
+                MessageFormatter.formatTo(buffer.getText(), "Read [%s] with %d rows.", arg1, arg2);
+
+                buffer.writeTo(sink);
+            }
+            finally {
+                buffer.release();
+            }
+        }
+    }
+
+    /**
+     * Discards all bytes written to it.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final int b) {
+            // Discard the byte.
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            // Discard the bytes.
+        }
+    }
+}
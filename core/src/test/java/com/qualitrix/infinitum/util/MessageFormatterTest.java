@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.util;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.util.IllegalFormatConversionException;
+import java.util.MissingFormatArgumentException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for {@link MessageFormatter}.
+ */
+public class MessageFormatterTest implements UnitTest {
+    /**
+     * Tests that formats written for {@link String#format(String, Object...)}
+     * produce the same messages.
+     */
+    @Test
+    public void testFormatCompatibleWithStringFormat() {
+        final String text = getString();
+        final int number = getInt();
+        final long big = getLong();
+
+        assertEquals(MessageFormatter.format("Unable to read [%s].", text), String.format("Unable to read [%s].", text));
+        assertEquals(MessageFormatter.format("Between %d and %d.", number, big), String.format("Between %d and %d.", number, big));
+        assertEquals(MessageFormatter.format("%s, %d, %s, %s%%%n", text, number, null, true)
+            , String.format("%s, %d, %s, %s%%%n", text, number, null, true));
+    }
+
+    /**
+     * Tests that formats with conversions not supported natively are
+     * formatted with {@link String#format(String, Object...)}.
+     */
+    @Test
+    public void testFormatFallback() {
+        final double value = getDouble();
+
+        assertEquals(MessageFormatter.format("Amount %s is %.2f.", "due", value), String.format("Amount %s is %.2f.", "due", value));
+        assertEquals(MessageFormatter.format("Hex %x.", 255), "Hex ff.");
+        assertEquals(MessageFormatter.format("Padded [%5s].", "a"), "Padded [    a].");
+    }
+
+    /**
+     * Tests that placeholders in the style of SLF4J are replaced.
+     */
+    @Test
+    public void testFormatPlaceholders() {
+        assertEquals(MessageFormatter.format("Value {}.", 'x'), "Value x.");
+        assertEquals(MessageFormatter.format("Between {} and {}.", (short) 1, (byte) 2), "Between 1 and 2.");
+        assertEquals(MessageFormatter.format("{}, {} and {}.", "a", 1L, false), "a, 1 and false.");
+        assertEquals(MessageFormatter.format("{} {}", new Object[] { null, null }), "null null");
+    }
+
+    /**
+     * Tests that placeholders without values and values without placeholders
+     * are tolerated.
+     */
+    @Test
+    public void testFormatUnbalanced() {
+        assertEquals(MessageFormatter.format("{} and {}.", "a"), "a and {}.");
+        assertEquals(MessageFormatter.format("No placeholders.", "a", "b"), "No placeholders.");
+        assertEquals(MessageFormatter.format("Trailing {"), "Trailing {");
+        assertEquals(MessageFormatter.format(null, "a"), "null");
+    }
+
+    /**
+     * Tests that formats for {@link String#format(String, Object...)} fail
+     * as they would with {@link String#format(String, Object...)}.
+     */
+    @Test
+    public void testFormatInvalid() {
+        assertThrows(MissingFormatArgumentException.class, () -> MessageFormatter.format("%s and %d.", "a"));
+        assertThrows(IllegalFormatConversionException.class, () -> MessageFormatter.format("Count %d.", "a"));
+    }
+
+    /**
+     * Tests that placeholders in the style of SLF4J are not replaced in
+     * formats for {@link String#format(String, Object...)}.
+     */
+    @Test
+    public void testFormatSingleSyntax() {
+        final String text = getString();
+
+        assertEquals(MessageFormatter.format("%s and {}.", text, "b"), String.format("%s and {}.", text, "b"));
+        assertEquals(MessageFormatter.format("{} is 100%%.", text), String.format("{} is 100%%.", text));
+        assertEquals(MessageFormatter.format("Map {%s}.", text), "Map {" + text + "}.");
+    }
+
+    /**
+     * Tests that a message is appended to the existing content of a buffer.
+     */
+    @Test
+    public void testFormatTo() {
+        final StringBuilder buffer = new StringBuilder("[INFO] ");
+
+        MessageFormatter.formatTo(buffer, "Read %d rows from [%s].", 5, "data.csv");
+
+        assertEquals(buffer.toString(), "[INFO] Read 5 rows from [data.csv].");
+
+        MessageFormatter.formatTo(buffer, " Took %.1f s.", 1.5);
+
+        assertEquals(buffer.toString(), "[INFO] Read 5 rows from [data.csv]." + String.format(" Took %.1f s.", 1.5));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the number of log messages per second formatted, and written to a
+ * {@link PrintStream}, through {@link MessageFormatter} and
+ * {@link MessageBuffer}, and through {@link String#format(String, Object...)}
+ * as all messages were formatted before. The stream discards the bytes
+ * written to it, so that only formatting and encoding are measured.
+ * </p>
+ *
+ * <p>
+ * Benchmarks are not run as part of the build. The point of
+ * {@link MessageBuffer} is to not allocate any objects per message, so they
+ * are best run with the allocation profiler, which reports the bytes
+ * allocated per message as {@code gc.alloc.rate.norm}. Once test classes have
+ * been compiled, they can be run from the directory of this module as
+ * follows:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) org.openjdk.jmh.Main MessageFormattingBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2)
+public class MessageFormattingBenchmark {
+    private static final String FORMAT = "Read [%s] with %d rows.";
+
+    private final Object file = "data.csv";
+
+    private final Object rows = 42;
+
+    private PrintStream sink;
+
+    /**
+     * Creates the stream to which messages are written.
+     */
+    @Setup
+    public void setUp() {
+        sink = new PrintStream(new OutputStream() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void write(final int b) {
+                // Discard the byte.
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) {
+                // Discard the bytes.
+            }
+        });
+    }
+
+    /**
+     * Formats a message into a reused buffer, without writing it.
+     *
+     * @return The length of the message.
+     */
+    @Benchmark
+    public int format() {
+        final MessageBuffer buffer = MessageBuffer.acquire();
+
+        try {
+            buffer.getText().append("[INFO] ");
+
+            MessageFormatter.formatTo(buffer.getText(), FORMAT, file, rows);
+
+            return buffer.getText().length();
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Formats a message into a reused buffer and writes it to the stream, as
+     * loggers do.
+     */
+    @Benchmark
+    public void formatAndWrite() {
+        final MessageBuffer buffer = MessageBuffer.acquire();
+
+        try {
+            buffer.getText().append("[INFO] ");
+
+            MessageFormatter.formatTo(buffer.getText(), FORMAT, file, rows);
+
+            buffer.getText().append(System.lineSeparator());
+            buffer.writeTo(sink);
+        }
+        finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Formats a message through {@link String#format(String, Object...)} and
+     * writes it to the stream, as loggers did before {@link MessageBuffer}
+     * was introduced.
+     */
+    @Benchmark
+    public void stringFormatAndWrite() {
+        sink.println("[INFO] " + String.format(FORMAT, file, rows));
+    }
+}
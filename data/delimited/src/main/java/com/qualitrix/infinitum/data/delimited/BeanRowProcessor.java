@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import com.qualitrix.infinitum.data.BeanMapper;
+import com.qualitrix.infinitum.data.SourceMetrics;
+import com.univocity.parsers.annotations.FixedWidth;
+import com.univocity.parsers.annotations.Parsed;
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.processor.AbstractRowProcessor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Converts parsed rows to objects of a particular type through a
+ * {@link BeanMapper}, which resolves the fields of the type just once instead
+ * of for every row. Fields are matched to columns by the names given in their
+ * {@link Parsed} annotations, exactly as they would be by
+ * {@link com.univocity.parsers.common.processor.BeanListProcessor}.
+ * </p>
+ *
+ * <p>
+ * Only types using plain {@link Parsed} and {@link FixedWidth} annotations on
+ * fields can be converted this way. Types relying on any other feature of the
+ * parser annotations, such as conversions, nested beans, annotated methods or
+ * columns selected by position, must be converted by
+ * {@link com.univocity.parsers.common.processor.BeanListProcessor} instead.
+ * </p>
+ *
+ * @param <T> The type of objects to create.
+ */
+final class BeanRowProcessor<T> extends AbstractRowProcessor {
+    private static final ClassValue<BeanMapper<?>> MAPPERS = new ClassValue<BeanMapper<?>>() {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected BeanMapper<?> computeValue(final Class<?> type) {
+            return isSupported(type)
+                   ? BeanMapper.of(type, BeanRowProcessor::getName)
+                   : null;
+        }
+    };
+
+    private final List<T> beans;
+
+    private final BeanMapper<T> mapper;
+
+    private final SourceMetrics metrics;
+
+    private long mappingTime;
+
+    private Function<String[], T> rowMapper;
+
+    /**
+     * Creates a processor for a type.
+     *
+     * @param mapper A mapper for the type.
+     * @param metrics Records measurements of the rows processed.
+     */
+    private BeanRowProcessor(final BeanMapper<T> mapper, final SourceMetrics metrics) {
+        this.mapper = mapper;
+        this.metrics = metrics;
+
+        beans = new ArrayList<>();
+    }
+
+    /**
+     * Creates a processor for converting rows to objects of a specified type.
+     *
+     * @param type The type of objects to create.
+     * @param <T> The type of objects to create.
+     *
+     * @return A {@link BeanRowProcessor}, or {@code null} if the type cannot be
+     * converted by this processor.
+     */
+    static <T> BeanRowProcessor<T> of(final Class<T> type) {
+        return of(type, SourceMetrics.disabled());
+    }
+
+    /**
+     * Creates a processor for converting rows to objects of a specified type,
+     * recording measurements of the rows processed.
+     *
+     * @param type The type of objects to create.
+     * @param metrics Records the number of rows converted or rejected, and
+     * the time spent converting them.
+     * @param <T> The type of objects to create.
+     *
+     * @return A {@link BeanRowProcessor}, or {@code null} if the type cannot be
+     * converted by this processor.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BeanRowProcessor<T> of(final Class<T> type, final SourceMetrics metrics) {
+        final BeanMapper<T> mapper = (BeanMapper<T>) MAPPERS.get(type);
+
+        return mapper == null
+               ? null
+               : new BeanRowProcessor<>(mapper, metrics);
+    }
+
+    /**
+     * Gets the objects created from the rows processed so far.
+     *
+     * @return A {@link List} of objects, one for each processed row.
+     */
+    List<T> getBeans() {
+        return beans;
+    }
+
+    /**
+     * Gets the time spent converting rows to objects so far, if measurements
+     * are being recorded.
+     *
+     * @return The time spent converting rows, in nanoseconds, or {@code 0} if
+     * measurements are not being recorded.
+     */
+    long getMappingTime() {
+        return mappingTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rowProcessed(final String[] row, final ParsingContext context) {
+        // Columns are matched to fields once, when the first row is seen.
+        if (rowMapper == null) {
+            rowMapper = mapper.forColumns(Objects.requireNonNull(context.headers(), "Column headers not found."));
+        }
+
+        final long start = metrics.time();
+
+        try {
+            beans.add(rowMapper.apply(row));
+        }
+        catch (final IllegalArgumentException e) {
+            metrics.addRejected(1);
+
+            throw e;
+        }
+        finally {
+            final long elapsed = metrics.time() - start;
+
+            mappingTime += elapsed;
+            metrics.addMappingTime(elapsed);
+        }
+
+        metrics.addRows(1);
+    }
+
+    /**
+     * Gets the column name for a field.
+     *
+     * @param field The field.
+     *
+     * @return The column name for the field if it is annotated with
+     * {@link Parsed}, {@code null} otherwise.
+     */
+    private static String getName(final Field field) {
+        final Parsed parsed = field.getAnnotation(Parsed.class);
+
+        return parsed == null
+               ? null
+               : parsed.field().length == 0
+                 ? field.getName()
+                 : parsed.field()[0];
+    }
+
+    /**
+     * Checks whether a type uses only those annotation features that this
+     * processor can handle.
+     *
+     * @param type The type.
+     *
+     * @return {@code true} if objects of the specified type can be created by
+     * this processor, {@code false} otherwise.
+     */
+    private static boolean isSupported(final Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (hasParserAnnotations(current)) {
+                return false;
+            }
+
+            for (final Method method : current.getDeclaredMethods()) {
+                if (hasParserAnnotations(method)) {
+                    return false;
+                }
+            }
+
+            for (final Field field : current.getDeclaredFields()) {
+                final Parsed parsed = field.getAnnotation(Parsed.class);
+
+                if (parsed != null && (parsed.field().length > 1 || !hasDefaults(parsed))) {
+                    return false;
+                }
+
+                for (final Annotation annotation : field.getAnnotations()) {
+                    if (isParserAnnotation(annotation)
+                        && !(annotation instanceof Parsed)
+                        && !(annotation instanceof FixedWidth)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether a {@link Parsed} annotation leaves every attribute other
+     * than the column name at its default value.
+     *
+     * @param parsed The annotation.
+     *
+     * @return {@code true} if all other attributes have their default values,
+     * {@code false} otherwise.
+     */
+    private static boolean hasDefaults(final Parsed parsed) {
+        try {
+            for (final Method attribute : Parsed.class.getDeclaredMethods()) {
+                if (!"field".equals(attribute.getName())
+                    && !Objects.equals(attribute.invoke(parsed), attribute.getDefaultValue())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        catch (final ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a class or a method carries any parser annotations.
+     *
+     * @param element The class or method.
+     *
+     * @return {@code true} if the element carries at least one parser
+     * annotation, {@code false} otherwise.
+     */
+    private static boolean hasParserAnnotations(final AnnotatedElement element) {
+        for (final Annotation annotation : element.getAnnotations()) {
+            if (isParserAnnotation(annotation)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether an annotation is provided by the parser library.
+     *
+     * @param annotation The annotation.
+     *
+     * @return {@code true} if the annotation is provided by the parser library,
+     * {@code false} otherwise.
+     */
+    private static boolean isParserAnnotation(final Annotation annotation) {
+        return annotation.annotationType().getPackage().equals(Parsed.class.getPackage());
+    }
+}
@@ -21,13 +21,11 @@
 package com.qualitrix.infinitum.data.delimited;
 
 import com.qualitrix.infinitum.data.DataFormat;
-import com.univocity.parsers.common.processor.BeanListProcessor;
+import com.univocity.parsers.common.AbstractParser;
+import com.univocity.parsers.common.processor.RowProcessor;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
 
-import java.io.Reader;
-import java.util.List;
-
 /**
  * <p>
  * Reads structured data from comma-separated values (CSV) format. <b>CSV data
@@ -138,14 +136,20 @@ class CommaDelimitedDataReader extends DelimitedDataReader {
      * {@inheritDoc}
      */
     @Override
-    <T> List<T> read(final Reader reader, final BeanListProcessor<T> processor) {
+    char getQuote() {
+        return '"';
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AbstractParser<?> getParser(final RowProcessor processor, final Class<?> type) {
         final CsvParserSettings parserSettings = new CsvParserSettings();
         parserSettings.setHeaderExtractionEnabled(true);
         parserSettings.setLineSeparatorDetectionEnabled(true);
         parserSettings.setProcessor(processor);
 
-        new CsvParser(parserSettings).parse(reader);
-
-        return processor.getBeans();
+        return new CsvParser(parserSettings);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import com.qualitrix.infinitum.data.DataFormat;
+import com.univocity.parsers.common.AbstractWriter;
+import com.univocity.parsers.common.processor.BeanWriterProcessor;
+import com.univocity.parsers.csv.CsvWriter;
+import com.univocity.parsers.csv.CsvWriterSettings;
+
+import java.io.Writer;
+
+/**
+ * Writes structured data in comma-separated values (CSV) format, with column
+ * headers matching the names of the fields written, see
+ * {@link CommaDelimitedDataReader}. Values are enclosed in double-quotes
+ * ({@code "}) when they contain commas, double-quotes or line breaks.
+ */
+class CommaDelimitedDataWriter extends DelimitedDataWriter {
+    static final DataFormat               FORMAT   = DelimitedDataFormat.CSV;
+
+    static final CommaDelimitedDataWriter INSTANCE = new CommaDelimitedDataWriter();
+
+    /**
+     * Creates a writer for writing data as comma-separated values.
+     */
+    private CommaDelimitedDataWriter() {
+        super(FORMAT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AbstractWriter<?> getWriter(final Writer writer, final BeanWriterProcessor<?> processor) {
+        final CsvWriterSettings writerSettings = new CsvWriterSettings();
+        writerSettings.setHeaderWritingEnabled(true);
+        writerSettings.setRowWriterProcessor(processor);
+
+        return new CsvWriter(writer, writerSettings);
+    }
+}
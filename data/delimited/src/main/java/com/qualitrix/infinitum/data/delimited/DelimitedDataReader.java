@@ -21,19 +21,34 @@
 package com.qualitrix.infinitum.data.delimited;
 
 import com.qualitrix.infinitum.data.DataFormat;
-import com.qualitrix.infinitum.data.DataReader;
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.IndexedDataReader;
+import com.qualitrix.infinitum.data.SourceMetrics;
 import com.qualitrix.infinitum.logging.Logger;
 import com.qualitrix.infinitum.logging.LoggingServiceLocator;
 import com.qualitrix.infinitum.util.ClasspathUtil;
+import com.univocity.parsers.common.AbstractParser;
+import com.univocity.parsers.common.DataProcessingException;
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.processor.AbstractRowProcessor;
 import com.univocity.parsers.common.processor.BeanListProcessor;
+import com.univocity.parsers.common.processor.RowProcessor;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * <p>
@@ -45,10 +60,19 @@ import java.util.List;
  *
  * <p>
  * Input data are read from files that must be readable and available on the
- * runtime application classpath.
+ * runtime application classpath. Files are expected to be encoded in UTF-8,
+ * the encoding in which {@link DelimitedDataWriter} writes them.
+ * </p>
+ *
+ * <p>
+ * Individual rows can also be read by position or by the value of a key
+ * column, without reading the entire file. This requires the file to exist on
+ * the filesystem, either directly or as a runtime classpath resource that has
+ * not been packaged into an archive. See {@link RowIndex} and
+ * {@link KeyIndex} for details on how rows are located.
  * </p>
  */
-abstract class DelimitedDataReader implements DataReader {
+abstract class DelimitedDataReader implements IndexedDataReader {
     private static final Logger LOGGER = LoggingServiceLocator.getInstance()
                                                               .getLoggingService()
                                                               .getLogger(DelimitedDataReader.class);
@@ -101,20 +125,20 @@ abstract class DelimitedDataReader implements DataReader {
      */
     @Override
     public <T> List<T> read(final String fileName, final Class<T> type) {
+        final SourceMetrics metrics = DataReaderMetrics.getInstance().forSource(fileName);
+
         // Attempt to load the specified file.
-        try (final InputStream stream = ClasspathUtil.getResourceStream(fileName)) {
+        try (final InputStream stream = metrics.meter(ClasspathUtil.getResourceStream(fileName))) {
             if (stream == null) {
                 throw new FileNotFoundException(String.format("File [%s] not found.", fileName));
             }
 
             // Prepare to read data from the file.
-            try (final Reader reader = new InputStreamReader(stream)) {
+            try (final Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
                 // Read data from the file in buffered mode for best
                 // read performance.
                 try (final Reader bufferedReader = new BufferedReader(reader)) {
-                    final BeanListProcessor<T> processor = new BeanListProcessor<>(type);
-
-                    return read(bufferedReader, processor);
+                    return read(bufferedReader, type, metrics);
                 }
             }
         }
@@ -125,19 +149,409 @@ abstract class DelimitedDataReader implements DataReader {
         return Collections.emptyList();
     }
 
+    /**
+     * <p>
+     * Reads a single row from a file by its position and performs conversion
+     * to an object of required type. For example,
+     * {@code read("Products.csv", Product.class, 41)} reads the forty-second
+     * row following the column headers in the file {@code Products.csv}.
+     * </p>
+     *
+     * <p>
+     * The first call for a file builds an index of row positions for the file,
+     * which is then reused by subsequent calls until the file changes.
+     * </p>
+     *
+     * @param fileName The name of the file from which data must be read. The
+     * file must be readable and available on the filesystem or the runtime
+     * classpath.
+     * @param type The type of object to read.
+     * @param row The zero-based position of the row to read.
+     * @param <T> The type of data to read.
+     *
+     * @return An object containing data read from the specified row, or
+     * {@code null} if the file is not found, cannot be indexed, or does not
+     * contain a row at the specified position.
+     */
+    @Override
+    public <T> T read(final String fileName, final Class<T> type, final int row) {
+        try (final RowIndex index = getRowIndex(fileName)) {
+            return read(index, row, type);
+        }
+        catch (final Exception e) {
+            LOGGER.error(e, String.format("Unable to read row [%d] of delimited data from [%s].", row, fileName));
+        }
+
+        return null;
+    }
+
+    /**
+     * <p>
+     * Reads a single row from a file by the value of a key column and performs
+     * conversion to an object of required type. For example,
+     * {@code read("Student.csv", Student.class, "Name", "Bob")} reads the row
+     * having the value {@code Bob} in the column {@code Name} of the file
+     * {@code Student.csv}.
+     * </p>
+     *
+     * <p>
+     * The first call for a file and a column builds a hash index over the
+     * values of the column, which is then reused by subsequent calls until the
+     * file changes.
+     * </p>
+     *
+     * @param fileName The name of the file from which data must be read. The
+     * file must be readable and available on the filesystem or the runtime
+     * classpath.
+     * @param type The type of object to read.
+     * @param column The name of the key column, as it appears in the column
+     * headers of the file.
+     * @param key The key of the row to read.
+     * @param <T> The type of data to read.
+     *
+     * @return An object containing data read from the row having the specified
+     * key, or {@code null} if the file is not found, cannot be indexed, or does
+     * not contain a row with the specified key.
+     */
+    @Override
+    public <T> T read(final String fileName, final Class<T> type, final String column, final String key) {
+        if (column == null || key == null) {
+            return null;
+        }
+
+        try (final RowIndex index = getRowIndex(fileName)) {
+            final int row = index.getKeyIndex(column, () -> readColumn(index.getSource(), column, type))
+                                 .find(key, candidate -> key.equals(readColumn(index, candidate, column, type)));
+
+            return row < 0
+                   ? null
+                   : read(index, row, type);
+        }
+        catch (final Exception e) {
+            LOGGER.error(e, String.format("Unable to read row with [%s] = [%s] of delimited data from [%s].", column, key, fileName));
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the character used for quoting values that may contain line breaks.
+     * Line breaks within quoted values do not end a row when rows are indexed.
+     *
+     * @return The character used for quoting values, or {@code 0} if values
+     * cannot contain line breaks.
+     */
+    char getQuote() {
+        return 0;
+    }
+
+    /**
+     * Creates a parser for reading data from a delimited file.
+     *
+     * @param processor A processor to which parsed rows must be passed.
+     * @param type The type of objects to read.
+     *
+     * @return A parser that passes parsed rows to the specified processor.
+     */
+    abstract AbstractParser<?> getParser(final RowProcessor processor, final Class<?> type);
+
     /**
      * Reads data from a delimited file and performs conversion to objects of
      * required type.
      *
      * @param reader A reader for reading data from the delimited file.
-     * @param processor A processor for converting data into Java objects.
+     * @param type The type of objects to read.
      * @param <T> The type of data to read.
      *
      * @return A {@link List} of objects containing data read from the specified
-     * name. The returned list is never {@code null}. If the specified source
-     * is not found, cannot be read by this reader, contains data unsuitable
-     * for this reader, or is empty, the returned list will be empty. Otherwise,
-     * it will contain objects matching the data read from the source.
+     * reader. The returned list is never {@code null}.
      */
-    abstract <T> List<T> read(final Reader reader, final BeanListProcessor<T> processor);
+    <T> List<T> read(final Reader reader, final Class<T> type) {
+        return read(reader, type, SourceMetrics.disabled());
+    }
+
+    /**
+     * Reads data from a delimited file and performs conversion to objects of
+     * required type, recording measurements of the data read.
+     *
+     * @param reader A reader for reading data from the delimited file.
+     * @param type The type of objects to read.
+     * @param metrics Records measurements of the data read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * reader. The returned list is never {@code null}.
+     */
+    <T> List<T> read(final Reader reader, final Class<T> type, final SourceMetrics metrics) {
+        final BeanRowProcessor<T> mapped = BeanRowProcessor.of(type, metrics);
+        final long start = metrics.time();
+
+        // Prefer a processor that resolves the fields of the type just once,
+        // if the type allows it.
+        if (mapped != null) {
+            try {
+                getParser(mapped, type).parse(reader);
+            }
+            finally {
+                // Time spent mapping rows is measured by the processor.
+                metrics.addParseTime(metrics.time() - start - mapped.getMappingTime());
+            }
+
+            return mapped.getBeans();
+        }
+
+        final MeasuredBeanListProcessor<T> processor = new MeasuredBeanListProcessor<>(type, metrics);
+
+        try {
+            getParser(processor, type).parse(reader);
+        }
+        finally {
+            metrics.addParseTime(metrics.time() - start - processor.getMappingTime());
+        }
+
+        return processor.getBeans();
+    }
+
+    /**
+     * Gets an index over the rows of a file.
+     *
+     * @param fileName The name of the file.
+     *
+     * @return A {@link RowIndex}, which must be closed once rows have been
+     * read.
+     *
+     * @throws IOException if the file cannot be found on the filesystem or the
+     * runtime classpath, or cannot be read.
+     */
+    private RowIndex getRowIndex(final String fileName) throws IOException {
+        final File file = new File(fileName).exists()
+                          ? new File(fileName)
+                          : ClasspathUtil.getResourceFile(fileName);
+
+        if (file == null || !file.isFile()) {
+            throw new FileNotFoundException(String.format("File [%s] not found on the filesystem.", fileName));
+        }
+
+        return RowIndex.of(file, getQuote());
+    }
+
+    /**
+     * Gets a reader for the column headers of an indexed file followed by a
+     * single row of the file.
+     *
+     * @param index An index over the rows of the file.
+     * @param row The position of the row to read.
+     *
+     * @return A {@link Reader}, or {@code null} if the file does not contain a
+     * row at the specified position.
+     *
+     * @throws IOException if the row cannot be read.
+     */
+    private Reader getRowReader(final RowIndex index, final int row) throws IOException {
+        final byte[] content = index.read(row);
+
+        return content == null
+               ? null
+               : new InputStreamReader(new SequenceInputStream(new ByteArrayInputStream(index.getHeader())
+            , new ByteArrayInputStream(content)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a single row of an indexed file as an object of required type.
+     *
+     * @param index An index over the rows of the file.
+     * @param row The position of the row to read.
+     * @param type The type of object to read.
+     * @param <T> The type of data to read.
+     *
+     * @return An object containing data read from the specified row, or
+     * {@code null} if the file does not contain a row at the specified
+     * position.
+     *
+     * @throws IOException if the row cannot be read.
+     */
+    private <T> T read(final RowIndex index, final int row, final Class<T> type) throws IOException {
+        final Reader reader = getRowReader(index, row);
+
+        if (reader == null) {
+            return null;
+        }
+
+        final List<T> records = read(reader, type);
+
+        return records.isEmpty()
+               ? null
+               : records.get(0);
+    }
+
+    /**
+     * Reads the values of a column from every row of a file.
+     *
+     * @param file The file to read.
+     * @param column The name of the column.
+     * @param type The type of objects the file holds, which may be required
+     * for determining column boundaries.
+     *
+     * @return The values of the column, one for each row.
+     */
+    private String[] readColumn(final File file, final String column, final Class<?> type) {
+        final List<String> values = new ArrayList<>();
+
+        try (final Reader reader = new BufferedReader(new InputStreamReader(ClasspathUtil.getResourceStream(file.getPath()), StandardCharsets.UTF_8))) {
+            getParser(new ColumnProcessor(column, values), type).parse(reader);
+        }
+        catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return values.toArray(new String[0]);
+    }
+
+    /**
+     * Reads the value of a column from a single row of an indexed file.
+     *
+     * @param index An index over the rows of the file.
+     * @param row The position of the row.
+     * @param column The name of the column.
+     * @param type The type of objects the file holds.
+     *
+     * @return The value of the column in the specified row, or {@code null} if
+     * the row does not exist or does not have a value for the column.
+     */
+    private String readColumn(final RowIndex index, final int row, final String column, final Class<?> type) {
+        final List<String> values = new ArrayList<>(1);
+
+        try (final Reader reader = getRowReader(index, row)) {
+            if (reader != null) {
+                getParser(new ColumnProcessor(column, values), type).parse(reader);
+            }
+        }
+        catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return values.isEmpty()
+               ? null
+               : values.get(0);
+    }
+
+    /**
+     * Collects the values of a single column from parsed rows.
+     */
+    private static final class ColumnProcessor extends AbstractRowProcessor {
+        private final String column;
+
+        private final List<String> values;
+
+        /**
+         * Creates a processor for collecting the values of a column.
+         *
+         * @param column The name of the column.
+         * @param values The list to which values must be added.
+         */
+        ColumnProcessor(final String column, final List<String> values) {
+            this.column = Objects.requireNonNull(column);
+            this.values = values;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void rowProcessed(final String[] row, final ParsingContext context) {
+            final int position = context.indexOf(column);
+
+            values.add(position >= 0 && position < row.length
+                       ? row[position]
+                       : null);
+        }
+    }
+
+    /**
+     * Converts rows to objects through a {@link BeanListProcessor}, for types
+     * that {@link BeanRowProcessor} cannot handle, recording the same
+     * measurements as {@link BeanRowProcessor}: the rows converted and
+     * rejected, and the time spent converting them.
+     *
+     * @param <T> The type of objects to which rows are converted.
+     */
+    private static final class MeasuredBeanListProcessor<T> implements RowProcessor {
+        private final BeanListProcessor<T> delegate;
+
+        private final SourceMetrics metrics;
+
+        private long mappingTime;
+
+        /**
+         * Creates a processor.
+         *
+         * @param type The type of objects to which rows must be converted.
+         * @param metrics Records measurements of the rows processed.
+         */
+        MeasuredBeanListProcessor(final Class<T> type, final SourceMetrics metrics) {
+            this.delegate = new BeanListProcessor<>(type);
+            this.metrics = metrics;
+        }
+
+        /**
+         * Gets the objects created from the rows processed.
+         *
+         * @return A {@link List} of objects, one for each processed row.
+         */
+        List<T> getBeans() {
+            return delegate.getBeans();
+        }
+
+        /**
+         * Gets the time spent converting rows to objects so far, if
+         * measurements are being recorded.
+         *
+         * @return The time spent converting rows, in nanoseconds, or
+         * {@code 0} if measurements are not being recorded.
+         */
+        long getMappingTime() {
+            return mappingTime;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processEnded(final ParsingContext context) {
+            delegate.processEnded(context);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processStarted(final ParsingContext context) {
+            delegate.processStarted(context);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void rowProcessed(final String[] row, final ParsingContext context) {
+            final long start = metrics.time();
+
+            try {
+                delegate.rowProcessed(row, context);
+            }
+            catch (final DataProcessingException e) {
+                metrics.addRejected(1);
+
+                throw e;
+            }
+            finally {
+                final long elapsed = metrics.time() - start;
+
+                mappingTime += elapsed;
+                metrics.addMappingTime(elapsed);
+            }
+
+            metrics.addRows(1);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.DataWriter;
+import com.univocity.parsers.common.AbstractWriter;
+import com.univocity.parsers.common.processor.BeanWriterProcessor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Writes structured data in delimited text formats like comma-separated values
+ * (CSV) or tab-separated values (TSV). Data are written with column headers,
+ * so that they can be read back by the matching {@link DelimitedDataReader}.
+ * Objects to write must be decorated in the same way as those to read, i.e.
+ * with {@code com.univocity.parsers.annotations.Parsed} annotations on the
+ * fields to write. Since field values are obtained through getters, where
+ * available, types having getters must be public.
+ * </p>
+ *
+ * <p>
+ * Rows are written through a large buffer, which is written to the
+ * destination only when it fills up, or when the sink is flushed or closed.
+ * </p>
+ */
+abstract class DelimitedDataWriter implements DataWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<DataFormat> format;
+
+    /**
+     * Creates a writer for writing data in a particular delimited format.
+     *
+     * @param format The format for the data to write.
+     */
+    DelimitedDataWriter(final DataFormat format) {
+        this.format = Collections.singletonList(format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataFormat> getSupportedFormats() {
+        return format;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> DataSink<T> open(final String destination, final Class<T> type) throws IOException {
+        final Path path = Paths.get(destination).toAbsolutePath();
+
+        Files.createDirectories(path.getParent());
+
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)
+            , BUFFER_SIZE);
+
+        try {
+            return new DelimitedDataSink<>(getWriter(writer, new BeanWriterProcessor<>(type)));
+        }
+        catch (final RuntimeException e) {
+            writer.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a writer for writing data in a delimited format, with column
+     * headers.
+     *
+     * @param writer The writer to which delimited data must be written.
+     * @param processor A processor that converts objects to rows.
+     *
+     * @return A writer that converts objects to rows through the specified
+     * processor.
+     */
+    abstract AbstractWriter<?> getWriter(final Writer writer, final BeanWriterProcessor<?> processor);
+
+    /**
+     * Writes objects as rows of delimited data.
+     *
+     * @param <T> The type of objects to write.
+     */
+    private static final class DelimitedDataSink<T> implements DataSink<T> {
+        private final AbstractWriter<?> writer;
+
+        /**
+         * Creates a sink that writes objects as rows through a writer.
+         *
+         * @param writer The writer.
+         */
+        DelimitedDataSink(final AbstractWriter<?> writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void append(final T record) {
+            writer.processRecord(record);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendAll(final Collection<? extends T> records) {
+            writer.processRecords(records);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            writer.close();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void flush() {
+            writer.flush();
+        }
+    }
+}
@@ -21,13 +21,12 @@
 package com.qualitrix.infinitum.data.delimited;
 
 import com.qualitrix.infinitum.data.DataFormat;
-import com.univocity.parsers.common.processor.BeanListProcessor;
+import com.univocity.parsers.common.AbstractParser;
+import com.univocity.parsers.common.processor.RowProcessor;
+import com.univocity.parsers.fixed.FixedWidthFields;
 import com.univocity.parsers.fixed.FixedWidthParser;
 import com.univocity.parsers.fixed.FixedWidthParserSettings;
 
-import java.io.Reader;
-import java.util.List;
-
 /**
  * <p>
  * Reads structured data from fixed-width column format. <b>Data must have
@@ -144,8 +143,8 @@ class FixedWidthTextDataReader extends DelimitedDataReader {
      * {@inheritDoc}
      */
     @Override
-    <T> List<T> read(final Reader reader, final BeanListProcessor<T> processor) {
-        final FixedWidthParserSettings parserSettings = new FixedWidthParserSettings();
+    AbstractParser<?> getParser(final RowProcessor processor, final Class<?> type) {
+        final FixedWidthParserSettings parserSettings = new FixedWidthParserSettings(FixedWidthFields.forParsing(type));
         parserSettings.setHeaderExtractionEnabled(true);
         parserSettings.setIgnoreLeadingWhitespaces(true);
         parserSettings.setIgnoreTrailingWhitespaces(true);
@@ -153,8 +152,6 @@ class FixedWidthTextDataReader extends DelimitedDataReader {
         parserSettings.setProcessor(processor);
         parserSettings.setRecordEndsOnNewline(true);
 
-        new FixedWidthParser(parserSettings).parse(reader);
-
-        return processor.getBeans();
+        return new FixedWidthParser(parserSettings);
     }
 }
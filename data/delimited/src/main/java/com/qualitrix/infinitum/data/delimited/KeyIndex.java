@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Hash index over the values of a column of a delimited text file, mapping
+ * each value to the position of the row containing it. The index is an
+ * open-addressing table with linear probing, where each slot holds the hash of
+ * a value and the position of its row. Values themselves are not stored, so
+ * lookups must confirm a match by reading the candidate row; since candidates
+ * are filtered by their full hash, a lookup usually reads exactly one row.
+ * </p>
+ *
+ * <p>
+ * Indexes are saved to a sidecar file named after the source file and the
+ * column (e.g. {@code Student.csv.Name.24eeab.kdx}) and are rebuilt
+ * automatically whenever the source file changes. Characters not allowed in
+ * file names are replaced in the name of the column, so the name of the
+ * sidecar also includes the hash of the name of the column, to tell apart
+ * columns such as {@code a b} and {@code a_b}. The name of the column is
+ * stored in the sidecar as well, so that a sidecar is never used for a
+ * different column whose name has the same hash. The sidecar has the
+ * following layout, all values being big-endian:
+ * </p>
+ *
+ * <pre>
+ * int      magic number
+ * int      version
+ * long     size of the source file in bytes
+ * long     last modification time of the source file
+ * int      length of the name of the column in bytes (m)
+ * byte[]   m bytes, holding the name of the column encoded in UTF-8
+ * int      number of slots (n), always a power of two
+ * int[]    2 * n values, holding the hash and the position + 1 of the row
+ *          for each slot, or two zeros for an empty slot
+ * </pre>
+ */
+final class KeyIndex {
+    static final String SUFFIX = ".kdx";
+
+    private static final int HEADER_LENGTH = 32;
+
+    private static final int MAGIC = 0x494b4958;
+
+    private static final int VERSION = 2;
+
+    private final int mask;
+
+    private final IntBuffer slots;
+
+    /**
+     * Creates an index from a table of slots.
+     *
+     * @param slots The slots, as pairs of hash and position + 1.
+     */
+    private KeyIndex(final IntBuffer slots) {
+        this.slots = slots;
+
+        mask = (slots.limit() >>> 1) - 1;
+    }
+
+    /**
+     * Gets an up-to-date index over a column of a delimited text file, loading
+     * it from its sidecar if possible, or building it otherwise.
+     *
+     * @param rows An index over the rows of the file.
+     * @param column The name of the column.
+     * @param values Supplies the values of the column, one for each data row.
+     *
+     * @return A {@link KeyIndex}.
+     *
+     * @throws IOException if the values cannot be obtained.
+     */
+    static KeyIndex of(final RowIndex rows, final String column, final Supplier<String[]> values) throws IOException {
+        final File sidecar = new File(rows.getSource().getPath()
+            + "."
+            + column.replaceAll("[^A-Za-z0-9_-]", "_")
+            + "."
+            + Integer.toHexString(column.hashCode())
+            + SUFFIX);
+        final byte[] name = column.getBytes(StandardCharsets.UTF_8);
+
+        final IntBuffer stored = load(sidecar, rows.getSize(), rows.getLastModified(), name);
+
+        if (stored != null) {
+            return new KeyIndex(stored);
+        }
+
+        final int[] table = build(values.get());
+
+        save(sidecar, rows.getSize(), rows.getLastModified(), name, table);
+
+        return new KeyIndex(IntBuffer.wrap(table));
+    }
+
+    /**
+     * Finds the row containing a value.
+     *
+     * @param value The value to find.
+     * @param matches Confirms whether the row at a given position actually
+     * contains the value being searched for.
+     *
+     * @return The position of the row containing the value, or {@code -1} if
+     * no row contains the value.
+     */
+    int find(final String value, final IntPredicate matches) {
+        final int hash = hash(value);
+
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int row = slots.get((slot << 1) + 1) - 1;
+
+            if (row < 0) {
+                return -1;
+            }
+
+            if (slots.get(slot << 1) == hash && matches.test(row)) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Builds a table of slots for a set of values. The table is sized to be at
+     * most half full, so that probe sequences remain short.
+     *
+     * @param values The values to index, one for each data row.
+     *
+     * @return The table of slots.
+     */
+    private static int[] build(final String[] values) {
+        final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, values.length)) << 2);
+        final int mask = capacity - 1;
+        final int[] table = new int[capacity << 1];
+
+        for (int row = 0; row < values.length; ++row) {
+            if (values[row] == null) {
+                continue;
+            }
+
+            final int hash = hash(values[row]);
+
+            int slot = hash & mask;
+
+            while (table[(slot << 1) + 1] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            table[slot << 1] = hash;
+            table[(slot << 1) + 1] = row + 1;
+        }
+
+        return table;
+    }
+
+    /**
+     * Computes the hash for a value, spreading higher bits downwards so that
+     * they take part in selecting a slot.
+     *
+     * @param value The value.
+     *
+     * @return The hash for the value.
+     */
+    private static int hash(final String value) {
+        final int hash = value.hashCode();
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Maps the slots stored in a sidecar file into memory.
+     *
+     * @param sidecar The sidecar file.
+     * @param size The current size of the source file.
+     * @param lastModified The current modification time of the source file.
+     * @param column The name of the column, encoded in UTF-8.
+     *
+     * @return The stored slots if the sidecar exists and matches the column
+     * and the current state of the source file, {@code null} otherwise.
+     */
+    private static IntBuffer load(final File sidecar, final long size, final long lastModified, final byte[] column) {
+        if (!sidecar.isFile() || sidecar.length() < HEADER_LENGTH) {
+            return null;
+        }
+
+        try (final FileChannel file = FileChannel.open(sidecar.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+
+            if (buffer.getInt() != MAGIC
+                || buffer.getInt() != VERSION
+                || buffer.getLong() != size
+                || buffer.getLong() != lastModified
+                || buffer.getInt() != column.length
+                || buffer.remaining() < column.length + Integer.BYTES) {
+                return null;
+            }
+
+            final byte[] stored = new byte[column.length];
+            buffer.get(stored);
+
+            if (!Arrays.equals(stored, column)) {
+                return null;
+            }
+
+            final int capacity = buffer.getInt();
+
+            if (Integer.bitCount(capacity) != 1 || buffer.remaining() != capacity * 2L * Integer.BYTES) {
+                return null;
+            }
+
+            return buffer.slice().asIntBuffer();
+        }
+        catch (final IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Saves a table of slots to a sidecar file, if possible.
+     *
+     * @param sidecar The sidecar file.
+     * @param size The size of the source file.
+     * @param lastModified The last modification time of the source file.
+     * @param column The name of the column, encoded in UTF-8.
+     * @param table The table of slots.
+     */
+    private static void save(final File sidecar, final long size, final long lastModified, final byte[] column, final int[] table) {
+        final File temporary;
+
+        try {
+            temporary = File.createTempFile(sidecar.getName(), null, sidecar.getAbsoluteFile().getParentFile());
+        }
+        catch (final IOException | SecurityException e) {
+            // The index remains usable from memory, so failing to save it is
+            // not an error.
+            return;
+        }
+
+        try {
+            try (final DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+                stream.writeInt(MAGIC);
+                stream.writeInt(VERSION);
+                stream.writeLong(size);
+                stream.writeLong(lastModified);
+                stream.writeInt(column.length);
+                stream.write(column);
+                stream.writeInt(table.length >>> 1);
+
+                for (final int value : table) {
+                    stream.writeInt(value);
+                }
+            }
+
+            Files.move(temporary.toPath(), sidecar.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final IOException | SecurityException e) {
+            // The index remains usable from memory, so failing to save it is
+            // not an error, but no partially written sidecar must be left
+            // behind.
+            temporary.delete();
+        }
+    }
+}
@@ -0,0 +1,610 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Holds the byte offsets at which data rows begin in a delimited text file, so
+ * that any row can be read on its own with a single positioned read. The first
+ * non-blank line of the file is treated as the column header line and is not
+ * counted as a data row.
+ * </p>
+ *
+ * <p>
+ * Offsets are saved to a sidecar file named after the source file, with the
+ * suffix {@code .idx} (e.g. {@code Student.csv.idx}). The sidecar records the
+ * size and the last modification time of the source file and is rebuilt
+ * automatically whenever either of them changes. The sidecar is memory-mapped
+ * when used, so opening an index does not require reading all offsets. If the
+ * sidecar cannot be written, for example because the source file is located
+ * in a read-only directory, offsets are kept in memory instead.
+ * </p>
+ *
+ * <p>
+ * Indexes are shared between threads, and an index that has been superseded
+ * because the source file changed may still be in use by other threads.
+ * Every index obtained through {@link #of(File, char)} must therefore be
+ * closed once the rows needed have been read. The source file is kept open
+ * for as long as the index is the current one for the file, so that reading
+ * a row does not require opening and closing the file. Once the index has
+ * been superseded, the source file is closed as soon as no thread is using
+ * the index any more, so that superseded indexes do not hold on to file
+ * handles. The mapping of a superseded sidecar is released once the index is
+ * no longer referenced.
+ * </p>
+ *
+ * <p>
+ * The sidecar file has the following layout, all values being big-endian:
+ * </p>
+ *
+ * <pre>
+ * int      magic number
+ * int      version
+ * long     size of the source file in bytes
+ * long     last modification time of the source file
+ * int      number of data rows (n)
+ * long[]   n + 1 offsets, the last one being the size of the source file
+ * </pre>
+ */
+final class RowIndex implements Closeable {
+    static final String SUFFIX = ".idx";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<File, RowIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private static final int HEADER_LENGTH = 28;
+
+    private static final int MAGIC = 0x49524958;
+
+    private static final int VERSION = 1;
+
+    private final byte[] header;
+
+    private final Map<String, KeyIndex> keys;
+
+    private final long lastModified;
+
+    private final LongBuffer offsets;
+
+    private final int rows;
+
+    private final long size;
+
+    private final File source;
+
+    private FileChannel channel;
+
+    private volatile boolean retired;
+
+    private int users;
+
+    /**
+     * Creates an index over a delimited text file.
+     *
+     * @param source The file to which the index applies.
+     * @param size The size of the file at the time the index was built.
+     * @param lastModified The last modification time of the file at the time
+     * the index was built.
+     * @param offsets The offsets at which data rows begin, followed by the
+     * size of the file.
+     *
+     * @throws IOException if the file cannot be opened or its column header
+     * line cannot be read.
+     */
+    private RowIndex(final File source
+        , final long size
+        , final long lastModified
+        , final LongBuffer offsets) throws IOException {
+        this.source = source;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.offsets = offsets;
+
+        rows = offsets.limit() - 1;
+        keys = new ConcurrentHashMap<>();
+
+        channel = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+
+        try {
+            header = read(channel, 0, offsets.get(0));
+        }
+        catch (final IOException e) {
+            channel.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Gets an up-to-date index for a delimited text file, building it if it
+     * does not exist yet or if the file has changed since the index was last
+     * built. The index must be closed once it is no longer required. An index
+     * that has been superseded is not closed while other threads are still
+     * using it.
+     *
+     * @param source The file to index.
+     * @param quote The character used for quoting values that may contain
+     * line breaks, or {@code 0} if values cannot contain line breaks.
+     *
+     * @return A {@link RowIndex}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static RowIndex of(final File source, final char quote) throws IOException {
+        final File file = source.getAbsoluteFile();
+
+        // Reuse the index held in memory as long as the file is unchanged.
+        final RowIndex current = INDEXES.get(file);
+
+        try {
+            if (current != null && current.isCurrent()) {
+                return current.acquire();
+            }
+
+            // A superseded index is retired rather than closed, since other
+            // threads may still be reading rows through it. Its file handle
+            // is released when the last of them closes it.
+            return INDEXES.compute(file, (key, existing) -> {
+                if (existing != null && existing.isCurrent()) {
+                    return existing;
+                }
+
+                if (existing != null) {
+                    existing.retire();
+                }
+
+                try {
+                    return open(key, quote);
+                }
+                catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).acquire();
+        }
+        catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Stops using this index, closing the source file if the index has been
+     * superseded and no other thread is using it.
+     *
+     * @throws IOException if the source file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (users == 0) {
+            return;
+        }
+
+        if (--users == 0 && retired) {
+            release();
+        }
+    }
+
+    /**
+     * Gets the column header line of the file.
+     *
+     * @return The raw bytes preceding the first data row.
+     */
+    byte[] getHeader() {
+        return header;
+    }
+
+    /**
+     * Gets an index over the values of a column of the file, building it if
+     * required.
+     *
+     * @param column The name of the column.
+     * @param values Supplies the values of the column, one for each data row,
+     * in case the index needs to be built.
+     *
+     * @return A {@link KeyIndex}.
+     *
+     * @throws IOException if an existing index cannot be read.
+     */
+    KeyIndex getKeyIndex(final String column, final Supplier<String[]> values) throws IOException {
+        try {
+            return keys.computeIfAbsent(column, name -> {
+                try {
+                    return KeyIndex.of(this, name, values);
+                }
+                catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Gets the last modification time of the file at the time this index was
+     * built.
+     *
+     * @return The last modification time of the file.
+     */
+    long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Gets the size of the file at the time this index was built.
+     *
+     * @return The size of the file, in bytes.
+     */
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the file to which this index applies.
+     *
+     * @return A {@link File}.
+     */
+    File getSource() {
+        return source;
+    }
+
+    /**
+     * Reads a data row from the file.
+     *
+     * @param row The zero-based position of the row to read.
+     *
+     * @return The raw bytes of the row, or {@code null} if the file does not
+     * contain a row at the specified position.
+     *
+     * @throws IOException if the row cannot be read.
+     * @throws NullPointerException if the index has been closed.
+     */
+    byte[] read(final int row) throws IOException {
+        if (row < 0 || row >= rows) {
+            return null;
+        }
+
+        return read(channel, offsets.get(row), offsets.get(row + 1));
+    }
+
+    /**
+     * Gets the number of data rows in the file.
+     *
+     * @return The number of data rows in the file.
+     */
+    int size() {
+        return rows;
+    }
+
+    /**
+     * Builds an index for a file, by loading it from its sidecar if the
+     * sidecar is up-to-date, or by scanning the file otherwise.
+     *
+     * @param source The file to index.
+     * @param quote The character used for quoting values.
+     *
+     * @return A {@link RowIndex}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    private static RowIndex open(final File source, final char quote) throws IOException {
+        final long size = source.length(), lastModified = source.lastModified();
+        final File sidecar = new File(source.getPath() + SUFFIX);
+
+        LongBuffer offsets = load(sidecar, size, lastModified);
+
+        if (offsets == null) {
+            final long[] scanned = scan(source, quote);
+
+            offsets = save(sidecar, size, lastModified, scanned)
+                      ? load(sidecar, size, lastModified)
+                      : null;
+
+            if (offsets == null) {
+                offsets = LongBuffer.wrap(scanned);
+            }
+        }
+
+        return new RowIndex(source, size, lastModified, offsets);
+    }
+
+    /**
+     * Maps the offsets stored in a sidecar file into memory.
+     *
+     * @param sidecar The sidecar file.
+     * @param size The current size of the source file.
+     * @param lastModified The current modification time of the source file.
+     *
+     * @return The stored offsets if the sidecar exists and matches the current
+     * state of the source file, {@code null} otherwise.
+     */
+    private static LongBuffer load(final File sidecar, final long size, final long lastModified) {
+        if (!sidecar.isFile() || sidecar.length() < HEADER_LENGTH) {
+            return null;
+        }
+
+        try (final FileChannel file = FileChannel.open(sidecar.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+
+            if (buffer.getInt() != MAGIC
+                || buffer.getInt() != VERSION
+                || buffer.getLong() != size
+                || buffer.getLong() != lastModified) {
+                return null;
+            }
+
+            final int rows = buffer.getInt();
+
+            if (buffer.remaining() != (rows + 1L) * Long.BYTES) {
+                return null;
+            }
+
+            return buffer.slice().asLongBuffer();
+        }
+        catch (final IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a range of bytes from a file.
+     *
+     * @param file The file.
+     * @param start The offset of the first byte to read.
+     * @param end The offset following the last byte to read.
+     *
+     * @return The bytes read.
+     *
+     * @throws IOException if the bytes cannot be read.
+     */
+    private static byte[] read(final FileChannel file, final long start, final long end) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Saves offsets to a sidecar file. The sidecar is written to a temporary
+     * file first and then moved in place, so that concurrent readers never see
+     * a partially written sidecar.
+     *
+     * @param sidecar The sidecar file.
+     * @param size The size of the source file.
+     * @param lastModified The last modification time of the source file.
+     * @param offsets The offsets to save.
+     *
+     * @return {@code true} if the sidecar was saved, {@code false} otherwise.
+     */
+    private static boolean save(final File sidecar, final long size, final long lastModified, final long[] offsets) {
+        final File temporary;
+
+        try {
+            temporary = File.createTempFile(sidecar.getName(), null, sidecar.getAbsoluteFile().getParentFile());
+        }
+        catch (final IOException | SecurityException e) {
+            return false;
+        }
+
+        try {
+            try (final DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary), BUFFER_SIZE))) {
+                stream.writeInt(MAGIC);
+                stream.writeInt(VERSION);
+                stream.writeLong(size);
+                stream.writeLong(lastModified);
+                stream.writeInt(offsets.length - 1);
+
+                for (final long offset : offsets) {
+                    stream.writeLong(offset);
+                }
+            }
+
+            Files.move(temporary.toPath(), sidecar.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        }
+        catch (final IOException | SecurityException e) {
+            // Leave no partially written sidecar behind.
+            temporary.delete();
+
+            return false;
+        }
+    }
+
+    /**
+     * Scans a file to find the offsets at which data rows begin. Blank lines
+     * are skipped, the same way they are skipped while parsing, and line
+     * breaks within quoted values do not end a row.
+     *
+     * @param source The file to scan.
+     * @param quote The character used for quoting values, or {@code 0} if
+     * values cannot contain line breaks.
+     *
+     * @return The offsets at which data rows begin, followed by the size of
+     * the file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    private static long[] scan(final File source, final char quote) throws IOException {
+        long[] starts = new long[1024];
+        int lines = 0;
+
+        try (final InputStream stream = new BufferedInputStream(new FileInputStream(source), BUFFER_SIZE)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+
+            boolean blank = true, quoted = false;
+            long lineStart = 0, position = 0;
+
+            for (int count = stream.read(buffer); count != -1; count = stream.read(buffer)) {
+                for (int i = 0; i < count; ++i, ++position) {
+                    final byte current = buffer[i];
+
+                    if (current == '\n' && !quoted) {
+                        if (!blank) {
+                            starts = add(starts, lines++, lineStart);
+                        }
+
+                        blank = true;
+                        lineStart = position + 1;
+                    }
+                    else if (current != '\r') {
+                        blank = false;
+
+                        if (quote != 0 && current == quote) {
+                            quoted = !quoted;
+                        }
+                    }
+                }
+            }
+
+            if (!blank) {
+                starts = add(starts, lines++, lineStart);
+            }
+
+            // Discard the header line and terminate the offsets with the
+            // file size, so that the length of every row can be computed.
+            final long[] offsets = new long[Math.max(lines, 1)];
+
+            if (lines > 1) {
+                System.arraycopy(starts, 1, offsets, 0, lines - 1);
+            }
+
+            offsets[offsets.length - 1] = position;
+
+            return offsets;
+        }
+    }
+
+    /**
+     * Adds a value to an array, growing the array if required.
+     *
+     * @param values The array.
+     * @param index The index at which to add the value.
+     * @param value The value to add.
+     *
+     * @return The array containing the added value.
+     */
+    private static long[] add(final long[] values, final int index, final long value) {
+        final long[] target = index < values.length
+                              ? values
+                              : Arrays.copyOf(values, values.length << 1);
+
+        target[index] = value;
+
+        return target;
+    }
+
+    /**
+     * Gets whether this index still matches the file it applies to.
+     *
+     * @return {@code true} if the file has not changed since this index was
+     * built, {@code false} otherwise.
+     */
+    private boolean isCurrent() {
+        return !retired
+            && source.length() == size
+            && source.lastModified() == lastModified;
+    }
+
+    /**
+     * Closes the source file, if open.
+     *
+     * @throws IOException if the source file cannot be closed.
+     */
+    private void release() throws IOException {
+        final FileChannel file = channel;
+
+        channel = null;
+
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    /**
+     * Marks this index as superseded, closing the source file if no thread is
+     * using the index.
+     */
+    private synchronized void retire() {
+        retired = true;
+
+        if (users == 0) {
+            try {
+                release();
+            }
+            catch (final IOException e) {
+                // The file was only read from, so failing to close it cannot
+                // lose any data.
+            }
+        }
+    }
+
+    /**
+     * Starts using this index, opening the source file again if the index
+     * was superseded after it was obtained and its file has been closed
+     * meanwhile.
+     *
+     * @return This index.
+     *
+     * @throws UncheckedIOException if the source file cannot be opened.
+     */
+    private synchronized RowIndex acquire() {
+        if (channel == null) {
+            try {
+                channel = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        ++users;
+
+        return this;
+    }
+}
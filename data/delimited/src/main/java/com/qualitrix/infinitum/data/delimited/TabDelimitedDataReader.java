@@ -21,13 +21,11 @@
 package com.qualitrix.infinitum.data.delimited;
 
 import com.qualitrix.infinitum.data.DataFormat;
-import com.univocity.parsers.common.processor.BeanListProcessor;
+import com.univocity.parsers.common.AbstractParser;
+import com.univocity.parsers.common.processor.RowProcessor;
 import com.univocity.parsers.tsv.TsvParser;
 import com.univocity.parsers.tsv.TsvParserSettings;
 
-import java.io.Reader;
-import java.util.List;
-
 /**
  * <p>
  * Reads structured data from tab-separated values (TSV) format. <b>TSV data
@@ -141,14 +139,12 @@ class TabDelimitedDataReader extends DelimitedDataReader {
      * {@inheritDoc}
      */
     @Override
-    <T> List<T> read(Reader reader, BeanListProcessor<T> processor) {
+    AbstractParser<?> getParser(final RowProcessor processor, final Class<?> type) {
         final TsvParserSettings parserSettings = new TsvParserSettings();
         parserSettings.setHeaderExtractionEnabled(true);
         parserSettings.setLineSeparatorDetectionEnabled(true);
         parserSettings.setProcessor(processor);
 
-        new TsvParser(parserSettings).parse(reader);
-
-        return processor.getBeans();
+        return new TsvParser(parserSettings);
     }
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import com.univocity.parsers.annotations.Parsed;
+import com.univocity.parsers.common.processor.BeanListProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the number of rows per second read from comma-separated values
+ * into objects having 60 fields, through {@link BeanListProcessor}, which
+ * populates every field of every row by reflection, and through
+ * {@link BeanRowProcessor}, which resolves the fields of the type just once.
+ * Both read the same rows through the same parser, so the difference between
+ * them is the cost of mapping rows to objects.
+ * </p>
+ *
+ * <p>
+ * Benchmarks are not run as part of the build. Once test classes have been
+ * compiled, they can be run from the directory of this module as follows:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) org.openjdk.jmh.Main BeanMappingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(BeanMappingBenchmark.ROWS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+public class BeanMappingBenchmark {
+    static final int ROWS = 1000;
+
+    private String content;
+
+    /**
+     * Generates the rows to read, with a value for every field.
+     */
+    @Setup
+    public void setUp() {
+        final Field[] fields = WideBean.class.getDeclaredFields();
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < fields.length; ++i) {
+            builder.append(i == 0
+                           ? ""
+                           : ",")
+                   .append(fields[i].getName());
+        }
+
+        for (int row = 0; row < ROWS; ++row) {
+            builder.append('\n');
+
+            for (int i = 0; i < fields.length; ++i) {
+                builder.append(i == 0
+                               ? ""
+                               : ",")
+                       .append(getValue(fields[i].getType(), row * fields.length + i));
+            }
+        }
+
+        content = builder.toString();
+    }
+
+    /**
+     * Reads rows through {@link BeanListProcessor}, the way all rows were
+     * read before {@link BeanRowProcessor} was introduced.
+     *
+     * @return The objects read.
+     */
+    @Benchmark
+    public List<WideBean> beanListProcessor() {
+        final BeanListProcessor<WideBean> processor = new BeanListProcessor<>(WideBean.class);
+
+        CommaDelimitedDataReader.INSTANCE.getParser(processor, WideBean.class).parse(new StringReader(content));
+
+        return processor.getBeans();
+    }
+
+    /**
+     * Reads rows through {@link BeanRowProcessor}.
+     *
+     * @return The objects read.
+     */
+    @Benchmark
+    public List<WideBean> beanRowProcessor() {
+        final BeanRowProcessor<WideBean> processor = BeanRowProcessor.of(WideBean.class);
+
+        CommaDelimitedDataReader.INSTANCE.getParser(processor, WideBean.class).parse(new StringReader(content));
+
+        return processor.getBeans();
+    }
+
+    /**
+     * Gets a textual value for a field.
+     *
+     * @param type The type of the field.
+     * @param seed A number from which the value is derived.
+     *
+     * @return A textual value that can be converted to the type.
+     */
+    private static String getValue(final Class<?> type, final int seed) {
+        if (type == boolean.class) {
+            return String.valueOf(seed % 2 == 0);
+        }
+        else if (type == double.class || type == BigDecimal.class) {
+            return String.format(Locale.ROOT, "%d.%02d", seed, seed % 100);
+        }
+        else if (type == String.class) {
+            return "value-" + seed;
+        }
+
+        return String.valueOf(seed);
+    }
+
+    /**
+     * An object with many fields of various types.
+     */
+    public static class WideBean {
+        @Parsed
+        private String text01;
+
+        @Parsed
+        private int count02;
+
+        @Parsed
+        private long id03;
+
+        @Parsed
+        private double ratio04;
+
+        @Parsed
+        private boolean flag05;
+
+        @Parsed
+        private BigDecimal amount06;
+
+        @Parsed
+        private String text07;
+
+        @Parsed
+        private int count08;
+
+        @Parsed
+        private long id09;
+
+        @Parsed
+        private double ratio10;
+
+        @Parsed
+        private boolean flag11;
+
+        @Parsed
+        private BigDecimal amount12;
+
+        @Parsed
+        private String text13;
+
+        @Parsed
+        private int count14;
+
+        @Parsed
+        private long id15;
+
+        @Parsed
+        private double ratio16;
+
+        @Parsed
+        private boolean flag17;
+
+        @Parsed
+        private BigDecimal amount18;
+
+        @Parsed
+        private String text19;
+
+        @Parsed
+        private int count20;
+
+        @Parsed
+        private long id21;
+
+        @Parsed
+        private double ratio22;
+
+        @Parsed
+        private boolean flag23;
+
+        @Parsed
+        private BigDecimal amount24;
+
+        @Parsed
+        private String text25;
+
+        @Parsed
+        private int count26;
+
+        @Parsed
+        private long id27;
+
+        @Parsed
+        private double ratio28;
+
+        @Parsed
+        private boolean flag29;
+
+        @Parsed
+        private BigDecimal amount30;
+
+        @Parsed
+        private String text31;
+
+        @Parsed
+        private int count32;
+
+        @Parsed
+        private long id33;
+
+        @Parsed
+        private double ratio34;
+
+        @Parsed
+        private boolean flag35;
+
+        @Parsed
+        private BigDecimal amount36;
+
+        @Parsed
+        private String text37;
+
+        @Parsed
+        private int count38;
+
+        @Parsed
+        private long id39;
+
+        @Parsed
+        private double ratio40;
+
+        @Parsed
+        private boolean flag41;
+
+        @Parsed
+        private BigDecimal amount42;
+
+        @Parsed
+        private String text43;
+
+        @Parsed
+        private int count44;
+
+        @Parsed
+        private long id45;
+
+        @Parsed
+        private double ratio46;
+
+        @Parsed
+        private boolean flag47;
+
+        @Parsed
+        private BigDecimal amount48;
+
+        @Parsed
+        private String text49;
+
+        @Parsed
+        private int count50;
+
+        @Parsed
+        private long id51;
+
+        @Parsed
+        private double ratio52;
+
+        @Parsed
+        private boolean flag53;
+
+        @Parsed
+        private BigDecimal amount54;
+
+        @Parsed
+        private String text55;
+
+        @Parsed
+        private int count56;
+
+        @Parsed
+        private long id57;
+
+        @Parsed
+        private double ratio58;
+
+        @Parsed
+        private boolean flag59;
+
+        @Parsed
+        private BigDecimal amount60;
+    }
+}
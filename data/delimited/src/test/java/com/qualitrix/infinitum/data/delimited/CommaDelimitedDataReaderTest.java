@@ -20,6 +20,19 @@
 
 package com.qualitrix.infinitum.data.delimited;
 
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.SourceMetrics;
+import com.univocity.parsers.annotations.Parsed;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
 /**
  * Integration tests for {@link CommaDelimitedDataReader}.
  */
@@ -32,4 +45,38 @@ public class CommaDelimitedDataReaderTest
     DelimitedDataReader getDataReader() {
         return CommaDelimitedDataReader.INSTANCE;
     }
+
+    /**
+     * Tests that rows converted and rejected, and the time spent converting
+     * them, are recorded for types that are not converted by
+     * {@link BeanRowProcessor}.
+     */
+    @Test
+    public void testReadWithMetricsForAnnotatedType() {
+        final DataReaderMetrics metrics = DataReaderMetrics.getInstance();
+
+        metrics.setEnabled(true);
+
+        try {
+            final SourceMetrics source = metrics.forSource(UUID.randomUUID().toString());
+
+            assertThrows(RuntimeException.class, () -> getDataReader().read(new StringReader("count\n1\nmany\n"), Counter.class, source));
+
+            assertEquals(source.getRows(), 1);
+            assertEquals(source.getRejected(), 1);
+            assertTrue(source.getMappingTime(TimeUnit.NANOSECONDS) > 0);
+        }
+        finally {
+            metrics.setEnabled(false);
+        }
+    }
+
+    /**
+     * Has a field with a default value, which {@link BeanRowProcessor} does
+     * not support.
+     */
+    public static class Counter {
+        @Parsed(defaultNullRead = "0")
+        private int count;
+    }
 }
@@ -22,6 +22,8 @@ package com.qualitrix.infinitum.data.delimited;
 
 import com.qualitrix.infinitum.data.DataFormat;
 import com.qualitrix.infinitum.data.DataReader;
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.SourceMetrics;
 import com.univocity.parsers.annotations.FixedWidth;
 import com.univocity.parsers.annotations.Parsed;
 import org.testng.annotations.Test;
@@ -29,10 +31,13 @@ import org.testng.annotations.Test;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -50,6 +55,68 @@ abstract class DelimitedDataReaderTest {
         assertFalse(subject.getSupportedFormats().isEmpty());
     }
 
+    /**
+     * Tests that a single row can be read by the value of a key column.
+     */
+    @Test
+    public void testReadRowByKey() {
+        final DelimitedDataReader subject = getDataReader();
+
+        final String fileName = getFileName(Student.class);
+
+        final List<Student> records = subject.read(fileName, Student.class);
+
+        records.forEach(record -> {
+            final Student student = subject.read(fileName, Student.class, "Name", record.getName());
+
+            assertNotNull(student);
+            assertEquals(student.toString(), record.toString());
+        });
+    }
+
+    /**
+     * Tests that a row cannot be read by a key that does not exist.
+     */
+    @Test
+    public void testReadRowByNonExistentKey() {
+        final DelimitedDataReader subject = getDataReader();
+
+        assertNull(subject.read(getFileName(Student.class), Student.class, "Name", getClass().getName()));
+    }
+
+    /**
+     * Tests that a single row can be read by its position.
+     */
+    @Test
+    public void testReadRowByPosition() {
+        final DelimitedDataReader subject = getDataReader();
+
+        final String fileName = getFileName(BalanceSheet.class);
+
+        final List<BalanceSheet> records = subject.read(fileName, BalanceSheet.class);
+
+        for (int row = 0; row < records.size(); ++row) {
+            final BalanceSheet record = subject.read(fileName, BalanceSheet.class, row);
+
+            assertNotNull(record);
+            assertEquals(record.toString(), records.get(row).toString());
+        }
+
+        assertNull(subject.read(fileName, BalanceSheet.class, -1));
+        assertNull(subject.read(fileName, BalanceSheet.class, records.size()));
+    }
+
+    /**
+     * Tests that a row cannot be read from a non-existent file.
+     */
+    @Test
+    public void testReadRowWithNonExistentFile() {
+        final DelimitedDataReader subject = getDataReader();
+
+        assertNull(subject.read(getFileName(getClass()), BalanceSheet.class, 0));
+        assertNull(subject.read(getFileName(getClass()), BalanceSheet.class, "year", "2001"));
+    }
+
     /**
      * Tests that data can be read from delimited text files having custom
      * column headers.
@@ -112,6 +179,34 @@ abstract class DelimitedDataReaderTest {
         });
     }
 
+    /**
+     * Tests that measurements of data read are recorded when metrics are
+     * enabled.
+     */
+    @Test
+    public void testReadWithMetrics() {
+        final DataReaderMetrics metrics = DataReaderMetrics.getInstance();
+        final DataReader subject = getDataReader();
+        final String fileName = getFileName(BalanceSheet.class);
+
+        metrics.setEnabled(true);
+
+        try {
+            final List<BalanceSheet> records = subject.read(fileName, BalanceSheet.class);
+            final SourceMetrics source = metrics.get(fileName);
+
+            assertNotNull(source);
+            assertTrue(source.getReads() > 0);
+            assertTrue(source.getBytes() > 0);
+            assertTrue(source.getRows() >= records.size());
+            assertTrue(source.getParseTime(TimeUnit.NANOSECONDS) > 0);
+            assertTrue(source.getMappingTime(TimeUnit.NANOSECONDS) > 0);
+        }
+        finally {
+            metrics.setEnabled(false);
+        }
+    }
+
     /**
      * Tests that data can be read from a file by specifying its fully-qualified
      * filesystem path.
@@ -174,10 +269,23 @@ abstract class DelimitedDataReaderTest {
      */
     abstract DelimitedDataReader getDataReader();
 
+    /**
+     * Gets the name of a file that can be read with the reader under test.
+     *
+     * @param type The type after which the file is named.
+     *
+     * @return A file name.
+     */
+    private String getFileName(final Class<?> type) {
+        return String.format("%s.%s"
+            , type.getSimpleName()
+            , getDataReader().getSupportedFormats().get(0).toString().toLowerCase());
+    }
+
     /**
      * Represents a balance sheet.
      */
-    static class BalanceSheet {
+    public static class BalanceSheet {
         @FixedWidth(value = 10)
         @Parsed
         private String year;
@@ -252,7 +360,7 @@ abstract class DelimitedDataReaderTest {
     /**
      * Represents a student.
      */
-    static class Student {
+    public static class Student {
         @FixedWidth(value = 13)
         @Parsed(field = "Name")
         private String name;
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.DataWriter;
+import com.qualitrix.infinitum.data.delimited.DelimitedDataReaderTest.BalanceSheet;
+import com.qualitrix.infinitum.data.delimited.DelimitedDataReaderTest.Student;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Integration tests for {@link DelimitedDataWriter}.
+ */
+abstract class DelimitedDataWriterTest implements UnitTest {
+    /**
+     * Tests that the format supported by the writer is the one read by the
+     * matching reader.
+     */
+    @Test
+    public void testGetSupportedFormats() {
+        assertEquals(getDataWriter().getSupportedFormats(), getDataReader().getSupportedFormats());
+    }
+
+    /**
+     * Tests that data written in the background can be read back.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testOpenAsync() throws IOException {
+        final List<BalanceSheet> records = getDataReader().read(getFileName(BalanceSheet.class), BalanceSheet.class);
+        final File file = getFile();
+
+        try (final DataSink<BalanceSheet> sink = getDataWriter().openAsync(file.getPath(), BalanceSheet.class)) {
+            records.forEach(sink::append);
+        }
+
+        assertEquals(toString(getDataReader().read(file.getPath(), BalanceSheet.class)), toString(records));
+    }
+
+    /**
+     * Tests that data having custom headers can be written and read back.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        final List<Student> records = getDataReader().read(getFileName(Student.class), Student.class);
+        final File file = getFile();
+
+        assertFalse(records.isEmpty());
+
+        getDataWriter().write(file.getPath(), Student.class, records);
+
+        assertEquals(toString(getDataReader().read(file.getPath(), Student.class)), toString(records));
+    }
+
+    /**
+     * Gets the reader for data written by the writer under test.
+     *
+     * @return A {@link DelimitedDataReader}.
+     */
+    abstract DelimitedDataReader getDataReader();
+
+    /**
+     * Gets the writer under test.
+     *
+     * @return A {@link DataWriter}.
+     */
+    abstract DataWriter getDataWriter();
+
+    /**
+     * Creates a temporary file to write to, in a folder that does not exist
+     * yet.
+     *
+     * @return A {@link File}.
+     */
+    private File getFile() {
+        final DataFormat format = getDataWriter().getSupportedFormats().get(0);
+        final File file = new File(new File(System.getProperty("java.io.tmpdir"), getString())
+            , getString() + "." + format.toString().toLowerCase());
+
+        file.deleteOnExit();
+        file.getParentFile().deleteOnExit();
+
+        return file;
+    }
+
+    /**
+     * Gets the name of a file containing data for a type.
+     *
+     * @param type The type.
+     *
+     * @return The name of the file.
+     */
+    private String getFileName(final Class<?> type) {
+        return String.format("%s.%s"
+            , type.getSimpleName()
+            , getDataReader().getSupportedFormats().get(0).toString().toLowerCase());
+    }
+
+    /**
+     * Converts objects to strings, for comparing them.
+     *
+     * @param records The objects.
+     *
+     * @return The string representations of the objects.
+     */
+    private static List<String> toString(final List<?> records) {
+        return records.stream()
+                      .map(Object::toString)
+                      .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.delimited;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link RowIndex}.
+ */
+public class RowIndexTest implements UnitTest {
+    /**
+     * Tests that blank lines are not counted as rows.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testBlankLines() throws IOException {
+        final File file = createFile("a,b\r\n\r\n1,2\r\n\r\n3,4\r\n\r\n");
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            assertEquals(subject.size(), 2);
+            assertEquals(new String(subject.getHeader(), StandardCharsets.UTF_8), "a,b\r\n\r\n");
+            assertEquals(new String(subject.read(0), StandardCharsets.UTF_8), "1,2\r\n\r\n");
+            assertEquals(new String(subject.read(1), StandardCharsets.UTF_8), "3,4\r\n\r\n");
+        }
+    }
+
+    /**
+     * Tests that the index is rebuilt when the indexed file changes.
+     *
+     * @throws IOException if the test file cannot be created or changed.
+     */
+    @Test
+    public void testFileChanged() throws IOException {
+        final File file = createFile("a,b\n1,2\n");
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            assertEquals(subject.size(), 1);
+        }
+
+        Files.write(file.toPath(), "a,b\n1,2\n3,4\n5,6\n".getBytes(StandardCharsets.UTF_8));
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            assertEquals(subject.size(), 3);
+            assertEquals(new String(subject.read(2), StandardCharsets.UTF_8), "5,6\n");
+        }
+    }
+
+    /**
+     * Tests that an index that has been superseded, because the indexed file
+     * changed, can still be used by threads that obtained it earlier.
+     *
+     * @throws IOException if the test file cannot be created or changed.
+     */
+    @Test
+    public void testFileChangedWhileInUse() throws IOException {
+        final File file = createFile("a,b\n1,2\n");
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            Files.write(file.toPath(), "a,b\n1,2\n3,4\n".getBytes(StandardCharsets.UTF_8));
+
+            try (final RowIndex current = RowIndex.of(file, '"')) {
+                assertEquals(current.size(), 2);
+            }
+
+            assertEquals(subject.size(), 1);
+            assertEquals(new String(subject.read(0), StandardCharsets.UTF_8), "1,2\n");
+        }
+    }
+
+    /**
+     * Tests that columns whose names differ only in characters not allowed in
+     * file names get distinct key indexes and sidecar files.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testKeyIndexColumnNames() throws IOException {
+        final File file = createFile("a b,a_b\n1,2\n3,4\n");
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            final KeyIndex spaced = subject.getKeyIndex("a b", () -> new String[]{ "1", "3" });
+            final KeyIndex underscored = subject.getKeyIndex("a_b", () -> new String[]{ "2", "4" });
+
+            assertEquals(spaced.find("3", row -> true), 1);
+            assertEquals(underscored.find("4", row -> true), 1);
+            assertEquals(underscored.find("3", row -> true), -1);
+        }
+
+        final File[] sidecars = file.getParentFile().listFiles((directory, name) -> name.startsWith(file.getName()) && name.endsWith(KeyIndex.SUFFIX));
+
+        assertNotNull(sidecars);
+
+        for (final File sidecar : sidecars) {
+            sidecar.deleteOnExit();
+        }
+
+        assertEquals(sidecars.length, 2);
+    }
+
+    /**
+     * Tests that a file containing only column headers has no rows.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testHeaderOnly() throws IOException {
+        try (final RowIndex subject = RowIndex.of(createFile("a,b"), '"')) {
+            assertEquals(subject.size(), 0);
+            assertNull(subject.read(0));
+        }
+    }
+
+    /**
+     * Tests that line breaks inside quoted values do not end a row.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testQuotedLineBreaks() throws IOException {
+        final File file = createFile("a,b\n\"1\n\n1\",2\n3,4");
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            assertEquals(subject.size(), 2);
+            assertEquals(new String(subject.read(0), StandardCharsets.UTF_8), "\"1\n\n1\",2\n");
+            assertEquals(new String(subject.read(1), StandardCharsets.UTF_8), "3,4");
+        }
+    }
+
+    /**
+     * Tests that an index saved to a sidecar file is reused.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testSidecar() throws IOException {
+        final File file = createFile("a,b\n1,2\n3,4\n");
+
+        RowIndex.of(file, '"').close();
+
+        final File sidecar = new File(file.getPath() + RowIndex.SUFFIX);
+        sidecar.deleteOnExit();
+
+        assertTrue(sidecar.isFile());
+
+        try (final RowIndex subject = RowIndex.of(file, '"')) {
+            assertEquals(subject.size(), 2);
+            assertEquals(new String(subject.read(1), StandardCharsets.UTF_8), "3,4\n");
+        }
+    }
+
+    /**
+     * Creates a temporary file with specified content.
+     *
+     * @param content The content of the file.
+     *
+     * @return A {@link File}.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    private File createFile(final String content) throws IOException {
+        final File file = File.createTempFile(getString(), ".csv");
+        file.deleteOnExit();
+
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        return file;
+    }
+}
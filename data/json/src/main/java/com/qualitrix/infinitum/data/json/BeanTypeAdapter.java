@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.qualitrix.infinitum.data.BeanMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+/**
+ * <p>
+ * Converts JSON objects to objects of a particular type through a
+ * {@link BeanMapper}, so that every field is set through a method handle
+ * resolved once for the type, instead of by reflection, as Gson's own adapter
+ * for the type does for every object. Properties are matched to fields by
+ * the name given by {@link SerializedName}, or by the Java name of the field
+ * otherwise. JSON numbers and booleans are read directly as values of the
+ * primitive types {@code int}, {@code long}, {@code double} and
+ * {@code boolean}, and their wrappers, other values are converted from their
+ * JSON text. Properties without a matching field are skipped and
+ * {@code null} values leave the matching field as initialized.
+ * </p>
+ *
+ * <p>
+ * Types that {@link BeanMapper} cannot populate, and types whose conversion
+ * Gson customizes through {@link JsonAdapter} or alternate names, are
+ * converted by Gson's own adapter instead, as are objects written as JSON.
+ * </p>
+ *
+ * @param <T> The type of objects to convert.
+ */
+final class BeanTypeAdapter<T> extends TypeAdapter<T> {
+    private static final Gson GSON = new Gson();
+
+    private static final ClassValue<TypeAdapter<?>> ADAPTERS = new ClassValue<TypeAdapter<?>>() {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected TypeAdapter<?> computeValue(final Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private static final int KIND_BOOLEAN = 1;
+
+    private static final int KIND_DOUBLE = 2;
+
+    private static final int KIND_INT = 3;
+
+    private static final int KIND_LONG = 4;
+
+    private static final int KIND_TEXT = 0;
+
+    private final TypeAdapter<T> delegate;
+
+    private final int[] kinds;
+
+    private final BeanMapper<T> mapper;
+
+    /**
+     * Creates an adapter.
+     *
+     * @param mapper The mapper for populating objects.
+     * @param delegate Gson's own adapter for the type, for writing objects.
+     */
+    private BeanTypeAdapter(final BeanMapper<T> mapper, final TypeAdapter<T> delegate) {
+        this.delegate = delegate;
+        this.kinds = new int[mapper.getFieldNames().size()];
+        this.mapper = mapper;
+
+        for (int i = 0; i < kinds.length; ++i) {
+            kinds[i] = getKind(mapper.getFieldType(i));
+        }
+    }
+
+    /**
+     * Gets an adapter for a type, created once per type and reused.
+     *
+     * @param type The type of objects to convert.
+     * @param <T> The type of objects to convert.
+     *
+     * @return A {@link BeanTypeAdapter} if the type can be populated through a
+     * {@link BeanMapper}, Gson's own adapter for the type otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> TypeAdapter<T> of(final Class<T> type) {
+        return (TypeAdapter<T>) ADAPTERS.get(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T read(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+
+                return null;
+
+            case BEGIN_OBJECT:
+                break;
+
+            default:
+                throw new JsonSyntaxException(String.format("Expected an object for [%s] but was [%s] at %s."
+                    , mapper.getType().getName()
+                    , reader.peek()
+                    , reader.getPath()));
+        }
+
+        final T bean = mapper.newInstance();
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final int position = mapper.indexOf(name);
+
+            if (position < 0) {
+                reader.skipValue();
+
+                continue;
+            }
+
+            switch (reader.peek()) {
+                case BOOLEAN:
+                    if (kinds[position] == KIND_BOOLEAN) {
+                        mapper.setValue(bean, position, reader.nextBoolean());
+                    }
+                    else {
+                        set(bean, position, String.valueOf(reader.nextBoolean()), reader);
+                    }
+                    break;
+
+                case NUMBER:
+                    setNumber(bean, position, reader);
+                    break;
+
+                case STRING:
+                    set(bean, position, reader.nextString(), reader);
+                    break;
+
+                case NULL:
+                    reader.nextNull();
+                    break;
+
+                default:
+                    // Only scalar fields are mapped.
+                    throw new JsonSyntaxException(String.format("Expected a value for [%s] but was [%s] at %s."
+                        , name
+                        , reader.peek()
+                        , reader.getPath()));
+            }
+        }
+
+        reader.endObject();
+
+        return bean;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final JsonWriter writer, final T value) throws IOException {
+        delegate.write(writer, value);
+    }
+
+    /**
+     * Creates an adapter for a type.
+     *
+     * @param type The type of objects to convert.
+     * @param <T> The type of objects to convert.
+     *
+     * @return A {@link BeanTypeAdapter} if the type can be populated through a
+     * {@link BeanMapper}, Gson's own adapter for the type otherwise.
+     */
+    private static <T> TypeAdapter<T> create(final Class<T> type) {
+        final TypeAdapter<T> delegate = GSON.getAdapter(type);
+
+        if (isCustomized(type)) {
+            return delegate;
+        }
+
+        final BeanMapper<T> mapper = BeanMapper.of(type, field -> {
+            final SerializedName name = field.getAnnotation(SerializedName.class);
+
+            return name == null
+                   ? field.getName()
+                   : name.value();
+        });
+
+        return mapper == null
+               ? delegate
+               : new BeanTypeAdapter<>(mapper, delegate);
+    }
+
+    /**
+     * Checks whether Gson converts a type in a way that a {@link BeanMapper}
+     * does not, namely through a {@link JsonAdapter}, alternate names for a
+     * field or names for enumeration constants that differ from their Java
+     * names.
+     *
+     * @param type The type to check.
+     *
+     * @return {@code true} if the type must be converted by Gson,
+     * {@code false} otherwise.
+     */
+    private static boolean isCustomized(final Class<?> type) {
+        if (type.isAnnotationPresent(JsonAdapter.class)) {
+            return true;
+        }
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                final SerializedName name = field.getAnnotation(SerializedName.class);
+
+                if (field.isAnnotationPresent(JsonAdapter.class) || (name != null && name.alternate().length != 0)) {
+                    return true;
+                }
+
+                if (field.getType().isEnum()) {
+                    for (final Field constant : field.getType().getDeclaredFields()) {
+                        if (constant.isEnumConstant() && constant.isAnnotationPresent(SerializedName.class)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the kind of value to read for a field, which determines whether
+     * JSON numbers and booleans can be read directly as values of the type of
+     * the field.
+     *
+     * @param type The type of the field.
+     *
+     * @return The kind of value to read.
+     */
+    private static int getKind(final Class<?> type) {
+        if (type == boolean.class || type == Boolean.class) {
+            return KIND_BOOLEAN;
+        }
+        else if (type == double.class || type == Double.class) {
+            return KIND_DOUBLE;
+        }
+        else if (type == int.class || type == Integer.class) {
+            return KIND_INT;
+        }
+        else if (type == long.class || type == Long.class) {
+            return KIND_LONG;
+        }
+
+        return KIND_TEXT;
+    }
+
+    /**
+     * Sets a field of an object from the JSON text of a value.
+     *
+     * @param bean The object to populate.
+     * @param position The position of the field.
+     * @param value The JSON text of the value.
+     * @param reader The reader from which the value has been read.
+     *
+     * @throws JsonSyntaxException if the value cannot be converted to the
+     * type of the field.
+     */
+    private void set(final T bean, final int position, final String value, final JsonReader reader) {
+        try {
+            mapper.set(bean, position, value);
+        }
+        catch (final IllegalArgumentException e) {
+            throw new JsonSyntaxException(String.format("Unable to convert [%s] at %s.", value, reader.getPath()), e);
+        }
+    }
+
+    /**
+     * Sets a field of an object from a JSON number, reading it directly as a
+     * value of the type of the field where possible.
+     *
+     * @param bean The object to populate.
+     * @param position The position of the field.
+     * @param reader The reader positioned at the number.
+     *
+     * @throws IOException if the number cannot be read.
+     * @throws JsonSyntaxException if the number cannot be converted to the
+     * type of the field.
+     */
+    private void setNumber(final T bean, final int position, final JsonReader reader) throws IOException {
+        try {
+            switch (kinds[position]) {
+                case KIND_DOUBLE:
+                    mapper.setValue(bean, position, reader.nextDouble());
+                    break;
+
+                case KIND_INT:
+                    mapper.setValue(bean, position, reader.nextInt());
+                    break;
+
+                case KIND_LONG:
+                    mapper.setValue(bean, position, reader.nextLong());
+                    break;
+
+                default:
+                    set(bean, position, reader.nextString(), reader);
+            }
+        }
+        catch (final NumberFormatException e) {
+            throw new JsonSyntaxException(String.format("Unable to convert a number at %s.", reader.getPath()), e);
+        }
+    }
+}
@@ -20,23 +20,26 @@
 
 package com.qualitrix.infinitum.data.json;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
 import com.qualitrix.infinitum.data.DataFormat;
 import com.qualitrix.infinitum.data.DataReader;
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.SourceMetrics;
 import com.qualitrix.infinitum.logging.Logger;
 import com.qualitrix.infinitum.logging.LoggingServiceLocator;
 import com.qualitrix.infinitum.util.ClasspathUtil;
 
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -84,6 +87,14 @@ class JSONDataReader implements DataReader {
      * map to a Java class.
      * </p>
      *
+     * <p>
+     * Elements are decoded one at a time as the file is read, by a type adapter
+     * that is resolved just once for the required type, so that the file never
+     * has to be held in memory as a whole. Fields are set through method
+     * handles rather than by reflection wherever possible, see
+     * {@link BeanTypeAdapter}.
+     * </p>
+     *
      * @param fileName The name of the file from which data must be read. The
      * file must be readable and available on the runtime classpath.
      * @param type The type of objects to read.
@@ -97,8 +108,10 @@ class JSONDataReader implements DataReader {
      */
     @Override
     public <T> List<T> read(final String fileName, final Class<T> type) {
+        final SourceMetrics metrics = DataReaderMetrics.getInstance().forSource(fileName);
+
         // Attempt to load the specified file.
-        try (final InputStream stream = ClasspathUtil.getResourceStream(fileName)) {
+        try (final InputStream stream = metrics.meter(ClasspathUtil.getResourceStream(fileName))) {
             if (stream == null) {
                 throw new FileNotFoundException(String.format("File [%s] not found.", fileName));
             }
@@ -107,14 +120,10 @@ class JSONDataReader implements DataReader {
             try (final Reader reader = new InputStreamReader(stream)) {
                 // Read data from the file in buffered mode for best
                 // read performance.
-                try (final Reader bufferedReader = new BufferedReader(reader)) {
-                    final Gson gson = new Gson();
-
-                    return StreamSupport.stream(JsonParser.parseReader(bufferedReader)
-                                                          .getAsJsonArray()
-                                                          .spliterator(), false)
-                                        .map(element -> gson.fromJson(element, type))
-                                        .collect(Collectors.toList());
+                try (final JsonReader jsonReader = new JsonReader(new BufferedReader(reader))) {
+                    jsonReader.setLenient(true);
+
+                    return read(jsonReader, BeanTypeAdapter.of(type), metrics);
                 }
             }
         }
@@ -124,4 +133,47 @@ class JSONDataReader implements DataReader {
 
         return Collections.emptyList();
     }
+
+    /**
+     * Reads a JSON array element by element and performs conversion of each
+     * element to an object of required type.
+     *
+     * @param reader A reader positioned at the start of a JSON array.
+     * @param adapter An adapter for converting elements to objects.
+     * @param metrics Records measurements of the elements read. Since
+     * elements are converted while they are parsed, all time is recorded as
+     * parsing.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects, one for each element of the array.
+     *
+     * @throws IOException if the array cannot be read.
+     */
+    private <T> List<T> read(final JsonReader reader, final TypeAdapter<T> adapter, final SourceMetrics metrics) throws IOException {
+        final List<T> elements = new ArrayList<>();
+        final long start = metrics.time();
+
+        try {
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                try {
+                    elements.add(adapter.read(reader));
+                }
+                catch (final JsonParseException e) {
+                    metrics.addRejected(1);
+
+                    throw e;
+                }
+            }
+
+            reader.endArray();
+        }
+        finally {
+            metrics.addParseTime(metrics.time() - start);
+            metrics.addRows(elements.size());
+        }
+
+        return elements;
+    }
 }
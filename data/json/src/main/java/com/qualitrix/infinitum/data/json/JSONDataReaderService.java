@@ -24,12 +24,17 @@ import com.qualitrix.infinitum.data.DataFormat;
 import com.qualitrix.infinitum.data.DataReader;
 import com.qualitrix.infinitum.data.DataReaderService;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * Allows reading data from JSON files available on the runtime classpath.
+ * Allows reading data from JSON and JSON Lines files available on the runtime
+ * classpath.
  */
 public class JSONDataReaderService implements DataReaderService {
+    private static final List<DataFormat> SUPPORTED_FORMATS = Arrays.asList(JavascriptDataFormat.JSON
+        , JavascriptDataFormat.JSONL);
+
     /**
      * Gets a reader for reading data available in JSON format, as objects of a
      * particular type.
@@ -51,6 +56,10 @@ public class JSONDataReaderService implements DataReaderService {
             return JSONDataReader.INSTANCE;
         }
 
+        if (JavascriptDataFormat.JSONL.equals(format)) {
+            return JSONLinesDataReader.INSTANCE;
+        }
+
         return null;
     }
 
@@ -59,7 +68,7 @@ public class JSONDataReaderService implements DataReaderService {
      */
     @Override
     public List<DataFormat> getSupportedFormats() {
-        return JSONDataReader.INSTANCE.getSupportedFormats();
+        return SUPPORTED_FORMATS;
     }
 
     /**
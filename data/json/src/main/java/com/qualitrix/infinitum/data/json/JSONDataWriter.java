@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.DataWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Writes structured data as a JSON array, which can be read back by
+ * {@link JSONDataReader}. Objects are converted to JSON in the same way as
+ * they are read, so that fields can be renamed through
+ * {@code com.google.gson.annotations.SerializedName} annotations. Fields
+ * having {@code null} values are omitted.
+ * </p>
+ *
+ * <p>
+ * Objects are converted directly to the destination through a large buffer,
+ * which is written to the destination only when it fills up, or when the sink
+ * is flushed or closed. The array is completed when the sink is closed.
+ * </p>
+ */
+class JSONDataWriter implements DataWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Gson GSON = new Gson();
+
+    static final JSONDataWriter INSTANCE = new JSONDataWriter(JavascriptDataFormat.JSON);
+
+    private final List<DataFormat> format;
+
+    /**
+     * Creates a writer for writing data in a particular JSON format.
+     *
+     * @param format The format for the data to write.
+     */
+    JSONDataWriter(final DataFormat format) {
+        this.format = Collections.singletonList(format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataFormat> getSupportedFormats() {
+        return format;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> DataSink<T> open(final String destination, final Class<T> type) throws IOException {
+        final TypeAdapter<T> adapter = GSON.getAdapter(type);
+        final Path path = Paths.get(destination).toAbsolutePath();
+
+        Files.createDirectories(path.getParent());
+
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)
+            , BUFFER_SIZE);
+
+        final JsonWriter json = new JsonWriter(writer);
+        json.setSerializeNulls(false);
+
+        if (isLines()) {
+            // Allows the writer to write more than one top-level value.
+            json.setLenient(true);
+        }
+        else {
+            json.beginArray();
+        }
+
+        return new JSONDataSink<>(writer, json, adapter, isLines());
+    }
+
+    /**
+     * Gets whether each object must be written on a line of its own, instead
+     * of as an element of an array.
+     *
+     * @return {@code true} if each object must be written on a line of its
+     * own, {@code false} otherwise.
+     */
+    boolean isLines() {
+        return false;
+    }
+
+    /**
+     * Writes objects as JSON values.
+     *
+     * @param <T> The type of objects to write.
+     */
+    private static final class JSONDataSink<T> implements DataSink<T> {
+        private final TypeAdapter<T> adapter;
+
+        private final JsonWriter json;
+
+        private final boolean lines;
+
+        private final Writer writer;
+
+        /**
+         * Creates a sink that writes objects as JSON values.
+         *
+         * @param writer The writer to which JSON must be written.
+         * @param json Writes JSON values to the writer.
+         * @param adapter Converts objects to JSON values.
+         * @param lines Whether each value must be written on a line of its own.
+         */
+        JSONDataSink(final Writer writer, final JsonWriter json, final TypeAdapter<T> adapter, final boolean lines) {
+            this.adapter = adapter;
+            this.json = json;
+            this.lines = lines;
+            this.writer = writer;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void append(final T record) {
+            try {
+                adapter.write(json, record);
+
+                if (lines) {
+                    // JSON writers do not buffer, so that line breaks can be
+                    // written directly.
+                    writer.write('\n');
+                }
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            try {
+                if (!lines) {
+                    json.endArray();
+                }
+
+                json.close();
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void flush() {
+            try {
+                json.flush();
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataReader;
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.SourceMetrics;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.util.ClasspathUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Reads structured data from JSON Lines files, also known as newline-delimited
+ * JSON (NDJSON), in which each line holds a complete JSON value. Blank lines
+ * are ignored.
+ * </p>
+ *
+ * <p>
+ * Input data are read from files that must be readable and available on the
+ * runtime application classpath.
+ * </p>
+ *
+ * <p>
+ * Unlike a JSON array, a JSON Lines file can be split at any line break into
+ * parts that can be decoded independently of each other. Files available on
+ * the filesystem are therefore memory-mapped and streamed through a
+ * {@link Spliterator} that splits the file at line breaks, so that lines can
+ * be decoded in parallel by calling {@link Stream#parallel()} on the stream
+ * returned by {@link #stream(String, Class)}. {@link #read(String, Class)}
+ * decodes lines in parallel automatically for files larger than 1 MiB. Files
+ * that cannot be memory-mapped, such as those packaged into an archive, are
+ * streamed sequentially instead.
+ * </p>
+ */
+class JSONLinesDataReader implements DataReader {
+    private static final List<DataFormat> FORMATS = Collections.singletonList(JavascriptDataFormat.JSONL);
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance().getLoggingService().getLogger(JSONLinesDataReader.class);
+
+    private static final long PARALLEL_THRESHOLD = 1024 * 1024;
+
+    static final JSONLinesDataReader INSTANCE = new JSONLinesDataReader();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataFormat> getSupportedFormats() {
+        return FORMATS;
+    }
+
+    /**
+     * <p>
+     * Reads data from a file and performs conversion to objects of required
+     * type. Some examples are given below:
+     * </p>
+     *
+     * <ol>
+     *     <li>{@code read("Products.jsonl")} will look for a file named
+     *     {@code Products.jsonl} on the application's runtime classpath and
+     *     read data from it if the file exists, is readable and is in JSON
+     *     Lines format.</li>
+     *     <li>{@code read("file:///var/etc/customers.jsonl")} will look for a
+     *     file named {@code customers.jsonl} under the folder {@code /var/etc/}
+     *     on the filesystem and read data from it if the file exists, is
+     *     readable and is in JSON Lines format.</li>
+     * </ol>
+     *
+     * @param fileName The name of the file from which data must be read. The
+     * file must be readable and available on the runtime classpath.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * file, in the order in which they appear in the file. The returned list
+     * is never {@code null}. If the specified source is not found, cannot be
+     * read by this reader, contains data unsuitable for this reader, or is
+     * empty, the returned list will be empty. Otherwise, it will contain
+     * objects matching the data read from the source.
+     */
+    @Override
+    public <T> List<T> read(final String fileName, final Class<T> type) {
+        try {
+            final File file = getFile(fileName);
+            final boolean parallel = file != null && file.length() >= PARALLEL_THRESHOLD;
+
+            try (final Stream<T> records = stream(fileName, type, file)) {
+                return (parallel
+                        ? records.parallel()
+                        : records).collect(Collectors.toList());
+            }
+        }
+        catch (final Exception e) {
+            LOGGER.error(e, String.format("Unable to read JSON Lines data from [%s].", fileName));
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Reads data from a file as a stream of objects of required type. Lines
+     * are read and decoded only as the stream is consumed. The stream is
+     * sequential, but may be turned parallel to decode lines on several
+     * threads.
+     *
+     * @param fileName The name of the file from which data must be read. The
+     * file must be readable and available on the runtime classpath.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Stream} of objects containing data read from the
+     * specified file. The returned stream is never {@code null}, but is empty
+     * if the file is not found or cannot be read. Lines that do not contain
+     * valid JSON cause an unchecked exception to be thrown when they are
+     * consumed.
+     */
+    @Override
+    public <T> Stream<T> stream(final String fileName, final Class<T> type) {
+        try {
+            return stream(fileName, type, getFile(fileName));
+        }
+        catch (final Exception e) {
+            LOGGER.error(e, String.format("Unable to read JSON Lines data from [%s].", fileName));
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * Decodes a single line as an object of required type.
+     *
+     * @param line The line to decode.
+     * @param adapter An adapter for converting JSON to objects.
+     * @param metrics Records measurements of the lines decoded.
+     * @param <T> The type of data to read.
+     *
+     * @return An object containing data read from the line.
+     */
+    private static <T> T decode(final String line, final TypeAdapter<T> adapter, final SourceMetrics metrics) {
+        final long start = metrics.time();
+
+        try (final JsonReader reader = new JsonReader(new StringReader(line))) {
+            reader.setLenient(true);
+
+            final T record = adapter.read(reader);
+
+            metrics.addRows(1);
+
+            return record;
+        }
+        catch (final JsonParseException e) {
+            metrics.addRejected(1);
+
+            throw e;
+        }
+        catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            metrics.addParseTime(metrics.time() - start);
+        }
+    }
+
+    /**
+     * Gets a file on the filesystem from its name.
+     *
+     * @param fileName The name of the file, either as a filesystem path or as a
+     * runtime classpath resource.
+     *
+     * @return The file, or {@code null} if the file is not available directly
+     * on the filesystem.
+     */
+    private static File getFile(final String fileName) {
+        try {
+            final File file = new File(fileName).exists()
+                              ? new File(fileName)
+                              : ClasspathUtil.getResourceFile(fileName);
+
+            return file == null || !file.isFile()
+                   ? null
+                   : file;
+        }
+        catch (final IllegalArgumentException e) {
+            // Resources packaged into an archive cannot be accessed as files.
+            return null;
+        }
+    }
+
+    /**
+     * Reads data from a file as a stream of objects of required type.
+     *
+     * @param fileName The name of the file from which data must be read.
+     * @param type The type of objects to read.
+     * @param file The file on the filesystem, or {@code null} if the file is
+     * not available directly on the filesystem.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Stream} of objects containing data read from the
+     * specified file.
+     *
+     * @throws IOException if the file is not found or cannot be read.
+     */
+    private <T> Stream<T> stream(final String fileName, final Class<T> type, final File file) throws IOException {
+        final SourceMetrics metrics = DataReaderMetrics.getInstance().forSource(fileName);
+        final TypeAdapter<T> adapter = BeanTypeAdapter.of(type);
+
+        return getLines(fileName, file, metrics).filter(line -> !line.trim().isEmpty())
+                                                .map(line -> decode(line, adapter, metrics));
+    }
+
+    /**
+     * Gets the lines of a file as a stream.
+     *
+     * @param fileName The name of the file.
+     * @param file The file on the filesystem, or {@code null} if the file is
+     * not available directly on the filesystem.
+     * @param metrics Records the number of bytes read.
+     *
+     * @return A {@link Stream} of lines.
+     *
+     * @throws IOException if the file is not found or cannot be read.
+     */
+    private Stream<String> getLines(final String fileName, final File file, final SourceMetrics metrics) throws IOException {
+        if (file != null && file.length() <= Integer.MAX_VALUE) {
+            try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                // The mapping remains valid after the channel is closed.
+                final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                metrics.addBytes(buffer.limit());
+
+                return StreamSupport.stream(new LineSpliterator(buffer, skipByteOrderMark(buffer), buffer.limit()), false);
+            }
+        }
+
+        final InputStream stream = ClasspathUtil.getResourceStream(fileName);
+
+        if (stream == null) {
+            throw new FileNotFoundException(String.format("File [%s] not found.", fileName));
+        }
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(metrics.meter(stream), StandardCharsets.UTF_8));
+
+        return reader.lines()
+                     .onClose(() -> {
+                         try {
+                             reader.close();
+                         }
+                         catch (final IOException e) {
+                             throw new UncheckedIOException(e);
+                         }
+                     });
+    }
+
+    /**
+     * Gets the position at which content begins in a buffer, skipping a UTF-8
+     * byte order mark if present.
+     *
+     * @param buffer The buffer.
+     *
+     * @return The position at which content begins.
+     */
+    private static int skipByteOrderMark(final ByteBuffer buffer) {
+        return buffer.limit() >= 3
+            && buffer.get(0) == (byte) 0xEF
+            && buffer.get(1) == (byte) 0xBB
+            && buffer.get(2) == (byte) 0xBF
+               ? 3
+               : 0;
+    }
+
+    /**
+     * Traverses the lines held in a range of a buffer, splitting the range at
+     * line breaks when required.
+     */
+    private static final class LineSpliterator implements Spliterator<String> {
+        private static final int AVERAGE_LINE_LENGTH = 128;
+
+        private static final int MINIMUM_SPLIT_LENGTH = 64 * 1024;
+
+        private final ByteBuffer buffer;
+
+        private final int end;
+
+        private int position;
+
+        /**
+         * Creates a spliterator over a range of a buffer.
+         *
+         * @param buffer The buffer.
+         * @param start The position at which the first line begins.
+         * @param end The position at which the range ends.
+         */
+        LineSpliterator(final ByteBuffer buffer, final int start, final int end) {
+            this.buffer = buffer;
+            this.position = start;
+            this.end = end;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long estimateSize() {
+            return (end - position) / AVERAGE_LINE_LENGTH + 1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super String> action) {
+            if (position >= end) {
+                return false;
+            }
+
+            final int lineEnd = indexOfLineBreak(position);
+            final byte[] line = new byte[lineEnd - position];
+
+            final ByteBuffer view = buffer.duplicate();
+            view.position(position);
+            view.get(line);
+
+            position = Math.min(end, lineEnd + 1);
+
+            action.accept(new String(line, StandardCharsets.UTF_8));
+
+            return true;
+        }
+
+        /**
+         * Splits off the first half of the remaining range, ending at the line
+         * break closest to the middle of the range.
+         * <p>
+         * {@inheritDoc}
+         */
+        @Override
+        public Spliterator<String> trySplit() {
+            if (end - position < MINIMUM_SPLIT_LENGTH) {
+                return null;
+            }
+
+            final int middle = indexOfLineBreak(position + (end - position) / 2);
+
+            if (middle >= end - 1) {
+                return null;
+            }
+
+            final LineSpliterator prefix = new LineSpliterator(buffer, position, middle + 1);
+
+            position = middle + 1;
+
+            return prefix;
+        }
+
+        /**
+         * Finds the next line break at or after a position.
+         *
+         * @param from The position from which to search.
+         *
+         * @return The position of the next line break, or the end of the range
+         * if there are no more line breaks.
+         */
+        private int indexOfLineBreak(final int from) {
+            for (int i = from; i < end; ++i) {
+                if (buffer.get(i) == '\n') {
+                    return i;
+                }
+            }
+
+            return end;
+        }
+    }
+}
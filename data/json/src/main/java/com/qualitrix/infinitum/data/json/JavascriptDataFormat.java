@@ -29,7 +29,13 @@ public enum JavascriptDataFormat implements DataFormat {
     /**
      * JSON object.
      */
-    JSON;
+    JSON,
+
+    /**
+     * JSON Lines, also known as newline-delimited JSON (NDJSON), where each
+     * line holds a complete JSON value.
+     */
+    JSONL;
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the number of elements per second read from a JSON array into
+ * objects having 60 fields, through Gson's own adapter, which populates every
+ * field of every element by reflection, and through {@link BeanTypeAdapter},
+ * which resolves the fields of the type just once. Both read the same array
+ * through the same {@link JsonReader} settings, so the difference between
+ * them is the cost of mapping elements to objects.
+ * </p>
+ *
+ * <p>
+ * Benchmarks are not run as part of the build. Once test classes have been
+ * compiled, they can be run from the directory of this module as follows:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) org.openjdk.jmh.Main BeanMappingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(BeanMappingBenchmark.ROWS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+public class BeanMappingBenchmark {
+    static final int ROWS = 1000;
+
+    private String content;
+
+    /**
+     * Generates the array to read, with a value for every field of every
+     * element.
+     */
+    @Setup
+    public void setUp() {
+        final Field[] fields = WideBean.class.getDeclaredFields();
+        final StringBuilder builder = new StringBuilder("[");
+
+        for (int row = 0; row < ROWS; ++row) {
+            builder.append(row == 0
+                           ? "{"
+                           : ",{");
+
+            for (int i = 0; i < fields.length; ++i) {
+                builder.append(i == 0
+                               ? ""
+                               : ",")
+                       .append('"')
+                       .append(fields[i].getName())
+                       .append("\":")
+                       .append(getValue(fields[i].getType(), row * fields.length + i));
+            }
+
+            builder.append('}');
+        }
+
+        content = builder.append(']').toString();
+    }
+
+    /**
+     * Reads elements through Gson's own adapter, the way all elements were
+     * read before {@link BeanTypeAdapter} was introduced.
+     *
+     * @return The objects read.
+     *
+     * @throws IOException if the array cannot be read.
+     */
+    @Benchmark
+    public List<WideBean> gsonAdapter() throws IOException {
+        return read(new Gson().getAdapter(WideBean.class));
+    }
+
+    /**
+     * Reads elements through {@link BeanTypeAdapter}.
+     *
+     * @return The objects read.
+     *
+     * @throws IOException if the array cannot be read.
+     */
+    @Benchmark
+    public List<WideBean> beanTypeAdapter() throws IOException {
+        return read(BeanTypeAdapter.of(WideBean.class));
+    }
+
+    /**
+     * Gets the JSON text of a value for a field.
+     *
+     * @param type The type of the field.
+     * @param seed A number from which the value is derived.
+     *
+     * @return The JSON text of a value that can be converted to the type.
+     */
+    private static String getValue(final Class<?> type, final int seed) {
+        if (type == boolean.class) {
+            return String.valueOf(seed % 2 == 0);
+        }
+        else if (type == double.class || type == BigDecimal.class) {
+            return String.format(Locale.ROOT, "%d.%02d", seed, seed % 100);
+        }
+        else if (type == String.class) {
+            return "\"value-" + seed + "\"";
+        }
+
+        return String.valueOf(seed);
+    }
+
+    /**
+     * Reads the array the way {@link JSONDataReader} does.
+     *
+     * @param adapter The adapter for converting elements to objects.
+     *
+     * @return The objects read.
+     *
+     * @throws IOException if the array cannot be read.
+     */
+    private List<WideBean> read(final TypeAdapter<WideBean> adapter) throws IOException {
+        final List<WideBean> beans = new ArrayList<>(ROWS);
+
+        try (final JsonReader reader = new JsonReader(new StringReader(content))) {
+            reader.setLenient(true);
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                beans.add(adapter.read(reader));
+            }
+
+            reader.endArray();
+        }
+
+        return beans;
+    }
+
+    /**
+     * An object with many fields of various types.
+     */
+    public static class WideBean {
+        private String text01;
+
+        private int count02;
+
+        private long id03;
+
+        private double ratio04;
+
+        private boolean flag05;
+
+        private BigDecimal amount06;
+
+        private String text07;
+
+        private int count08;
+
+        private long id09;
+
+        private double ratio10;
+
+        private boolean flag11;
+
+        private BigDecimal amount12;
+
+        private String text13;
+
+        private int count14;
+
+        private long id15;
+
+        private double ratio16;
+
+        private boolean flag17;
+
+        private BigDecimal amount18;
+
+        private String text19;
+
+        private int count20;
+
+        private long id21;
+
+        private double ratio22;
+
+        private boolean flag23;
+
+        private BigDecimal amount24;
+
+        private String text25;
+
+        private int count26;
+
+        private long id27;
+
+        private double ratio28;
+
+        private boolean flag29;
+
+        private BigDecimal amount30;
+
+        private String text31;
+
+        private int count32;
+
+        private long id33;
+
+        private double ratio34;
+
+        private boolean flag35;
+
+        private BigDecimal amount36;
+
+        private String text37;
+
+        private int count38;
+
+        private long id39;
+
+        private double ratio40;
+
+        private boolean flag41;
+
+        private BigDecimal amount42;
+
+        private String text43;
+
+        private int count44;
+
+        private long id45;
+
+        private double ratio46;
+
+        private boolean flag47;
+
+        private BigDecimal amount48;
+
+        private String text49;
+
+        private int count50;
+
+        private long id51;
+
+        private double ratio52;
+
+        private boolean flag53;
+
+        private BigDecimal amount54;
+
+        private String text55;
+
+        private int count56;
+
+        private long id57;
+
+        private double ratio58;
+
+        private boolean flag59;
+
+        private BigDecimal amount60;
+    }
+}
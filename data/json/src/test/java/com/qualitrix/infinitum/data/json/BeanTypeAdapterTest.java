@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link BeanTypeAdapter}.
+ */
+public class BeanTypeAdapterTest {
+    /**
+     * Tests that objects are populated through a mapper, matching properties
+     * by their serialized names and skipping those without a field.
+     */
+    @Test
+    public void testRead() throws IOException {
+        final TypeAdapter<Account> subject = BeanTypeAdapter.of(Account.class);
+
+        assertTrue(subject instanceof BeanTypeAdapter);
+
+        final Account account = subject.fromJson("{\"Id\":42,\"owner\":\"jane\",\"active\":true,\"tags\":[\"a\"],\"limit\":null}");
+
+        assertEquals(account.id, 42);
+        assertEquals(account.owner, "jane");
+        assertTrue(account.active);
+        assertEquals(account.limit, 100);
+
+        assertNull(subject.fromJson("null"));
+    }
+
+    /**
+     * Tests that values that cannot be converted are rejected as invalid
+     * JSON.
+     */
+    @Test
+    public void testReadInvalid() {
+        final TypeAdapter<Account> subject = BeanTypeAdapter.of(Account.class);
+
+        assertThrows(JsonSyntaxException.class, () -> subject.fromJson("{\"Id\":\"forty-two\"}"));
+        assertThrows(JsonSyntaxException.class, () -> subject.fromJson("{\"owner\":{\"name\":\"jane\"}}"));
+        assertThrows(JsonSyntaxException.class, () -> subject.fromJson("[]"));
+    }
+
+    /**
+     * Tests that types that cannot be populated through a mapper are
+     * converted by Gson.
+     */
+    @Test
+    public void testReadUnmapped() throws IOException {
+        final TypeAdapter<Team> subject = BeanTypeAdapter.of(Team.class);
+
+        assertFalse(subject instanceof BeanTypeAdapter);
+        assertEquals(subject.fromJson("{\"members\":[\"jane\"]}").members.get(0), "jane");
+
+        assertFalse(BeanTypeAdapter.of(Alias.class) instanceof BeanTypeAdapter);
+        assertEquals(BeanTypeAdapter.of(Alias.class).fromJson("{\"other\":\"x\"}").name, "x");
+    }
+
+    /**
+     * An object with scalar fields only.
+     */
+    static class Account {
+        @SerializedName("Id")
+        private int id;
+
+        private String owner;
+
+        private boolean active;
+
+        private int limit = 100;
+    }
+
+    /**
+     * An object with a field having alternate names.
+     */
+    static class Alias {
+        @SerializedName(value = "name", alternate = "other")
+        private String name;
+    }
+
+    /**
+     * An object with a field that is not scalar.
+     */
+    static class Team {
+        private List<String> members;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.json.JSONDataReaderTest.BalanceSheet;
+import com.qualitrix.infinitum.data.json.JSONDataReaderTest.Student;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link JSONDataWriter}.
+ */
+public class JSONDataWriterTest implements UnitTest {
+    private final JSONDataWriter subject = JSONDataWriter.INSTANCE;
+
+    /**
+     * Tests that the format supported by the writer is known.
+     */
+    @Test
+    public void testGetSupportedFormats() {
+        assertEquals(subject.getSupportedFormats().get(0), JavascriptDataFormat.JSON);
+    }
+
+    /**
+     * Tests that data written in the background can be read back.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testOpenAsync() throws IOException {
+        final List<BalanceSheet> records = JSONDataReader.INSTANCE.read("BalanceSheet.json", BalanceSheet.class);
+        final File file = getFile("json");
+
+        try (final DataSink<BalanceSheet> sink = subject.openAsync(file.getPath(), BalanceSheet.class)) {
+            records.forEach(sink::append);
+        }
+
+        assertEquals(toString(JSONDataReader.INSTANCE.read(file.getPath(), BalanceSheet.class)), toString(records));
+    }
+
+    /**
+     * Tests that data having custom property names can be written and read
+     * back.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        final List<Student> records = JSONDataReader.INSTANCE.read("Student.json", Student.class);
+        final File file = getFile("json");
+
+        assertFalse(records.isEmpty());
+
+        subject.write(file.getPath(), Student.class, records);
+
+        assertTrue(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).startsWith("[{\"Name\":"));
+        assertEquals(toString(JSONDataReader.INSTANCE.read(file.getPath(), Student.class)), toString(records));
+    }
+
+    /**
+     * Creates a temporary file to write to, in a folder that does not exist
+     * yet.
+     *
+     * @param extension The file extension.
+     *
+     * @return A {@link File}.
+     */
+    File getFile(final String extension) {
+        final File file = new File(new File(System.getProperty("java.io.tmpdir"), getString()), getString() + "." + extension);
+
+        file.deleteOnExit();
+        file.getParentFile().deleteOnExit();
+
+        return file;
+    }
+
+    /**
+     * Converts objects to strings, for comparing them.
+     *
+     * @param records The objects.
+     *
+     * @return The string representations of the objects.
+     */
+    static List<String> toString(final List<?> records) {
+        return records.stream()
+                      .map(Object::toString)
+                      .collect(Collectors.toList());
+    }
+}
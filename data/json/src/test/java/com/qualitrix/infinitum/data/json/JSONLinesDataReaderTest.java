@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.data.json.JSONDataReaderTest.BalanceSheet;
+import com.qualitrix.infinitum.data.json.JSONDataReaderTest.Student;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link JSONLinesDataReader}.
+ */
+public class JSONLinesDataReaderTest implements UnitTest {
+    private final JSONLinesDataReader subject = JSONLinesDataReader.INSTANCE;
+
+    /**
+     * Tests that the format supported by the reader is known.
+     */
+    @Test
+    public void testGetSupportedFormats() {
+        assertEquals(subject.getSupportedFormats().get(0), JavascriptDataFormat.JSONL);
+    }
+
+    /**
+     * Tests that data can be read from JSON Lines files, ignoring blank lines.
+     */
+    @Test
+    public void testRead() {
+        final List<Student> records = subject.read("Student.jsonl", Student.class);
+
+        assertEquals(records.size(), 3);
+        assertEquals(records.get(0).getName(), "Adam");
+        assertEquals(records.get(1).getName(), "Bob");
+        assertEquals(records.get(2).getName(), "Charlie");
+        assertEquals(records.get(2).getAge(), 23);
+    }
+
+    /**
+     * Tests that large files are read completely and in order.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testReadLargeFile() throws IOException {
+        final File file = File.createTempFile(getString(), ".jsonl");
+        file.deleteOnExit();
+
+        final int count = getInt(20000, 30000);
+
+        try (final PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            for (int i = 0; i < count; ++i) {
+                writer.printf("{\"Name\":\"%s\",\"Age\":%d,\"Height\":%d,\"Weight\":%d}\r\n", getString(), i, getInt(), getInt());
+            }
+        }
+
+        assertTrue(file.length() > 1024 * 1024);
+
+        final List<Student> records = subject.read(file.getPath(), Student.class);
+
+        assertEquals(records.size(), count);
+
+        for (int i = 0; i < count; ++i) {
+            assertEquals(records.get(i).getAge(), i);
+        }
+    }
+
+    /**
+     * Tests that data cannot be read from a non-existent file.
+     */
+    @Test
+    public void testReadWithNonExistentFile() {
+        final List<BalanceSheet> records = subject.read(getString() + ".jsonl", BalanceSheet.class);
+
+        assertNotNull(records);
+        assertTrue(records.isEmpty());
+    }
+
+    /**
+     * Tests that lines can be decoded in parallel without changing their order.
+     */
+    @Test
+    public void testStreamInParallel() {
+        final List<String> sequential;
+        final List<String> parallel;
+
+        try (final Stream<BalanceSheet> records = subject.stream("BalanceSheet.jsonl", BalanceSheet.class)) {
+            sequential = records.map(BalanceSheet::getMonth).collect(Collectors.toList());
+        }
+
+        try (final Stream<BalanceSheet> records = subject.stream("BalanceSheet.jsonl", BalanceSheet.class)) {
+            parallel = records.parallel().map(BalanceSheet::getMonth).collect(Collectors.toList());
+        }
+
+        assertEquals(sequential.size(), 12);
+        assertEquals(parallel, sequential);
+    }
+
+    /**
+     * Tests that data cannot be streamed from a non-existent file.
+     */
+    @Test
+    public void testStreamWithNonExistentFile() {
+        try (final Stream<BalanceSheet> records = subject.stream(getString() + ".jsonl", BalanceSheet.class)) {
+            assertEquals(records.count(), 0);
+        }
+    }
+}
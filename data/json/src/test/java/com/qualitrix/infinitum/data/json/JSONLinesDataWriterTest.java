@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.json;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.json.JSONDataReaderTest.Student;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Integration tests for {@link JSONLinesDataWriter}.
+ */
+public class JSONLinesDataWriterTest implements UnitTest {
+    private final JSONLinesDataWriter subject = JSONLinesDataWriter.INSTANCE;
+
+    /**
+     * Tests that the format supported by the writer is known.
+     */
+    @Test
+    public void testGetSupportedFormats() {
+        assertEquals(subject.getSupportedFormats().get(0), JavascriptDataFormat.JSONL);
+    }
+
+    /**
+     * Tests that each object is written on a line of its own, and can be read
+     * back as soon as the sink is flushed.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testOpenAsync() throws IOException {
+        final List<Student> records = JSONLinesDataReader.INSTANCE.read("Student.jsonl", Student.class);
+        final File file = new JSONDataWriterTest().getFile("jsonl");
+
+        assertFalse(records.isEmpty());
+
+        try (final DataSink<Student> sink = subject.openAsync(file.getPath(), Student.class)) {
+            sink.appendAll(records);
+            sink.flush();
+
+            assertEquals(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size(), records.size());
+            assertEquals(JSONDataWriterTest.toString(JSONLinesDataReader.INSTANCE.read(file.getPath(), Student.class))
+                , JSONDataWriterTest.toString(records));
+        }
+    }
+}
@@ -25,6 +25,8 @@ import com.poiji.exception.PoijiExcelType;
 import com.poiji.option.PoijiOptions;
 import com.qualitrix.infinitum.data.DataFormat;
 import com.qualitrix.infinitum.data.DataReader;
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.SourceMetrics;
 import com.qualitrix.infinitum.logging.Logger;
 import com.qualitrix.infinitum.logging.LoggingServiceLocator;
 import com.qualitrix.infinitum.util.ClasspathUtil;
@@ -106,8 +108,10 @@ abstract class ExcelDataReader implements DataReader {
      */
     @Override
     public <T> List<T> read(final String fileName, final Class<T> type) {
+        final SourceMetrics metrics = DataReaderMetrics.getInstance().forSource(fileName);
+
         // Attempt to load the specified file.
-        try (final InputStream stream = ClasspathUtil.getResourceStream(fileName)) {
+        try (final InputStream stream = metrics.meter(ClasspathUtil.getResourceStream(fileName))) {
             if (stream == null) {
                 throw new FileNotFoundException(String.format("File [%s] not found.", fileName));
             }
@@ -115,7 +119,15 @@ abstract class ExcelDataReader implements DataReader {
             // Read data from the file in buffered mode for best
             // read performance.
             try (final BufferedInputStream bufferedStream = new BufferedInputStream(stream)) {
-                return Poiji.fromExcel(bufferedStream, excelFormat, type, OPTIONS);
+                final long start = metrics.time();
+                final List<T> records = Poiji.fromExcel(bufferedStream, excelFormat, type, OPTIONS);
+
+                // Poiji populates objects while reading the workbook, so all
+                // the time is reported as parse time.
+                metrics.addParseTime(metrics.time() - start);
+                metrics.addRows(records.size());
+
+                return records;
             }
         }
         catch (final Exception e) {
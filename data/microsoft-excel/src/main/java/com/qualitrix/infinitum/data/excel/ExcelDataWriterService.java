@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.excel;
+
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataWriter;
+import com.qualitrix.infinitum.data.DataWriterService;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Allows writing data to Microsoft Excel 2007+ workbooks.
+ */
+public class ExcelDataWriterService implements DataWriterService {
+    private static final List<DataFormat> SUPPORTED_FORMATS = Collections.singletonList(ExcelSpreadsheetFormat.XLSX);
+
+    /**
+     * Gets a writer for writing data to Microsoft Excel workbooks.
+     *
+     * @param format The format in which data must be written.
+     *
+     * @return A writer for writing data. May be {@code null} if the requested
+     * format is not supported by this service.
+     */
+    @Override
+    public DataWriter getDataWriter(final DataFormat format) {
+        return ExcelSpreadsheetFormat.XLSX.equals(format)
+               ? XLSXDataWriter.INSTANCE
+               : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataFormat> getSupportedFormats() {
+        return SUPPORTED_FORMATS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+}
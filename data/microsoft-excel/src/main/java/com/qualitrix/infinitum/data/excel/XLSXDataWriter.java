@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.excel;
+
+import com.poiji.annotation.ExcelCellName;
+import com.poiji.annotation.ExcelSheet;
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.DataWriter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Writes structured data to Microsoft Excel 2007+ (XLSX) workbooks, which can
+ * be read back by {@link XLSXDataReader}. Objects are written as rows of a
+ * single sheet, below a header row. Columns are named after the
+ * {@link ExcelCellName} annotations on fields, or after the fields themselves
+ * if they are not annotated, and the sheet is named after the
+ * {@link ExcelSheet} annotation on the type, if present.
+ * </p>
+ *
+ * <p>
+ * Workbooks are written through a streaming workbook, which holds only the
+ * most recent rows in memory and moves older rows to a compressed temporary
+ * file, so that memory use does not grow with the number of rows. Since an
+ * XLSX workbook is a ZIP archive that can only be assembled once all rows are
+ * known, the destination is written only when the sink is closed. Flushing
+ * the sink moves all rows held in memory to the temporary file.
+ * </p>
+ */
+class XLSXDataWriter implements DataWriter {
+    private static final List<DataFormat> FORMATS = Collections.singletonList(ExcelSpreadsheetFormat.XLSX);
+
+    private static final int WINDOW_SIZE = 100;
+
+    static final XLSXDataWriter INSTANCE = new XLSXDataWriter();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataFormat> getSupportedFormats() {
+        return FORMATS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> DataSink<T> open(final String destination, final Class<T> type) throws IOException {
+        final List<Field> fields = getFields(type);
+        final Path path = Paths.get(destination).toAbsolutePath();
+
+        Files.createDirectories(path.getParent());
+
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+
+        final ExcelSheet sheetName = type.getAnnotation(ExcelSheet.class);
+        final SXSSFSheet sheet = sheetName == null
+                                 ? workbook.createSheet()
+                                 : workbook.createSheet(sheetName.value());
+
+        final Row header = sheet.createRow(0);
+
+        for (int i = 0; i < fields.size(); ++i) {
+            final ExcelCellName name = fields.get(i).getAnnotation(ExcelCellName.class);
+
+            header.createCell(i).setCellValue(name == null
+                                              ? fields.get(i).getName()
+                                              : name.value());
+        }
+
+        return new XLSXDataSink<>(workbook, sheet, fields, new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+
+    /**
+     * Gets the fields of a type to write as columns.
+     *
+     * @param type The type.
+     *
+     * @return The instance fields of the type and its superclasses, in the
+     * order in which they are declared.
+     */
+    private static List<Field> getFields(final Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            final List<Field> declared = new ArrayList<>();
+
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+
+                    declared.add(field);
+                }
+            }
+
+            // Fields of superclasses come first.
+            fields.addAll(0, declared);
+        }
+
+        return fields;
+    }
+
+    /**
+     * Writes objects as rows of a sheet.
+     *
+     * @param <T> The type of objects to write.
+     */
+    private static final class XLSXDataSink<T> implements DataSink<T> {
+        private final List<Field> fields;
+
+        private final OutputStream stream;
+
+        private final SXSSFSheet sheet;
+
+        private final SXSSFWorkbook workbook;
+
+        private int row;
+
+        /**
+         * Creates a sink that writes objects as rows of a sheet.
+         *
+         * @param workbook The workbook containing the sheet.
+         * @param sheet The sheet.
+         * @param fields The fields to write as columns.
+         * @param stream The stream to which the workbook must be written once
+         * complete.
+         */
+        XLSXDataSink(final SXSSFWorkbook workbook, final SXSSFSheet sheet, final List<Field> fields, final OutputStream stream) {
+            this.fields = fields;
+            this.sheet = sheet;
+            this.stream = stream;
+            this.workbook = workbook;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void append(final T record) {
+            final Row cells = sheet.createRow(++row);
+
+            for (int i = 0; i < fields.size(); ++i) {
+                final Object value;
+
+                try {
+                    value = fields.get(i).get(record);
+                }
+                catch (final IllegalAccessException e) {
+                    throw new IllegalStateException(String.format("Unable to read field [%s].", fields.get(i).getName()), e);
+                }
+
+                if (value != null) {
+                    setValue(cells.createCell(i), value);
+                }
+            }
+        }
+
+        /**
+         * Writes the workbook to the destination and discards the temporary
+         * file holding its rows.
+         * <p>
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            try {
+                workbook.write(stream);
+                stream.close();
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            finally {
+                workbook.dispose();
+            }
+        }
+
+        /**
+         * Moves all rows held in memory to the temporary file holding the
+         * rows of the sheet.
+         * <p>
+         * {@inheritDoc}
+         */
+        @Override
+        public void flush() {
+            try {
+                sheet.flushRows();
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Sets the value of a cell, preserving numbers and booleans.
+         *
+         * @param cell The cell.
+         * @param value The value.
+         */
+        private static void setValue(final Cell cell, final Object value) {
+            if (value instanceof Number) {
+                cell.setCellValue(((Number) value).doubleValue());
+            }
+            else if (value instanceof Boolean) {
+                cell.setCellValue((Boolean) value);
+            }
+            else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+}
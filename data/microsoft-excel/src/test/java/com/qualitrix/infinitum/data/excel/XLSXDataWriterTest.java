@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.excel;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.data.DataSink;
+import com.qualitrix.infinitum.data.excel.ExcelDataReaderTest.BalanceSheet;
+import com.qualitrix.infinitum.data.excel.ExcelDataReaderTest.Student;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Integration tests for {@link XLSXDataWriter}.
+ */
+public class XLSXDataWriterTest implements UnitTest {
+    private final XLSXDataWriter subject = XLSXDataWriter.INSTANCE;
+
+    /**
+     * Tests that the format supported by the writer is known.
+     */
+    @Test
+    public void testGetSupportedFormats() {
+        assertEquals(subject.getSupportedFormats(), XLSXDataReader.INSTANCE.getSupportedFormats());
+    }
+
+    /**
+     * Tests that data written in the background can be read back.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testOpenAsync() throws IOException {
+        final List<BalanceSheet> records = XLSXDataReader.INSTANCE.read("BalanceSheet.xlsx", BalanceSheet.class);
+        final File file = getFile();
+
+        try (final DataSink<BalanceSheet> sink = subject.openAsync(file.getPath(), BalanceSheet.class)) {
+            records.forEach(sink::append);
+        }
+
+        assertEquals(map(XLSXDataReader.INSTANCE.read(file.getPath(), BalanceSheet.class), BalanceSheet::getMonth)
+            , map(records, BalanceSheet::getMonth));
+    }
+
+    /**
+     * Tests that data can be written to a named sheet and read back.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        final List<Student> records = XLSXDataReader.INSTANCE.read("Student.xlsx", Student.class);
+        final File file = getFile();
+
+        assertFalse(records.isEmpty());
+
+        subject.write(file.getPath(), Student.class, records);
+
+        assertEquals(map(XLSXDataReader.INSTANCE.read(file.getPath(), Student.class), Student::getName)
+            , map(records, Student::getName));
+    }
+
+    /**
+     * Creates a temporary file to write to, in a folder that does not exist
+     * yet.
+     *
+     * @return A {@link File}.
+     */
+    private File getFile() {
+        final File file = new File(new File(System.getProperty("java.io.tmpdir"), getString()), getString() + ".xlsx");
+
+        file.deleteOnExit();
+        file.getParentFile().deleteOnExit();
+
+        return file;
+    }
+
+    /**
+     * Extracts a property from objects, for comparing them.
+     *
+     * @param records The objects.
+     * @param property Extracts the property from an object.
+     * @param <T> The type of objects.
+     *
+     * @return The property of each object.
+     */
+    private static <T> List<Object> map(final List<T> records, final Function<T, Object> property) {
+        return records.stream()
+                      .map(property)
+                      .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.xml;
+
+import com.qualitrix.infinitum.data.BeanMapper;
+import com.qualitrix.infinitum.data.DataFormat;
+import com.qualitrix.infinitum.data.DataReader;
+import com.qualitrix.infinitum.data.DataReaderMetrics;
+import com.qualitrix.infinitum.data.SourceMetrics;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.util.ClasspathUtil;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Reads structured data from XML files, in which each child element of the
+ * root element holds a record, for example:
+ * </p>
+ *
+ * <pre>
+ * &lt;students&gt;
+ *     &lt;student id="1"&gt;
+ *         &lt;name&gt;Adam&lt;/name&gt;
+ *         &lt;age&gt;22&lt;/age&gt;
+ *     &lt;/student&gt;
+ * &lt;/students&gt;
+ * </pre>
+ *
+ * <p>
+ * The attributes of a record element, and the text of its child elements,
+ * are mapped to the fields of the required type by name, matching exactly
+ * first and ignoring case otherwise. Attributes and elements that do not match
+ * any field, as well as elements nested more deeply, are skipped without their
+ * content being materialized. Empty elements leave the matching fields
+ * unchanged. The required type must be supported by {@link BeanMapper}.
+ * </p>
+ *
+ * <p>
+ * Input data are read from files that must be readable and available on the
+ * runtime application classpath. Files are parsed incrementally using the
+ * Streaming API for XML (StAX), so that just the record being read is held in
+ * memory at any time, regardless of the size of the file. Document type
+ * declarations and external entities are not processed.
+ * </p>
+ */
+class XmlDataReader implements DataReader {
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private static final List<DataFormat> FORMATS = Collections.singletonList(XmlDataFormat.XML);
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance().getLoggingService().getLogger(XmlDataReader.class);
+
+    static final XmlDataReader INSTANCE = new XmlDataReader();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataFormat> getSupportedFormats() {
+        return FORMATS;
+    }
+
+    /**
+     * <p>
+     * Reads data from a file and performs conversion to objects of required
+     * type. Some examples are given below:
+     * </p>
+     *
+     * <ol>
+     *     <li>{@code read("Products.xml")} will look for a file named
+     *     {@code Products.xml} on the application's runtime classpath and read
+     *     data from it if the file exists, is readable and is in XML
+     *     format.</li>
+     *     <li>{@code read("file:///var/etc/customers.xml")} will look for a file
+     *     named {@code customers.xml} under the folder {@code /var/etc/} on the
+     *     filesystem and read data from it if the file exists, is readable and
+     *     is in XML format.</li>
+     * </ol>
+     *
+     * @param fileName The name of the file from which data must be read. The
+     * file must be readable and available on the runtime classpath.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link List} of objects containing data read from the specified
+     * file, in the order in which they appear in the file. The returned list
+     * is never {@code null}. If the specified source is not found, cannot be
+     * read by this reader, contains data unsuitable for this reader, or is
+     * empty, the returned list will be empty. Otherwise, it will contain
+     * objects matching the data read from the source.
+     */
+    @Override
+    public <T> List<T> read(final String fileName, final Class<T> type) {
+        try (final Stream<T> records = open(fileName, type)) {
+            return records.collect(Collectors.toList());
+        }
+        catch (final Exception e) {
+            LOGGER.error(e, String.format("Unable to read XML data from [%s].", fileName));
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Reads data from a file as a stream of objects of required type. Records
+     * are parsed only as the stream is consumed, so that the file remains open
+     * until the stream is closed.
+     *
+     * @param fileName The name of the file from which data must be read. The
+     * file must be readable and available on the runtime classpath.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Stream} of objects containing data read from the
+     * specified file. The returned stream is never {@code null}, but is empty
+     * if the file is not found or cannot be read. Malformed content causes an
+     * unchecked exception to be thrown when it is consumed.
+     */
+    @Override
+    public <T> Stream<T> stream(final String fileName, final Class<T> type) {
+        try {
+            return open(fileName, type);
+        }
+        catch (final Exception e) {
+            LOGGER.error(e, String.format("Unable to read XML data from [%s].", fileName));
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * Creates a factory for parsers that do not process document type
+     * declarations or external entities.
+     *
+     * @return An {@link XMLInputFactory}.
+     */
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+
+        return factory;
+    }
+
+    /**
+     * Opens a file as a stream of objects of required type.
+     *
+     * @param fileName The name of the file from which data must be read.
+     * @param type The type of objects to read.
+     * @param <T> The type of data to read.
+     *
+     * @return A {@link Stream} of objects containing data read from the
+     * specified file.
+     *
+     * @throws IOException if the file is not found or cannot be read.
+     * @throws XMLStreamException if the file does not contain XML.
+     */
+    private static <T> Stream<T> open(final String fileName, final Class<T> type) throws IOException, XMLStreamException {
+        final BeanMapper<T> mapper = BeanMapper.of(type);
+
+        if (mapper == null) {
+            throw new IllegalArgumentException(String.format("Type [%s] cannot be populated from XML.", type.getName()));
+        }
+
+        final SourceMetrics metrics = DataReaderMetrics.getInstance().forSource(fileName);
+        final InputStream stream = metrics.meter(ClasspathUtil.getResourceStream(fileName));
+
+        if (stream == null) {
+            throw new FileNotFoundException(String.format("File [%s] not found.", fileName));
+        }
+
+        try {
+            final XMLStreamReader reader = FACTORY.createXMLStreamReader(stream);
+
+            return StreamSupport.stream(new RecordSpliterator<>(reader, mapper, metrics), false)
+                                .onClose(() -> close(reader, stream));
+        }
+        catch (final XMLStreamException | RuntimeException e) {
+            stream.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Closes a parser and the stream from which it reads.
+     *
+     * @param reader The parser.
+     * @param stream The stream.
+     */
+    private static void close(final XMLStreamReader reader, final InputStream stream) {
+        try {
+            reader.close();
+        }
+        catch (final XMLStreamException e) {
+            LOGGER.warn("Unable to close XML parser.");
+        }
+
+        try {
+            stream.close();
+        }
+        catch (final IOException e) {
+            LOGGER.warn("Unable to close XML file.");
+        }
+    }
+
+    /**
+     * Parses the records in an XML document one at a time.
+     *
+     * @param <T> The type of objects to populate from records.
+     */
+    private static final class RecordSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Map<String, String> fieldNames;
+
+        private final BeanMapper<T> mapper;
+
+        private final SourceMetrics metrics;
+
+        private final XMLStreamReader reader;
+
+        private boolean started;
+
+        /**
+         * Creates a spliterator over the records in a document.
+         *
+         * @param reader The parser for the document.
+         * @param mapper Populates objects from records.
+         * @param metrics Records measurements of the records parsed.
+         */
+        RecordSpliterator(final XMLStreamReader reader, final BeanMapper<T> mapper, final SourceMetrics metrics) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+
+            this.fieldNames = new HashMap<>();
+            this.mapper = mapper;
+            this.metrics = metrics;
+            this.reader = reader;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            final T record;
+            final long start = metrics.time();
+
+            try {
+                if (!nextRecord()) {
+                    return false;
+                }
+
+                record = readRecord();
+            }
+            catch (final XMLStreamException e) {
+                throw new IllegalStateException("Unable to parse XML record.", e);
+            }
+            catch (final IllegalArgumentException e) {
+                metrics.addRejected(1);
+
+                throw e;
+            }
+            finally {
+                metrics.addParseTime(metrics.time() - start);
+            }
+
+            metrics.addRows(1);
+
+            action.accept(record);
+
+            return true;
+        }
+
+        /**
+         * Gets the field matching an attribute or element, matching exactly
+         * first and ignoring case otherwise. Matches are remembered, since the
+         * same names recur in every record.
+         *
+         * @param name The local name of the attribute or element.
+         *
+         * @return The name of the matching field, or {@code null} if no field
+         * matches.
+         */
+        private String getFieldName(final String name) {
+            // Names without a matching field are remembered as well, hence
+            // the map is not populated through computeIfAbsent.
+            if (!fieldNames.containsKey(name)) {
+                final List<String> candidates = mapper.getFieldNames();
+
+                fieldNames.put(name, candidates.contains(name)
+                                     ? name
+                                     : candidates.stream()
+                                                 .filter(name::equalsIgnoreCase)
+                                                 .findFirst()
+                                                 .orElse(null));
+            }
+
+            return fieldNames.get(name);
+        }
+
+        /**
+         * Moves the parser to the start of the next record.
+         *
+         * @return {@code true} if the parser is positioned at the start of a
+         * record, {@code false} if there are no more records.
+         *
+         * @throws XMLStreamException if the document is malformed.
+         */
+        private boolean nextRecord() throws XMLStreamException {
+            if (!started) {
+                started = true;
+
+                // Skip the prolog and move to the root element.
+                while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    // Nothing to do here.
+                }
+
+                if (!reader.isStartElement()) {
+                    return false;
+                }
+            }
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        return true;
+                    case XMLStreamConstants.END_ELEMENT:
+                        // The root element has ended.
+                        return false;
+                    default:
+                        break;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Populates an object from the record at which the parser is
+         * positioned, leaving the parser at the end of the record.
+         *
+         * @return An object containing data read from the record.
+         *
+         * @throws XMLStreamException if the document is malformed.
+         */
+        private T readRecord() throws XMLStreamException {
+            final T bean = mapper.newInstance();
+
+            for (int i = 0; i < reader.getAttributeCount(); ++i) {
+                set(bean, reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+
+            while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+                if (reader.isStartElement()) {
+                    final String field = getFieldName(reader.getLocalName());
+
+                    if (field == null) {
+                        skipElement();
+                    }
+                    else {
+                        final String value = readText();
+
+                        if (!value.isEmpty()) {
+                            mapper.set(bean, field, value);
+                        }
+                    }
+                }
+            }
+
+            return bean;
+        }
+
+        /**
+         * Reads the text directly contained in the element at which the
+         * parser is positioned, skipping any nested elements and leaving the
+         * parser at the end of the element.
+         *
+         * @return The text contained in the element.
+         *
+         * @throws XMLStreamException if the document is malformed.
+         */
+        private String readText() throws XMLStreamException {
+            final StringBuilder text = new StringBuilder();
+
+            while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+                if (reader.isStartElement()) {
+                    skipElement();
+                }
+                else if (reader.isCharacters()) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            }
+
+            return text.toString();
+        }
+
+        /**
+         * Sets a field of an object from an attribute, if a matching field
+         * exists.
+         *
+         * @param bean The object to populate.
+         * @param name The local name of the attribute.
+         * @param value The value of the attribute.
+         */
+        private void set(final T bean, final String name, final String value) {
+            final String field = getFieldName(name);
+
+            if (field != null && !value.isEmpty()) {
+                mapper.set(bean, field, value);
+            }
+        }
+
+        /**
+         * Skips the element at which the parser is positioned, along with all
+         * its content, leaving the parser at the end of the element.
+         *
+         * @throws XMLStreamException if the document is malformed.
+         */
+        private void skipElement() throws XMLStreamException {
+            int depth = 1;
+
+            while (depth > 0) {
+                final int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    ++depth;
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    --depth;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.data.xml;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link XmlDataReader}.
+ */
+public class XmlDataReaderTest implements UnitTest {
+    private final XmlDataReader subject = XmlDataReader.INSTANCE;
+
+    /**
+     * Tests that the format supported by the reader is known.
+     */
+    @Test
+    public void testGetSupportedFormats() {
+        assertEquals(subject.getSupportedFormats().get(0), XmlDataFormat.XML);
+    }
+
+    /**
+     * Tests that records can be read from attributes and child elements.
+     */
+    @Test
+    public void testRead() {
+        final List<BalanceSheet> records = subject.read("BalanceSheet.xml", BalanceSheet.class);
+
+        assertEquals(records.size(), 12);
+
+        records.forEach(record -> {
+            assertEquals(record.year, "2001");
+            assertNotNull(record.month);
+            assertNotNull(record.expenses);
+            assertNotNull(record.revenue);
+        });
+
+        assertEquals(records.get(0).month, "January");
+        assertEquals(records.get(0).revenue, new BigDecimal("1096100"));
+        assertEquals(records.get(11).month, "December");
+    }
+
+    /**
+     * Tests that names are matched ignoring case, that empty elements leave
+     * fields unchanged and that unknown elements are skipped.
+     */
+    @Test
+    public void testReadWithCustomProperties() {
+        final List<Student> records = subject.read("Student.xml", Student.class);
+
+        assertEquals(records.stream().map(record -> record.name).collect(Collectors.toList())
+            , Arrays.asList("Adam", "Bob", "Charlie"));
+        assertEquals(records.get(0).id, 1);
+        assertEquals(records.get(0).age, 22);
+        assertEquals(records.get(0).weight, 68);
+        assertEquals(records.get(1).weight, 0);
+        assertEquals(records.get(2).height, 180);
+    }
+
+    /**
+     * Tests that data can be read from a file by specifying its fully-qualified
+     * filesystem path.
+     */
+    @Test
+    public void testReadWithFullyQualifiedPath() {
+        final String path = getClass().getClassLoader().getResource("BalanceSheet.xml").getFile();
+
+        assertEquals(subject.read(path, BalanceSheet.class).size(), 12);
+    }
+
+    /**
+     * Tests that data cannot be read from malformed files.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testReadWithMalformedFile() throws IOException {
+        final File file = File.createTempFile(getString(), ".xml");
+        file.deleteOnExit();
+
+        try (final PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            writer.print("<students><student><name>Adam</student></students>");
+        }
+
+        final List<Student> records = subject.read(file.getPath(), Student.class);
+
+        assertNotNull(records);
+        assertTrue(records.isEmpty());
+    }
+
+    /**
+     * Tests that data cannot be read from a non-existent file.
+     */
+    @Test
+    public void testReadWithNonExistentFile() {
+        final List<BalanceSheet> records = subject.read(getString() + ".xml", BalanceSheet.class);
+
+        assertNotNull(records);
+        assertTrue(records.isEmpty());
+    }
+
+    /**
+     * Tests that data cannot be read as objects of types that cannot be
+     * populated from text.
+     */
+    @Test
+    public void testReadWithUnsupportedType() {
+        assertTrue(subject.read("BalanceSheet.xml", Event.class).isEmpty());
+    }
+
+    /**
+     * Tests that records are parsed only as the stream is consumed.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testStream() throws IOException {
+        final File file = File.createTempFile(getString(), ".xml");
+        file.deleteOnExit();
+
+        try (final PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            // The second record is malformed, so that it fails if parsed.
+            writer.print("<students><student><name>Adam</name></student><student><name>Bob</student></students>");
+        }
+
+        try (final Stream<Student> records = subject.stream(file.getPath(), Student.class)) {
+            final Iterator<Student> iterator = records.iterator();
+
+            assertEquals(iterator.next().name, "Adam");
+        }
+    }
+
+    /**
+     * Tests that data cannot be streamed from a non-existent file.
+     */
+    @Test
+    public void testStreamWithNonExistentFile() {
+        try (final Stream<BalanceSheet> records = subject.stream(getString() + ".xml", BalanceSheet.class)) {
+            assertEquals(records.count(), 0);
+        }
+    }
+
+    /**
+     * Tests that only fields of the required type are populated.
+     */
+    @Test
+    public void testStreamWithProjection() {
+        try (final Stream<Month> records = subject.stream("BalanceSheet.xml", Month.class)) {
+            final List<Month> months = records.collect(Collectors.toList());
+
+            assertEquals(months.size(), 12);
+            assertEquals(months.get(1).month, "February");
+            assertFalse(months.stream().anyMatch(month -> month.month == null));
+        }
+    }
+
+    /**
+     * Represents a balance sheet.
+     */
+    static class BalanceSheet {
+        private BigDecimal expenses;
+
+        private String month;
+
+        private BigDecimal revenue;
+
+        private String year;
+    }
+
+    /**
+     * Represents an event, which cannot be populated from text.
+     */
+    static class Event {
+        private Date date;
+    }
+
+    /**
+     * Represents just the calendar month of a balance sheet.
+     */
+    static class Month {
+        private String month;
+    }
+
+    /**
+     * Represents a student.
+     */
+    static class Student {
+        private int age;
+
+        private int height;
+
+        private int id;
+
+        private String name;
+
+        private int weight;
+    }
+}
@@ -51,20 +51,20 @@ public class AssertionServiceLocator
         apiAssertionService = getFirstAvailable(APIAssertionService.class);
 
         Optional.ofNullable(apiAssertionService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as APIAssertionService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as APIAssertionService."
+                    , service.getClass().getName()));
 
         mobileAssertionService = getFirstAvailable(MobileAssertionService.class);
 
         Optional.ofNullable(mobileAssertionService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as MobileAssertionService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as MobileAssertionService."
+                    , service.getClass().getName()));
 
         webAssertionService = getFirstAvailable(WebAssertionService.class);
 
         Optional.ofNullable(webAssertionService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as WebAssertionService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as WebAssertionService."
+                    , service.getClass().getName()));
     }
 
     /**
@@ -49,14 +49,14 @@ public final class DeviceDriverServiceLocator
         mobileDriverService = getFirstAvailable(MobileDriverService.class);
 
         Optional.ofNullable(mobileDriverService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as MobileDriverService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as MobileDriverService."
+                    , service.getClass().getName()));
 
         webDriverService = getFirstAvailable(WebDriverService.class);
 
         Optional.ofNullable(webDriverService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as WebDriverService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as WebDriverService."
+                    , service.getClass().getName()));
     }
 
     /**
@@ -49,14 +49,14 @@ public class GestureServiceLocator
         mobileGestureService = getFirstAvailable(MobileGestureService.class);
 
         Optional.ofNullable(mobileGestureService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as MobileGestureService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as MobileGestureService."
+                    , service.getClass().getName()));
 
         webGestureService = getFirstAvailable(WebGestureService.class);
 
         Optional.ofNullable(webGestureService)
-                .ifPresent(service -> LOGGER.debug(String.format("%s selected as WebGestureService."
-                    , service.getClass().getName())));
+                .ifPresent(service -> LOGGER.debug("{} selected as WebGestureService."
+                    , service.getClass().getName()));
     }
 
     /**
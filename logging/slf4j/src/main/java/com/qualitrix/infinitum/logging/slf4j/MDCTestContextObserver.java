@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging.slf4j;
+
+import com.qualitrix.infinitum.logging.TestContext;
+import com.qualitrix.infinitum.logging.TestContextObserver;
+import org.slf4j.MDC;
+
+/**
+ * Puts the {@link TestContext} of the test running on a thread into the SLF4J
+ * {@link MDC} of the thread when the context is bound, and removes it when the
+ * context is unbound. The context is therefore put into the MDC once per
+ * test, and is available to layouts of the logging framework behind SLF4J,
+ * under the keys {@code test}, {@code row}, {@code device} and
+ * {@code attempt}, for every message logged while the test runs. Other
+ * entries of the MDC are left untouched.
+ */
+public final class MDCTestContextObserver implements TestContextObserver {
+    private static final String[] KEYS = {
+        TestContext.KEY_TEST
+        , TestContext.KEY_ROW
+        , TestContext.KEY_DEVICE
+        , TestContext.KEY_ATTEMPT
+    };
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBind(final TestContext context) {
+        remove();
+
+        context.toMap().forEach(MDC::put);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onUnbind(final TestContext context) {
+        remove();
+    }
+
+    /**
+     * Removes all values of a test context from the MDC of the current
+     * thread.
+     */
+    private static void remove() {
+        for (final String key : KEYS) {
+            MDC.remove(key);
+        }
+    }
+}
@@ -20,23 +20,55 @@
 
 package com.qualitrix.infinitum.logging.slf4j;
 
-import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.ConfigurableLogger;
+import com.qualitrix.infinitum.logging.LogLevel;
+import com.qualitrix.infinitum.logging.LogRateLimiter;
+import com.qualitrix.infinitum.logging.LoggingConfiguration;
 import org.slf4j.LoggerFactory;
 import org.slf4j.helpers.MessageFormatter;
 
+import java.util.Optional;
+
 /**
- * Writes log messages using SLF4J API.
+ * Writes log messages using SLF4J API. Messages below the level configured for
+ * the logger through {@link LoggingConfiguration} are discarded before
+ * reaching SLF4J, at the cost of comparing the level with the threshold held
+ * by the logger. Messages at or above that level are subject to the levels
+ * configured for the logging framework behind SLF4J as usual. Messages from
+ * call sites logging at a high rate are sampled or rate limited, if
+ * configured for the logger, see {@link LogRateLimiter}.
  */
-final class SLF4JLogger implements Logger {
+final class SLF4JLogger implements ConfigurableLogger {
     private final org.slf4j.Logger destination;
 
+    private final LogRateLimiter limiter;
+
+    private volatile LogLevel threshold;
+
     /**
-     * Creates a logger for writing log messages using SLF4J API.
+     * Creates a logger for writing log messages using SLF4J API, at and above
+     * the level configured for the logger.
      *
      * @param type The class after which the logger should be named.
      */
     SLF4JLogger(final Class<?> type) {
+        this(type, null);
+    }
+
+    /**
+     * Creates a logger for writing log messages using SLF4J API, at and above
+     * a specified level.
+     *
+     * @param type The class after which the logger should be named.
+     * @param threshold The level below which messages must be discarded, or
+     * {@code null} for the level configured for the logger.
+     */
+    SLF4JLogger(final Class<?> type, final LogLevel threshold) {
         destination = LoggerFactory.getLogger(type);
+
+        this.threshold = Optional.ofNullable(threshold)
+                                 .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(destination.getName()));
+        this.limiter = LogRateLimiter.create(destination.getName(), destination::warn);
     }
 
     /**
@@ -44,7 +76,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void debug(final String message) {
-        destination.debug(message);
+        if (LogLevel.DEBUG.isAtLeast(threshold) && permit(LogLevel.DEBUG, null)) {
+            destination.debug(message);
+        }
     }
 
     /**
@@ -52,7 +86,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void debug(final String format, final Object context) {
-        destination.debug(format, context);
+        if (LogLevel.DEBUG.isAtLeast(threshold) && permit(LogLevel.DEBUG, format)) {
+            destination.debug(format, context);
+        }
     }
 
     /**
@@ -60,7 +96,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void debug(final String format, final Object arg1, final Object arg2) {
-        destination.debug(format, arg1, arg2);
+        if (LogLevel.DEBUG.isAtLeast(threshold) && permit(LogLevel.DEBUG, format)) {
+            destination.debug(format, arg1, arg2);
+        }
     }
 
     /**
@@ -68,7 +106,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void debug(final String format, final Object... args) {
-        destination.debug(format, args);
+        if (LogLevel.DEBUG.isAtLeast(threshold) && permit(LogLevel.DEBUG, format)) {
+            destination.debug(format, args);
+        }
     }
 
     /**
@@ -76,7 +116,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void error(final String message) {
-        destination.error(message);
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, null)) {
+            destination.error(message);
+        }
     }
 
     /**
@@ -84,7 +126,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void error(final String format, final Object context) {
-        destination.error(format, context);
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, format)) {
+            destination.error(format, context);
+        }
     }
 
     /**
@@ -92,7 +136,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void error(final String format, final Object arg1, final Object arg2) {
-        destination.error(format, arg1, arg2);
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, format)) {
+            destination.error(format, arg1, arg2);
+        }
     }
 
     /**
@@ -100,24 +146,30 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void error(final String format, final Object... args) {
-        destination.error(format, args);
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, format)) {
+            destination.error(format, args);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void error(Throwable throwable, String message) {
-        destination.error(message, throwable);
+    public void error(final Throwable throwable, final String message) {
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, null)) {
+            destination.error(message, throwable);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void error(Throwable throwable, final String format, final Object context) {
-        destination.error(MessageFormatter.format(format, context).getMessage()
-            , throwable);
+    public void error(final Throwable throwable, final String format, final Object context) {
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, format)) {
+            destination.error(MessageFormatter.format(format, context).getMessage()
+                , throwable);
+        }
     }
 
     /**
@@ -125,8 +177,10 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void error(final Throwable throwable, final String format, final Object arg1, final Object arg2) {
-        destination.error(MessageFormatter.format(format, arg1, arg2).getMessage()
-            , throwable);
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, format)) {
+            destination.error(MessageFormatter.format(format, arg1, arg2).getMessage()
+                , throwable);
+        }
     }
 
     /**
@@ -134,8 +188,10 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void error(final Throwable throwable, final String format, final Object... args) {
-        destination.error(MessageFormatter.format(format, args).getMessage()
-            , throwable);
+        if (LogLevel.ERROR.isAtLeast(threshold) && permit(LogLevel.ERROR, format)) {
+            destination.error(MessageFormatter.format(format, args).getMessage()
+                , throwable);
+        }
     }
 
     /**
@@ -143,7 +199,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void info(final String message) {
-        destination.info(message);
+        if (LogLevel.INFO.isAtLeast(threshold) && permit(LogLevel.INFO, null)) {
+            destination.info(message);
+        }
     }
 
     /**
@@ -151,7 +209,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void info(final String format, final Object context) {
-        destination.info(format, context);
+        if (LogLevel.INFO.isAtLeast(threshold) && permit(LogLevel.INFO, format)) {
+            destination.info(format, context);
+        }
     }
 
     /**
@@ -159,7 +219,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void info(final String format, final Object arg1, final Object arg2) {
-        destination.info(format, arg1, arg2);
+        if (LogLevel.INFO.isAtLeast(threshold) && permit(LogLevel.INFO, format)) {
+            destination.info(format, arg1, arg2);
+        }
     }
 
     /**
@@ -167,7 +229,66 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void info(final String format, final Object... args) {
-        destination.info(format, args);
+        if (LogLevel.INFO.isAtLeast(threshold) && permit(LogLevel.INFO, format)) {
+            destination.info(format, args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogLevel getLevel() {
+        return threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return destination.getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.isAtLeast(threshold) && destination.isDebugEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return LogLevel.ERROR.isAtLeast(threshold) && destination.isErrorEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return LogLevel.INFO.isAtLeast(threshold) && destination.isInfoEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return LogLevel.WARN.isAtLeast(threshold) && destination.isWarnEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLevel(final LogLevel level) {
+        threshold = Optional.ofNullable(level)
+                            .orElseGet(() -> LoggingConfiguration.getInstance().getLevel(getName()));
     }
 
     /**
@@ -175,7 +296,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void warn(final String message) {
-        destination.warn(message);
+        if (LogLevel.WARN.isAtLeast(threshold) && permit(LogLevel.WARN, null)) {
+            destination.warn(message);
+        }
     }
 
     /**
@@ -183,7 +306,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void warn(final String format, final Object context) {
-        destination.warn(format, context);
+        if (LogLevel.WARN.isAtLeast(threshold) && permit(LogLevel.WARN, format)) {
+            destination.warn(format, context);
+        }
     }
 
     /**
@@ -191,7 +316,9 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void warn(final String format, final Object arg1, final Object arg2) {
-        destination.warn(format, arg1, arg2);
+        if (LogLevel.WARN.isAtLeast(threshold) && permit(LogLevel.WARN, format)) {
+            destination.warn(format, arg1, arg2);
+        }
     }
 
     /**
@@ -199,6 +326,50 @@ final class SLF4JLogger implements Logger {
      */
     @Override
     public void warn(final String format, final Object... args) {
-        destination.warn(format, args);
+        if (LogLevel.WARN.isAtLeast(threshold) && permit(LogLevel.WARN, format)) {
+            destination.warn(format, args);
+        }
+    }
+
+    /**
+     * Checks whether a message from a call site may be written, given the
+     * sample rate and rate limit configured for this logger, if any. A
+     * summary of the messages suppressed so far is written first, if due.
+     *
+     * @param level The level of the message.
+     * @param key The message format identifying the call site, or
+     * {@code null} for messages logged without a format.
+     *
+     * @return {@code true} if the message may be written.
+     */
+    private boolean permit(final LogLevel level, final String key) {
+        if (limiter == null) {
+            return true;
+        }
+
+        if (!limiter.permit(key)) {
+            return false;
+        }
+
+        final String summary = limiter.pollSummary();
+
+        if (summary != null) {
+            switch (level) {
+                case DEBUG:
+                    destination.debug(summary);
+                    break;
+                case ERROR:
+                    destination.error(summary);
+                    break;
+                case INFO:
+                    destination.info(summary);
+                    break;
+                default:
+                    destination.warn(summary);
+                    break;
+            }
+        }
+
+        return true;
     }
 }
@@ -21,18 +21,30 @@
 package com.qualitrix.infinitum.logging.slf4j;
 
 import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggerRegistry;
 import com.qualitrix.infinitum.logging.LoggingService;
 
 /**
- * Writes log messages using SLF4J API.
+ * Writes log messages using SLF4J API. Loggers are cached in a
+ * {@link LoggerRegistry}. The context of the test running on a thread is made
+ * available in the SLF4J MDC by {@link MDCTestContextObserver}.
  */
 public final class SLF4JLoggingService implements LoggingService {
+    private final LoggerRegistry registry;
+
+    /**
+     * Creates a service for writing log messages using SLF4J API.
+     */
+    public SLF4JLoggingService() {
+        registry = new LoggerRegistry(SLF4JLogger::new);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Logger getLogger(final Class<?> type) {
-        return new SLF4JLogger(type);
+        return registry.getLogger(type);
     }
 
     /**
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.logging.slf4j;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.logging.TestContext;
+import org.slf4j.MDC;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link MDCTestContextObserver}.
+ */
+public class MDCTestContextObserverTest implements UnitTest {
+    private final MDCTestContextObserver subject = new MDCTestContextObserver();
+
+    /**
+     * Tests that the values of a context are put into the MDC when the
+     * context is bound, replacing those of the previous context, and removed
+     * when it is unbound.
+     */
+    @Test
+    public void testOnBind() {
+        final String test = getString();
+
+        subject.onBind(new TestContext(getString(), 4, "Pixel", 1));
+        subject.onBind(new TestContext(test, null, null, 2));
+
+        assertEquals(MDC.get(TestContext.KEY_TEST), test);
+        assertEquals(MDC.get(TestContext.KEY_ATTEMPT), "2");
+        assertNull(MDC.get(TestContext.KEY_ROW));
+        assertNull(MDC.get(TestContext.KEY_DEVICE));
+
+        subject.onUnbind(new TestContext(test, null, null, 2));
+
+        assertNull(MDC.get(TestContext.KEY_TEST));
+        assertNull(MDC.get(TestContext.KEY_ATTEMPT));
+    }
+
+    /**
+     * Tests that the observer is registered, so that binding a context puts
+     * it into the MDC.
+     */
+    @Test
+    public void testRegistered() {
+        final String test = getString();
+
+        TestContext.bind(new TestContext(test, 1, null, 1));
+
+        try {
+            assertEquals(MDC.get(TestContext.KEY_TEST), test);
+            assertEquals(MDC.get(TestContext.KEY_ROW), "1");
+        }
+        finally {
+            TestContext.unbind();
+        }
+
+        assertNull(MDC.get(TestContext.KEY_TEST));
+    }
+}
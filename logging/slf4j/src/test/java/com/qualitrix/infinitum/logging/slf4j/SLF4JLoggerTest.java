@@ -22,6 +22,8 @@ package com.qualitrix.infinitum.logging.slf4j;
 
 import com.qualitrix.infinitum.TriConsumer;
 import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.logging.LogLevel;
+import com.qualitrix.infinitum.logging.Logger;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -30,6 +32,7 @@ import java.io.PrintStream;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
@@ -227,6 +230,51 @@ public class SLF4JLoggerTest implements UnitTest {
         testWriteMessageWithTwoContextualArguments(subject::info);
     }
 
+    /**
+     * Tests that messages are supplied and written, if their levels are
+     * enabled.
+     */
+    @Test
+    public void testSupplier() {
+        final String message = getString();
+
+        assertTrue(subject.isDebugEnabled());
+
+        subject.debugLazily(() -> "Debug " + message);
+        subject.errorLazily(new RuntimeException(getString()), () -> "Error " + message);
+
+        final String log = stream.toString();
+
+        assertTrue(log.contains("Debug " + message));
+        assertTrue(log.contains("Error " + message));
+    }
+
+    /**
+     * Tests that messages below the threshold of a logger are discarded
+     * without being formatted or supplied.
+     */
+    @Test
+    public void testThreshold() {
+        final Logger logger = new SLF4JLogger(getClass(), LogLevel.WARN);
+
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+        assertTrue(logger.isErrorEnabled());
+
+        logger.debug("Debug {}.", getInt());
+        logger.infoLazily(() -> {
+            throw new AssertionError("Message supplied for a discarded level.");
+        });
+        logger.warn("Warn {}.", getInt());
+
+        final String log = stream.toString();
+
+        assertFalse(log.contains("DEBUG"));
+        assertFalse(log.contains("INFO"));
+        assertTrue(log.contains("WARN"));
+    }
+
     /**
      * Tests that an information message can be logged successfully.
      */
@@ -23,6 +23,7 @@ package com.qualitrix.infinitum.logging.slf4j;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -39,6 +40,14 @@ public class SLF4JLoggingServiceTest {
         assertNotNull(subject.getLogger(getClass()));
     }
 
+    /**
+     * Tests that loggers are cached.
+     */
+    @Test
+    public void testGetLoggerCached() {
+        assertSame(subject.getLogger(getClass()), subject.getLogger(getClass()));
+    }
+
     /**
      * Tests that logging using the SLF4J API is available.
      */
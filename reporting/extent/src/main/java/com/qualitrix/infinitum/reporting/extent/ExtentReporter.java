@@ -23,21 +23,30 @@ package com.qualitrix.infinitum.reporting.extent;
 import com.aventstack.extentreports.ExtentTest;
 import com.qualitrix.infinitum.reporting.Reporter;
 
+import java.util.Locale;
 import java.util.Optional;
 
 /**
- * Writes reporting messages to an Extent report.
+ * Writes reporting messages to an Extent report. Every call on the Extent
+ * test holds a lock shared with the report, since Extent Reports does not
+ * support writing the report while tests in it are being updated, see
+ * {@link ExtentReportingService#flush()}.
  */
 final class ExtentReporter implements Reporter {
     private final ExtentTest backend;
 
+    private final Object lock;
+
     /**
      * Creates a reporter for writing reporting messages to {@link ExtentTest}.
      *
      * @param backend An {@link ExtentTest}.
+     * @param lock The lock held while writing the report that contains the
+     *             Extent test.
      */
-    ExtentReporter(final ExtentTest backend) {
+    ExtentReporter(final ExtentTest backend, final Object lock) {
         this.backend = backend;
+        this.lock = lock;
     }
 
     /**
@@ -45,8 +54,10 @@ final class ExtentReporter implements Reporter {
      */
     @Override
     public Reporter assignCategory(final String category) {
-        Optional.ofNullable(category)
-                .ifPresent(backend::assignCategory);
+        synchronized (lock) {
+            Optional.ofNullable(category)
+                    .ifPresent(backend::assignCategory);
+        }
 
         return this;
     }
@@ -56,8 +67,10 @@ final class ExtentReporter implements Reporter {
      */
     @Override
     public Reporter assignDevice(final String device) {
-        Optional.ofNullable(device)
-                .ifPresent(backend::assignDevice);
+        synchronized (lock) {
+            Optional.ofNullable(device)
+                    .ifPresent(backend::assignDevice);
+        }
 
         return this;
     }
@@ -67,7 +80,9 @@ final class ExtentReporter implements Reporter {
      */
     @Override
     public void error(final String message) {
-        backend.error(message);
+        synchronized (lock) {
+            backend.error(message);
+        }
     }
 
     /**
@@ -75,7 +90,9 @@ final class ExtentReporter implements Reporter {
      */
     @Override
     public void fail(final String message) {
-        backend.fail(message);
+        synchronized (lock) {
+            backend.fail(message);
+        }
     }
 
     /**
@@ -83,7 +100,9 @@ final class ExtentReporter implements Reporter {
      */
     @Override
     public void info(final String message) {
-        backend.info(message);
+        synchronized (lock) {
+            backend.info(message);
+        }
     }
 
     /**
@@ -91,6 +110,65 @@ final class ExtentReporter implements Reporter {
      */
     @Override
     public void pass(final String message) {
-        backend.pass(message);
+        synchronized (lock) {
+            backend.pass(message);
+        }
+    }
+
+    /**
+     * Writes a step that has completed to the Extent report as an
+     * informational message, with the name of the step in bold, followed by
+     * the time it took in milliseconds, to the microsecond. Characters in the
+     * name with a special meaning in HTML are escaped, so that the name is
+     * shown as given.
+     *
+     * @param name The name of the step.
+     * @param duration The time the step took, in nanoseconds.
+     */
+    @Override
+    public void step(final String name, final long duration) {
+        final String message = String.format(Locale.ROOT, "Step <b>%s</b> completed in %.3f ms", escape(name), duration / 1e6);
+
+        synchronized (lock) {
+            backend.info(message);
+        }
+    }
+
+    /**
+     * Escapes characters with a special meaning in HTML.
+     *
+     * @param text The text, possibly {@code null}.
+     *
+     * @return The escaped text, or {@code null} if the text is {@code null}.
+     */
+    private static String escape(final String text) {
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder escaped = new StringBuilder(text.length() + 16);
+
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+
+            switch (c) {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+
+        return escaped.toString();
     }
 }
@@ -23,12 +23,20 @@ package com.qualitrix.infinitum.reporting.extent;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.qualitrix.infinitum.annotation.Author;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.reporting.AsyncReportingService;
 import com.qualitrix.infinitum.reporting.BaseReportingService;
 import com.qualitrix.infinitum.reporting.Reporter;
 import org.testng.annotations.Test;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -68,14 +76,43 @@ import java.util.UUID;
  *     <b>{@code infinitum.reporting.extent.report: reports/final/extent.html}</b>
  *     If the parameter is not configured, the report will be saved to
  *     <b>{@code report/extent.html}</b>.</li>
+ *     <li>Optionally, add the parameter
+ *     {@code infinitum.reporting.extent.flush.interval} and set its value to
+ *     the interval, in seconds, at which the report is written while tests
+ *     run, e.g.
+ *     <b>{@code infinitum.reporting.extent.flush.interval=60}</b>. If the
+ *     parameter is not configured, the report is written every 30 seconds.
+ *     Setting it to {@code 0} writes the report only when a suite finishes
+ *     and when the JVM shuts down.</li>
  * </ol>
+ *
+ * <p>
+ * The report is written periodically on a background thread, so that a
+ * report with the results of the tests run so far exists even if the test run
+ * does not complete. It is also written when a
+ * suite finishes, see {@link ExtentReportingListener}, and when the JVM shuts
+ * down, after all events still queued for it have been applied if reporting
+ * asynchronously, see {@link AsyncReportingService}.
+ * </p>
  */
 public class ExtentReportingService extends BaseReportingService {
+    private static final String CONFIGURATION_PARAMETER_FLUSH_INTERVAL = "infinitum.reporting.extent.flush.interval";
+
+    private static final Set<ExtentReportingService> INSTANCES = new CopyOnWriteArraySet<>();
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(ExtentReportingService.class);
+
     private static final String PROVIDER = "EXTENT";
 
     private final boolean available;
 
-    private ExtentReports reports;
+    private final Object lock = new Object();
+
+    private volatile ExtentReports reports;
+
+    private ScheduledExecutorService scheduler;
 
     /**
      * Creates an Extent reporting service.
@@ -86,17 +123,46 @@ public class ExtentReportingService extends BaseReportingService {
     }
 
     /**
-     * {@inheritDoc}
+     * Writes the reports of all Extent reporting services in use, after all
+     * events still queued for them have been applied if reporting
+     * asynchronously.
      */
-    @Override
-    public Reporter getReporter(final Test test, final Author author) {
-        if (reports == null) {
-            synchronized (ExtentReportingService.class) {
-                reports = new ExtentReports();
-                reports.attachReporter(new ExtentBackendProvider().getBackend());
+    static void flushAll() {
+        if (!INSTANCES.isEmpty()) {
+            AsyncReportingService.flushAll();
+
+            INSTANCES.forEach(ExtentReportingService::flush);
+        }
+    }
+
+    /**
+     * Writes the report with the results of all tests reported so far, if
+     * any test has been reported. Tests cannot be created or updated while
+     * the report is being written, since Extent Reports iterates over them
+     * without synchronization, whether tests report on their own threads or
+     * through the dedicated thread of an {@link AsyncReportingService}.
+     * Failures are logged, so that reporting can continue.
+     */
+    public void flush() {
+        final ExtentReports current = reports;
+
+        if (current != null) {
+            try {
+                synchronized (lock) {
+                    current.flush();
+                }
+            }
+            catch (final RuntimeException e) {
+                LOGGER.error(e, "Unable to write Extent report.");
             }
         }
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter getReporter(final Test test, final Author author) {
         // Create an Extent test with the specified name and description. If
         // the test name is unspecified, assign a dynamically generated test
         // name, as required by the Extent Reports API.
@@ -106,13 +172,18 @@ public class ExtentReportingService extends BaseReportingService {
             testDescription = Optional.ofNullable(test)
                                       .map(Test::description)
                                       .orElse(null);
-        final ExtentTest extentTest = reports.createTest(testName, testDescription);
+        final ExtentReports current = getReports();
+        final ExtentTest extentTest;
 
-        Optional.ofNullable(author)
-                .map(Author::name)
-                .ifPresent(extentTest::assignAuthor);
+        synchronized (lock) {
+            extentTest = current.createTest(testName, testDescription);
 
-        return new ExtentReporter(extentTest);
+            Optional.ofNullable(author)
+                    .map(Author::name)
+                    .ifPresent(extentTest::assignAuthor);
+        }
+
+        return new ExtentReporter(extentTest, lock);
     }
 
     /**
@@ -122,4 +193,65 @@ public class ExtentReportingService extends BaseReportingService {
     public boolean isAvailable() {
         return available;
     }
+
+    /**
+     * Stops writing the report in the background, and writes it one last
+     * time. Runs when the JVM shuts down.
+     */
+    private void close() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+
+        INSTANCES.remove(this);
+
+        AsyncReportingService.flushAll();
+
+        flush();
+    }
+
+    /**
+     * Gets the Extent reports to which tests are added, creating them on
+     * first use, exactly once even if several tests start at the same time.
+     * Writing the report in the background and when the JVM shuts down is
+     * scheduled at the same time.
+     *
+     * @return An {@link ExtentReports}.
+     */
+    private ExtentReports getReports() {
+        ExtentReports current = reports;
+
+        if (current == null) {
+            synchronized (this) {
+                current = reports;
+
+                if (current == null) {
+                    current = new ExtentReports();
+                    current.attachReporter(new ExtentBackendProvider().getBackend());
+
+                    final int interval = getConfigurationService().getInteger(CONFIGURATION_PARAMETER_FLUSH_INTERVAL, 30);
+
+                    if (interval > 0) {
+                        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                            final Thread thread = new Thread(runnable, "infinitum-reporting-extent-flush");
+                            thread.setDaemon(true);
+
+                            return thread;
+                        });
+                        scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.SECONDS);
+                    }
+
+                    reports = current;
+
+                    INSTANCES.add(this);
+
+                    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "infinitum-reporting-extent-shutdown"));
+                }
+            }
+        }
+
+        return current;
+    }
 }
@@ -26,8 +26,11 @@ import org.mockito.ArgumentCaptor;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Unit tests for {@link ExtentReporter}.
@@ -35,6 +38,8 @@ import static org.testng.Assert.assertEquals;
 public class ExtentReporterTest implements UnitTest {
     private ExtentTest backend;
 
+    private Object lock;
+
     private ArgumentCaptor<String> messageCaptor;
 
     private ExtentReporter subject;
@@ -49,7 +54,9 @@ public class ExtentReporterTest implements UnitTest {
 
         messageCaptor = ArgumentCaptor.forClass(String.class);
 
-        subject = new ExtentReporter(backend);
+        lock = new Object();
+
+        subject = new ExtentReporter(backend, lock);
     }
 
     /**
@@ -127,6 +134,25 @@ public class ExtentReporterTest implements UnitTest {
         assertEquals(message, messageCaptor.getValue());
     }
 
+    /**
+     * Tests that the Extent test is only updated while holding the lock that
+     * is held while the report is written.
+     */
+    @Test
+    public void testInfoHoldsLock() {
+        final boolean[] held = new boolean[1];
+
+        doAnswer(invocation -> {
+            held[0] = Thread.holdsLock(lock);
+
+            return backend;
+        }).when(backend).info(anyString());
+
+        subject.info(getString());
+
+        assertTrue(held[0]);
+    }
+
     /**
      * Tests that a pass message can be written to an Extent report.
      */
@@ -141,4 +167,32 @@ public class ExtentReporterTest implements UnitTest {
         // Ensure that the message got written successfully.
         assertEquals(message, messageCaptor.getValue());
     }
+
+    /**
+     * Tests that a step can be written to an Extent report with the time it
+     * took.
+     */
+    @Test
+    public void testStep() {
+        final String name = getString();
+        subject.step(name, 1_234_567);
+
+        verify(backend).info(messageCaptor.capture());
+
+        // Ensure that the step got written successfully.
+        assertEquals(messageCaptor.getValue(), String.format("Step <b>%s</b> completed in 1.235 ms", name));
+    }
+
+    /**
+     * Tests that characters with a special meaning in HTML are escaped in
+     * the name of a step.
+     */
+    @Test
+    public void testStepWithMarkup() {
+        subject.step("<i>Login & \"wait\"</i>", 1_000_000);
+
+        verify(backend).info(messageCaptor.capture());
+
+        assertEquals(messageCaptor.getValue(), "Step <b>&lt;i&gt;Login &amp; &quot;wait&quot;&lt;/i&gt;</b> completed in 1.000 ms");
+    }
 }
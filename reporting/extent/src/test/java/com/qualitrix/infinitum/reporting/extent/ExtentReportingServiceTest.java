@@ -29,6 +29,7 @@ import org.powermock.modules.testng.PowerMockTestCase;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.lang.reflect.Method;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -55,6 +56,22 @@ public class ExtentReportingServiceTest
         subject = new ExtentReportingService();
     }
 
+    /**
+     * Tests that the report is written with the tests reported so far.
+     */
+    @Test
+    public void testFlush() {
+        final File report = new File(new ExtentBackendProvider().getReportPath());
+
+        subject.getReporter(null).pass(getString());
+
+        report.delete();
+
+        subject.flush();
+
+        assertTrue(report.isFile());
+    }
+
     /**
      * Tests that the service always returns a reporter.
      */
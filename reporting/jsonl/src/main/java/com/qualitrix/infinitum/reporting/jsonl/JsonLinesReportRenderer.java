@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Renders a static HTML summary of a JSON Lines file written by
+ * {@link JsonLinesReportingService}, with a line for each test, giving its
+ * status, duration, categories, devices and author, and its first failure or
+ * last message. The status of a test is the most severe of the events
+ * reported for it, {@code FAIL}, {@code ERROR}, {@code PASS} or
+ * {@code INFO}, in decreasing order of severity.
+ * </p>
+ *
+ * <p>
+ * Events are read one line at a time, and only a summary of each test is
+ * kept, so that the memory used grows with the number of tests, but not with
+ * the number of events. Lines that cannot be read, such as the last line of a
+ * file that could not be closed, are skipped.
+ * </p>
+ *
+ * <p>
+ * Can be run from the command line, with the JSON Lines file and the HTML
+ * file to write:
+ * </p>
+ *
+ * <pre>
+ * java -cp ... com.qualitrix.infinitum.reporting.jsonl.JsonLinesReportRenderer report/report.jsonl report/report.html
+ * </pre>
+ */
+public final class JsonLinesReportRenderer {
+    private static final Gson GSON = new Gson();
+
+    private final Map<Integer, Summary> tests;
+
+    /**
+     * Creates a renderer.
+     */
+    private JsonLinesReportRenderer() {
+        this.tests = new LinkedHashMap<>();
+    }
+
+    /**
+     * Renders a JSON Lines file given on the command line to an HTML file.
+     *
+     * @param args The path to the JSON Lines file and the path to the HTML
+     * file.
+     *
+     * @throws IOException if the JSON Lines file cannot be read, or the HTML
+     * file cannot be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException(String.format("Usage: %s <report.jsonl> <report.html>", JsonLinesReportRenderer.class.getName()));
+        }
+
+        final Path target = Paths.get(args[1]).toAbsolutePath();
+
+        Files.createDirectories(target.getParent());
+
+        try (Reader input = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+             Writer output = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            render(input, output);
+        }
+    }
+
+    /**
+     * Renders reporting events in JSON Lines format as an HTML summary.
+     *
+     * @param input The reporting events.
+     * @param output The writer to which the summary must be written.
+     *
+     * @return The number of tests in the summary.
+     *
+     * @throws IOException if the events cannot be read, or the summary cannot
+     * be written.
+     */
+    public static int render(final Reader input, final Writer output) throws IOException {
+        final JsonLinesReportRenderer renderer = new JsonLinesReportRenderer();
+
+        renderer.read(input);
+        renderer.write(output);
+
+        return renderer.tests.size();
+    }
+
+    /**
+     * Appends text to the summary, escaping characters with a special meaning
+     * in HTML.
+     *
+     * @param output The writer to which the summary is written.
+     * @param text The text, possibly {@code null}, in which case nothing is
+     * written.
+     *
+     * @throws IOException if the text cannot be written.
+     */
+    private static void escape(final Writer output, final String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+
+            switch (c) {
+                case '&':
+                    output.write("&amp;");
+                    break;
+                case '<':
+                    output.write("&lt;");
+                    break;
+                case '>':
+                    output.write("&gt;");
+                    break;
+                case '"':
+                    output.write("&quot;");
+                    break;
+                default:
+                    output.write(c);
+            }
+        }
+    }
+
+    /**
+     * Reads all reporting events, summarizing them per test.
+     *
+     * @param input The reporting events.
+     *
+     * @throws IOException if the events cannot be read.
+     */
+    private void read(final Reader input) throws IOException {
+        final BufferedReader reader = new BufferedReader(input);
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            final Event event;
+
+            try {
+                event = GSON.fromJson(line, Event.class);
+            }
+            catch (final JsonParseException e) {
+                continue;
+            }
+
+            if (event != null && event.event != null) {
+                tests.computeIfAbsent(event.test, number -> new Summary()).add(event);
+            }
+        }
+    }
+
+    /**
+     * Writes the HTML summary of all tests.
+     *
+     * @param output The writer to which the summary must be written.
+     *
+     * @throws IOException if the summary cannot be written.
+     */
+    private void write(final Writer output) throws IOException {
+        final Map<Status, Integer> counts = new LinkedHashMap<>();
+
+        long duration = 0;
+
+        for (final Summary test : tests.values()) {
+            counts.merge(test.status, 1, Integer::sum);
+
+            duration += test.elapsed;
+        }
+
+        output.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>Test report</title>\n<style>\n");
+        output.write("body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;width:100%}"
+            + "th,td{border:1px solid #ccc;padding:4px 8px;text-align:left;vertical-align:top}th{background:#eee}"
+            + ".FAIL{color:#c00}.ERROR{color:#e67e00}.PASS{color:#080}.INFO{color:#06c}\n");
+        output.write("</style>\n</head>\n<body>\n<h1>Test report</h1>\n<p>");
+        output.write(String.format("%d test(s), %d ms in total", tests.size(), duration));
+
+        for (final Status status : Status.values()) {
+            output.write(String.format(", <span class=\"%s\">%d %s</span>", status, counts.getOrDefault(status, 0), status));
+        }
+
+        output.write(".</p>\n<table>\n<thead><tr><th>#</th><th>Test</th><th>Status</th><th>Duration (ms)</th>"
+            + "<th>Categories</th><th>Devices</th><th>Author</th><th>Message</th></tr></thead>\n<tbody>\n");
+
+        for (final Map.Entry<Integer, Summary> entry : tests.entrySet()) {
+            final Summary test = entry.getValue();
+
+            output.write("<tr><td>" + entry.getKey() + "</td><td>");
+            escape(output, test.name);
+
+            if (test.description != null) {
+                output.write("<br><small>");
+                escape(output, test.description);
+                output.write("</small>");
+            }
+
+            output.write(String.format("</td><td class=\"%1$s\">%1$s</td><td>%2$d</td><td>", test.status, test.elapsed));
+            escape(output, String.join(", ", test.categories));
+            output.write("</td><td>");
+            escape(output, String.join(", ", test.devices));
+            output.write("</td><td>");
+            escape(output, test.author);
+            output.write("</td><td>");
+            escape(output, test.message);
+            output.write("</td></tr>\n");
+        }
+
+        output.write("</tbody>\n</table>\n</body>\n</html>\n");
+        output.flush();
+    }
+
+    /**
+     * The status of a test, in increasing order of severity.
+     */
+    private enum Status {
+        INFO,
+        PASS,
+        ERROR,
+        FAIL
+    }
+
+    /**
+     * A reporting event, as written by {@link JsonLinesReportWriter}.
+     */
+    private static final class Event {
+        private String author;
+
+        private String category;
+
+        private String description;
+
+        private String device;
+
+        private long elapsed;
+
+        private String event;
+
+        private String message;
+
+        private String name;
+
+        private int test;
+    }
+
+    /**
+     * A summary of the reporting events of a test.
+     */
+    private static final class Summary {
+        private final Set<String> categories = new LinkedHashSet<>();
+
+        private final Set<String> devices = new LinkedHashSet<>();
+
+        private String author;
+
+        private String description;
+
+        private long elapsed;
+
+        private String message;
+
+        private String name;
+
+        private Status status = Status.INFO;
+
+        /**
+         * Adds an event of the test to the summary.
+         *
+         * @param event The event.
+         */
+        void add(final Event event) {
+            elapsed = Math.max(elapsed, event.elapsed);
+
+            switch (event.event) {
+                case "start":
+                    author = event.author;
+                    description = event.description;
+                    name = event.name;
+                    break;
+                case "category":
+                    categories.add(event.category);
+                    break;
+                case "device":
+                    devices.add(event.device);
+                    break;
+                case "info":
+                    addMessage(Status.INFO, event.message);
+                    break;
+                case "pass":
+                    addMessage(Status.PASS, event.message);
+                    break;
+                case "error":
+                    addMessage(Status.ERROR, event.message);
+                    break;
+                case "fail":
+                    addMessage(Status.FAIL, event.message);
+                    break;
+                default:
+                    // Unknown events, written by later versions, are ignored.
+                    break;
+            }
+        }
+
+        /**
+         * Adds a message to the summary, keeping the first message of the
+         * most severe status reported so far.
+         *
+         * @param severity The status of the message.
+         * @param text The message.
+         */
+        private void addMessage(final Status severity, final String text) {
+            if (severity.compareTo(status) > 0 || status.compareTo(Status.ERROR) < 0) {
+                message = text;
+            }
+
+            if (severity.compareTo(status) > 0) {
+                status = severity;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.google.gson.stream.JsonWriter;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Appends reporting events to a JSON Lines file, one JSON object per line,
+ * through a fixed-size buffer in front of a file channel, so that the memory
+ * used does not grow with the number of events. Each event carries the time
+ * at which it occurred, in milliseconds since the epoch, the number of the
+ * test to which it belongs, its type and the time elapsed since the test
+ * started, in milliseconds, followed by fields specific to its type. For
+ * example:
+ * </p>
+ *
+ * <pre>
+ * &#123;"time":1647250200000,"test":1,"event":"start","elapsed":0,"name":"testLogin","author":"jane"}
+ * &#123;"time":1647250200250,"test":1,"event":"pass","elapsed":250,"message":"Logged in."}
+ * </pre>
+ *
+ * <p>
+ * Events are written by any number of threads, one at a time. Failures to
+ * write events are logged, so that tests are not affected by them. Since an
+ * event may have been written partially, the file is closed after the first
+ * failure, and events written afterwards are discarded.
+ * </p>
+ */
+final class JsonLinesReportWriter implements Closeable, Flushable {
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(JsonLinesReportWriter.class);
+
+    private final Path file;
+
+    private final JsonWriter json;
+
+    private final BufferedWriter output;
+
+    private boolean closed;
+
+    /**
+     * Creates a writer, replacing the file if it exists.
+     *
+     * @param file The file to which events must be written.
+     * @param bufferSize The number of characters to collect before writing
+     * them to the file.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    JsonLinesReportWriter(final Path file, final int bufferSize) throws IOException {
+        this.file = file.toAbsolutePath();
+
+        Files.createDirectories(this.file.getParent());
+
+        final FileChannel channel = FileChannel.open(this.file
+            , StandardOpenOption.CREATE
+            , StandardOpenOption.TRUNCATE_EXISTING
+            , StandardOpenOption.WRITE);
+
+        this.output = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1)
+            , Math.max(1024, bufferSize));
+
+        // Lenient, so that one object can be written after the other.
+        this.json = new JsonWriter(output);
+        this.json.setLenient(true);
+    }
+
+    /**
+     * Writes all collected events to the file and closes it. Events written
+     * afterwards are discarded. Closing a writer that has already been closed
+     * has no effect.
+     *
+     * @throws IOException if the events cannot be written, or the file cannot
+     * be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+
+            output.close();
+        }
+    }
+
+    /**
+     * Writes all collected events to the file.
+     *
+     * @throws IOException if the events cannot be written.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            output.flush();
+        }
+    }
+
+    /**
+     * Gets the file to which events are written.
+     *
+     * @return The file.
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes an event.
+     *
+     * @param test The number of the test to which the event belongs.
+     * @param event The type of the event.
+     * @param elapsed The time elapsed since the test started, in
+     * milliseconds.
+     * @param fields The names and values of the fields specific to the event,
+     * one after the other. Fields without a value are omitted.
+     */
+    synchronized void write(final int test, final String event, final long elapsed, final String... fields) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            json.beginObject()
+                .name("time").value(System.currentTimeMillis())
+                .name("test").value(test)
+                .name("event").value(event)
+                .name("elapsed").value(elapsed);
+
+            for (int i = 0; i + 1 < fields.length; i += 2) {
+                if (fields[i + 1] != null) {
+                    json.name(fields[i]).value(fields[i + 1]);
+                }
+            }
+
+            json.endObject();
+
+            output.write('\n');
+        }
+        catch (final IOException e) {
+            LOGGER.error(e, "Unable to write reporting event to [{}], discarding further events.", file);
+
+            // The JSON writer cannot continue after an object that has only
+            // been written partially, so release the file instead.
+            closed = true;
+
+            try {
+                output.close();
+            }
+            catch (final IOException ignored) {
+                // The failure has already been reported.
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.qualitrix.infinitum.reporting.Reporter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes reporting messages for a test to a JSON Lines file, as events of the
+ * test, see {@link JsonLinesReportWriter}. An event of type {@code start} is
+ * written when the reporter is created, with the name and description of the
+ * test and its author, and each later event carries the time elapsed since.
+ */
+final class JsonLinesReporter implements Reporter {
+    private final int number;
+
+    private final long started;
+
+    private final JsonLinesReportWriter writer;
+
+    /**
+     * Creates a reporter and writes the start of the test.
+     *
+     * @param writer The writer to which events must be written.
+     * @param number The number of the test.
+     * @param name The name of the test.
+     * @param description The description of the test, if any.
+     * @param author The author of the test, if known.
+     */
+    JsonLinesReporter(final JsonLinesReportWriter writer
+        , final int number
+        , final String name
+        , final String description
+        , final String author) {
+        this.number = number;
+        this.started = System.nanoTime();
+        this.writer = writer;
+
+        writer.write(number, "start", 0, "name", name, "description", description, "author", author);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter assignCategory(final String category) {
+        if (category != null) {
+            write("category", "category", category);
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter assignDevice(final String device) {
+        if (device != null) {
+            write("device", "device", device);
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void error(final String message) {
+        write("error", "message", message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fail(final String message) {
+        write("fail", "message", message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void info(final String message) {
+        write("info", "message", message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pass(final String message) {
+        write("pass", "message", message);
+    }
+
+    /**
+     * Writes an event of the test with a single specific field.
+     *
+     * @param event The type of the event.
+     * @param field The name of the field.
+     * @param value The value of the field.
+     */
+    private void write(final String event, final String field, final String value) {
+        writer.write(number, event, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), field, value);
+    }
+}
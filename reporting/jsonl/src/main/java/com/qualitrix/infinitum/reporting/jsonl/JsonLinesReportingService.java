@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.qualitrix.infinitum.annotation.Author;
+import com.qualitrix.infinitum.config.ConfigurationService;
+import com.qualitrix.infinitum.logging.Logger;
+import com.qualitrix.infinitum.logging.LoggingServiceLocator;
+import com.qualitrix.infinitum.reporting.AsyncReportingService;
+import com.qualitrix.infinitum.reporting.BaseReportingService;
+import com.qualitrix.infinitum.reporting.Reporter;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Provides access to a {@link Reporter} that streams reporting events to a
+ * JSON Lines file, for test suites too large for reports that are held in
+ * memory and rendered as a whole, such as Extent reports. Each event is
+ * appended to the file as soon as it is reported, through a fixed-size
+ * buffer, so that the memory used does not grow with the size of the suite.
+ * The file can be turned into an HTML summary after the run with
+ * {@link JsonLinesReportRenderer}.
+ * </p>
+ *
+ * <p>
+ * Streaming reporting events is enabled by setting the configuration
+ * parameter {@code infinitum.reporting.provider} to {@code jsonl}. The
+ * following configuration parameters control the file:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code infinitum.reporting.jsonl.report}: The file,
+ *     {@code report/report.jsonl} by default, replaced on each run; and</li>
+ *     <li>{@code infinitum.reporting.jsonl.buffer.size}: The number of
+ *     characters collected before they are written to the file, 64 KB by
+ *     default.</li>
+ * </ul>
+ *
+ * <p>
+ * Collected events are written to the file when a suite finishes, see
+ * {@link JsonLinesReportingListener}, and when the JVM shuts down, after all
+ * events still queued for it have been applied if reporting asynchronously,
+ * see {@link AsyncReportingService}.
+ * </p>
+ */
+public class JsonLinesReportingService extends BaseReportingService {
+    private static final String CONFIGURATION_PARAMETER_BUFFER_SIZE = "infinitum.reporting.jsonl.buffer.size";
+
+    private static final String CONFIGURATION_PARAMETER_REPORT_PATH = "infinitum.reporting.jsonl.report";
+
+    private static final Set<JsonLinesReportingService> INSTANCES = new CopyOnWriteArraySet<>();
+
+    private static final Logger LOGGER = LoggingServiceLocator.getInstance()
+                                                              .getLoggingService()
+                                                              .getLogger(JsonLinesReportingService.class);
+
+    private static final String PATH_REPORT_DEFAULT = "report/report.jsonl";
+
+    private static final String PROVIDER = "JSONL";
+
+    private final boolean available;
+
+    private final AtomicInteger tests;
+
+    private volatile JsonLinesReportWriter writer;
+
+    /**
+     * Creates a JSON Lines reporting service.
+     */
+    public JsonLinesReportingService() {
+        available = PROVIDER.equalsIgnoreCase(getProvider());
+        tests = new AtomicInteger();
+    }
+
+    /**
+     * Writes the events collected by all JSON Lines reporting services in use
+     * to their files, after all events still queued for them have been
+     * applied if reporting asynchronously.
+     */
+    static void flushAll() {
+        if (!INSTANCES.isEmpty()) {
+            AsyncReportingService.flushAll();
+
+            INSTANCES.forEach(JsonLinesReportingService::flush);
+        }
+    }
+
+    /**
+     * Writes all events collected so far to the file, if any test has been
+     * reported. Failures are logged, so that reporting can continue.
+     */
+    public void flush() {
+        final JsonLinesReportWriter current = writer;
+
+        if (current != null) {
+            try {
+                current.flush();
+            }
+            catch (final IOException e) {
+                LOGGER.error(e, "Unable to write reporting events to [{}].", current.getFile());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reporter getReporter(final Test test, final Author author) {
+        final int number = tests.incrementAndGet();
+
+        return new JsonLinesReporter(getWriter()
+            , number
+            , Optional.ofNullable(test)
+                      .map(Test::testName)
+                      .filter(name -> !name.isEmpty())
+                      .orElseGet(() -> "Test " + number)
+            , Optional.ofNullable(test)
+                      .map(Test::description)
+                      .filter(description -> !description.isEmpty())
+                      .orElse(null)
+            , Optional.ofNullable(author)
+                      .map(Author::name)
+                      .orElse(null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Writes all events collected so far to the file and closes it. Runs when
+     * the JVM shuts down.
+     */
+    private void close() {
+        INSTANCES.remove(this);
+
+        AsyncReportingService.flushAll();
+
+        try {
+            writer.close();
+        }
+        catch (final IOException e) {
+            LOGGER.error(e, "Unable to close report file [{}].", writer.getFile());
+        }
+    }
+
+    /**
+     * Gets the writer to which events are written, creating the file on first
+     * use, exactly once even if several tests start at the same time.
+     *
+     * @return A {@link JsonLinesReportWriter}.
+     *
+     * @throws UncheckedIOException if the file cannot be created.
+     */
+    private JsonLinesReportWriter getWriter() {
+        JsonLinesReportWriter current = writer;
+
+        if (current == null) {
+            synchronized (this) {
+                current = writer;
+
+                if (current == null) {
+                    final ConfigurationService configuration = getConfigurationService();
+                    final Path file = Paths.get(configuration.getString(CONFIGURATION_PARAMETER_REPORT_PATH, PATH_REPORT_DEFAULT));
+
+                    try {
+                        current = new JsonLinesReportWriter(file, configuration.getInteger(CONFIGURATION_PARAMETER_BUFFER_SIZE, 64 * 1024));
+                    }
+                    catch (final IOException e) {
+                        throw new UncheckedIOException(String.format("Unable to create report file [%s].", file), e);
+                    }
+
+                    writer = current;
+
+                    INSTANCES.add(this);
+
+                    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "infinitum-reporting-jsonl-shutdown"));
+                }
+            }
+        }
+
+        return current;
+    }
+}
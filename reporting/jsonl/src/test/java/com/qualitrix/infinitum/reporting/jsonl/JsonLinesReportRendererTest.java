@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.qualitrix.infinitum.UnitTest;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link JsonLinesReportRenderer}.
+ */
+public class JsonLinesReportRendererTest implements UnitTest {
+    /**
+     * Tests that tests are summarized with their most severe status, first
+     * failure, duration, categories and devices, and that incomplete lines
+     * are skipped.
+     *
+     * @throws IOException if the summary cannot be rendered.
+     */
+    @Test
+    public void testRender() throws IOException {
+        final String events = String.join("\n"
+            , "{\"time\":1,\"test\":1,\"event\":\"start\",\"elapsed\":0,\"name\":\"testLogin\",\"author\":\"jane\"}"
+            , "{\"time\":2,\"test\":2,\"event\":\"start\",\"elapsed\":0,\"name\":\"testLogout\",\"description\":\"<b>Logs out</b>\"}"
+            , "{\"time\":3,\"test\":1,\"event\":\"category\",\"elapsed\":1,\"category\":\"smoke\"}"
+            , "{\"time\":4,\"test\":1,\"event\":\"device\",\"elapsed\":1,\"device\":\"pixel\"}"
+            , "{\"time\":5,\"test\":1,\"event\":\"info\",\"elapsed\":2,\"message\":\"Opening\"}"
+            , "{\"time\":6,\"test\":1,\"event\":\"fail\",\"elapsed\":40,\"message\":\"Expected <1>\"}"
+            , "{\"time\":7,\"test\":1,\"event\":\"info\",\"elapsed\":45,\"message\":\"Closing\"}"
+            , "{\"time\":8,\"test\":2,\"event\":\"pass\",\"elapsed\":15,\"message\":\"Logged out\"}"
+            , "{\"time\":9,\"test\":3,\"event\":\"start\",\"elapsed\":0,\"na");
+        final StringWriter html = new StringWriter();
+
+        assertEquals(JsonLinesReportRenderer.render(new StringReader(events), html), 2);
+
+        final String summary = html.toString();
+
+        assertTrue(summary.startsWith("<!DOCTYPE html>"));
+        assertTrue(summary.contains("2 test(s), 60 ms in total"));
+        assertTrue(summary.contains("<span class=\"PASS\">1 PASS</span>"));
+        assertTrue(summary.contains("<span class=\"FAIL\">1 FAIL</span>"));
+        assertTrue(summary.contains("<tr><td>1</td><td>testLogin</td><td class=\"FAIL\">FAIL</td><td>45</td><td>smoke</td><td>pixel</td><td>jane</td><td>Expected &lt;1&gt;</td></tr>"));
+        assertTrue(summary.contains("<small>&lt;b&gt;Logs out&lt;/b&gt;</small>"));
+        assertTrue(summary.contains("<td class=\"PASS\">PASS</td><td>15</td>"));
+        assertTrue(summary.contains("Logged out"));
+        assertFalse(summary.contains("Closing"));
+    }
+}
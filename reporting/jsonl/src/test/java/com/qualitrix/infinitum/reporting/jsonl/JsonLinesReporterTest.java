@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.reporting.Reporter;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link JsonLinesReporter}.
+ */
+public class JsonLinesReporterTest implements UnitTest {
+    /**
+     * Tests that the start of the test and each call are written as JSON
+     * objects, one per line, in the order in which they were made.
+     *
+     * @throws IOException if the report file cannot be written or read.
+     */
+    @Test
+    public void testReport() throws IOException {
+        final Path file = Files.createTempFile("report", ".jsonl");
+        final String name = getString();
+        final String message = "Line 1\nLine \"2\"";
+
+        try {
+            final JsonLinesReportWriter writer = new JsonLinesReportWriter(file, 1024);
+            final Reporter subject = new JsonLinesReporter(writer, 7, name, null, "author");
+
+            assertSame(subject.assignCategory("smoke"), subject);
+            assertSame(subject.assignDevice(null), subject);
+
+            subject.info(message);
+            subject.pass("passed");
+            subject.fail("failed");
+            subject.error("error");
+
+            writer.close();
+
+            // Events written after the writer has been closed are discarded.
+            subject.info("discarded");
+
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            final Gson gson = new Gson();
+
+            assertEquals(lines.size(), 6);
+
+            final JsonObject start = gson.fromJson(lines.get(0), JsonObject.class);
+
+            assertEquals(start.get("test").getAsInt(), 7);
+            assertEquals(start.get("event").getAsString(), "start");
+            assertEquals(start.get("elapsed").getAsLong(), 0);
+            assertEquals(start.get("name").getAsString(), name);
+            assertEquals(start.get("author").getAsString(), "author");
+            assertFalse(start.has("description"));
+            assertTrue(start.get("time").getAsLong() > 0);
+
+            assertEquals(gson.fromJson(lines.get(1), JsonObject.class).get("category").getAsString(), "smoke");
+            assertEquals(gson.fromJson(lines.get(2), JsonObject.class).get("message").getAsString(), message);
+
+            final String[] events = {"info", "pass", "fail", "error"};
+
+            for (int i = 0; i < events.length; ++i) {
+                final JsonObject event = gson.fromJson(lines.get(i + 2), JsonObject.class);
+
+                assertEquals(event.get("event").getAsString(), events[i]);
+                assertEquals(event.get("test").getAsInt(), 7);
+                assertTrue(event.get("elapsed").getAsLong() >= 0);
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021-2022 Qualitrix Technologies Pvt Ltd.  All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to use the
+ * Software without restriction, subject to the following conditions:
+ *
+ * THE SOFTWARE MUST HAVE BEEN PROVIDED BY THE ORIGINAL AUTHORS OR AN AUTHORIZED
+ * SIGNATORY THEREOF. THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY USE IT
+ * FOR THE PURPOSE FOR WHICH IT HAS BEEN PROVIDED, AND EXTEND IT TO MEET THEIR
+ * NEEDS. HOWEVER, THE PERSON TO WHOM THE SOFTWARE HAS BEEN PROVIDED MAY NOT SELL,
+ * MODIFY, DISTRIBUTE, PUBLISH, MERGE, LICENSE OR SUBLICENSE IT TO ANYONE ELSE.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.qualitrix.infinitum.reporting.jsonl;
+
+import com.qualitrix.infinitum.UnitTest;
+import com.qualitrix.infinitum.annotation.Author;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link JsonLinesReportingService}.
+ */
+public class JsonLinesReportingServiceTest implements UnitTest {
+    /**
+     * Tests that the start of a test is written to the configured file once
+     * flushed.
+     *
+     * @param method The test method.
+     *
+     * @throws IOException if the report file cannot be read.
+     */
+    @Test(testName = "testFlush")
+    public void testFlush(final Method method) throws IOException {
+        final JsonLinesReportingService subject = new JsonLinesReportingService();
+        final Author author = mock(Author.class);
+        when(author.name()).thenReturn(getString());
+
+        assertNotNull(subject.getReporter(method.getAnnotation(Test.class), author));
+        assertNotNull(subject.getReporter(null));
+
+        subject.flush();
+
+        final String report = new String(Files.readAllBytes(Paths.get("target/report/report.jsonl")), StandardCharsets.UTF_8);
+
+        assertTrue(report.contains("\"name\":\"testFlush\""));
+        assertTrue(report.contains(String.format("\"author\":\"%s\"", author.name())));
+        assertTrue(report.contains("\"name\":\"Test 2\""));
+    }
+
+    /**
+     * Tests that JSON Lines reporting is available if it has been configured
+     * as the reporting backend.
+     */
+    @Test
+    public void testIsAvailable() {
+        assertTrue(new JsonLinesReportingService().isAvailable());
+    }
+}